@@ -1,16 +1,28 @@
 package com.kurabiye.kutd.controller;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Listeners.IGameUpdateListener;
 import com.kurabiye.kutd.model.Managers.GameManager;
 import com.kurabiye.kutd.util.ObserverPattern.Observer;
 import com.kurabiye.kutd.model.Map.GameMap;
 import com.kurabiye.kutd.model.Map.StaticMap;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
 import com.kurabiye.kutd.model.Tower.TowerType;
+import com.kurabiye.kutd.persistence.ReplayLogWriter;
 
 public class GamePlayController {
 
+    // Every match is recorded here, replacing the previous one, so a reported match can be replayed
+    public static final Path LAST_REPLAY = Paths.get(System.getProperty("user.home"), ".kutd", "replays", "last.krpl");
+
     private GameManager gameManager;
 
+    private ReplayLogWriter replayWriter; // Records the commands of the match, null if the recording failed
+
     public GameManager getGameManager() {
         return gameManager;
     }
@@ -38,15 +50,22 @@ public class GamePlayController {
     }
 
     public void startGame() {
+        try {
+            replayWriter = ReplayLogWriter.start(LAST_REPLAY, gameManager); // Record before the first tick
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to start replay recording: " + e.getMessage()); // The match is played anyway
+        }
         gameManager.startGame(); // Starts the game thread and logic loop
     }
 
+    // The player input is queued and applied by the game thread between two ticks,
+    // so the tick a command is recorded at is the tick it really ran at
     public void pauseGame() {
-        gameManager.pauseGame();
+        gameManager.submitCommand(SimulationCommand.pause(gameManager.getTickCount()));
     }
 
     public void resumeGame() {
-        gameManager.resumeGame();
+        gameManager.submitCommand(SimulationCommand.resume(gameManager.getTickCount()));
     }
 
     public void endGame() {
@@ -55,27 +74,39 @@ public class GamePlayController {
     }
 
     public void speedUpGame() {
-        gameManager.speedUpGame();
+        gameManager.submitCommand(SimulationCommand.speedUp(gameManager.getTickCount()));
     }
 
     public void slowDownGame() {
-        gameManager.slowDownGame();
+        gameManager.submitCommand(SimulationCommand.slowDown(gameManager.getTickCount()));
     }
 
-    public boolean buildTower(int x, int y, TowerType towerType) {
-        return gameManager.buildTower(x, y, towerType);
+    public void buildTower(int x, int y, TowerType towerType) {
+        if (towerType != null) {
+            gameManager.submitCommand(SimulationCommand.buildTower(gameManager.getTickCount(), x, y, towerType));
+        }
     }
 
-    public boolean sellTower(int x, int y) {
-        return gameManager.sellTower(x, y);
+    public void sellTower(int x, int y) {
+        gameManager.submitCommand(SimulationCommand.sellTower(gameManager.getTickCount(), x, y));
     }
 
-    public boolean upgradeTower(int x, int y) {
-        return gameManager.upgradeTower(x, y);
+    public void upgradeTower(int x, int y) {
+        gameManager.submitCommand(SimulationCommand.upgradeTower(gameManager.getTickCount(), x, y));
+    }
+
+    public void collectAt(Point2D clickPoint) {
+        if (clickPoint != null) {
+            gameManager.submitCommand(SimulationCommand.collect(gameManager.getTickCount(), clickPoint));
+        }
     }
 
     private void terminateGameThread() {
         gameManager.killGameThread();
+        if (replayWriter != null) {
+            replayWriter.close(); // Every command is already in the file
+            replayWriter = null;
+        }
     }
 
 
@@ -11,7 +11,7 @@ public class GoldBag implements ICollectable<Integer> {
 
     private Point2D coordinates; // Coordinates of the gold bag, if needed
 
-    private static final double LIFESPAN = 10.0; // 10 seconds
+    public static final double LIFESPAN = 10.0; // 10 seconds, the view plays the spawn animation this long
 
     private double remainingTime = LIFESPAN; // Remaining time for the gold bag to be collected, if needed
 
@@ -73,6 +73,14 @@ public class GoldBag implements ICollectable<Integer> {
         return LIFESPAN;
     }
 
+    public double getRemainingTime() {
+        return remainingTime; // Time until the bag disappears
+    }
+
+    public void setRemainingTime(double remainingTime) {
+        this.remainingTime = remainingTime; // Used when the bag of a saved match is put back
+    }
+
     public int getAnimationId() {
         return animationId;
     }
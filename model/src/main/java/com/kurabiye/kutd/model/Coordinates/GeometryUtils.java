@@ -0,0 +1,86 @@
+package com.kurabiye.kutd.model.Coordinates;
+
+/* GeometryUtils.java
+ * This class contains geometry helpers that work on plain coordinates,
+ * so the hot loops of the simulation can use them without creating Point2D objects.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GeometryUtils {
+
+    // Returned by segmentCircleEntryTime when the segment does not touch the circle
+    public static final double NO_HIT = -1;
+
+    private GeometryUtils() {
+        // Utility class, no instances
+    }
+
+    /**
+     * @param dx the x component of the vector
+     * @param dy the y component of the vector
+     * @return the length of the vector, same as Point2D.magnitude
+     */
+    public static double length(double dx, double dy) {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * @return the distance between (x0, y0) and (x1, y1), same as Point2D.distance
+     */
+    public static double distance(double x0, double y0, double x1, double y1) {
+        double dx = x0 - x1;
+        double dy = y0 - y1;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * @return the squared distance between (x0, y0) and (x1, y1), for comparisons without a square root
+     */
+    public static double distanceSquared(double x0, double y0, double x1, double y1) {
+        double dx = x0 - x1;
+        double dy = y0 - y1;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Finds the first moment a point moving along a segment enters a circle.
+     * The point moves from (x0, y0) at t = 0 to (x1, y1) at t = 1.
+     * Touching the circle without entering it is not a hit, like a distance check with a strict comparison.
+     * 
+     * @param x0 The x coordinate of the start of the segment
+     * @param y0 The y coordinate of the start of the segment
+     * @param x1 The x coordinate of the end of the segment
+     * @param y1 The y coordinate of the end of the segment
+     * @param centerX The x coordinate of the center of the circle
+     * @param centerY The y coordinate of the center of the circle
+     * @param radius The radius of the circle
+     * @return the entry time in [0, 1], 0 if the segment starts inside the circle, or NO_HIT
+     */
+    public static double segmentCircleEntryTime(double x0, double y0, double x1, double y1,
+            double centerX, double centerY, double radius) {
+        double fx = x0 - centerX; // From the center to the start of the segment
+        double fy = y0 - centerY;
+        double c = fx * fx + fy * fy - radius * radius;
+        if (c < 0) {
+            return 0; // The segment starts inside the circle
+        }
+
+        double dx = x1 - x0; // Direction of the segment
+        double dy = y1 - y0;
+        double a = dx * dx + dy * dy;
+        if (a == 0) {
+            return NO_HIT; // A point outside the circle that does not move
+        }
+
+        double b = 2 * (fx * dx + fy * dy);
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant <= 0) {
+            return NO_HIT; // The line misses or only touches the circle
+        }
+
+        double t = (-b - Math.sqrt(discriminant)) / (2 * a); // The smaller root is the entry point
+        return (t >= 0 && t <= 1) ? t : NO_HIT;
+    }
+}
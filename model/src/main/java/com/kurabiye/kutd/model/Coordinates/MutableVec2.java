@@ -0,0 +1,167 @@
+package com.kurabiye.kutd.model.Coordinates;
+
+/* MutableVec2.java
+ * This class is a 2D vector that is changed in place.
+ * Point2D creates a new object for every add, subtract, multiply and normalize,
+ * which is too much garbage for code that runs for every enemy and projectile
+ * in every tick. The movement code keeps its state in MutableVec2 fields and
+ * only creates a Point2D when somebody asks for one.
+ *
+ * Every operation returns this vector, so calls can be chained.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class MutableVec2 {
+
+    private double x; // The x component
+    private double y; // The y component
+
+    /**
+     * Creates a zero vector.
+     */
+    public MutableVec2() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a vector with the given components.
+     *
+     * @param x the x component
+     * @param y the y component
+     */
+    public MutableVec2(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Creates a vector with the components of a point.
+     *
+     * @param point the point to copy
+     */
+    public MutableVec2(Point2D point) {
+        this(point.getX(), point.getY());
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Sets both components.
+     *
+     * @param x the new x component
+     * @param y the new y component
+     * @return this vector
+     */
+    public MutableVec2 set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Copies the components of another vector.
+     *
+     * @param other the vector to copy
+     * @return this vector
+     */
+    public MutableVec2 set(MutableVec2 other) {
+        return set(other.x, other.y);
+    }
+
+    /**
+     * Copies the components of a point.
+     *
+     * @param point the point to copy
+     * @return this vector
+     */
+    public MutableVec2 set(Point2D point) {
+        return set(point.getX(), point.getY());
+    }
+
+    /**
+     * Adds the given components to this vector.
+     *
+     * @param dx the value added to the x component
+     * @param dy the value added to the y component
+     * @return this vector
+     */
+    public MutableVec2 add(double dx, double dy) {
+        x += dx;
+        y += dy;
+        return this;
+    }
+
+    /**
+     * Adds another vector multiplied by a factor, x += other.x * factor.
+     *
+     * @param other the vector to add
+     * @param factor the factor the other vector is multiplied by
+     * @return this vector
+     */
+    public MutableVec2 addScaled(MutableVec2 other, double factor) {
+        x += other.x * factor;
+        y += other.y * factor;
+        return this;
+    }
+
+    /**
+     * Multiplies both components by a factor.
+     *
+     * @param factor the factor to multiply by
+     * @return this vector
+     */
+    public MutableVec2 multiply(double factor) {
+        x *= factor;
+        y *= factor;
+        return this;
+    }
+
+    /**
+     * Scales this vector to a length of 1, a zero vector stays zero like Point2D.normalize.
+     *
+     * @return this vector
+     */
+    public MutableVec2 normalize() {
+        double length = magnitude();
+        if (length == 0) {
+            return set(0, 0);
+        }
+        return set(x / length, y / length);
+    }
+
+    /**
+     * @return the length of the vector
+     */
+    public double magnitude() {
+        return GeometryUtils.length(x, y);
+    }
+
+    /**
+     * @param px the x coordinate of the point
+     * @param py the y coordinate of the point
+     * @return the distance from this vector, as a point, to the given point
+     */
+    public double distance(double px, double py) {
+        return GeometryUtils.distance(x, y, px, py);
+    }
+
+    /**
+     * @return a new Point2D with the components of this vector
+     */
+    public Point2D toPoint2D() {
+        return new Point2D(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec2[x=" + x + ", y=" + y + "]";
+    }
+}
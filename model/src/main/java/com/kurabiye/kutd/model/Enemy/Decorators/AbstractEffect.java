@@ -19,6 +19,14 @@ public abstract class AbstractEffect implements IEffect {
         
     }
 
+    public double getRemainingEffectTime() {
+        return remainingEffectTime; // Time until the effect expires, infinite for permanent effects
+    }
+
+    public void setRemainingEffectTime(double remainingEffectTime) {
+        this.remainingEffectTime = remainingEffectTime; // Used when the effect of a saved match is put back
+    }
+
     @Override
     public boolean isExpired() {
         return remainingEffectTime <= 0; // Check if the effect has expired
@@ -1,10 +1,13 @@
 package com.kurabiye.kutd.model.Enemy.Decorators;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import com.kurabiye.kutd.model.Enemy.IEnemy;
 import com.kurabiye.kutd.model.Enemy.EnemyType;
 import com.kurabiye.kutd.model.Enemy.MoveStrategy.IMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
 import com.kurabiye.kutd.model.Projectile.IProjectile;
 import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
@@ -68,10 +71,11 @@ public class EnemyDecorator implements IEnemy {
     public void addEffect(AbstractEffect effect) {
         if (effect != null) {
 
-            if(activeEffects.contains(effect)){
+            int index = activeEffects.indexOf(effect); // Effects of the same type are equal
+            if(index >= 0){
 
-                activeEffects.remove(effect);
-                activeEffects.add(effect); // If the effect already exists, remove it and add it again to update its position in the list
+                activeEffects.remove(index);
+                activeEffects.add(effect); // If the effect already exists, replace it and add it again to update its position in the list
 
             }else{
 
@@ -93,6 +97,18 @@ public class EnemyDecorator implements IEnemy {
         return false; // Return false if the effect type is not found in the active effects
     }
 
+    /**
+     * Returns the active effects, strongest priority first after the last move.
+     * @return the active effects, not modifiable
+     */
+    public List<AbstractEffect> getActiveEffects() {
+        return Collections.unmodifiableList(activeEffects);
+    }
+
+    public IEnemy getDecoratedEnemy() {
+        return enemy; // The enemy this decorator wraps
+    }
+
     /////// copy everything from the enemy to the decorator
     
     @Override
@@ -140,6 +156,16 @@ public class EnemyDecorator implements IEnemy {
         return enemy.getCoordinate();
     }
 
+    @Override
+    public double getX() {
+        return enemy.getX();
+    }
+
+    @Override
+    public double getY() {
+        return enemy.getY();
+    }
+
     @Override
     public Point2D getMoveDirection() {
         return enemy.getMoveDirection();
@@ -165,4 +191,14 @@ public class EnemyDecorator implements IEnemy {
         enemy.locateToStartPoint(); // Call the locateToStartPoint method of the enemy
     }
 
+    @Override
+    public double getPathProgress() {
+        return enemy.getPathProgress();
+    }
+
+    @Override
+    public EnemyPath getMovePath() {
+        return enemy.getMovePath();
+    }
+
 }
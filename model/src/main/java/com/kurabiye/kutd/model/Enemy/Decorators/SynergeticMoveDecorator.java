@@ -1,7 +1,7 @@
 package com.kurabiye.kutd.model.Enemy.Decorators;
 
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
-import com.kurabiye.kutd.model.Player.UserPreference;
 
 
 /**
@@ -18,13 +18,14 @@ public class SynergeticMoveDecorator extends AbstractEffect implements ISpeedDec
     private static final int TILE_SIZE = 120; // Size of the tile in pixels, used for calculating movement
 
 
-    private static final int targetSpeed = ((int) (UserPreference.getInstance().getKnightSpeed() + UserPreference.getInstance().getKnightSpeed() / 2)); // Target speed for synergetic movement
+    private final int targetSpeed; // Target speed for synergetic movement
 
     IEnemy subject;
     IEnemy partner;
  
-    public SynergeticMoveDecorator(IEnemy subject, IEnemy partner) {
+    public SynergeticMoveDecorator(IEnemy subject, IEnemy partner, int targetSpeed) {
         super(AbstractEffect.INFINITY_EFFECT_DURATION); // Set the duration for the synergetic movement effec
+        this.targetSpeed = targetSpeed; // The speed the subject moves with while the effect is active
         this.subject = subject; // The subject is the enemy that is being decorated
         this.partner = partner; // The partner is the enemy that is being synergetically moved with
     }
@@ -35,6 +36,14 @@ public class SynergeticMoveDecorator extends AbstractEffect implements ISpeedDec
         return targetSpeed; // Set the speed to the target speed for synergetic movement
     }
 
+    public IEnemy getPartner() {
+        return partner; // The enemy the subject moves together with
+    }
+
+    public int getTargetSpeed() {
+        return targetSpeed; // The speed of the subject while the effect is active
+    }
+
     @Override
     public EffectTypes getEffectType() {
         return EffectTypes.SYNERGYTIC_MOVEMENT;
@@ -48,7 +57,7 @@ public class SynergeticMoveDecorator extends AbstractEffect implements ISpeedDec
         }
         
        // Check the distance between the subject and partner
-        double distance = subject.getCoordinate().distance(partner.getCoordinate());
+        double distance = GeometryUtils.distance(subject.getX(), subject.getY(), partner.getX(), partner.getY());
         
         // If the distance is greater than a certain threshold, move the subject towards the partner
         if (distance > TILE_SIZE) {
@@ -2,7 +2,9 @@ package com.kurabiye.kutd.model.Enemy;
 
 import java.util.ArrayList;
 
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
 import com.kurabiye.kutd.model.Enemy.MoveStrategy.IMoveStrategy;
 import com.kurabiye.kutd.model.Player.UserPreference;
 import com.kurabiye.kutd.model.Projectile.IProjectile;
@@ -23,12 +25,15 @@ import com.kurabiye.kutd.model.Projectile.ProjectileType;
 public class Enemy implements IEnemy {
 
 
-    UserPreference userPreferences = UserPreference.getInstance(); // User preferences for enemy attributes
+    private final UserPreference userPreferences; // User preferences for enemy attributes
 
     
     private EnemyType enemyType; // Type of the enemy
 
-    private Point2D coordinate = new Point2D(0,0); // Coordinate of the enemy on the map
+    // The position and direction are changed in place, so moving does not create objects
+    private final MutableVec2 position = new MutableVec2(0, 0); // Coordinate of the enemy on the map
+
+    private Point2D coordinate; // Point2D of the position, created when asked for and dropped when the enemy moves
 
     private int killReward; // Default health for enemies
 
@@ -38,41 +43,55 @@ public class Enemy implements IEnemy {
 
     // This is a normalized vector
     // It is used to calculate the direction of the enemy's movement 
-    private Point2D moveDirection = new Point2D(1, 0); // Direction of the enemy's movement
+    private final MutableVec2 direction = new MutableVec2(1, 0); // Direction of the enemy's movement
+
+    private Point2D moveDirection; // Point2D of the direction, created when asked for and dropped when the enemy moves
     
     
 
     private EnemyState enemyState = EnemyState.ALIVE; // Enemy's alive status
 
-    //  Keep track of where the enemy is on the path
-    private int pathPointIndex = 0; // Index of the current path point
-
+    // Keep track of where the enemy is on the path
+    private double distanceTravelled = 0; // Distance walked along the path, the position is sampled from it
 
+    private int pathSegment = 0; // Segment of the last position, speeds up the next lookup
 
-    // For the moment it will be only the center of the tiles
-    private ArrayList<Point2D> movePath = new ArrayList<Point2D>(); // Path of the enemy
+    private EnemyPath movePath; // Path of the enemy, null until a path is set
 
 
     /*
-     * For the moment we do not implement any move strategy.
-     * The enemies will move from one center of the tile to another center of the tile.
-     * The move sttategy will use math and geometry to create more complex paths later.
-     * 
+     * The move strategy varies the path of the map for this enemy.
+     * The strategy leaves out the first point of the map path, where the enemy is spawned,
+     * so the path starts there and goes on through the points of the strategy.
      */
     
      public void setMovePathWithStrategy(ArrayList<Point2D> path, IMoveStrategy moveStrategy) {
         
-         this.movePath = moveStrategy.createMovePath(path); // Create the move path using the strategy
+         setMovePath(EnemyPath.startingAt(path.get(0), moveStrategy.createMovePath(path))); // Create the move path using the strategy
      }
 
-    public Enemy(EnemyType enemyType) {
+    /**
+     * Makes the enemy walk along a path from its start. The path may be shared with other enemies.
+     * @param movePath The path to follow
+     */
+    public void setMovePath(EnemyPath movePath) {
+        if (movePath == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        this.movePath = movePath;
+        this.distanceTravelled = 0;
+        this.pathSegment = 0;
+    }
+
+    public Enemy(EnemyType enemyType, UserPreference userPreferences) {
+        this.userPreferences = userPreferences; // Keep the settings of the match for the damage table
         this.enemyType = enemyType; // Set the type of the enemy
         this.health = userPreferences.getEnemyHealth()[enemyType.getValue()]; // Set the health of the enemy based on user preferences
         this.speed =  userPreferences.getEnemyMovementSpeed()[enemyType.getValue()]; // Set the speed of the enemy
         this.killReward = userPreferences.getGoldPerEnemy()[enemyType.getValue()]; // Set the kill reward for the enemy
     }
 
-    public synchronized void getDamage(IProjectile projectile) {
+    public void getDamage(IProjectile projectile) {
         //System.out.println("Enemy hit! Health before: " + health);
 
 
@@ -100,7 +119,7 @@ public class Enemy implements IEnemy {
 
 
 
-    public synchronized void move(double deltaTime) {
+    public void move(double deltaTime) {
 
         int targetSpeed = this.getSpeed(); // Get the base speed of the enemy
 
@@ -116,60 +135,61 @@ public class Enemy implements IEnemy {
             
         }
 
+        if (movePath == null) {
+            return; // Nowhere to go
+        }
 
-        Point2D nextPoint = movePath.get(pathPointIndex); // Get the next point on the path
-
-        if(this.coordinate.distance(nextPoint) < targetSpeed * deltaTime) {
-            pathPointIndex++; // Increment the path point index
+        distanceTravelled += targetSpeed * deltaTime; // Distance covered in this update, however many points it passes
 
-            // Check if pathPointIndex is within the range of movePath
-            
-            if (pathPointIndex >= movePath.size()) {
+        if (distanceTravelled >= movePath.getLength()) {
             // Enemy has reached the end of the path
+            distanceTravelled = movePath.getLength();
             enemyState = EnemyState.ARRIVED;
             return;
         }
-            nextPoint = movePath.get(pathPointIndex); // Get the next point on the path
-        }
-
-        Point2D distanceVector = nextPoint.subtract(coordinate); // Calculate the distance vector to the next point
-        // Normalize the distance vector
-        double distance = distanceVector.magnitude(); // Calculate the magnitude of the distance vector
-        if(distance > 0) {
-            distanceVector = distanceVector.multiply(targetSpeed * deltaTime / distance); // Scale the distance vector by speed and delta time
-        }
-        coordinate = coordinate.add(distanceVector); // Update the coordinate of the enemy
-
 
-        // Set the move direction of the enemy
+        // Set the position and the move direction of the enemy from the path
+        pathSegment = movePath.sample(distanceTravelled, pathSegment, position, direction);
 
-        moveDirection = distanceVector.normalize(); // Set the move direction to the distance vector
+        coordinate = null; // The old points are out of date
+        moveDirection = null;
 
     }
 
 
-    public synchronized boolean isAlive() {
+    public boolean isAlive() {
         return (enemyState == EnemyState.ALIVE); // Check if the enemy is alive
     }
 
-    public synchronized boolean isDead() {
+    public boolean isDead() {
         return (enemyState == EnemyState.DEAD); // Check if the enemy is dead
     }
 
-    public synchronized boolean hasArrived() {
+    public boolean hasArrived() {
         return (enemyState == EnemyState.ARRIVED); // Check if the enemy has arrived at the destination
     }
 
-    public synchronized float getHealth() {
+    public float getHealth() {
         return health; // Get the health of the enemy
     }
     public int getSpeed() {
         return speed; // Get the speed of the enemy
     }
-    public synchronized Point2D getCoordinate() {
+    public Point2D getCoordinate() {
+        if (coordinate == null) {
+            coordinate = position.toPoint2D(); // Only create a point when somebody asks for it
+        }
         return coordinate; // Get the coordinate of the enemy
     }
 
+    public double getX() {
+        return position.getX(); // Get the x coordinate without creating a point
+    }
+
+    public double getY() {
+        return position.getY(); // Get the y coordinate without creating a point
+    }
+
 
     /*
      * 
@@ -178,8 +198,9 @@ public class Enemy implements IEnemy {
      * 
      * @param coordinate The new coordinate of the enemy.
      */
-    public synchronized void locate(Point2D newCoordinate) {
-        this.coordinate = newCoordinate; // Set the coordinate of the enemy to the new point
+    public void locate(Point2D newCoordinate) {
+        position.set(newCoordinate); // Set the coordinate of the enemy to the new point
+        this.coordinate = newCoordinate; // The point can be shared, it is immutable
     }
 
     /*
@@ -189,22 +210,46 @@ public class Enemy implements IEnemy {
      * 
      */
     @Override
-    public synchronized void locateToStartPoint(){
-        pathPointIndex = 0; // Reset the path point index to 0
-            coordinate = movePath.get(0); // Set the coordinate of the enemy to the first point in the path
-                this.enemyState = EnemyState.TELEPORTED; // Set the enemy state to ALIVE
+    public void locateToStartPoint(){
+        distanceTravelled = 0; // Walk the path again from its start
+        pathSegment = 0;
+        if (movePath != null) {
+            position.set(movePath.getX(0), movePath.getY(0)); // Set the coordinate of the enemy to the first point in the path
+            coordinate = null;
+        }
+        this.enemyState = EnemyState.TELEPORTED; // Set the enemy state to TELEPORTED
+
+    }
+
+    /**
+     * Returns how far along its path the enemy is, as a fraction of the length of its path.
+     * Enemies on different variants of the path can be compared with it.
+     * @return 0 at the start of the path, 1 at its end
+     */
+    @Override
+    public double getPathProgress() {
+        if (movePath == null || movePath.getLength() <= 0) {
+            return enemyState == EnemyState.ARRIVED ? 1 : 0;
+        }
+        return distanceTravelled / movePath.getLength();
+    }
 
+    public double getDistanceTravelled() {
+        return distanceTravelled; // Get the distance walked along the path
     }
 
     public EnemyType getEnemyType() {
         return enemyType; // Get the type of the enemy
     }
 
-    public synchronized Point2D getMoveDirection() {
+    public Point2D getMoveDirection() {
+        if (moveDirection == null) {
+            moveDirection = direction.toPoint2D(); // Only create a point when somebody asks for it
+        }
         return moveDirection; // Get the move direction of the enemy
     }
 
-    public synchronized void setSpeed(int speed) {
+    public void setSpeed(int speed) {
         this.speed = speed; // Set the speed of the enemy
     }
 
@@ -218,6 +263,46 @@ public class Enemy implements IEnemy {
         this.deathAnimationPlayed = deathAnimationPlayed;
     }
 
+    public EnemyState getEnemyState() {
+        return enemyState; // Get the state of the enemy
+    }
+
+    /**
+     * Returns the path the enemy follows, made by its move strategy and possibly shared with other enemies.
+     * @return the path, or null if no path is set
+     */
+    public EnemyPath getMovePath() {
+        return movePath;
+    }
+
+    /**
+     * Puts back an enemy of a saved match.
+     * The path is used as it is, the move strategy is not asked again so the enemy keeps its saved path.
+     * Enemies that shared a path before the save can be given the same path again.
+     * 
+     * @requires movePath != null && distanceTravelled >= 0
+     * @modifies this
+     */
+    public void restore(float health, int speed, EnemyState enemyState, EnemyPath movePath, double distanceTravelled,
+            double x, double y, double directionX, double directionY) {
+        if (enemyState == null || movePath == null) {
+            throw new IllegalArgumentException("Enemy state and path cannot be null");
+        }
+        if (!(distanceTravelled >= 0)) {
+            throw new IllegalArgumentException("Invalid saved distance: " + distanceTravelled); // Also rejects NaN
+        }
+        this.health = health;
+        this.speed = speed;
+        this.enemyState = enemyState;
+        this.movePath = movePath;
+        this.distanceTravelled = Math.min(distanceTravelled, this.movePath.getLength());
+        this.pathSegment = this.movePath.segmentAt(this.distanceTravelled, 0);
+        position.set(x, y);
+        direction.set(directionX, directionY);
+        coordinate = null; // Created again when asked for
+        moveDirection = null;
+    }
+
 
 
 
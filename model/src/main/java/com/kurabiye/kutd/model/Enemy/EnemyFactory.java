@@ -1,15 +1,18 @@
 package com.kurabiye.kutd.model.Enemy;
 
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import com.kurabiye.kutd.model.Coordinates.Point2D;
-import com.kurabiye.kutd.model.Enemy.MoveStrategy.GoblinMoveStrategy;
-import com.kurabiye.kutd.model.Enemy.MoveStrategy.KnightMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPathPool;
+import com.kurabiye.kutd.model.Player.UserPreference;
 
 /** EnemyFactory.java
  * This class is responsible for creating different enemy objects.
  * It uses the Factory design pattern to create instances of different enemy types.
  * userPreferences.java will help to get the necessary data from the user with regard to enemy health, speed, and kill reward.
+ * Each match has its own factory in its GameContext, so the enemy path is not shared between matches.
+ * The paths of the enemies are made once per map by an EnemyPathPool and shared by the spawned enemies.
  * 
  * 
  * 
@@ -21,18 +24,36 @@ import com.kurabiye.kutd.model.Enemy.MoveStrategy.KnightMoveStrategy;
 
 public class EnemyFactory {
 
-    // Static instance for Singleton pattern
-    private static EnemyFactory instance;
+    private final UserPreference userPreferences; // Settings of the match the enemies belong to
+
+    private final SplittableRandom pathRandom; // Varies the paths of the enemies
 
     private ArrayList<Point2D> enemyPath; // Path for enemies to follow
 
-    
-    // Get the singleton instance of EnemyFactory
-    public static synchronized EnemyFactory getInstance() {
-        if (instance == null) {
-            instance = new EnemyFactory();
+    private EnemyPathPool pathPool; // Variants of the path for every enemy type, made when the path is set
+
+    /**
+     * Creates an enemy factory with unseeded paths.
+     * @param userPreferences The settings used for enemy health, speed and kill reward
+     */
+    public EnemyFactory(UserPreference userPreferences) {
+        this(userPreferences, new SplittableRandom());
+    }
+
+    /**
+     * Creates an enemy factory for a single match.
+     * @param userPreferences The settings used for enemy health, speed and kill reward
+     * @param pathRandom The random stream of the match the enemy paths are varied with
+     */
+    public EnemyFactory(UserPreference userPreferences, SplittableRandom pathRandom) {
+        if (userPreferences == null) {
+            throw new IllegalArgumentException("UserPreference cannot be null"); // Enemies cannot be created without settings
+        }
+        if (pathRandom == null) {
+            throw new IllegalArgumentException("Random cannot be null");
         }
-        return instance;
+        this.userPreferences = userPreferences;
+        this.pathRandom = pathRandom;
     }
     
 
@@ -41,7 +62,7 @@ public class EnemyFactory {
      * @modifies none
      * @effects 
      *    - returns a new Enemy object initialized with values from userPreferences
-     *    - assigns appropriate MoveStrategy based on enemyType
+     *    - assigns one of the path variants made by the MoveStrategy of the enemyType
      *    - sets initial position of enemy to the first point in enemyPath
      *    - throws IllegalArgumentException if enemyType is invalid
      */
@@ -49,24 +70,10 @@ public class EnemyFactory {
     public Enemy createEnemy(EnemyType enemyType) {
         
 
-        Enemy newEnemy = new Enemy(enemyType);
+        Enemy newEnemy = new Enemy(enemyType, userPreferences);
 
 
-        switch (enemyType) {
-            case EnemyType.GOBLIN:
-
-            newEnemy.setMovePathWithStrategy(enemyPath, new GoblinMoveStrategy());       
-                break;
-
-            case EnemyType.KNIGHT:
-
-            newEnemy.setMovePathWithStrategy(enemyPath, new KnightMoveStrategy());
-
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid enemy type: " + enemyType);
-
-        }
+        newEnemy.setMovePath(pathPool.pick(enemyType, pathRandom)); // Share a path made when the map was loaded
 
         newEnemy.locate(enemyPath.get(0)); // Set the initial position of the enemy to the first point in the path
 
@@ -78,9 +85,14 @@ public class EnemyFactory {
     }
 
 
-    // set the enemy path
+    // set the enemy path and make its variants for the enemies
     public void setEnemyPath(ArrayList<Point2D> enemyPath) {
         this.enemyPath = enemyPath; // Set the path for enemies to follow
+        this.pathPool = new EnemyPathPool(enemyPath, pathRandom, EnemyPathPool.DEFAULT_VARIANTS_PER_TYPE);
+    }
+
+    public EnemyPathPool getPathPool() {
+        return pathPool; // Return the path variants of the map
     }
     
     
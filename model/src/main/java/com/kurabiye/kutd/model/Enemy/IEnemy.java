@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 
 import com.kurabiye.kutd.model.Enemy.MoveStrategy.IMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
 import com.kurabiye.kutd.model.Projectile.IProjectile;
 
 /**
@@ -91,6 +92,20 @@ public interface IEnemy {
      */
     Point2D getCoordinate();
 
+    /**
+     * Gets the x coordinate of the enemy without creating a Point2D
+     * 
+     * @return The enemy's x coordinate
+     */
+    double getX();
+
+    /**
+     * Gets the y coordinate of the enemy without creating a Point2D
+     * 
+     * @return The enemy's y coordinate
+     */
+    double getY();
+
     
     /**
      * Gets the move direction of the enemy
@@ -113,6 +128,21 @@ public interface IEnemy {
      */
 
     void locateToStartPoint(); // Locate the enemy to the starting point of the path
+
+    /**
+     * Gets how far along its path the enemy is, as a fraction of the length of the path,
+     * so enemies on different variants of the path can be compared
+     * 
+     * @return 0 at the start of the path, 1 at its end
+     */
+    double getPathProgress();
+
+    /**
+     * Gets the path the enemy walks along, which may be shared with other enemies
+     * 
+     * @return The path, or null if no path is set
+     */
+    EnemyPath getMovePath();
     
     /**
      * Gets the type of the enemy
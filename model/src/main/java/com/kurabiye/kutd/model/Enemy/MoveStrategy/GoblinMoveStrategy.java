@@ -1,7 +1,7 @@
 package com.kurabiye.kutd.model.Enemy.MoveStrategy;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 
@@ -22,7 +22,18 @@ import com.kurabiye.kutd.model.Coordinates.Point2D;
 public class GoblinMoveStrategy implements IMoveStrategy {
 
 
-    Random random = new Random();
+    private final SplittableRandom random; // Varies the path, drawn from the stream of the match
+
+    public GoblinMoveStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param random The random stream the path is varied with
+     */
+    public GoblinMoveStrategy(SplittableRandom random) {
+        this.random = random;
+    }
 
 
     private static final double THRESHOLD = 10; // Threshold for checking if two points are equal
@@ -0,0 +1,284 @@
+package com.kurabiye.kutd.model.Enemy.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+
+/* EnemyPath.java
+ * This class is a path an enemy walks along, parameterized by arc length.
+ *
+ * The points of the path are kept as plain coordinate arrays, together with the
+ * distance from the start of the path to every point. An enemy only has to keep
+ * the distance it has travelled: its position is found with a binary search on
+ * the distances, or with no search at all when the segment of the last tick is
+ * passed as a hint. So an enemy can pass any number of points in one tick and
+ * never overshoots a corner, whatever the speed or the time step.
+ *
+ * A path can also be smoothed with a Catmull-Rom spline. The spline is sampled into
+ * a denser path once, and that lookup table is walked like any other path.
+ *
+ * The class is immutable, so one path can be shared by many enemies.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class EnemyPath {
+
+    private final double[] xs; // X coordinates of the points
+    private final double[] ys; // Y coordinates of the points
+    private final double[] distances; // Distance from the start to each point, distances[0] is 0
+
+    private List<Point2D> points; // Points of the path, created when asked for
+
+    private EnemyPath(double[] xs, double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        this.distances = new double[xs.length];
+        for (int i = 1; i < xs.length; i++) {
+            distances[i] = distances[i - 1] + GeometryUtils.distance(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+        }
+    }
+
+    /**
+     * Creates a path through the given points.
+     * @requires points != null && !points.isEmpty()
+     * @param points The points of the path, in order
+     * @return the path
+     */
+    public static EnemyPath of(List<Point2D> points) {
+        if (points == null || points.isEmpty()) {
+            throw new IllegalArgumentException("Path cannot be null or empty"); // An enemy needs somewhere to stand
+        }
+        double[] xs = new double[points.size()];
+        double[] ys = new double[points.size()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = points.get(i).getX();
+            ys[i] = points.get(i).getY();
+        }
+        return new EnemyPath(xs, ys);
+    }
+
+    /**
+     * Creates a path that starts at the given point and goes on through the given points.
+     * Used for the paths of the move strategies, which leave out the spawn point of the map path.
+     *
+     * @param start The first point of the path
+     * @param points The points after it, in order
+     * @return the path
+     */
+    public static EnemyPath startingAt(Point2D start, List<Point2D> points) {
+        List<Point2D> all = new ArrayList<>(points.size() + 1);
+        all.add(start);
+        all.addAll(points);
+        return of(all);
+    }
+
+    /**
+     * Creates a smooth path through the given points with a uniform Catmull-Rom spline.
+     * Every segment is sampled at the given number of points and the samples form the lookup table.
+     *
+     * @requires points != null && !points.isEmpty() && samplesPerSegment > 0
+     * @param points The points the spline passes through
+     * @param samplesPerSegment The number of samples between two points
+     * @return the smoothed path
+     */
+    public static EnemyPath smoothed(List<Point2D> points, int samplesPerSegment) {
+        if (samplesPerSegment <= 0) {
+            throw new IllegalArgumentException("Samples per segment must be positive");
+        }
+        EnemyPath corners = of(points);
+        int segments = corners.xs.length - 1;
+        if (segments < 1) {
+            return corners; // A single point cannot be smoothed
+        }
+
+        double[] xs = new double[segments * samplesPerSegment + 1];
+        double[] ys = new double[xs.length];
+        int sample = 0;
+        for (int segment = 0; segment < segments; segment++) {
+            int p0 = Math.max(segment - 1, 0); // The end points are repeated, so the spline starts and ends on them
+            int p3 = Math.min(segment + 2, segments);
+            for (int step = 0; step < samplesPerSegment; step++) {
+                double t = (double) step / samplesPerSegment;
+                xs[sample] = catmullRom(corners.xs[p0], corners.xs[segment], corners.xs[segment + 1], corners.xs[p3], t);
+                ys[sample] = catmullRom(corners.ys[p0], corners.ys[segment], corners.ys[segment + 1], corners.ys[p3], t);
+                sample++;
+            }
+        }
+        xs[sample] = corners.xs[segments]; // The path ends exactly on the last point
+        ys[sample] = corners.ys[segments];
+        return new EnemyPath(xs, ys);
+    }
+
+    /**
+     * Finds the segment that holds the given distance.
+     * The hint is checked first, and the search walks forward from it a few segments,
+     * since an enemy is on the same or the next segment in the next tick.
+     *
+     * @param distance The distance from the start of the path
+     * @param hint The segment of the last lookup, or any value if there is none
+     * @return the index of the first point of the segment
+     */
+    public int segmentAt(double distance, int hint) {
+        int last = xs.length - 1;
+        if (last == 0 || distance <= 0) {
+            return 0;
+        }
+        if (distance >= distances[last]) {
+            return Math.max(last - 1, 0);
+        }
+        if (hint >= 0 && hint < last && distances[hint] <= distance) {
+            for (int segment = hint; segment < last && segment < hint + 4; segment++) {
+                if (distance < distances[segment + 1]) {
+                    return segment; // Found near the hint
+                }
+            }
+        }
+        int found = Arrays.binarySearch(distances, distance);
+        int segment = found >= 0 ? found : -found - 2; // The point at or before the distance
+        return Math.min(Math.max(segment, 0), last - 1);
+    }
+
+    /**
+     * Writes the position and the direction at a distance along the path.
+     * A distance outside the path is clamped to its ends.
+     *
+     * @param distance The distance from the start of the path
+     * @param hint The segment of the last lookup, or any value if there is none
+     * @param position Receives the position
+     * @param direction Receives the normalized direction of the segment, it is not changed on a segment of zero length
+     * @return the segment of the position, to be passed as the hint of the next lookup
+     */
+    public int sample(double distance, int hint, MutableVec2 position, MutableVec2 direction) {
+        int segment = segmentAt(distance, hint);
+        if (xs.length == 1) {
+            position.set(xs[0], ys[0]);
+            return 0;
+        }
+        double segmentLength = distances[segment + 1] - distances[segment];
+        double dx = xs[segment + 1] - xs[segment];
+        double dy = ys[segment + 1] - ys[segment];
+        if (segmentLength <= 0) {
+            position.set(xs[segment], ys[segment]);
+            return segment; // Two equal points, the direction of the enemy stays as it was
+        }
+        double t = Math.min(Math.max((distance - distances[segment]) / segmentLength, 0), 1);
+        position.set(xs[segment] + dx * t, ys[segment] + dy * t);
+        direction.set(dx / segmentLength, dy / segmentLength);
+        return segment;
+    }
+
+    /**
+     * Finds the parts of the path that are strictly inside an axis aligned ellipse.
+     * Every segment is intersected with the ellipse, and touching parts are merged.
+     *
+     * @param centerX The x coordinate of the center of the ellipse
+     * @param centerY The y coordinate of the center of the ellipse
+     * @param radiusX The half width of the ellipse
+     * @param radiusY The half height of the ellipse
+     * @return the parts as start and end pairs of path progress, in increasing order
+     */
+    public double[] progressWithinEllipse(double centerX, double centerY, double radiusX, double radiusY) {
+        if (!(radiusX > 0 && radiusY > 0)) {
+            return new double[0]; // An empty ellipse covers nothing
+        }
+        double length = getLength();
+        if (xs.length == 1 || length <= 0) {
+            double u = (xs[0] - centerX) / radiusX;
+            double v = (ys[0] - centerY) / radiusY;
+            return u * u + v * v < 1 ? new double[] { 0, 1 } : new double[0]; // The path is a single point
+        }
+
+        double[] intervals = new double[4];
+        int count = 0;
+        for (int segment = 0; segment < xs.length - 1; segment++) {
+            double segmentLength = distances[segment + 1] - distances[segment];
+            if (segmentLength <= 0) {
+                continue; // Two equal points, the neighbouring segments cover them
+            }
+            // Points of the segment in the space where the ellipse is the unit circle
+            double u0 = (xs[segment] - centerX) / radiusX;
+            double v0 = (ys[segment] - centerY) / radiusY;
+            double du = (xs[segment + 1] - xs[segment]) / radiusX;
+            double dv = (ys[segment + 1] - ys[segment]) / radiusY;
+            double a = du * du + dv * dv;
+            double b = 2 * (u0 * du + v0 * dv);
+            double c = u0 * u0 + v0 * v0 - 1;
+            double discriminant = b * b - 4 * a * c;
+            if (discriminant <= 0) {
+                continue; // The segment line misses or only touches the ellipse
+            }
+            double root = Math.sqrt(discriminant);
+            double enter = Math.max((-b - root) / (2 * a), 0);
+            double exit = Math.min((-b + root) / (2 * a), 1);
+            if (enter >= exit) {
+                continue; // The ellipse is before or after the segment
+            }
+            double start = (distances[segment] + enter * segmentLength) / length;
+            double end = (distances[segment] + exit * segmentLength) / length;
+            if (count > 0 && start <= intervals[count - 1] + 1e-12) {
+                intervals[count - 1] = Math.max(intervals[count - 1], end); // Continues the previous part
+                continue;
+            }
+            if (count == intervals.length) {
+                intervals = Arrays.copyOf(intervals, count * 2);
+            }
+            intervals[count++] = start;
+            intervals[count++] = end;
+        }
+        return Arrays.copyOf(intervals, count);
+    }
+
+    public double getLength() {
+        return distances[distances.length - 1]; // Return the length of the whole path
+    }
+
+    public int getPointCount() {
+        return xs.length; // Return the number of points
+    }
+
+    public double getX(int point) {
+        return xs[point]; // Return the x coordinate of a point
+    }
+
+    public double getY(int point) {
+        return ys[point]; // Return the y coordinate of a point
+    }
+
+    /**
+     * Returns the distance from the start of the path to one of its points.
+     * @param point The index of the point
+     * @return the distance along the path
+     */
+    public double getDistanceTo(int point) {
+        return distances[point];
+    }
+
+    /**
+     * Returns the points of the path.
+     * @return the points, not modifiable
+     */
+    public List<Point2D> getPoints() {
+        if (points == null) {
+            List<Point2D> created = new ArrayList<>(xs.length);
+            for (int i = 0; i < xs.length; i++) {
+                created.add(new Point2D(xs[i], ys[i]));
+            }
+            points = Collections.unmodifiableList(created); // Racy but harmless, every thread creates the same list
+        }
+        return points;
+    }
+
+    // Uniform Catmull-Rom interpolation between p1 and p2
+    private static double catmullRom(double p0, double p1, double p2, double p3, double t) {
+        double t2 = t * t;
+        double t3 = t2 * t;
+        return 0.5 * ((2 * p1) + (-p0 + p2) * t + (2 * p0 - 5 * p1 + 4 * p2 - p3) * t2 + (-p0 + 3 * p1 - 3 * p2 + p3) * t3);
+    }
+}
@@ -0,0 +1,91 @@
+package com.kurabiye.kutd.model.Enemy.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.MoveStrategy.GoblinMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.MoveStrategy.IMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.MoveStrategy.KnightMoveStrategy;
+
+/* EnemyPathPool.java
+ * This class holds a fixed number of path variants for every enemy type.
+ *
+ * The move strategy of an enemy type varies the path of the map a little for every enemy.
+ * Instead of running the strategy for every spawned enemy, the pool runs it a fixed number
+ * of times when the map is loaded, and the spawned enemies share the variants. So spawning
+ * an enemy creates no path, and the memory of the paths does not grow with the number of enemies.
+ * EnemyPath is immutable, so the enemies can share the variants safely.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EnemyPathPool {
+
+    public static final int DEFAULT_VARIANTS_PER_TYPE = 16; // Enough for the enemies of a group not to walk in single file
+
+    private final EnemyPath[][] variants; // Variants by enemy type ordinal
+
+    /**
+     * Creates the path variants for a map.
+     *
+     * @requires mapPath != null && !mapPath.isEmpty() && random != null && variantsPerType > 0
+     * @param mapPath The path of the map, from the spawn point to the end
+     * @param random The random stream the variants are made with
+     * @param variantsPerType The number of variants of every enemy type
+     */
+    public EnemyPathPool(ArrayList<Point2D> mapPath, SplittableRandom random, int variantsPerType) {
+        if (mapPath == null || mapPath.isEmpty()) {
+            throw new IllegalArgumentException("Map path cannot be null or empty");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        if (variantsPerType <= 0) {
+            throw new IllegalArgumentException("Variants per type must be positive");
+        }
+        EnemyType[] types = EnemyType.values();
+        this.variants = new EnemyPath[types.length][variantsPerType];
+        for (EnemyType type : types) {
+            IMoveStrategy moveStrategy = strategyFor(type, random);
+            for (int i = 0; i < variantsPerType; i++) {
+                // The strategy leaves out the spawn point, where the enemies are placed
+                variants[type.ordinal()][i] = EnemyPath.startingAt(mapPath.get(0), moveStrategy.createMovePath(mapPath));
+            }
+        }
+    }
+
+    /**
+     * Picks one of the variants of an enemy type.
+     * @param enemyType The type of the enemy
+     * @param random The random stream the variant is picked with
+     * @return a shared variant
+     */
+    public EnemyPath pick(EnemyType enemyType, SplittableRandom random) {
+        EnemyPath[] typeVariants = variants[enemyType.ordinal()];
+        return typeVariants[random.nextInt(typeVariants.length)];
+    }
+
+    /**
+     * @param enemyType The type of the enemy
+     * @return the variants of the enemy type, not modifiable
+     */
+    public List<EnemyPath> getVariants(EnemyType enemyType) {
+        return List.of(variants[enemyType.ordinal()]);
+    }
+
+    // Every enemy type varies the path in its own way
+    private static IMoveStrategy strategyFor(EnemyType enemyType, SplittableRandom random) {
+        switch (enemyType) {
+            case GOBLIN:
+                return new GoblinMoveStrategy(random);
+            case KNIGHT:
+                return new KnightMoveStrategy(random);
+            default:
+                throw new IllegalArgumentException("Invalid enemy type: " + enemyType);
+        }
+    }
+}
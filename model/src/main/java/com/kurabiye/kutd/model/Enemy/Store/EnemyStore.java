@@ -0,0 +1,492 @@
+package com.kurabiye.kutd.model.Enemy.Store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.EnemyState;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.ProjectileType;
+
+/* EnemyStore.java
+ * This class keeps enemies as parallel primitive arrays (structure of arrays)
+ * instead of one Enemy object per enemy. Every enemy is a slot index, and its
+ * position, direction, health, speed, distance along its path, state and type are stored in
+ * their own columns, so the movement kernel streams through contiguous memory.
+ *
+ * Paths are stored once in a path table and shared by every enemy that follows
+ * them, instead of one ArrayList of points per enemy. A path is found by identity,
+ * so registering the same path again gives the same id. A path made for a single
+ * enemy with followPath is dropped from the table when its last enemy leaves it,
+ * and its id is reused by the next new path.
+ *
+ * Released slots are put on a free list and reused by the next spawn, so the
+ * index of a living enemy never changes. A StoredEnemy is a thin IEnemy view
+ * over a slot for the code that works with IEnemy; a view must not be used
+ * after its slot is released.
+ *
+ * The store is optional and is not used by the regular match yet. It is meant
+ * for modes with a very large number of enemies. It is not thread safe and is
+ * meant to be used by the game thread only.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class EnemyStore {
+
+    public static final int NO_PATH = -1; // Path id of an enemy without a path
+
+    private static final byte FREE = -1; // State of a slot that holds no enemy
+
+    private static final EnemyState[] STATES = EnemyState.values(); // State column values, by ordinal
+    private static final EnemyType[] TYPES = EnemyType.values(); // Type column values, by ordinal
+
+    private static final int INITIAL_CAPACITY = 64; // Initial number of slots
+
+    private final UserPreference userPreferences; // Settings used for enemy attributes and damage
+
+    // Enemy columns, one entry per slot
+    private double[] x; // X coordinate
+    private double[] y; // Y coordinate
+    private double[] directionX; // X of the normalized move direction
+    private double[] directionY; // Y of the normalized move direction
+    private float[] health; // Remaining health
+    private int[] speed; // Speed in pixels per second
+    private int[] killReward; // Gold given when the enemy dies
+    private int[] pathId; // Id of the path in the path table
+    private double[] distance; // Distance travelled along the path
+    private int[] pathSegment; // Segment of the last position, the hint of the next lookup
+    private byte[] state; // EnemyState ordinal, or FREE
+    private byte[] type; // EnemyType ordinal
+
+    private int highWater = 0; // Number of slots ever used, the kernels stop here
+    private int count = 0; // Number of slots holding an enemy
+
+    private int[] freeSlots = new int[INITIAL_CAPACITY]; // Stack of released slots
+    private int freeCount = 0; // Number of released slots on the stack
+
+    private final List<EnemyPath> paths = new ArrayList<>(); // Path table, indexed by path id, null for a dropped path
+    private final Map<EnemyPath, Integer> pathIds = new IdentityHashMap<>(); // Id of every path in the table
+    private int[] pathUsers = new int[INITIAL_CAPACITY]; // Number of enemies following each path
+    private final BitSet dropWhenUnused = new BitSet(); // Paths of followPath, dropped when their last enemy leaves
+    private int[] freePathIds = new int[INITIAL_CAPACITY]; // Stack of the ids of dropped paths
+    private int freePathCount = 0; // Number of ids on the stack
+
+    private final MutableVec2 samplePosition = new MutableVec2(); // Receives the sampled position, reused by every move
+    private final MutableVec2 sampleDirection = new MutableVec2(); // Receives the sampled direction
+
+    /**
+     * Creates an empty enemy store.
+     * @param userPreferences The settings used for enemy health, speed, kill reward and damage
+     */
+    public EnemyStore(UserPreference userPreferences) {
+        this(userPreferences, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty enemy store with room for the given number of enemies.
+     * @param userPreferences The settings used for enemy health, speed, kill reward and damage
+     * @param initialCapacity The number of enemies the store can hold before growing
+     */
+    public EnemyStore(UserPreference userPreferences, int initialCapacity) {
+        if (userPreferences == null) {
+            throw new IllegalArgumentException("UserPreference cannot be null"); // Enemies cannot be created without settings
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.userPreferences = userPreferences;
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        directionX = new double[initialCapacity];
+        directionY = new double[initialCapacity];
+        health = new float[initialCapacity];
+        speed = new int[initialCapacity];
+        killReward = new int[initialCapacity];
+        pathId = new int[initialCapacity];
+        distance = new double[initialCapacity];
+        pathSegment = new int[initialCapacity];
+        state = new byte[initialCapacity];
+        type = new byte[initialCapacity];
+    }
+
+    /**
+     * Adds a path to the path table.
+     * @param path The points of the path, in order
+     * @return The id of the path
+     */
+    public int registerPath(List<Point2D> path) {
+        return registerPath(EnemyPath.of(path));
+    }
+
+    /**
+     * Adds a path to the path table. The path can be shared with other stores and enemies.
+     * A registered path stays in the table, registering it again returns the same id.
+     * @param path The path
+     * @return The id of the path
+     */
+    public int registerPath(EnemyPath path) {
+        int id = idOf(path);
+        dropWhenUnused.clear(id); // Kept even without enemies
+        return id;
+    }
+
+    /**
+     * Makes an enemy follow a path of its own from its first point.
+     * The path is shared like a registered one, but if it was not registered it is
+     * dropped from the table once no enemy follows it anymore.
+     * @param index The slot index of the enemy
+     * @param path The path to follow
+     */
+    public void followPath(int index, EnemyPath path) {
+        checkSlot(index);
+        boolean registered = pathIds.containsKey(path);
+        int id = idOf(path);
+        if (!registered) {
+            dropWhenUnused.set(id);
+        }
+        setPath(index, id);
+    }
+
+    /**
+     * Adds a new enemy at the start of a path.
+     * @param enemyType The type of the enemy
+     * @param pathId The id of the path to follow, or NO_PATH
+     * @return The slot index of the enemy
+     */
+    public int spawn(EnemyType enemyType, int pathId) {
+        checkPath(pathId);
+
+        int index;
+        if (freeCount > 0) {
+            index = freeSlots[--freeCount]; // Reuse a released slot
+        } else {
+            if (highWater == x.length) {
+                grow();
+            }
+            index = highWater++;
+        }
+
+        int typeValue = enemyType.getValue();
+        health[index] = userPreferences.getEnemyHealth()[typeValue];
+        speed[index] = userPreferences.getEnemyMovementSpeed()[typeValue];
+        killReward[index] = userPreferences.getGoldPerEnemy()[typeValue];
+        type[index] = (byte) enemyType.ordinal();
+        state[index] = (byte) EnemyState.ALIVE.ordinal();
+        directionX[index] = 1; // Same default direction as Enemy
+        directionY[index] = 0;
+        this.pathId[index] = pathId;
+        enterPath(pathId);
+        distance[index] = 0;
+        pathSegment[index] = 0;
+        if (pathId == NO_PATH) {
+            x[index] = 0;
+            y[index] = 0;
+        } else {
+            x[index] = paths.get(pathId).getX(0);
+            y[index] = paths.get(pathId).getY(0);
+        }
+
+        count++;
+        return index;
+    }
+
+    /**
+     * Removes an enemy and makes its slot available for the next spawn.
+     * @param index The slot index of the enemy
+     */
+    public void release(int index) {
+        checkSlot(index);
+        leavePath(pathId[index]);
+        state[index] = FREE;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = index;
+        count--;
+    }
+
+    /**
+     * Moves every enemy in the store along its path.
+     * @param deltaTime The time elapsed since the last update in seconds
+     */
+    public void moveAll(double deltaTime) {
+        for (int i = 0; i < highWater; i++) {
+            if (state[i] != FREE) {
+                move(i, deltaTime);
+            }
+        }
+    }
+
+    /**
+     * Moves one enemy along its path, with the same rules as Enemy.move.
+     * @param index The slot index of the enemy
+     * @param deltaTime The time elapsed since the last update in seconds
+     */
+    public void move(int index, double deltaTime) {
+        byte current = state[index];
+        if (current == EnemyState.DEAD.ordinal() || current == EnemyState.ARRIVED.ordinal() || current == FREE) {
+            return; // Only living enemies move
+        }
+        if (current == EnemyState.TELEPORTED.ordinal()) {
+            state[index] = (byte) EnemyState.ALIVE.ordinal(); // Do not move on the tick of the teleport
+            return;
+        }
+        int path = pathId[index];
+        if (path == NO_PATH) {
+            return; // Nowhere to go
+        }
+
+        EnemyPath enemyPath = paths.get(path);
+        double travelled = distance[index] + speed[index] * deltaTime; // Distance covered in this update
+        if (travelled >= enemyPath.getLength()) {
+            distance[index] = enemyPath.getLength();
+            state[index] = (byte) EnemyState.ARRIVED.ordinal();
+            return;
+        }
+        distance[index] = travelled;
+
+        sampleDirection.set(directionX[index], directionY[index]); // Kept on a segment of zero length
+        pathSegment[index] = enemyPath.sample(travelled, pathSegment[index], samplePosition, sampleDirection);
+        x[index] = samplePosition.getX();
+        y[index] = samplePosition.getY();
+        directionX[index] = sampleDirection.getX();
+        directionY[index] = sampleDirection.getY();
+    }
+
+    /**
+     * Applies the damage of a projectile to an enemy.
+     * @param index The slot index of the enemy
+     * @param projectileType The type of the projectile
+     * @param projectileLevel The level of the projectile
+     */
+    public void applyDamage(int index, ProjectileType projectileType, int projectileLevel) {
+        checkSlot(index);
+        health[index] -= userPreferences.getDamageDealt()[projectileType.getValue()][TYPES[type[index]].getValue()][projectileLevel];
+        if (health[index] <= 0) {
+            state[index] = (byte) EnemyState.DEAD.ordinal();
+        }
+    }
+
+    /**
+     * Puts an enemy back to the first point of its path.
+     * @param index The slot index of the enemy
+     */
+    public void locateToStartPoint(int index) {
+        checkSlot(index);
+        distance[index] = 0;
+        pathSegment[index] = 0;
+        if (pathId[index] != NO_PATH) {
+            x[index] = paths.get(pathId[index]).getX(0);
+            y[index] = paths.get(pathId[index]).getY(0);
+        }
+        state[index] = (byte) EnemyState.TELEPORTED.ordinal();
+    }
+
+    /**
+     * Moves an enemy to the given coordinate.
+     * @param index The slot index of the enemy
+     * @param newX The new x coordinate
+     * @param newY The new y coordinate
+     */
+    public void locate(int index, double newX, double newY) {
+        checkSlot(index);
+        x[index] = newX;
+        y[index] = newY;
+    }
+
+    /**
+     * Makes an enemy follow another path from its first point.
+     * @param index The slot index of the enemy
+     * @param newPathId The id of the path to follow
+     */
+    public void setPath(int index, int newPathId) {
+        checkSlot(index);
+        checkPath(newPathId);
+        enterPath(newPathId); // Entered first, so following the same path again never drops it
+        leavePath(pathId[index]);
+        pathId[index] = newPathId;
+        distance[index] = 0;
+        pathSegment[index] = 0;
+    }
+
+    public void setSpeed(int index, int newSpeed) {
+        checkSlot(index);
+        speed[index] = newSpeed;
+    }
+
+    /**
+     * Returns an IEnemy view over a slot.
+     * @param index The slot index of the enemy
+     * @return A view that reads and writes the columns of the slot
+     */
+    public StoredEnemy view(int index) {
+        checkSlot(index);
+        return new StoredEnemy(this, index);
+    }
+
+    /**
+     * @return true if the slot holds an enemy
+     */
+    public boolean isUsed(int index) {
+        return index >= 0 && index < highWater && state[index] != FREE;
+    }
+
+    /**
+     * @return the number of paths in the path table
+     */
+    public int getPathCount() {
+        return pathIds.size();
+    }
+
+    public int getCount() {
+        return count; // Number of enemies in the store
+    }
+
+    public int getHighWater() {
+        return highWater; // Slots from 0 up to here may hold enemies
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getDirectionX(int index) {
+        return directionX[index];
+    }
+
+    public double getDirectionY(int index) {
+        return directionY[index];
+    }
+
+    public float getHealth(int index) {
+        return health[index];
+    }
+
+    public int getSpeed(int index) {
+        return speed[index];
+    }
+
+    public int getKillReward(int index) {
+        return killReward[index];
+    }
+
+    public int getPathId(int index) {
+        return pathId[index];
+    }
+
+    public double getDistance(int index) {
+        return distance[index];
+    }
+
+    /**
+     * @return how far along its path the enemy is, from 0 at the start to 1 at the end
+     */
+    public double getPathProgress(int index) {
+        int path = pathId[index];
+        if (path == NO_PATH || paths.get(path).getLength() <= 0) {
+            return state[index] == EnemyState.ARRIVED.ordinal() ? 1 : 0;
+        }
+        return distance[index] / paths.get(path).getLength();
+    }
+
+    /**
+     * @return the path the enemy walks along, or null if it has none
+     */
+    public EnemyPath getPath(int index) {
+        return pathId[index] == NO_PATH ? null : paths.get(pathId[index]);
+    }
+
+    public EnemyState getState(int index) {
+        checkSlot(index);
+        return STATES[state[index]];
+    }
+
+    public EnemyType getType(int index) {
+        return TYPES[type[index]];
+    }
+
+    private void checkSlot(int index) {
+        if (!isUsed(index)) {
+            throw new IllegalArgumentException("No enemy in slot " + index);
+        }
+    }
+
+    private void checkPath(int id) {
+        if (id != NO_PATH && (id < 0 || id >= paths.size() || paths.get(id) == null)) {
+            throw new IllegalArgumentException("Unknown path id " + id);
+        }
+    }
+
+    // Returns the id of a path, adding it to the table if it is not there yet
+    private int idOf(EnemyPath path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        Integer known = pathIds.get(path);
+        if (known != null) {
+            return known;
+        }
+        int id;
+        if (freePathCount > 0) {
+            id = freePathIds[--freePathCount]; // Reuse the id of a dropped path
+            paths.set(id, path);
+        } else {
+            id = paths.size();
+            paths.add(path);
+            if (id == pathUsers.length) {
+                pathUsers = Arrays.copyOf(pathUsers, id * 2);
+            }
+        }
+        pathIds.put(path, id);
+        return id;
+    }
+
+    private void enterPath(int id) {
+        if (id != NO_PATH) {
+            pathUsers[id]++;
+        }
+    }
+
+    // Drops a path of followPath when its last enemy leaves it
+    private void leavePath(int id) {
+        if (id == NO_PATH || --pathUsers[id] > 0 || !dropWhenUnused.get(id)) {
+            return;
+        }
+        pathIds.remove(paths.get(id));
+        paths.set(id, null);
+        dropWhenUnused.clear(id);
+        if (freePathCount == freePathIds.length) {
+            freePathIds = Arrays.copyOf(freePathIds, freePathCount * 2);
+        }
+        freePathIds[freePathCount++] = id;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        directionX = Arrays.copyOf(directionX, capacity);
+        directionY = Arrays.copyOf(directionY, capacity);
+        health = Arrays.copyOf(health, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        killReward = Arrays.copyOf(killReward, capacity);
+        pathId = Arrays.copyOf(pathId, capacity);
+        distance = Arrays.copyOf(distance, capacity);
+        pathSegment = Arrays.copyOf(pathSegment, capacity);
+        state = Arrays.copyOf(state, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+}
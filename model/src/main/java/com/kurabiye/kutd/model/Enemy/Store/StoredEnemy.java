@@ -0,0 +1,131 @@
+package com.kurabiye.kutd.model.Enemy.Store;
+
+import java.util.ArrayList;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.EnemyState;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.MoveStrategy.IMoveStrategy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+
+/* StoredEnemy.java
+ * This class is a thin IEnemy view over one slot of an EnemyStore.
+ * It holds no enemy data itself, every call reads or writes the columns of the store,
+ * so the decorators, managers and views that work with IEnemy can use stored enemies.
+ * The view must not be used after its slot is released.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class StoredEnemy implements IEnemy {
+
+    private final EnemyStore store; // Store holding the enemy data
+    private final int index; // Slot of the enemy in the store
+
+    StoredEnemy(EnemyStore store, int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index; // Slot of the enemy in the store
+    }
+
+    @Override
+    public void setMovePathWithStrategy(ArrayList<Point2D> path, IMoveStrategy moveStrategy) {
+        store.followPath(index, EnemyPath.startingAt(path.get(0), moveStrategy.createMovePath(path))); // The strategy creates a path of its own, dropped with its last enemy
+    }
+
+    @Override
+    public void getDamage(IProjectile projectile) {
+        store.applyDamage(index, projectile.getProjectileType(), projectile.getProjectileLevel());
+    }
+
+    @Override
+    public int getKillReward() {
+        return isDead() ? store.getKillReward(index) : 0; // Only dead enemies give gold
+    }
+
+    @Override
+    public void move(double deltaTime) {
+        store.move(index, deltaTime);
+    }
+
+    @Override
+    public boolean isAlive() {
+        return store.getState(index) == EnemyState.ALIVE;
+    }
+
+    @Override
+    public boolean isDead() {
+        return store.getState(index) == EnemyState.DEAD;
+    }
+
+    @Override
+    public boolean hasArrived() {
+        return store.getState(index) == EnemyState.ARRIVED;
+    }
+
+    @Override
+    public float getHealth() {
+        return store.getHealth(index);
+    }
+
+    @Override
+    public int getSpeed() {
+        return store.getSpeed(index);
+    }
+
+    @Override
+    public Point2D getCoordinate() {
+        return new Point2D(store.getX(index), store.getY(index)); // Points are only created at the view boundary
+    }
+
+    @Override
+    public double getX() {
+        return store.getX(index);
+    }
+
+    @Override
+    public double getY() {
+        return store.getY(index);
+    }
+
+    @Override
+    public Point2D getMoveDirection() {
+        return new Point2D(store.getDirectionX(index), store.getDirectionY(index));
+    }
+
+    @Override
+    public void locate(Point2D newCoordinate) {
+        store.locate(index, newCoordinate.getX(), newCoordinate.getY());
+    }
+
+    @Override
+    public void locateToStartPoint() {
+        store.locateToStartPoint(index);
+    }
+
+    @Override
+    public double getPathProgress() {
+        return store.getPathProgress(index);
+    }
+
+    @Override
+    public EnemyPath getMovePath() {
+        return store.getPath(index);
+    }
+
+    @Override
+    public EnemyType getEnemyType() {
+        return store.getType(index);
+    }
+
+    @Override
+    public void setSpeed(int speed) {
+        store.setSpeed(index, speed);
+    }
+}
@@ -0,0 +1,16 @@
+package com.kurabiye.kutd.model.Listeners;
+
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
+
+public interface ICommandListener {
+
+    /*
+     *  This interface is used to listen for the player commands of a match.
+     *  Every command is passed with the tick it was given at, whether the game accepted it or not,
+     *  so the match can be replayed from the recorded commands.
+     *  It is called on the game thread when the command is applied, between two ticks.
+     */
+
+    void onCommand(SimulationCommand command); // Method to be called for every player command
+
+}
@@ -1,5 +1,7 @@
 package com.kurabiye.kutd.model.Managers;
 
+import java.util.SplittableRandom;
+
 import com.kurabiye.kutd.model.Collectable.GoldBag;
 import com.kurabiye.kutd.model.Collectable.ICollectable;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
@@ -11,22 +13,38 @@ public class CollactableManager {
 
     DynamicArrayList<ICollectable<?>> collectables = new DynamicArrayList<>(); // List to hold collectable items
 
-    private final double CLICK_RADIUS = 30.0; // Pixels - how close the click needs to be
+    public static final double CLICK_RADIUS = 30.0; // Pixels - how close the click needs to be
 
     private Player player; // Reference to the player, if needed for player-specific logic
 
 
     //
-    private static final int ARCHER_COST = (int)(UserPreference.getInstance().getTowerConstructionCost()[2][0] / 2); // Default amount of gold in a GoldBag, can be adjusted
+    private final int goldBagAmount; // Amount of gold in a GoldBag, half of an archer tower
+
+    private final SplittableRandom goldRandom; // Draws the gold in the bags
 
     /**
      * Constructor for the CollactableManager class.
      * 
      * @param player The player instance associated with this manager.
+     * @param userPreferences Settings of the match, used for the gold bag amount.
      */
-    public CollactableManager(Player player) {
+    public CollactableManager(Player player, UserPreference userPreferences) {
+        this(player, userPreferences, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the CollactableManager class.
+     * 
+     * @param player The player instance associated with this manager.
+     * @param userPreferences Settings of the match, used for the gold bag amount.
+     * @param goldRandom The random stream of the match the gold bag amounts are drawn from.
+     */
+    public CollactableManager(Player player, UserPreference userPreferences, SplittableRandom goldRandom) {
         // This constructor can be expanded to include player-specific initialization if needed
         this.player = player; // Set the player reference
+        this.goldBagAmount = userPreferences.getTowerConstructionCost()[2][0] / 2; // Default amount of gold in a GoldBag, can be adjusted
+        this.goldRandom = goldRandom;
     }
 
     /**
@@ -52,7 +70,9 @@ public class CollactableManager {
     }
 
     /**
-     * Handles clicking on collectables
+     * Handles clicking on collectables.
+     * The click is applied by the game thread between two ticks, so the gold is given
+     * and the bag is removed right away.
      * @param clickPosition The position where the user clicked
      * @return true if a collectable was collected, false otherwise
      */
@@ -74,15 +94,9 @@ public class CollactableManager {
 
 
     private boolean collectGoldBag(GoldBag goldBag) {
-        
-                    // Give gold to player
-                    player.earnGold(goldBag.getItem());
-                
-                    // Remove the collected item
-                    collectables.remove(goldBag);
-
-                    return true; // Successfully collected
-
+        player.earnGold(goldBag.getItem()); // Give gold to player
+        collectables.remove(goldBag); // Remove the collected item, the loop of handleClick stops here
+        return true; // Successfully collected
     }
 
 
@@ -93,7 +107,7 @@ public class CollactableManager {
      * @param goldAmount The amount of gold in the bag
      */
     public void spawnGoldBag(Point2D position) {
-        int goldAmount = (int)((Math.random() * (ARCHER_COST - 2)) + 2); // Default amount of gold, can be adjusted as needed
+        int goldAmount = (int)((goldRandom.nextDouble() * (goldBagAmount - 2)) + 2); // Default amount of gold, can be adjusted as needed
         GoldBag goldBag = new GoldBag(position, goldAmount);
         collectables.add(goldBag);
     }
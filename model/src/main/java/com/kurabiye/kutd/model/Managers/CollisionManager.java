@@ -1,22 +1,41 @@
 package com.kurabiye.kutd.model.Managers;
 
 
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
 import com.kurabiye.kutd.model.Managers.EffectManagers.SlowDownManager;
 import com.kurabiye.kutd.model.Projectile.DamageType;
 import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Projectile.ProjectileFactory;
 import com.kurabiye.kutd.model.Projectile.ProjectileState;
 import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.model.Spatial.EnemySpatialGrid;
 import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
 
 public class CollisionManager {
 
+    // Added to the damage radius around the impact point, so the enemy hit first is always inside it
+    private static final double CONTACT_EPSILON = 1e-6;
+
 
 
     private DynamicArrayList<IEnemy> enemies;
     private DynamicArrayList<IProjectile> projectiles;
     private SlowDownManager slowDownManager; // Manager for slow down effects
     private CollactableManager collectableManager; // Manager for collectable items
+    private ProjectileFactory projectileFactory; // Factory the removed projectiles are released to
+    private SplittableRandom dropRandom = new SplittableRandom(); // Decides the gold bag drops
+    private SplittableRandom teleportRandom = new SplittableRandom(); // Decides the teleports of the magic projectiles
+
+    private final ArrayList<IProjectile> retiredProjectiles = new ArrayList<>(); // Projectiles removed in this tick, released after the commit
+
+    private int killedEnemyCount; // Number of enemies killed by projectiles so far
+
+    private final EnemySpatialGrid spatialGrid = new EnemySpatialGrid(); // Enemies bucketed by position, rebuilt every tick
 
     /**
      * Constructor for the CollisionManager class.
@@ -39,13 +58,46 @@ public class CollisionManager {
         // This method can be used to set the collectable manager if needed
         this.collectableManager = collectableManager; // Set the collectable manager
     }
+
+    /**
+     * Sets the factory the projectiles are released to when they leave the match.
+     * Without a factory the removed projectiles are left to the garbage collector.
+     * @param projectileFactory The projectile factory of the match
+     */
+    public void setProjectileFactory(ProjectileFactory projectileFactory) {
+        this.projectileFactory = projectileFactory;
+    }
+
+    /**
+     * Sets the random streams of the match the gold bag drops and the teleports are drawn from.
+     * Without them every collision manager draws unseeded numbers.
+     * @param matchRandom The random number generators of the match
+     */
+    public void setMatchRandom(MatchRandom matchRandom) {
+        this.dropRandom = matchRandom.get(MatchRandom.Stream.GOLD_BAGS);
+        this.teleportRandom = matchRandom.get(MatchRandom.Stream.TELEPORTS);
+    }
         
 
 
+    /**
+     * Rebuilds the spatial grid from the current enemy positions.
+     * Must be called after the enemies moved and before the collisions and explosions are calculated.
+     */
+    public void rebuildSpatialIndex() {
+        spatialGrid.rebuild(enemies); // Bucket the enemies by their new positions
+    }
+
     /**
      * Calculate the collisions between projectiles and enemies.
      * This method checks if any projectile collides with any enemy and handles the collision.
+     * The whole movement of the projectile in this tick is swept against the enemies,
+     * so fast projectiles cannot skip over an enemy. The projectile hits at the earliest
+     * contact; a single target projectile damages that enemy, an area projectile damages
+     * every enemy within its radius around the impact point.
+     * Only the enemies in the grid cells around the movement are tested.
      * 
+     * @requires rebuildSpatialIndex has been called after the enemies moved
      * @param deltaTime The time elapsed since the last update.
      * @return The amount of gold earned by the player from enemy kills.
      */
@@ -58,7 +110,8 @@ public class CollisionManager {
 
                 if (projectile.getProjectileState() == ProjectileState.DEAD) {
                     
-                    projectiles.removeLater(projectile); // Remove the projectile if it is dead
+                    retireProjectile(projectile); // Remove the projectile if it is dead
+                    continue; // A dead projectile cannot hit anything
                 }
 
                 if (projectile.getProjectileState() == ProjectileState.STOPPED) {
@@ -75,16 +128,31 @@ public class CollisionManager {
                 }
 
                 boolean collisionOccurred = false; // Flag to check if a collision occurred
-               
-                double distanceToTarget = projectile.getCoordinate().distance(projectile.getTarget());
 
-                for (IEnemy enemy : enemies) {
+                double startX = projectile.getPreviousX(); // Position at the start of this tick
+                double startY = projectile.getPreviousY();
+                double endX = projectile.getX(); // Position at the end of this tick
+                double endY = projectile.getY();
+                float damageRadius = projectile.getProjectileAreaDamage();
 
-                    double distance = projectile.getCoordinate().distance(enemy.getCoordinate());
-                    float damageRadius = projectile.getProjectileAreaDamage();
+                // Find the earliest contact along the movement
+                double hitTime = spatialGrid.querySweptFirstHit(startX, startY, endX, endY, damageRadius);
+                if (hitTime == GeometryUtils.NO_HIT) {
+                    continue; // The projectile did not touch any enemy in this tick
+                }
 
-                    
-                    if (distance < damageRadius) { // Check for collision
+                boolean singleTarget = damageRadius <= 1f; // Single target projectiles only damage the enemy they hit
+                int hitCount = 1; // The enemy hit first
+                if (!singleTarget) {
+                    double impactX = startX + (endX - startX) * hitTime; // Where the projectile hits
+                    double impactY = startY + (endY - startY) * hitTime;
+                    // The living enemies within the damage radius around the impact point, in list order
+                    hitCount = spatialGrid.queryCircle(impactX, impactY, damageRadius + CONTACT_EPSILON);
+                }
+
+                for (int i = 0; i < hitCount; i++) {
+
+                        IEnemy enemy = singleTarget ? spatialGrid.getFirstHitEnemy() : spatialGrid.getResultEnemy(i);
                        
                         
                         enemy.getDamage(projectile); // Apply damage to the enemy
@@ -92,11 +160,12 @@ public class CollisionManager {
                         if (enemy.isDead()) {
                             int reward = enemy.getKillReward();
                             totalGoldEarned += reward; // Add gold to the total for killing the enemy
+                            killedEnemyCount++; // Count the kill
 
                             // Spawn a collectable item if the enemy is dead
                             if (collectableManager != null) {
 
-                                double randomValue =  Math.random(); // Generate a random value between 0 and 1
+                                double randomValue =  dropRandom.nextDouble(); // Generate a random value between 0 and 1
                                 // 50% chance to spawn a gold bag
                                 if (randomValue < 0.5) { 
                                                 collectableManager.spawnGoldBag(enemy.getCoordinate()); // Spawn a gold bag at the enemy's coordinate
@@ -115,28 +184,20 @@ public class CollisionManager {
                         
                         if(projectile.getProjectileAreaDamage() <= 1f){
 
-                            projectiles.removeLater(projectile);
-                            break; // Exit the loop if a collision occurred
+                            break; // Exit the loop if a collision occurred, the projectile is retired below
                         }
 
 
                         // If the projectile type is magic, there is a chance to teleport the enemy back to the start of the path
-                        if (projectile.getProjectileType() == ProjectileType.MAGIC && Math.random() < 0.03) {
+                        if (projectile.getProjectileType() == ProjectileType.MAGIC && teleportRandom.nextDouble() < 0.03) {
       
                                 enemy.locateToStartPoint(); // Teleport the enemy back to the start of the path
                             
                         }
-
-                    }else if(distanceToTarget < deltaTime * projectile.getSpeedVector().magnitude()){
-                        // Check if the projectile has reached its target
-
-                            projectile.getCoordinate().add(projectile.getTarget().subtract(projectile.getCoordinate()) ); // Move the projectile to its target coordinate
-                            // projectile.setProjectileState(ProjectileState.STOPPED); // Set the projectile state to stopped
-                    }
                 }
 
                 if(collisionOccurred) {
-                    projectiles.removeLater(projectile); // Remove the projectile if a collision occurred
+                    retireProjectile(projectile); // Remove the projectile if a collision occurred
                 }
             }
 
@@ -147,7 +208,12 @@ public class CollisionManager {
 
 
     /**
+     * Calculate the explosions of the area damage projectiles that reached their target.
+     * Only the enemies in the grid cells within the explosion radius are tested.
      * 
+     * @requires rebuildSpatialIndex has been called after the enemies moved
+     * @param deltaTime The time elapsed since the last update.
+     * @return The amount of gold earned by the player from enemy kills.
      */
 
     public int calculateExplosions(double deltaTime){
@@ -158,23 +224,27 @@ public class CollisionManager {
                 if (projectile.getDamageType() == DamageType.AREA) {
                     // check if the projectile is close enough to the its target
                  
-                    double distance = projectile.getCoordinate().distance(projectile.getTarget());
+                    Point2D target = projectile.getTarget();
+                    double distance = GeometryUtils.distance(projectile.getX(), projectile.getY(), target.getX(), target.getY());
 
-                    if (distance < deltaTime * projectile.getSpeedVector().magnitude()) {
+                    if (distance < deltaTime * projectile.getSpeedMagnitude()) {
                         // Apply area damage to all enemies within the explosion radius
                         projectile.setProjectileState(ProjectileState.STOPPED);
-                        for (IEnemy enemy : enemies) {
-                            double distanceToEnemy = projectile.getCoordinate().distance(enemy.getCoordinate());
-                            if (distanceToEnemy < projectile.getProjectileAreaDamage()) {
+
+                        // The projectile position is the center of the explosion
+                        int hitCount = spatialGrid.queryCircle(projectile.getX(), projectile.getY(), projectile.getProjectileAreaDamage());
+
+                        for (int i = 0; i < hitCount; i++) {
+                            IEnemy enemy = spatialGrid.getResultEnemy(i);
                                 enemy.getDamage(projectile); // Apply damage to the enemy
                                 if (enemy.isDead()) {
                                     int reward = enemy.getKillReward();
                                     totalGoldEarned += reward; // Add gold to the total for killing the enemy
+                                    killedEnemyCount++; // Count the kill
                                     enemies.removeLater(enemy); // Mark the enemy for removal
                                 }
-                            }
                         }
-                        projectiles.removeLater(projectile); // Remove the projectile after the explosion
+                        retireProjectile(projectile); // Remove the projectile after the explosion
                     }
 
                 }
@@ -184,9 +254,38 @@ public class CollisionManager {
 
     }
 
+    /**
+     * Returns the number of enemies killed by projectiles since the match started.
+     * @return the kill count
+     */
+    public int getKilledEnemyCount() {
+        return killedEnemyCount; // Return the number of kills
+    }
+
+    public EnemySpatialGrid getSpatialGrid() {
+        return spatialGrid; // Return the spatial grid of the enemies
+    }
+
     public void commitAll() {
         enemies.commitAll();
         projectiles.commitAll();
+
+        // The removed projectiles are out of the list now, so they can be reused
+        if (projectileFactory != null) {
+            for (int i = 0; i < retiredProjectiles.size(); i++) {
+                projectileFactory.releaseProjectile(retiredProjectiles.get(i));
+            }
+        }
+        retiredProjectiles.clear();
+    }
+
+    /**
+     * Removes a projectile from the match at the next commit and releases it after that.
+     * @param projectile The projectile to remove
+     */
+    private void retireProjectile(IProjectile projectile) {
+        projectiles.removeLater(projectile);
+        retiredProjectiles.add(projectile);
     }
     
 
@@ -1,5 +1,6 @@
 package com.kurabiye.kutd.model.Managers.EffectManagers;
 
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
 import com.kurabiye.kutd.model.Enemy.EnemyType;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
 import com.kurabiye.kutd.model.Enemy.Decorators.EnemyDecorator;
@@ -14,14 +15,18 @@ public class SynergeticMovementManager {
 
     private DynamicArrayList<IEnemy> enemies;
 
+    private final int synergeticSpeed; // Speed of a knight moving together with a goblin
+
     /**
      * Constructor for the SynergeticMovementManager class.
      * Initializes the list of enemies.
      *
      * @param enemies List of enemies in the game.
+     * @param synergeticSpeed Speed of a knight moving together with a goblin.
      */
-    public SynergeticMovementManager(DynamicArrayList<IEnemy> enemies) {
+    public SynergeticMovementManager(DynamicArrayList<IEnemy> enemies, int synergeticSpeed) {
         this.enemies = enemies; // Set the list of enemies
+        this.synergeticSpeed = synergeticSpeed; // Set the speed of the synergetic movement
     }
 
     public void applySynergeticMovement(double deltaTime) {
@@ -37,7 +42,7 @@ public class SynergeticMovementManager {
 
                     for (IEnemy goblin : enemies) {
                         if (goblin.getEnemyType() == EnemyType.GOBLIN) { // Check if the enemy is a knight
-                            double distance = knight.getCoordinate().distance(goblin.getCoordinate()); // Calculate distance between knight and goblin
+                            double distance = GeometryUtils.distance(knight.getX(), knight.getY(), goblin.getX(), goblin.getY()); // Calculate distance between knight and goblin
                             if (distance < TILE_SIZE) { // If the distance is less than 1 tile
                                 // Check if the goblin isn't already decorated with synergetic movement
 
@@ -59,7 +64,7 @@ public class SynergeticMovementManager {
                                         enemies.removeLater(knight); // Remove the original knight from the list of enemies
                                     } else {
                                         // Add a new synergetic move decorator to the knight
-                                        ((EnemyDecorator) knight).addEffect(new SynergeticMoveDecorator(knight, foundGoblin));
+                                        ((EnemyDecorator) knight).addEffect(new SynergeticMoveDecorator(knight, foundGoblin, synergeticSpeed));
                                     }
                                     
                     }
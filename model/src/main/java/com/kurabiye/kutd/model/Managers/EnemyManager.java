@@ -26,9 +26,9 @@ import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
 public class EnemyManager {
 
 
-    private WaveManager waveManager = new WaveManager(); // Wave manager to handle waves of enemies
+    private WaveManager waveManager; // Wave manager to handle waves of enemies
 
-    private EnemyFactory enemyFactory = EnemyFactory.getInstance(); // Enemy factory for creating enemies
+    private EnemyFactory enemyFactory; // Enemy factory for creating enemies
 
 
     // Here should be the actual enemy list, which is used to keep track of all enemies in the game
@@ -39,10 +39,14 @@ public class EnemyManager {
      * Constructor for the EnemyManager class.
      * Initializes the enemy list, wave manager, and enemy factory.
      * 
+     * @param gameContext The context of the match.
      * @param enemyPath The path that enemies will follow in the game.
      */
-    public EnemyManager(ArrayList<Point2D> enemyPath) {
+    public EnemyManager(GameContext gameContext, ArrayList<Point2D> enemyPath) {
        
+        this.waveManager = new WaveManager(gameContext.getUserPreference(),
+                gameContext.getRandom().get(MatchRandom.Stream.WAVES)); // Waves are built from the match settings
+        this.enemyFactory = gameContext.getEnemyFactory(); // Use the enemy factory of the match
         this.enemyFactory.setEnemyPath(enemyPath);
     }
     /**
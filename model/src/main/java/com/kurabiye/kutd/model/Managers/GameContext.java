@@ -0,0 +1,107 @@
+package com.kurabiye.kutd.model.Managers;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.kurabiye.kutd.model.Enemy.EnemyFactory;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.ProjectileFactory;
+import com.kurabiye.kutd.model.Timer.GameTimer;
+import com.kurabiye.kutd.model.Tower.TowerFactory;
+
+/* GameContext.java
+ * This class holds everything that belongs to a single match:
+ * the settings it is played with, its timer and its factories.
+ * 
+ * It is created once per match and passed through the managers,
+ * so several GameManagers can run side by side in the same process.
+ * The settings are captured when the context is created; later changes
+ * on the settings screen only affect new matches.
+ * 
+ * Every match has a seed. A replay recreates the match with the same seed,
+ * and every random decision of the match is drawn from the MatchRandom split from it,
+ * so the match plays out the same way again.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class GameContext {
+
+    private final UserPreference userPreference; // Settings the match is played with
+
+    private final long seed; // Seed of the match, recorded with saves and replays
+
+    private final MatchRandom random; // Random number generators of the match, split from the seed
+
+    private final GameTimer gameTimer; // Timer of the match
+
+    private final EnemyFactory enemyFactory; // Enemy factory of the match, holds the enemy path
+
+    private final ProjectileFactory projectileFactory; // Projectile factory of the match
+
+    private final TowerFactory towerFactory; // Tower factory of the match
+
+    /**
+     * Creates the context of a new match with a fresh seed.
+     * @requires userPreference != null
+     * @param userPreference The settings the match is played with
+     */
+    public GameContext(UserPreference userPreference) {
+        this(userPreference, ThreadLocalRandom.current().nextLong()); // Every new match gets its own seed
+    }
+
+    /**
+     * Creates the context of a match with a known seed, used to replay or load a match.
+     * @requires userPreference != null
+     * @param userPreference The settings the match is played with
+     * @param seed The seed of the match
+     */
+    public GameContext(UserPreference userPreference, long seed) {
+        if (userPreference == null) {
+            throw new IllegalArgumentException("UserPreference cannot be null"); // A match cannot be played without settings
+        }
+        this.userPreference = userPreference;
+        this.seed = seed;
+        this.random = new MatchRandom(seed); // Created before the factories, they draw from it
+        this.gameTimer = new GameTimer(); // Every match measures its own time
+        this.enemyFactory = new EnemyFactory(userPreference, random.get(MatchRandom.Stream.ENEMY_PATHS));
+        this.projectileFactory = new ProjectileFactory(userPreference);
+        this.towerFactory = new TowerFactory(userPreference, projectileFactory, random.get(MatchRandom.Stream.TOWER_TARGETS));
+    }
+
+    /**
+     * Creates the context of a new match with the current settings of the application.
+     * @return a new context
+     */
+    public static GameContext withCurrentSettings() {
+        return new GameContext(UserPreference.getInstance()); // Capture the settings chosen on the settings screen
+    }
+
+    public UserPreference getUserPreference() {
+        return userPreference; // Return the settings of the match
+    }
+
+    public long getSeed() {
+        return seed; // Return the seed of the match
+    }
+
+    public MatchRandom getRandom() {
+        return random; // Return the random number generators of the match
+    }
+
+    public GameTimer getGameTimer() {
+        return gameTimer; // Return the timer of the match
+    }
+
+    public EnemyFactory getEnemyFactory() {
+        return enemyFactory; // Return the enemy factory of the match
+    }
+
+    public ProjectileFactory getProjectileFactory() {
+        return projectileFactory; // Return the projectile factory of the match
+    }
+
+    public TowerFactory getTowerFactory() {
+        return towerFactory; // Return the tower factory of the match
+    }
+}
@@ -2,14 +2,24 @@ package com.kurabiye.kutd.model.Managers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import com.kurabiye.kutd.model.Collectable.GoldBag;
 import com.kurabiye.kutd.model.Collectable.ICollectable;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Listeners.ICommandListener;
 import com.kurabiye.kutd.model.Listeners.IGameUpdateListener;
 import com.kurabiye.kutd.model.Map.GameMap;
 import com.kurabiye.kutd.model.Player.Player;
+import com.kurabiye.kutd.model.Profiling.TickPhase;
+import com.kurabiye.kutd.model.Profiling.TickProfiler;
 import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Projectile.ProjectileState;
+import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.model.Render.RenderEventType;
+import com.kurabiye.kutd.model.Render.RenderFrameBuffer;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
 import com.kurabiye.kutd.model.Timer.GameTimer;
 import com.kurabiye.kutd.model.Tower.ITower;
 import com.kurabiye.kutd.model.Tower.TowerType;
@@ -36,6 +46,15 @@ public class GameManager implements Runnable{
     // The target frames per second for the game loop
     private static final int TARGET_FPS = 60; // Target frames per second
 
+    // The number of logical simulation ticks per simulated second
+    public static final int TICK_RATE = 120; // Logical ticks per second
+
+    // The simulated time covered by a single logical tick in seconds
+    public static final double FIXED_DELTA_TIME = 1.0 / TICK_RATE; // Seconds per tick
+
+    // The maximum number of ticks simulated in one frame before the backlog is dropped
+    public static final int MAX_CATCH_UP_STEPS = 10; // Enough for double speed at a slow frame
+
     
     // Thread management
     private Thread gameThread; // Reference to the game thread
@@ -44,6 +63,8 @@ public class GameManager implements Runnable{
 
     private volatile GameState gameState; // Current state of the game
 
+    private GameContext gameContext; // Everything that belongs to this match only
+
     private GameTimer gameTimer; // Game time
 
     private GameMap gameMap; // Game map
@@ -64,6 +85,10 @@ public class GameManager implements Runnable{
     // The callback for the view update method
     private IGameUpdateListener gameUpdateListener; // Listener for game updates
 
+    private volatile ICommandListener commandListener; // Listener that records the player commands, may be null
+
+    private final ConcurrentLinkedQueue<SimulationCommand> submittedCommands = new ConcurrentLinkedQueue<>(); // Player input waiting for the game thread
+
 
     
 
@@ -84,16 +109,35 @@ public class GameManager implements Runnable{
     private CollactableManager collectableManager; // Manager for handling collectable items
 
 
+    /**
+     * Creates a match with the current settings of the application.
+     * @param gameMap The map of the match
+     */
     public GameManager(GameMap gameMap) {
+        this(gameMap, GameContext.withCurrentSettings());
+    }
+
+    /**
+     * Creates a match in the given context.
+     * The context must not be shared with another match.
+     * 
+     * @param gameMap The map of the match
+     * @param gameContext The context of the match
+     */
+    public GameManager(GameMap gameMap, GameContext gameContext) {
+        if (gameContext == null) {
+            throw new IllegalArgumentException("GameContext cannot be null"); // Every match needs its own context
+        }
+        this.gameContext = gameContext; // Keep the context of the match
         this.gameState = GameState.INITIALIZING; // Initialize game state to RUNNING
-        this.gameTimer = GameTimer.getInstance(); // Get the singleton instance of GameTimer
+        this.gameTimer = gameContext.getGameTimer(); // Use the timer of the match
         this.gameTimer.setTimeCoefficient(1); // Set the time coefficient to 1 (normal speed)
         this.gameMap = gameMap; // Initialize the game map
-        this.player = new Player(); // Initialize the player object
+        this.player = new Player(gameContext.getUserPreference()); // Initialize the player object
         
 
         
-        this.enemyManager = new EnemyManager((ArrayList<Point2D>) gameMap.getPointPath()); // Initialize the enemy manager
+        this.enemyManager = new EnemyManager(gameContext, (ArrayList<Point2D>) gameMap.getPointPath()); // Initialize the enemy manager
         this.enemies = enemyManager.getEnemies();
 
         
@@ -102,27 +146,123 @@ public class GameManager implements Runnable{
 
 
 
-        this.towerManager = new TowerManager(gameMap, player, projectileManager, enemies);
+        this.towerManager = new TowerManager(gameContext, gameMap, player, projectileManager, enemies);
         this.towers = towerManager.getTowers();
 
         this.collisionManager = new CollisionManager(enemyManager.getDynamicEnemies(), projectileManager.getDynamicProjectiles()); // Initialize the collision manager with enemies and projectiles
 
 
-        this.effectManager = new MainEffectManager(enemyManager.getDynamicEnemies()); // Initialize the effect manager with enemies
+        this.effectManager = new MainEffectManager(enemyManager.getDynamicEnemies(), gameContext.getUserPreference()); // Initialize the effect manager with enemies
 
         this.collisionManager.setSlowDownManager(effectManager.getSlowDownManager()); // Set the slow down manager in the collision manager
 
-        this.collectableManager = new CollactableManager(player); // Initialize the collectable manager with the player
+        this.collectableManager = new CollactableManager(player, gameContext.getUserPreference(),
+                gameContext.getRandom().get(MatchRandom.Stream.GOLD_BAGS)); // Initialize the collectable manager with the player
 
         this.collisionManager.setCollectableManager(collectableManager); // Set the collectable manager in the collision manager
+
+        this.collisionManager.setProjectileFactory(gameContext.getProjectileFactory()); // Removed projectiles go back to the factory pool
+
+        this.collisionManager.setMatchRandom(gameContext.getRandom()); // Drops and teleports are drawn from the streams of the match
     }
 
     public void setGameUpdateListener(IGameUpdateListener gameUpdateListener) {
         this.gameUpdateListener = gameUpdateListener; // Set the game update listener
     }
 
-    private double frameTime; // keep track of the time taken for each frame
-    private double deltaFrameTime; // keep track of the time difference between frames
+    /**
+     * Sets the listener that is told about every player command, for example to record a replay.
+     * @param commandListener The listener, or null to stop recording
+     */
+    public void setCommandListener(ICommandListener commandListener) {
+        this.commandListener = commandListener;
+    }
+
+    /**
+     * Queues a player command from another thread, such as the JavaFX thread.
+     * The game thread applies the queued commands at the start of its next tick, or right away
+     * while the game is paused, so the input never runs in the middle of a tick. The command is
+     * recorded with the tick it is applied at, not with the tick it carries.
+     * 
+     * @param command The command to apply
+     */
+    public void submitCommand(SimulationCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        submittedCommands.add(command);
+    }
+
+    /**
+     * Applies a player command right away. This is the path of both the live input and the replays.
+     * 
+     * @requires called on the game thread, or the game thread is not running
+     * @param command The command to apply
+     * @return true if the game accepted the command
+     */
+    public boolean applyCommand(SimulationCommand command) {
+        switch (command.getCommandType()) {
+            case BUILD_TOWER:
+                return buildTower(command.getTileX(), command.getTileY(), command.getTowerType());
+            case SELL_TOWER:
+                return sellTower(command.getTileX(), command.getTileY());
+            case UPGRADE_TOWER:
+                return upgradeTower(command.getTileX(), command.getTileY());
+            case COLLECT:
+                return handleCollectableClick(command.getClickPoint());
+            case PAUSE:
+                pauseGame();
+                return true;
+            case RESUME:
+                resumeGame();
+                return true;
+            case SPEED_UP:
+                speedUpGame(); // Only changes the game timer, the ticks stay the same
+                return true;
+            case SLOW_DOWN:
+                slowDownGame();
+                return true;
+            default:
+                return false; // Unknown command
+        }
+    }
+
+    // Applies the commands queued by other threads, called on the game thread between ticks
+    private void applySubmittedCommands() {
+        SimulationCommand command;
+        while ((command = submittedCommands.poll()) != null) {
+            applyCommand(command);
+        }
+    }
+
+    /**
+     * Passes a player command to the command listener, if there is one.
+     * @param command The command, tagged with the current tick
+     */
+    private void recordCommand(SimulationCommand command) {
+        ICommandListener listener = commandListener; // Read the volatile field once
+        if (listener != null) {
+            listener.onCommand(command);
+        }
+    }
+
+    private volatile double frameTime; // keep track of the time taken for each frame
+    private volatile double deltaFrameTime; // keep track of the time difference between frames
+
+
+    // Fixed-step simulation state
+
+    private volatile boolean fixedStepEnabled = true; // Whether the loop advances the simulation in fixed logical ticks
+
+    private double accumulator; // Scaled wall-clock time that has not been simulated yet
+
+    private volatile double interpolationAlpha = 1.0; // Fraction of a tick between the last simulated state and the next one
+
+    private volatile long tickCount; // Number of logical ticks simulated so far
+
+    private final TickProfiler tickProfiler = new TickProfiler(); // Measures the phases of every tick
+
+    private final RenderFrameBuffer renderFrames = new RenderFrameBuffer(); // Frames handed to the view
 
     @Override
     public void run() {
@@ -134,6 +274,9 @@ public class GameManager implements Runnable{
             
         gameTimer.update();
 
+        // The frame intervals start here, so neither the start nor a pause counts as a frame
+        frameTime = System.nanoTime() / 1_000_000.0;
+
 
             while (running && gameState != GameState.PAUSED ) {
                 
@@ -155,9 +298,97 @@ public class GameManager implements Runnable{
 
             // Calculate the delta time
             gameTimer.update(); // Update the game timer
-            double deltaTime = gameTimer.getDeltaTime(); // Get the delta time from the game timer
+            double deltaTime = gameTimer.getDeltaTime(); // Get the delta time from the game timer (already scaled by the game speed)
+
+            if (fixedStepEnabled) {
+                // Feed the elapsed time into the accumulator and simulate it in fixed steps
+                accumulator += deltaTime;
+
+                int steps = 0; // Number of ticks simulated in this frame
+                while (accumulator >= FIXED_DELTA_TIME && steps < MAX_CATCH_UP_STEPS && isMatchActive()
+                        && gameState != GameState.PAUSED) {
+                    tick(FIXED_DELTA_TIME); // Advance the simulation by exactly one logical tick
+                    accumulator -= FIXED_DELTA_TIME;
+                    steps++;
+                }
+
+                if (accumulator >= FIXED_DELTA_TIME) {
+                    // We could not catch up (or the match is over), drop the backlog instead of spiralling
+                    accumulator %= FIXED_DELTA_TIME;
+                }
+
+                interpolationAlpha = accumulator / FIXED_DELTA_TIME; // Let the view blend between the last two ticks
+            } else {
+                // Variable step mode: feed the measured delta directly into one tick
+                tick(deltaTime);
+                interpolationAlpha = 1.0; // The simulated state is exactly the current state
+            }
+
+            publishRenderFrame(); // The view draws this frame instead of the live lists
+
+            // Let the view if there is a game update listener
+
+            if (gameUpdateListener != null) {
+                gameUpdateListener.onGameUpdate(deltaTime); // Call the update method on the listener
+            }
+
+           // update the frame time and delta frame time
+            double currentTime = System.nanoTime() / 1_000_000.0; // Get the current time in milliseconds
+            deltaFrameTime = currentTime - frameTime; // Calculate the time difference since the last frame
+            frameTime = currentTime; // Update the frame time to the current time
+
+            tickProfiler.recordFrame((long) (deltaFrameTime * 1_000_000)); // Record the frame interval in nanoseconds
+            tickProfiler.dumpIfDue(); // Log the phase timings if the dump interval has passed
+
+           
+            // Sleep for a short duration to control the frame rate
+            try {
+
+                if (fixedStepEnabled) {
+                    // The game speed is applied through the accumulator, so the render cadence stays constant
+                    Thread.sleep(1000 / TARGET_FPS); // Approximately 60 FPS
+                } else {
+                    Thread.sleep((long)((1000/TARGET_FPS)/ gameTimer.getTimeCoefficient())); // Approximately 60 FPS
+                }
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+
+         }
+
+         // Wait to resume the game if it is paused
+            applySubmittedCommands(); // The player input while paused, such as the resume
+            try {
+                Thread.sleep((long)((100)/ gameTimer.getTimeCoefficient())); // Approximately 60 FPS
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+
+
+        }
+        
+    }
 
+    /**
+     * Advances the whole simulation by one logical tick.
+     * In fixed-step mode this is always called with {@link #FIXED_DELTA_TIME},
+     * which keeps the results independent from the render frame rate.
+     * 
+     * @requires deltaTime >= 0
+     * @modifies enemies, projectiles, towers, player, gameState
+     * @effects Runs every subsystem once and commits the deferred list operations.
+     * 
+     * @param deltaTime The simulated time of this tick in seconds
+     */
+    private void tick(double deltaTime) {
+
+            applySubmittedCommands(); // The player input is applied between two ticks, like in a replay
+            if (gameState == GameState.PAUSED) {
+                return; // A pause was applied, the tick waits for the resume
+            }
 
+            long tickStart = tickProfiler.begin(); // Start measuring the tick
+            long phaseStart = tickStart; // Start of the current phase
 
             // Spawn enemies based on the current wave and game state
             if(!enemyManager.spawnEnemies(deltaTime)) {
@@ -166,11 +397,16 @@ public class GameManager implements Runnable{
                     gameState = GameState.GAME_WON; // Set game state to GAME_WON
                 }
             }
+            phaseStart = tickProfiler.lap(TickPhase.SPAWN_ENEMIES, phaseStart);
 
             
 
             // Move enemies based on the elapsed time
             int arrivedEnemiesCount = enemyManager.moveEnemies(deltaTime); // Move enemies and get the count of arrived enemies
+            phaseStart = tickProfiler.lap(TickPhase.MOVE_ENEMIES, phaseStart);
+
+            collisionManager.rebuildSpatialIndex(); // Bucket the enemies by their new positions
+            phaseStart = tickProfiler.lap(TickPhase.REBUILD_SPATIAL_INDEX, phaseStart);
 
             if (arrivedEnemiesCount > 0) {
                 // If any enemies have arrived, reduce the player's health
@@ -180,19 +416,23 @@ public class GameManager implements Runnable{
             // Create projectiles for the towers
 
             towerManager.createProjectiles(deltaTime); // Create projectiles for the towers
+            phaseStart = tickProfiler.lap(TickPhase.CREATE_PROJECTILES, phaseStart);
 
             // Move projectiles based on the elapsed time
             projectileManager.moveProjectiles(deltaTime); // Move all projectiles based on the elapsed time
+            phaseStart = tickProfiler.lap(TickPhase.MOVE_PROJECTILES, phaseStart);
 
            
 
             // Check for collisions between projectiles and enemies
             int totalGoldEarned = collisionManager.calculateCollisions(deltaTime); // Calculate collisions and get total gold earned
+            phaseStart = tickProfiler.lap(TickPhase.CALCULATE_COLLISIONS, phaseStart);
 
 
             // Check the explosion type of projectiles
 
             totalGoldEarned += collisionManager.calculateExplosions(deltaTime); // Check the explosion type of projectiles and add gold earned
+            phaseStart = tickProfiler.lap(TickPhase.CALCULATE_EXPLOSIONS, phaseStart);
 
             // Add gold to the player's total gold
 
@@ -203,10 +443,12 @@ public class GameManager implements Runnable{
 
             // Check for synergetic movement behavior
             effectManager.applyEffects(deltaTime);// Apply synergetic movement effects to enemies
+            phaseStart = tickProfiler.lap(TickPhase.APPLY_EFFECTS, phaseStart);
 
 
             // update collectables
             collectableManager.updateCollectables(deltaTime); // Update collectables based on the elapsed time
+            phaseStart = tickProfiler.lap(TickPhase.UPDATE_COLLECTABLES, phaseStart);
 
             
 
@@ -215,52 +457,102 @@ public class GameManager implements Runnable{
                 gameState = GameState.GAME_LOST; // Set game state to GAME_LOST
             }
 
-            // Let the view if there is a game update listener
-
-            if (gameUpdateListener != null) {
-                gameUpdateListener.onGameUpdate(deltaTime); // Call the update method on the listener
-            }
-             
+           recordRenderEvents(); // Must run before the commit removes the dead enemies
            collisionManager.commitAll();
+           tickProfiler.lap(TickPhase.COMMIT, phaseStart);
 
-           // update the frame time and delta frame time
-            double currentTime = System.nanoTime() / 1_000_000.0; // Get the current time in milliseconds
-            deltaFrameTime = currentTime - frameTime; // Calculate the time difference since the last frame
-            frameTime = currentTime; // Update the frame time to the current time
-
-           
-            // Sleep for a short duration to control the frame rate
-            try {
+           tickProfiler.end(TickPhase.TICK, tickStart); // The whole tick including all phases
+           tickCount++; // One more logical tick has been simulated
+    }
 
-                //
-                Thread.sleep((long)((1000/TARGET_FPS)/ gameTimer.getTimeCoefficient())); // Approximately 60 FPS
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    /**
+     * Reports the deaths, explosions and new gold bags of this tick to the view.
+     * Dead enemies are removed at the end of the tick they die in, so each one is reported once.
+     * The explosion and gold bag flags make sure those are reported once as well.
+     */
+    private void recordRenderEvents() {
+        for (int i = 0; i < enemies.size(); i++) {
+            IEnemy enemy = enemies.get(i);
+            if (enemy.isDead()) {
+                renderFrames.recordEvent(RenderEventType.ENEMY_DIED, enemy.getEnemyType().ordinal(), enemy.getX(), enemy.getY());
             }
+        }
 
-         }
+        for (int i = 0; i < projectiles.size(); i++) {
+            IProjectile projectile = projectiles.get(i);
+            if (projectile.getProjectileType() == ProjectileType.ARTILLERY
+                    && projectile.getProjectileState() == ProjectileState.STOPPED
+                    && !projectile.hasExplosionAnimated()) {
+                renderFrames.recordEvent(RenderEventType.EXPLOSION, -1, projectile.getX(), projectile.getY());
+                projectile.setExplosionAnimated(true);
+            }
+        }
 
-         // Wait to resume the game if it is paused
-            try {
-                Thread.sleep((long)((100)/ gameTimer.getTimeCoefficient())); // Approximately 60 FPS
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        List<ICollectable<?>> collectables = collectableManager.getCollectables();
+        for (int i = 0; i < collectables.size(); i++) {
+            if (collectables.get(i) instanceof GoldBag) {
+                GoldBag goldBag = (GoldBag) collectables.get(i);
+                if (!goldBag.isAnimated()) {
+                    Point2D position = goldBag.getCoordinates();
+                    renderFrames.recordEvent(RenderEventType.GOLD_BAG_SPAWNED, -1, position.getX(), position.getY());
+                    goldBag.setAnimated(true);
+                }
             }
+        }
+    }
+
+    /**
+     * Copies the enemies, projectiles and gold bags into a render frame and hands it to the view.
+     * Called by the game thread after the ticks of a loop frame.
+     */
+    private void publishRenderFrame() {
+        renderFrames.publish(tickCount, interpolationAlpha, enemies, projectiles, collectableManager.getCollectables());
+    }
 
+    /**
+     * Advances the simulation by exactly one fixed tick on the calling thread.
+     * This is used by headless runs which do not start the game thread and never sleep.
+     * 
+     * @requires the game thread is not running
+     * @modifies gameState, enemies, projectiles, towers, player
+     * @effects Marks the game as running if it was initializing and simulates one tick
+     *          unless the game is paused or over.
+     */
+    public void step() {
+        if (gameState == GameState.INITIALIZING) {
+            gameState = GameState.RUNNING; // A headless match starts with its first step
+        }
 
+        if (gameState == GameState.PAUSED) {
+            applySubmittedCommands(); // A queued resume is applied without a tick
         }
-        
+
+        if (gameState == GameState.RUNNING && running) {
+            tick(FIXED_DELTA_TIME); // Simulate one logical tick
+        }
+    }
+
+    /**
+     * Checks whether the match can still be simulated.
+     * @return true if the loop is running and the game is neither won nor lost
+     */
+    private boolean isMatchActive() {
+        return running && gameState != GameState.GAME_LOST && gameState != GameState.GAME_WON;
     }
 
     
 
     // Controller methods
+    // The methods below apply the input right away and must be called on the game thread,
+    // or while it is not running. Other threads queue their input with submitCommand.
     public void pauseGame() {
+        recordCommand(SimulationCommand.pause(tickCount));
         gameState = GameState.PAUSED;
         // Pause game logic
     }
     
     public void resumeGame() {
+        recordCommand(SimulationCommand.resume(tickCount));
         gameState = GameState.RUNNING;
         // Resume game logic
     }
@@ -273,11 +565,13 @@ public class GameManager implements Runnable{
 
     public void speedUpGame() {
         // Increase game speed
+        recordCommand(SimulationCommand.speedUp(tickCount));
         gameTimer.setTimeCoefficient(2.0);
     }
     
     public void slowDownGame() {
         // Decrease game speed
+        recordCommand(SimulationCommand.slowDown(tickCount));
         gameTimer.setTimeCoefficient(1);
     }
 
@@ -339,7 +633,11 @@ public class GameManager implements Runnable{
 
 
     public List<ITower> getTowers() {
-        return towers; // Return the list of towers
+        return towers; // Return the list of towers, only read it on the game thread
+    }
+
+    public List<ITower> getPublishedTowers() {
+        return towerManager.getPublishedTowers(); // Return the copy of the towers for the view
     }
 
     public List<IEnemy> getEnemies() {
@@ -354,6 +652,10 @@ public class GameManager implements Runnable{
         return player; // Return the player object
     }
 
+    public GameContext getGameContext() {
+        return gameContext; // Return the context of the match
+    }
+
     public GameTimer getGameTimer() {
         return gameTimer; // Return the game timer
     }
@@ -362,6 +664,74 @@ public class GameManager implements Runnable{
         return gameState; // Return the current game state
     }
 
+    /**
+     * Returns how far the real time has progressed between the last simulated tick and the next one.
+     * The view can use it to interpolate positions so that rendering stays smooth
+     * even though the simulation advances in fixed steps.
+     * 
+     * @return a value in [0, 1], always 1 in the variable-step mode
+     */
+    public double getInterpolationAlpha() {
+        return interpolationAlpha; // Return the interpolation alpha of the last frame
+    }
+
+    /**
+     * Returns the number of logical ticks simulated since the game was created.
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount; // Return the number of simulated ticks
+    }
+
+    /**
+     * Returns the profiler that measures the phases of every tick.
+     * @return the tick profiler of this match
+     */
+    public TickProfiler getTickProfiler() {
+        return tickProfiler; // Return the tick profiler
+    }
+
+    /**
+     * Returns the buffer the game thread publishes its render frames to.
+     * Only the JavaFX thread may call acquire on it.
+     * @return the render frame buffer of this match
+     */
+    public RenderFrameBuffer getRenderFrames() {
+        return renderFrames; // Return the render frame buffer
+    }
+
+    /**
+     * Returns the time stamp of the last rendered frame.
+     * @return the frame time in milliseconds
+     */
+    public double getFrameTime() {
+        return frameTime; // Return the time of the last frame
+    }
+
+    /**
+     * Returns the time between the last two rendered frames.
+     * @return the frame interval in milliseconds
+     */
+    public double getDeltaFrameTime() {
+        return deltaFrameTime; // Return the last frame interval
+    }
+
+    /**
+     * Checks whether the game loop advances the simulation in fixed logical ticks.
+     * @return true if the fixed-step mode is enabled
+     */
+    public boolean isFixedStepEnabled() {
+        return fixedStepEnabled; // Return the loop mode
+    }
+
+    /**
+     * Switches between the fixed-step mode and the legacy variable-step mode.
+     * @param fixedStepEnabled true to simulate in fixed {@link #FIXED_DELTA_TIME} ticks
+     */
+    public void setFixedStepEnabled(boolean fixedStepEnabled) {
+        this.fixedStepEnabled = fixedStepEnabled; // Set the loop mode
+    }
+
     public void returnToMainMenu() {
         gameState = GameState.INITIALIZING;
         running = false; // Stop the game loop
@@ -402,6 +772,9 @@ public class GameManager implements Runnable{
      * @return true if the tower was successfully built, false otherwise
      */
     public boolean buildTower(int xCoordinate, int yCoordinate, TowerType towerType) {
+        if (towerType != null) {
+            recordCommand(SimulationCommand.buildTower(tickCount, xCoordinate, yCoordinate, towerType));
+        }
         return towerManager.buildTower(xCoordinate, yCoordinate, towerType); // Build a tower at the specified coordinates
     }
      /**
@@ -414,6 +787,7 @@ public class GameManager implements Runnable{
      * @return true if the tower was successfully sold, false otherwise
      */
     public boolean sellTower(int xCoordinate, int yCoordinate) {
+        recordCommand(SimulationCommand.sellTower(tickCount, xCoordinate, yCoordinate));
         return towerManager.sellTower(xCoordinate, yCoordinate); // Sell the tower at the specified coordinates
     }
  /**
@@ -426,6 +800,7 @@ public class GameManager implements Runnable{
      * @return true if the tower was successfully upgraded, false otherwise
      */
     public boolean upgradeTower(int xCoordinate, int yCoordinate) {
+        recordCommand(SimulationCommand.upgradeTower(tickCount, xCoordinate, yCoordinate));
         return towerManager.upgradeTower(xCoordinate, yCoordinate); // Upgrade the tower at the specified coordinates
     }
 
@@ -436,6 +811,9 @@ public class GameManager implements Runnable{
      * @return true if a collectable was collected, false otherwise
      */
     public boolean handleCollectableClick(Point2D clickPosition) {
+        if (clickPosition != null) {
+            recordCommand(SimulationCommand.collect(tickCount, clickPosition));
+        }
         return collectableManager.handleClick(clickPosition);
     }
 
@@ -454,5 +832,27 @@ public class GameManager implements Runnable{
     public CollisionManager getCollisionManager() {
         return collisionManager; // Return the collectable manager
     }
+
+    public TowerManager getTowerManager() {
+        return towerManager; // Return the tower manager
+    }
+
+    public WaveManager getWaveManager() {
+        return enemyManager.getWaveManager(); // Return the wave manager
+    }
+
+    /**
+     * Sets the tick count of a match that is loaded from a save,
+     * so the ticks keep counting from where the match was saved.
+     * 
+     * @requires the game thread is not running
+     * @param tickCount The number of ticks the saved match had simulated
+     */
+    public void restoreTickCount(long tickCount) {
+        if (tickCount < 0) {
+            throw new IllegalArgumentException("Tick count cannot be negative");
+        }
+        this.tickCount = tickCount;
+    }
     
 }
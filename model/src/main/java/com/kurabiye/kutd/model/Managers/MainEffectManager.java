@@ -4,6 +4,7 @@ package com.kurabiye.kutd.model.Managers;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
 
 import com.kurabiye.kutd.model.Managers.EffectManagers.SlowDownManager;
+import com.kurabiye.kutd.model.Player.UserPreference;
 import com.kurabiye.kutd.model.Managers.EffectManagers.SynergeticMovementManager;
 import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
 
@@ -22,10 +23,12 @@ public class MainEffectManager {
      * Initializes the list of enemies.
      *
      * @param enemies List of enemies in the game.
+     * @param userPreferences Settings of the match.
      */
-    public MainEffectManager(DynamicArrayList<IEnemy> enemies) {
+    public MainEffectManager(DynamicArrayList<IEnemy> enemies, UserPreference userPreferences) {
         
-        this.synergeticMovementManager = new SynergeticMovementManager(enemies); // Initialize the synergetic movement manager
+        int synergeticSpeed = userPreferences.getKnightSpeed() + userPreferences.getKnightSpeed() / 2; // Knights move one and a half times faster next to goblins
+        this.synergeticMovementManager = new SynergeticMovementManager(enemies, synergeticSpeed); // Initialize the synergetic movement manager
         this.slowDownManager = new SlowDownManager(enemies); // Initialize the slow down manager
     }
     /**
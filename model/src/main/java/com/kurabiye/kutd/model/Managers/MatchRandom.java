@@ -0,0 +1,60 @@
+package com.kurabiye.kutd.model.Managers;
+
+import java.util.SplittableRandom;
+
+/* MatchRandom.java
+ * This class holds the random number generators of a single match.
+ * 
+ * All of them are split from one SplittableRandom seeded with the seed of the match,
+ * one stream for every part of the game that makes random decisions. Since every part
+ * draws from its own stream, a change in how often one part draws does not change
+ * the numbers the others get, and two matches with the same seed and the same
+ * player commands play out the same way.
+ * 
+ * The streams are not thread safe. They are only used on the game thread,
+ * or on the thread that steps a headless match.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MatchRandom {
+
+    public enum Stream {
+        WAVES, // Enemy types of the spawned enemies
+        ENEMY_PATHS, // The paths the enemies take
+        TOWER_TARGETS, // Targets of the mage towers
+        GOLD_BAGS, // Gold bag drops and their amounts
+        TELEPORTS; // Magic projectiles sending enemies back
+    }
+
+    private final long seed; // The seed all streams are split from
+
+    private final SplittableRandom[] streams; // One generator per stream, indexed by the ordinal
+
+    /**
+     * Creates the generators of a match.
+     * @param seed The seed of the match
+     */
+    public MatchRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.streams = new SplittableRandom[Stream.values().length];
+        for (Stream stream : Stream.values()) {
+            streams[stream.ordinal()] = root.split(); // Split in the order of the enum, so a seed always gives the same streams
+        }
+    }
+
+    /**
+     * Returns the generator of a part of the game.
+     * @param stream The part of the game
+     * @return the generator, the same one on every call
+     */
+    public SplittableRandom get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    public long getSeed() {
+        return seed; // Return the seed of the match
+    }
+}
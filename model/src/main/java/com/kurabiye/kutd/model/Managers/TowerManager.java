@@ -8,6 +8,7 @@ import com.kurabiye.kutd.model.Map.GameMap;
 import com.kurabiye.kutd.model.Player.Player;
 import com.kurabiye.kutd.model.Player.UserPreference;
 import com.kurabiye.kutd.model.Projectile.Projectile;
+import com.kurabiye.kutd.model.Spatial.EnemyProgressIndex;
 import com.kurabiye.kutd.model.Tile.Tile;
 import com.kurabiye.kutd.model.Tile.TileCodes;
 import com.kurabiye.kutd.model.Tile.TileFactory;
@@ -19,16 +20,18 @@ import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
 
 public class TowerManager {
 
-    UserPreference userPreferences = UserPreference.getInstance(); // Singleton instance for user preferences
+    private UserPreference userPreferences; // Settings of the match
 
-    private TowerFactory towerFactory = TowerFactory.getInstance(); // Singleton instance for tower factory
+    private TowerFactory towerFactory; // Tower factory of the match
 
     // Tile Factory to build new Towers
     private TileFactory tileFactory; // Tile factory for creating tiles
 
-    // Dynamic ArrayList to hold the towers
+    // Dynamic ArrayList to hold the towers, only changed by the game thread
     private List<ITower> towers = new DynamicArrayList<>();
 
+    private volatile List<ITower> publishedTowers = List.of(); // Copy of the towers for the other threads, replaced on every change
+
     private GameMap gameMap; // Reference to the game map
     private Player player; // Reference to the player
     
@@ -39,16 +42,21 @@ public class TowerManager {
 
     private ProjectileManager projectileManager; // Reference to the projectile manager
 
+    private final EnemyProgressIndex enemyIndex = new EnemyProgressIndex(); // Enemies ordered along their paths, rebuilt every tick
+
 
     /**
      * Constructor for the TowerManager class.
+     * @param gameContext
      * @param gameMap
      * @param player
      * @param projectileManager
      * @param enemies
      */
 
-    public TowerManager(GameMap gameMap, Player player, ProjectileManager projectileManager, List<IEnemy> enemies) {
+    public TowerManager(GameContext gameContext, GameMap gameMap, Player player, ProjectileManager projectileManager, List<IEnemy> enemies) {
+        this.userPreferences = gameContext.getUserPreference(); // Use the settings of the match
+        this.towerFactory = gameContext.getTowerFactory(); // Use the tower factory of the match
         this.tileFactory = new TileFactory(); // Initialize the tile factory
         this.gameMap = gameMap; // Set the game map
         this.player = player; // Set the player
@@ -108,6 +116,7 @@ public class TowerManager {
         tower.setTileCoordinate(new TilePoint2D(xCoordinate, yCoordinate));
         // Add the tower to the list of towers
         towers.add(tower);
+        publishTowers();
 
         Tile towerTile = tileFactory.create(tileCode); // Create the tower tile using the factory
         gameMap.setTile(xCoordinate, yCoordinate, towerTile);
@@ -125,6 +134,7 @@ public class TowerManager {
                 // Tower found, sell it
                 player.sellTower(tower.getSellReturn()); // Add sell return to player's gold
                 towers.remove(tower); // Remove the tower from the list
+                publishTowers();
                 Tile buildableTile = tileFactory.create(TileCodes.BUILDABLE_TILE_CODE); // Create a buildable tile using the factory
                 gameMap.setTile(xCoordinate, yCoordinate, buildableTile);
                 return true; // Tower sold successfully
@@ -186,24 +196,85 @@ public class TowerManager {
 
     /**
      * Creates all the projectiles for the towers
-     * @return
+     * The enemy index is rebuilt first, so every tower finds its target with queries on it.
+     * @requires the enemies have moved in this tick
      */
 
     public void createProjectiles(double deltaTime) {
         
+        if (!towers.isEmpty()) {
+            enemyIndex.rebuild(enemies); // Order the enemies by their new progress, shared by all towers
+        }
+
         // Towers look for targets and create projectiles
             for (ITower tower : towers) {
                 // Check if the tower can attack     
                 // Get the projectile from the tower
-                Projectile projectile = tower.attack(enemies, deltaTime); // Attack enemies and get the projectile
+                Projectile projectile = tower.attack(enemyIndex, deltaTime); // Attack enemies and get the projectile
                 if (projectile != null) {
                     projectileManager.addProjectile(projectile); // Add the projectile to the list of projectiles
                 }
             }
     }
 
+    public EnemyProgressIndex getEnemyIndex() {
+        return enemyIndex; // Return the enemy index of the last tick
+    }
+
     public List<ITower> getTowers() {
         return towers; // Return the list of towers
     }
 
+    /**
+     * Returns a copy of the towers that is safe to read on any thread, such as the JavaFX thread.
+     * The copy is replaced, never changed, whenever a tower is built, sold or restored.
+     * @return the towers, not modifiable
+     */
+    public List<ITower> getPublishedTowers() {
+        return publishedTowers;
+    }
+
+    // Publishes a new copy of the towers, called by the game thread after every change of the list
+    private void publishTowers() {
+        publishedTowers = List.copyOf(towers);
+    }
+
+    /**
+     * Puts back a tower of a saved match on a buildable tile.
+     * The player is not charged, the tile is replaced by the tower tile of the level.
+     * 
+     * @requires 0 <= level <= the maximum level of the tower type
+     * @modifies gameMap, towers
+     * @return the restored tower
+     */
+    public Tower restoreTower(TowerType towerType, int xCoordinate, int yCoordinate, int level, double lastAttackTime) {
+        Tower tower = towerFactory.create(towerType); // Same strategy and projectile as a built tower
+        tower.setTileCoordinate(new TilePoint2D(xCoordinate, yCoordinate));
+        for (int i = 0; i < level; i++) {
+            if (!tower.upgrade()) {
+                throw new IllegalArgumentException("Invalid saved tower level: " + level);
+            }
+        }
+        tower.setRange(userPreferences.getTowerEffectiveRange()[towerType.getValue()][level]);
+        tower.setAttackSpeed(userPreferences.getTowerRateOfFire()[towerType.getValue()][level]);
+        tower.setLastAttackTime(lastAttackTime);
+        towers.add(tower);
+        publishTowers();
+        gameMap.setTile(xCoordinate, yCoordinate, tileFactory.create(towerTileCode(towerType, level)));
+        return tower;
+    }
+
+    private static int towerTileCode(TowerType towerType, int level) {
+        switch (towerType) {
+            case ARTILLERY:
+                return level == 0 ? TileCodes.ATILLERY_LEVEL_0 : TileCodes.ARTILLERY_LEVEL_1;
+            case MAGE:
+                return level == 0 ? TileCodes.MAGE_LEVEL_0 : TileCodes.MAGE_LEVEL_1;
+            case ARCHER:
+                return level == 0 ? TileCodes.ARCHER_LEVEL_0 : TileCodes.ARCHER_LEVEL_1;
+            default:
+                throw new IllegalArgumentException("Invalid Tower Type: " + towerType);
+        }
+    }
+
 }
@@ -1,8 +1,9 @@
 package com.kurabiye.kutd.model.Managers;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 
+import com.kurabiye.kutd.model.Player.UserPreference;
 import com.kurabiye.kutd.model.Wave.WaveInfo;
 
 /* WaveManager.java
@@ -20,7 +21,7 @@ import com.kurabiye.kutd.model.Wave.WaveInfo;
 public class WaveManager {
 
 
-    Random random = new Random(); // Random number generator for enemy types
+    private final SplittableRandom random; // Random number generator for enemy types, a stream of the match
 
     // This number is not spesified in the user preferences, so it is hardcoded.
     // It is the time between enemy spawns in seconds.
@@ -59,8 +60,18 @@ public class WaveManager {
 
 
 
-    public WaveManager() {
-        this.waveInfo = new WaveInfo(); // Get the wave information from user preferences
+    public WaveManager(UserPreference userPreferences) {
+        this(userPreferences, new SplittableRandom());
+    }
+
+    /**
+     * Creates the wave manager of a match.
+     * @param userPreferences The settings the waves are built from
+     * @param random The random stream of the match the enemy types are drawn from
+     */
+    public WaveManager(UserPreference userPreferences, SplittableRandom random) {
+        this.waveInfo = new WaveInfo(userPreferences); // Get the wave information from user preferences
+        this.random = random;
     }
 
 
@@ -186,4 +197,66 @@ public class WaveManager {
     public int getCurrentGroupIndex() {
         return currentGroupIndex; // Get the current group index
     }
+
+    public EnemyAttackState getWaveState() {
+        return waveState; // Get the current state of the wave
+    }
+
+    public int getLeftEnemiesInGroup() {
+        return leftEnemiesInGroup; // Get the number of enemies left in the current group
+    }
+
+    /**
+     * Returns the enemies of each type that are not spawned yet in the current group.
+     * @return a copy of the group decomposition, or null if the first group has not started
+     */
+    public int[] getCurrentGroupDecomposition() {
+        return currentGroupDecomposition == null ? null : currentGroupDecomposition.clone();
+    }
+
+    public double getGracePeriodTime() {
+        return lastGracePeriodTime; // Time spent in the grace period
+    }
+
+    public double getGroupWaitTime() {
+        return lastGroupWaitTime; // Time spent waiting for the next group
+    }
+
+    public double getWaveWaitTime() {
+        return lastWaveWaitTime; // Time spent waiting for the next wave
+    }
+
+    public double getEnemySpawnTime() {
+        return lastEnemySpawnTime; // Time since the last enemy was spawned
+    }
+
+    /**
+     * Puts back the progress of a saved match, so the waves continue where they were saved.
+     * 
+     * @requires waveState != null
+     * @modifies this
+     * @throws IllegalArgumentException if the wave or group index does not exist in the waves of the match
+     */
+    public void restore(EnemyAttackState waveState, int waveIndex, int groupIndex, int leftEnemiesInGroup, int[] groupDecomposition,
+            double gracePeriodTime, double groupWaitTime, double waveWaitTime, double enemySpawnTime) {
+        if (waveState == null) {
+            throw new IllegalArgumentException("Wave state cannot be null");
+        }
+        int totalWaves = waveInfo.getTotalNumberOfWaves();
+        if (waveIndex < 0 || (waveIndex > 0 && waveIndex >= totalWaves)) {
+            throw new IllegalArgumentException("Invalid saved wave index: " + waveIndex);
+        }
+        if (groupIndex < 0 || (groupIndex > 0 && groupIndex >= waveInfo.getTotalNumberOfGroupsInWave(waveIndex))) {
+            throw new IllegalArgumentException("Invalid saved group index: " + groupIndex);
+        }
+        this.waveState = waveState;
+        this.currentWaveIndex = waveIndex;
+        this.currentGroupIndex = groupIndex;
+        this.leftEnemiesInGroup = leftEnemiesInGroup;
+        this.currentGroupDecomposition = groupDecomposition == null ? null : groupDecomposition.clone();
+        this.lastGracePeriodTime = gracePeriodTime;
+        this.lastGroupWaitTime = groupWaitTime;
+        this.lastWaveWaitTime = waveWaitTime;
+        this.lastEnemySpawnTime = enemySpawnTime;
+    }
 }
@@ -183,6 +183,22 @@ public class GameMap implements Observable, Serializable, Cloneable{
          // Set the tile at the specified coordinates
     }
 
+    /**
+     * Finds the first buildable tile of the map, row by row.
+     * 
+     * @return the coordinates of the tile, or null if the map has no buildable tile
+     */
+    public synchronized TilePoint2D findBuildableTile() {
+        for (int y = 0; y < MAP_HEIGHT; y++) {
+            for (int x = 0; x < MAP_WIDTH; x++) {
+                if (tiles[y][x].isBuildableTile()) {
+                    return new TilePoint2D(x, y);
+                }
+            }
+        }
+        return null; // No tower can be built on this map
+    }
+
     /**
      * This method returns the point path of the game map.
      * It is used to get the path points from the starting tile to the ending tile.
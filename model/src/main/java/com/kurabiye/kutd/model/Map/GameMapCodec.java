@@ -0,0 +1,136 @@
+package com.kurabiye.kutd.model.Map;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Tile.Tile;
+import com.kurabiye.kutd.model.Tile.TileFactory;
+
+/**
+ * GameMapCodec encodes a game map into a compact binary form and back.
+ *
+ * A map is fully described by its tile codes and its start and end tiles, everything else,
+ * such as the tile properties, coordinates and paths, is rebuilt when the map is decoded.
+ * The encoding is:
+ *
+ *   int    magic "KMAP"
+ *   byte   version
+ *   UTF    name, empty if the map has none
+ *   byte   width, byte height
+ *   byte[] tile codes, width * height bytes row by row (144 bytes for a 16x9 map)
+ *   byte   start x, start y, end x, end y
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameMapCodec {
+
+    public static final int MAGIC = 0x4B4D4150; // "KMAP"
+    public static final byte VERSION = 1; // Version of the encoding
+
+    private static final TileFactory tileFactory = new TileFactory();
+
+    private GameMapCodec() {
+        // Static methods only
+    }
+
+    /**
+     * Encodes a map.
+     * @param map the map to encode
+     * @return the encoded map
+     * @throws IllegalArgumentException if the map has no start or end tile
+     */
+    public static byte[] encode(GameMap map) {
+        if (map.getStartTileCoordinates() == null || map.getEndTileCoordinates() == null) {
+            throw new IllegalArgumentException("Map must have start and end tiles");
+        }
+        int[][] codes = map.toIntArray();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(160);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(map.getName() == null ? "" : map.getName());
+            out.writeByte(GameMap.MAP_WIDTH);
+            out.writeByte(GameMap.MAP_HEIGHT);
+            for (int y = 0; y < GameMap.MAP_HEIGHT; y++) {
+                for (int x = 0; x < GameMap.MAP_WIDTH; x++) {
+                    out.writeByte(codes[y][x]);
+                }
+            }
+            out.writeByte(map.getStartTileCoordinates().getTileX());
+            out.writeByte(map.getStartTileCoordinates().getTileY());
+            out.writeByte(map.getEndTileCoordinates().getTileX());
+            out.writeByte(map.getEndTileCoordinates().getTileY());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen with a byte array
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a map and validates it.
+     * @param data the encoded map
+     * @return the decoded map
+     * @throws IllegalArgumentException if the data is not a valid encoded map
+     */
+    public static GameMap decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an encoded map");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported map version: " + version);
+            }
+            String name = in.readUTF();
+            int width = in.readUnsignedByte();
+            int height = in.readUnsignedByte();
+            if (width != GameMap.MAP_WIDTH || height != GameMap.MAP_HEIGHT) {
+                throw new IllegalArgumentException("Unsupported map size: " + width + "x" + height);
+            }
+
+            Tile[][] tiles = new Tile[height][width];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    Tile tile = tileFactory.create(in.readUnsignedByte());
+                    tile.setCoordinate(new TilePoint2D(x, y));
+                    tiles[y][x] = tile;
+                }
+            }
+            TilePoint2D start = new TilePoint2D(in.readUnsignedByte(), in.readUnsignedByte());
+            TilePoint2D end = new TilePoint2D(in.readUnsignedByte(), in.readUnsignedByte());
+
+            return new GameMap(tiles, start, end, name.isEmpty() ? null : name);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Encoded map is truncated", e);
+        }
+    }
+
+    /**
+     * Creates the thumbnail of a map, one bit per tile that is set for the path tiles,
+     * row by row. It is enough to preview the shape of the path.
+     *
+     * @param map the map
+     * @return the thumbnail, 18 bytes for a 16x9 map
+     */
+    public static byte[] pathThumbnail(GameMap map) {
+        byte[] thumbnail = new byte[(GameMap.MAP_WIDTH * GameMap.MAP_HEIGHT + 7) / 8];
+        int[][] codes = map.toIntArray();
+        for (int y = 0; y < GameMap.MAP_HEIGHT; y++) {
+            for (int x = 0; x < GameMap.MAP_WIDTH; x++) {
+                if (tileFactory.create(codes[y][x]).isPathTile()) {
+                    int bit = y * GameMap.MAP_WIDTH + x;
+                    thumbnail[bit >> 3] |= (byte) (1 << (bit & 7));
+                }
+            }
+        }
+        return thumbnail;
+    }
+}
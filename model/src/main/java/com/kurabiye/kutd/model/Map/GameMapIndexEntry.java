@@ -0,0 +1,81 @@
+package com.kurabiye.kutd.model.Map;
+
+/**
+ * GameMapIndexEntry describes a saved map in the index of the GameMapRepository,
+ * so the maps can be listed without reading their files.
+ *
+ * The size and modification time of the file tell whether the entry is still up to date,
+ * the checksum detects a file that was changed without changing them.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class GameMapIndexEntry {
+
+    private final String name; // Name of the map
+    private final String fileName; // File of the map in the maps directory
+    private final long checksum; // CRC32 of the file
+    private final long fileSize; // Size of the file in bytes
+    private final long lastModified; // Modification time of the file in milliseconds
+    private final int width; // Width of the map in tiles
+    private final int height; // Height of the map in tiles
+    private final byte[] thumbnail; // Path tiles of the map, one bit per tile
+
+    public GameMapIndexEntry(String name, String fileName, long checksum, long fileSize, long lastModified,
+                             int width, int height, byte[] thumbnail) {
+        if (name == null || fileName == null || thumbnail == null) {
+            throw new IllegalArgumentException("Name, file name and thumbnail cannot be null");
+        }
+        this.name = name;
+        this.fileName = fileName;
+        this.checksum = checksum;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.width = width;
+        this.height = height;
+        this.thumbnail = thumbnail.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public byte[] getThumbnail() {
+        return thumbnail.clone();
+    }
+
+    /**
+     * @param x the x coordinate of a tile
+     * @param y the y coordinate of a tile
+     * @return true if the tile is a path tile in the thumbnail
+     */
+    public boolean isPathTile(int x, int y) {
+        int bit = y * width + x;
+        return (thumbnail[bit >> 3] & (1 << (bit & 7))) != 0;
+    }
+}
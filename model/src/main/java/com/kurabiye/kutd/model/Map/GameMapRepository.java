@@ -1,9 +1,13 @@
 package com.kurabiye.kutd.model.Map;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -11,6 +15,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import org.slf4j.LoggerFactory;
 
@@ -18,19 +26,41 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
-
+/**
+ * GameMapRepository stores the maps of the user in ~/.kutd/maps.
+ *
+ * The repository keeps a small index file with the name, checksum, size and a path thumbnail
+ * of every map, so starting the game only lists the directory and reads the index. A map file
+ * is read the first time the map is asked for, and loadAllMaps reads the remaining ones in parallel.
+ * Files that are not in the index or changed since it was written are read once to update it.
+ *
+ * Maps are saved as JSON by default, or in the compact binary encoding of GameMapCodec
+ * after setSaveFormat(MapFileFormat.BINARY). Both formats are always read.
+ */
 public final class GameMapRepository {
     private static final String MAPS_DIR = System.getProperty("user.home") + "/.kutd/maps/";
+    private static final String INDEX_FILE = "index.bin"; // Index of the maps in the maps directory
+    private static final int INDEX_MAGIC = 0x4B494458; // "KIDX"
+    private static final byte INDEX_VERSION = 1;
+
     private static final ObjectMapper mapper = new ObjectMapper()
         .enable(SerializationFeature.INDENT_OUTPUT)
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     
     private static final org.slf4j.Logger logger = LoggerFactory.getLogger(GameMapRepository.class);
     private static volatile GameMapRepository instance;
-    private final Map<String, GameMap> gameMaps;
+
+    private final Path mapsDir; // Directory of the map files and the index
+    private final Map<String, GameMapIndexEntry> index = new ConcurrentHashMap<>(); // Entries by map name
+    private final Map<String, GameMap> gameMaps = new ConcurrentHashMap<>(); // Maps read so far, by name
+    private volatile MapFileFormat saveFormat = MapFileFormat.JSON; // Format of the maps saved from now on
 
     private GameMapRepository() {
-        this.gameMaps = new HashMap<>();
+        this(Paths.get(MAPS_DIR));
+    }
+
+    GameMapRepository(Path mapsDir) {
+        this.mapsDir = mapsDir;
         loadRepository();
     }
 
@@ -50,71 +80,257 @@ public final class GameMapRepository {
             return new MapOperationResult(false, "Map name cannot be empty");
         }
 
+        MapFileFormat format = saveFormat;
         try {
+            byte[] data = format == MapFileFormat.BINARY ? GameMapCodec.encode(map) : mapper.writeValueAsBytes(map);
+
             // Save to temporary file first
-            String tempFileName = MAPS_DIR + map.getName() + ".json.tmp";
-            String finalFileName = MAPS_DIR + map.getName() + ".json";
+            Path tempFile = mapsDir.resolve(map.getName() + format.getExtension() + ".tmp");
+            Path finalFile = mapsDir.resolve(map.getName() + format.getExtension());
             
             // Ensure directory exists
-            Files.createDirectories(Paths.get(MAPS_DIR));
+            Files.createDirectories(mapsDir);
             
             // Write to temp file
-            mapper.writeValue(new File(tempFileName), map);
+            Files.write(tempFile, data);
             
             // Atomic move
-            Files.move(Paths.get(tempFileName), Paths.get(finalFileName), 
+            Files.move(tempFile, finalFile, 
                       StandardCopyOption.ATOMIC_MOVE, 
                       StandardCopyOption.REPLACE_EXISTING);
+
+            // A map saved in the other format before would load as a second copy
+            GameMapIndexEntry previous = index.get(map.getName());
+            if (previous != null && !previous.getFileName().equals(finalFile.getFileName().toString())) {
+                Files.deleteIfExists(mapsDir.resolve(previous.getFileName()));
+            }
             
-            // Update memory cache
+            // Update memory cache and index
+            index.put(map.getName(), createEntry(map, finalFile, data));
             gameMaps.put(map.getName(), map);
+            writeIndex();
             return new MapOperationResult(true, "Map saved successfully");
             
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             logger.error("Failed to save map: " + map.getName(), e);
             return new MapOperationResult(false, "Failed to save map: " + e.getMessage());
         }
     }
 
+    // Lists the map files and brings the index up to date, reading only the files it does not describe
     private void loadRepository() {
         try {
-            Files.createDirectories(Paths.get(MAPS_DIR));
-            
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(MAPS_DIR), "*.json")) {
+            Files.createDirectories(mapsDir);
+
+            Map<String, GameMapIndexEntry> byFileName = new HashMap<>();
+            for (GameMapIndexEntry entry : readIndex()) {
+                byFileName.put(entry.getFileName(), entry);
+            }
+
+            List<Path> staleFiles = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(mapsDir, "*.{json,kmap}")) {
                 for (Path mapFile : stream) {
-                    try {
-                        GameMap map = mapper.readValue(mapFile.toFile(), GameMap.class);
-                        if (map.getName() != null) {
-                            gameMaps.put(map.getName(), map);
-                        }
-                    } catch (IOException e) {
-                        logger.error("Failed to load map: " + mapFile.getFileName(), e);
+                    GameMapIndexEntry entry = byFileName.remove(mapFile.getFileName().toString());
+                    if (entry != null && entry.getFileSize() == Files.size(mapFile)
+                            && entry.getLastModified() == Files.getLastModifiedTime(mapFile).toMillis()) {
+                        index.put(entry.getName(), entry); // Up to date, the file is read on first use
+                    } else {
+                        staleFiles.add(mapFile);
+                    }
+                }
+            }
+            boolean changed = !byFileName.isEmpty(); // Entries of deleted files are dropped
+
+            for (Path mapFile : staleFiles) {
+                try {
+                    byte[] data = Files.readAllBytes(mapFile);
+                    GameMap map = parse(mapFile, data);
+                    if (map.getName() != null) {
+                        index.put(map.getName(), createEntry(map, mapFile, data));
+                        gameMaps.put(map.getName(), map); // Already read, keep it
                     }
+                    changed = true;
+                } catch (IOException | IllegalArgumentException e) {
+                    logger.error("Failed to load map: " + mapFile.getFileName(), e);
                 }
             }
+
+            if (changed) {
+                writeIndex();
+            }
         } catch (IOException e) {
             logger.error("Failed to load map repository", e);
+            index.clear();
             gameMaps.clear();
         }
     }
 
+    /**
+     * Returns a map, reading its file the first time it is asked for.
+     * @param name the name of the map
+     * @return the map, or null if there is no such map or it cannot be read
+     */
     public GameMap getGameMap(String name) {
-        return gameMaps.get(name);
+        if (name == null) {
+            return null;
+        }
+        return gameMaps.computeIfAbsent(name, this::readMap);
+    }
+
+    /**
+     * Reads every map that was not read yet in parallel.
+     * @return all maps that could be read
+     */
+    public List<GameMap> loadAllMaps() {
+        return new ArrayList<>(index.keySet()).parallelStream()
+                .map(this::getGameMap)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param name the name of a map
+     * @return the index entry of the map without reading its file, or null if there is no such map
+     */
+    public GameMapIndexEntry getIndexEntry(String name) {
+        return name == null ? null : index.get(name);
     }
 
     public List<String> getAvailableMapNames() {
-        return new ArrayList<>(gameMaps.keySet());
+        return new ArrayList<>(index.keySet());
+    }
+
+    /**
+     * Sets the format of the maps saved from now on, the saved maps are not converted.
+     * @param saveFormat the file format
+     */
+    public void setSaveFormat(MapFileFormat saveFormat) {
+        if (saveFormat == null) {
+            throw new IllegalArgumentException("Save format cannot be null");
+        }
+        this.saveFormat = saveFormat;
+    }
+
+    public MapFileFormat getSaveFormat() {
+        return saveFormat;
     }
 
     public boolean deleteMap(String mapName) {
         try {
-            Path mapPath = Paths.get(MAPS_DIR + mapName + ".json");
-            Files.deleteIfExists(mapPath);
+            GameMapIndexEntry entry = index.remove(mapName);
+            if (entry != null) {
+                Files.deleteIfExists(mapsDir.resolve(entry.getFileName()));
+            }
             gameMaps.remove(mapName);
+            writeIndex();
             return true;
         } catch (IOException e) {
             logger.error("Failed to delete map: " + mapName, e);
             return false;
         }
     }
-}
\ No newline at end of file
+
+    // Reads the file of an indexed map, null if it cannot be read
+    private GameMap readMap(String name) {
+        GameMapIndexEntry entry = index.get(name);
+        if (entry == null) {
+            return null;
+        }
+        Path mapFile = mapsDir.resolve(entry.getFileName());
+        try {
+            byte[] data = Files.readAllBytes(mapFile);
+            if (checksum(data) != entry.getChecksum()) {
+                logger.warn("Map file changed since it was indexed: " + entry.getFileName());
+            }
+            GameMap map = parse(mapFile, data);
+            if (!name.equals(map.getName())) {
+                logger.error("Map file " + entry.getFileName() + " does not hold the map " + name);
+                return null;
+            }
+            return map;
+        } catch (NoSuchFileException e) {
+            logger.error("Map file is missing: " + entry.getFileName());
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Failed to load map: " + entry.getFileName(), e);
+            return null;
+        }
+    }
+
+    private static GameMap parse(Path mapFile, byte[] data) throws IOException {
+        if (MapFileFormat.fromFileName(mapFile.getFileName().toString()) == MapFileFormat.BINARY) {
+            return GameMapCodec.decode(data);
+        }
+        return mapper.readValue(data, GameMap.class);
+    }
+
+    private static GameMapIndexEntry createEntry(GameMap map, Path mapFile, byte[] data) throws IOException {
+        return new GameMapIndexEntry(map.getName(), mapFile.getFileName().toString(), checksum(data),
+                Files.size(mapFile), Files.getLastModifiedTime(mapFile).toMillis(),
+                GameMap.MAP_WIDTH, GameMap.MAP_HEIGHT, GameMapCodec.pathThumbnail(map));
+    }
+
+    private static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    // Reads the index, an index that is missing or cannot be read is treated as empty
+    private List<GameMapIndexEntry> readIndex() {
+        List<GameMapIndexEntry> entries = new ArrayList<>();
+        Path indexFile = mapsDir.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return entries;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readByte() != INDEX_VERSION) {
+                logger.warn("Ignoring map index of an unknown format");
+                return entries;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                String fileName = in.readUTF();
+                long checksum = in.readLong();
+                long fileSize = in.readLong();
+                long lastModified = in.readLong();
+                int width = in.readUnsignedByte();
+                int height = in.readUnsignedByte();
+                byte[] thumbnail = new byte[in.readUnsignedShort()];
+                in.readFully(thumbnail);
+                entries.add(new GameMapIndexEntry(name, fileName, checksum, fileSize, lastModified, width, height, thumbnail));
+            }
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable map index", e);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private synchronized void writeIndex() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            List<GameMapIndexEntry> entries = new ArrayList<>(index.values());
+            out.writeInt(INDEX_MAGIC);
+            out.writeByte(INDEX_VERSION);
+            out.writeInt(entries.size());
+            for (GameMapIndexEntry entry : entries) {
+                out.writeUTF(entry.getName());
+                out.writeUTF(entry.getFileName());
+                out.writeLong(entry.getChecksum());
+                out.writeLong(entry.getFileSize());
+                out.writeLong(entry.getLastModified());
+                out.writeByte(entry.getWidth());
+                out.writeByte(entry.getHeight());
+                byte[] thumbnail = entry.getThumbnail();
+                out.writeShort(thumbnail.length);
+                out.write(thumbnail);
+            }
+        }
+        Files.createDirectories(mapsDir);
+        Path tempFile = mapsDir.resolve(INDEX_FILE + ".tmp");
+        Files.write(tempFile, bytes.toByteArray());
+        Files.move(tempFile, mapsDir.resolve(INDEX_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
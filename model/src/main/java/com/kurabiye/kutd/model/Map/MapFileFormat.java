@@ -0,0 +1,39 @@
+package com.kurabiye.kutd.model.Map;
+
+/**
+ * The file formats the GameMapRepository can store maps in.
+ *
+ * JSON is readable and compatible with older versions of the game. BINARY is the compact
+ * encoding of GameMapCodec, a tile code grid with the start and end tiles.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum MapFileFormat {
+    JSON(".json"), // Jackson serialization of the whole map
+    BINARY(".kmap"); // GameMapCodec encoding
+
+    private final String extension;
+
+    MapFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @param fileName the name of a map file
+     * @return the format of the file, or null if it is not a map file
+     */
+    public static MapFileFormat fromFileName(String fileName) {
+        for (MapFileFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -6,10 +6,7 @@ public class GameEconomy {
         private int currentHealth; // Player's health
 
 
-        UserPreference userPreference = UserPreference.getInstance(); // User preference instance
-
-
-        public GameEconomy() {
+        public GameEconomy(UserPreference userPreference) {
             this.currentGold = userPreference.getStartingGold(); // Initialize with user's initial gold preference
             this.currentHealth = userPreference.getStartingHealth(); // Initialize with user's initial health preference
         }
@@ -104,6 +101,17 @@ public class GameEconomy {
             return currentHealth; // Return the current amount of health
         }
 
+        /**
+         * This method is used to put back the gold and health of a saved match.
+         * 
+         * @param gold
+         * @param health
+         */
+        synchronized void restore(int gold, int health) {
+            currentGold = gold; // Gold at the moment the match was saved
+            currentHealth = health; // Health at the moment the match was saved
+        }
+
 
 
 
@@ -20,9 +20,10 @@ public class Player implements Observable{
   
     private PlayerState playerState = PlayerState.ALIVE; // Player's alive status
 
-    private GameEconomy gameEconomy = new GameEconomy(); // Game economy object to manage gold
+    private GameEconomy gameEconomy; // Game economy object to manage gold
 
-    public Player() {
+    public Player(UserPreference userPreference) {
+        this.gameEconomy = new GameEconomy(userPreference); // Start with the gold and health of the match settings
     }
 
     public boolean buyTower(int cost) {
@@ -76,6 +77,22 @@ public class Player implements Observable{
         return playerState; // Get player's state
     }
 
+    /**
+     * This method is used to put back the player of a saved match.
+     * @requires gold >= 0 && health >= 0
+     * @param gold The gold of the player when the match was saved
+     * @param health The health of the player when the match was saved
+     * @param playerState The state of the player when the match was saved
+     */
+    public void restore(int gold, int health, PlayerState playerState) {
+        if (gold < 0 || health < 0 || playerState == null) {
+            throw new IllegalArgumentException("Invalid saved player: gold " + gold + ", health " + health);
+        }
+        gameEconomy.restore(gold, health); // Set the economy without earning or spending
+        this.playerState = playerState;
+        notifyObservers(this); // The view shows the loaded gold and health
+    }
+
 
     /// Observer Pattern Methods
     /// 
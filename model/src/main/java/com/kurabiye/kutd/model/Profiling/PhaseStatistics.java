@@ -0,0 +1,60 @@
+package com.kurabiye.kutd.model.Profiling;
+
+/* PhaseStatistics.java
+ * This class is an immutable summary of the timings of a single phase.
+ * All durations are in nanoseconds.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class PhaseStatistics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0; // Used for the readable output
+
+    private final String name; // Name of the measured phase
+    private final long count; // Number of measurements
+    private final long p50; // Median duration
+    private final long p99; // 99th percentile duration
+    private final long max; // Longest duration
+    private final double mean; // Average duration
+
+    public PhaseStatistics(String name, long count, long p50, long p99, long max, double mean) {
+        this.name = name;
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    public String getName() {
+        return name; // Return the name of the phase
+    }
+
+    public long getCount() {
+        return count; // Return the number of measurements
+    }
+
+    public long getP50() {
+        return p50; // Return the median in nanoseconds
+    }
+
+    public long getP99() {
+        return p99; // Return the 99th percentile in nanoseconds
+    }
+
+    public long getMax() {
+        return max; // Return the maximum in nanoseconds
+    }
+
+    public double getMean() {
+        return mean; // Return the mean in nanoseconds
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-20s n=%-8d p50=%8.3fms p99=%8.3fms max=%8.3fms mean=%8.3fms",
+                name, count, p50 / NANOS_PER_MILLI, p99 / NANOS_PER_MILLI, max / NANOS_PER_MILLI, mean / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kurabiye.kutd.model.Profiling;
+
+/* TickPhase.java
+ * This enum lists the phases of a simulation tick that are measured by the TickProfiler.
+ * TICK covers the whole tick including the phases.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum TickPhase {
+    SPAWN_ENEMIES("spawnEnemies"),
+    MOVE_ENEMIES("moveEnemies"),
+    REBUILD_SPATIAL_INDEX("rebuildSpatialIndex"),
+    CREATE_PROJECTILES("createProjectiles"),
+    MOVE_PROJECTILES("moveProjectiles"),
+    CALCULATE_COLLISIONS("calculateCollisions"),
+    CALCULATE_EXPLOSIONS("calculateExplosions"),
+    APPLY_EFFECTS("applyEffects"),
+    UPDATE_COLLECTABLES("updateCollectables"),
+    COMMIT("commitAll"),
+    TICK("tick");
+
+    private final String displayName; // Name of the method the phase belongs to
+
+    TickPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName; // Return the name used in reports
+    }
+}
@@ -0,0 +1,202 @@
+package com.kurabiye.kutd.model.Profiling;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kurabiye.kutd.util.Profiling.LatencyHistogram;
+
+/* TickProfiler.java
+ * This class measures how long every phase of a simulation tick takes.
+ * The game thread records the timings with System.nanoTime into one
+ * LatencyHistogram per phase, other threads can read p50, p99 and max
+ * through getStatistics at any time.
+ * 
+ * If a dump interval is set, the statistics of the last interval are logged
+ * and the histograms start over, so a slow phase in a large wave is not hidden
+ * by the quiet minutes before it. The interval can also be set with the
+ * system property kutd.profiler.dumpSeconds.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class TickProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TickProfiler.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L; // Used for the dump interval
+
+    private static final String FRAME_NAME = "frame"; // Name of the frame interval in reports
+
+    private final Map<TickPhase, LatencyHistogram> histograms = new EnumMap<>(TickPhase.class); // One histogram per phase
+
+    private final LatencyHistogram frameHistogram = new LatencyHistogram(); // Time between two rendered frames
+
+    private volatile boolean enabled = true; // Whether timings are recorded
+
+    private volatile long dumpIntervalNanos; // Time between two dumps, 0 if dumping is off
+
+    private long lastDumpTime; // Time of the last dump
+
+    private volatile boolean resetRequested; // Set by other threads, handled by the recording thread
+
+    public TickProfiler() {
+        for (TickPhase phase : TickPhase.values()) {
+            histograms.put(phase, new LatencyHistogram()); // Create the histograms up front so recording never allocates
+        }
+        dumpIntervalNanos = intervalNanos(Integer.getInteger("kutd.profiler.dumpSeconds", 0)); // Dumping is off unless asked for
+        lastDumpTime = System.nanoTime();
+    }
+
+    /**
+     * Starts a measurement.
+     * @return the current time stamp, or 0 if the profiler is disabled
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends the measurement of a phase and starts the next one.
+     * Chaining laps means a tick with n phases only reads the clock n + 1 times.
+     * 
+     * @param phase The phase that just finished
+     * @param startTime The time stamp returned by begin or by the previous lap
+     * @return the time stamp to pass to the next lap
+     */
+    public long lap(TickPhase phase, long startTime) {
+        if (!enabled || startTime == 0) {
+            return 0; // Nothing is being measured
+        }
+        long now = System.nanoTime();
+        histograms.get(phase).record(now - startTime);
+        return now;
+    }
+
+    /**
+     * Ends the measurement of a phase.
+     * @param phase The phase that just finished
+     * @param startTime The time stamp returned by begin
+     */
+    public void end(TickPhase phase, long startTime) {
+        lap(phase, startTime); // Same as a lap whose result is not needed
+    }
+
+    /**
+     * Records the time between two rendered frames.
+     * @param intervalNanos The frame interval in nanoseconds
+     */
+    public void recordFrame(long intervalNanos) {
+        if (enabled) {
+            frameHistogram.record(intervalNanos);
+        }
+    }
+
+    /**
+     * Returns the statistics of a phase since the last reset or dump.
+     * @param phase The phase to summarize
+     * @return the statistics of the phase
+     */
+    public PhaseStatistics getStatistics(TickPhase phase) {
+        return summarize(phase.getDisplayName(), histograms.get(phase));
+    }
+
+    /**
+     * Returns the statistics of the frame intervals since the last reset or dump.
+     * @return the statistics of the frame intervals
+     */
+    public PhaseStatistics getFrameStatistics() {
+        return summarize(FRAME_NAME, frameHistogram);
+    }
+
+    /**
+     * Returns the statistics of all phases in tick order.
+     * @return a map from phase to statistics
+     */
+    public Map<TickPhase, PhaseStatistics> getAllStatistics() {
+        Map<TickPhase, PhaseStatistics> statistics = new EnumMap<>(TickPhase.class);
+        for (TickPhase phase : TickPhase.values()) {
+            statistics.put(phase, getStatistics(phase));
+        }
+        return statistics;
+    }
+
+    /**
+     * Builds a readable report with one line per phase.
+     * @return the report
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder("Tick profile:");
+        for (TickPhase phase : TickPhase.values()) {
+            report.append(System.lineSeparator()).append("  ").append(getStatistics(phase));
+        }
+        report.append(System.lineSeparator()).append("  ").append(getFrameStatistics());
+        return report.toString();
+    }
+
+    /**
+     * Logs the report and starts over if the dump interval has passed.
+     * Must be called from the recording thread, the game loop calls it once per frame.
+     */
+    public void dumpIfDue() {
+        if (resetRequested) {
+            resetHistograms(); // Handle a reset asked for by another thread
+        }
+
+        long interval = dumpIntervalNanos; // Read once
+        if (interval <= 0) {
+            return; // Dumping is off
+        }
+
+        long now = System.nanoTime();
+        if (now - lastDumpTime >= interval) {
+            logger.info(formatReport());
+            resetHistograms(); // The next dump only covers the next interval
+            lastDumpTime = now;
+        }
+    }
+
+    /**
+     * Sets how often dumpIfDue logs the report.
+     * @param seconds The interval in seconds, 0 or less turns dumping off
+     */
+    public void setDumpIntervalSeconds(int seconds) {
+        dumpIntervalNanos = intervalNanos(seconds);
+    }
+
+    // The dump interval in nanoseconds, 0 turns dumping off
+    private static long intervalNanos(int seconds) {
+        return seconds > 0 ? seconds * NANOS_PER_SECOND : 0;
+    }
+
+    /**
+     * Asks the recording thread to forget all recorded timings at its next dumpIfDue call.
+     */
+    public void requestReset() {
+        resetRequested = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled; // Return whether timings are recorded
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled; // Turn the recording on or off
+    }
+
+    private void resetHistograms() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        frameHistogram.reset();
+        resetRequested = false;
+    }
+
+    private static PhaseStatistics summarize(String name, LatencyHistogram histogram) {
+        return new PhaseStatistics(name, histogram.getTotalCount(), histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99), histogram.getMax(), histogram.getMean());
+    }
+}
@@ -41,11 +41,52 @@ public interface IProjectile {
      */
     Point2D getCoordinate();
 
+    /**
+     * Gets the position of the projectile at the start of its last move.
+     * The segment from this point to the current coordinate is the path covered in the last tick.
+     * 
+     * @return The projectile's previous coordinate
+     */
+    Point2D getPreviousCoordinate();
+
+    /**
+     * Gets the x coordinate of the projectile without creating a Point2D
+     * 
+     * @return The projectile's x coordinate
+     */
+    double getX();
+
+    /**
+     * Gets the y coordinate of the projectile without creating a Point2D
+     * 
+     * @return The projectile's y coordinate
+     */
+    double getY();
+
+    /**
+     * Gets the x coordinate of the previous coordinate without creating a Point2D
+     * 
+     * @return The projectile's previous x coordinate
+     */
+    double getPreviousX();
+
+    /**
+     * Gets the y coordinate of the previous coordinate without creating a Point2D
+     * 
+     * @return The projectile's previous y coordinate
+     */
+    double getPreviousY();
+
     /**
      * Get the speed vector of the projectile
      */
     Point2D getSpeedVector();
 
+    /**
+     * Get the length of the speed vector without creating a Point2D
+     */
+    double getSpeedMagnitude();
+
     /**
      * get the projectile state
      * 
@@ -1,5 +1,7 @@
 package com.kurabiye.kutd.model.Projectile;
 
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy.IProjectileMoveStrategy;
 
@@ -31,7 +33,17 @@ public class Projectile implements IProjectile {
 
     private float gravityFactor; // Gravity factor for the projectile's trajectory
 
-    private Point2D coordinate; // Coordinate of the projectile on the map
+    // The movement state is changed in place, so moving does not create objects
+    private final MutableVec2 position = new MutableVec2(); // Coordinate of the projectile on the map
+
+    private final MutableVec2 previousPosition = new MutableVec2(); // Coordinate at the start of the last move, used for swept collisions
+
+    private final MutableVec2 velocity = new MutableVec2(); // Speed vector of the projectile
+
+    // Point2D copies of the movement state, created when asked for and dropped when the projectile moves
+    private Point2D coordinate;
+
+    private Point2D previousCoordinate;
 
     private Point2D speedVector;
 
@@ -59,11 +71,24 @@ public class Projectile implements IProjectile {
 
     private boolean explosionAnimated = false;
 
+    private boolean pooled = false; // True while the projectile waits in a ProjectilePool
+
+    private boolean arrived = false; // True once the projectile ended a move on its target
+
 
 
 
 
     public Projectile(ProjectileType projectileType, Point2D startCoordinate, Point2D targetCoordinate, IProjectileMoveStrategy moveStrategy, float projectileAreaDamage, DamageType damageType, int projectileLevel) {
+        launch(projectileType, startCoordinate, targetCoordinate, moveStrategy, projectileAreaDamage, damageType, projectileLevel);
+    }
+
+    /**
+     * Sets every field of the projectile for a new shot.
+     * Used by the constructor and by the ProjectilePool when a released projectile is reused.
+     * It is final, since the constructor calls it before a subclass would be set up.
+     */
+    final void launch(ProjectileType projectileType, Point2D startCoordinate, Point2D targetCoordinate, IProjectileMoveStrategy moveStrategy, float projectileAreaDamage, DamageType damageType, int projectileLevel) {
         this.damageType = damageType; // Set the explosion type
         this.projectileType = projectileType;
         //this.startCoordinate = startCoordinate;
@@ -73,17 +98,28 @@ public class Projectile implements IProjectile {
         
         this.projectileAreaDamage = projectileAreaDamage; // Set the area damage of the projectile
 
-        Point2D[] dataArray = moveStrategy.getSpeedVector(startCoordinate, targetCoordinate, gravityFactor); // Get the speed vector and life time from the move strategy
-        this.speedVector = dataArray[0].multiply(this.speed); // Calculate the speed vector using the provided move strategy and then multiply it by the speed of the projectile
-
+        // All projectiles start towards their target
+        double distance = startCoordinate.distance(targetCoordinate);
+        this.velocity.set(targetCoordinate.getX() - startCoordinate.getX(), targetCoordinate.getY() - startCoordinate.getY())
+                .normalize().multiply(this.speed); // The direction multiplied by the speed of the projectile
+        this.speedVector = null;
 
+        this.projectileLifeTime = moveStrategy.getLifeTime(distance); // Get the life time of the projectile from the move strategy
 
-        this.projectileLifeTime = dataArray[1].getX(); // Get the life time of the projectile from the move strategy
+        this.projectileExplosiveActtionTime = moveStrategy.getActivationTime(distance); // Get the explosive action time of the projectile from the move strategy
 
-        this.projectileExplosiveActtionTime = dataArray[1].getY(); // Get the explosive action time of the projectile from the move strategy
+        this.projectileLifeTimeCounter = 0; // A new shot starts its timers from zero
+        this.expirationTime = 0;
+        this.projectileState = ProjectileState.MOVING;
+        this.explosionAnimated = false;
+        this.pooled = false;
+        this.arrived = false;
 
 
-        this.coordinate = startCoordinate; // Set the starting coordinate of the projectile
+        this.position.set(startCoordinate); // Set the starting coordinate of the projectile
+        this.previousPosition.set(startCoordinate); // The projectile has not moved yet
+        this.coordinate = startCoordinate;
+        this.previousCoordinate = startCoordinate;
    
         this.projectileLevel = projectileLevel; // Set the level of the projectile
     }
@@ -112,23 +148,39 @@ public class Projectile implements IProjectile {
 
     private double expirationTime = 0;
 
-    public synchronized void move(double deltaTime) {
+    public void move(double deltaTime) {
+        previousPosition.set(position); // The movement of this tick starts here
+        previousCoordinate = coordinate;
+
         if (projectileState == ProjectileState.MOVING || projectileState == ProjectileState.ACTIVE) {
 
-            speedVector = speedVector.add(0, 1 * gravityFactor * deltaTime); // Update the speed vector with the gravity factor and delta time
+            if (arrived) {
+                projectileState = ProjectileState.STOPPED; // The last step was checked for hits in the previous tick
+                return;
+            }
+
+            if (gravityFactor != 0) {
+                velocity.add(0, 1 * gravityFactor * deltaTime); // Update the speed vector with the gravity factor and delta time
+                speedVector = null;
+            }
 
             // Check if the speed vector is zero
-            if (speedVector.magnitude() == 0) {
+            if (velocity.magnitude() == 0) {
                 return;
             }
 
-            // Update the projectile's coordinate based on the speed vector and delta time
-            coordinate = coordinate.add(speedVector.multiply(deltaTime)); // Update the coordinate of the projectile based on the speed vector and delta time
+            // The distance covered in this tick
+            double stepX = velocity.getX() * deltaTime;
+            double stepY = velocity.getY() * deltaTime;
 
-            // Check if the projectile has reached its target coordinate
-            if (coordinate.distance(targetCoordinate) < deltaTime * speed) {
-                coordinate = targetCoordinate; // Set the coordinate to the target coordinate
-                projectileState = ProjectileState.STOPPED; // Stop the projectile if it has reached the target
+            // Check if the projectile reaches its target coordinate in this tick
+            if (GeometryUtils.length(stepX, stepY) >= position.distance(targetCoordinate.getX(), targetCoordinate.getY())) {
+                position.set(targetCoordinate); // End the movement exactly on the target, the collision check sweeps the whole step
+                coordinate = targetCoordinate;
+                arrived = true; // The projectile stops at its next move, so it can still hit during this step
+            } else {
+                position.add(stepX, stepY); // Update the coordinate of the projectile based on the speed vector and delta time
+                coordinate = null; // The old point is out of date
             }
 
             // Check if the projectile has reached its explosive action time
@@ -158,14 +210,47 @@ public class Projectile implements IProjectile {
     }
 
     public Point2D getCoordinate() {
+        if (coordinate == null) {
+            coordinate = position.toPoint2D(); // Only create a point when somebody asks for it
+        }
         return coordinate; // Get the current coordinate of the projectile
     }
 
+    public Point2D getPreviousCoordinate() {
+        if (previousCoordinate == null) {
+            previousCoordinate = previousPosition.toPoint2D(); // Only create a point when somebody asks for it
+        }
+        return previousCoordinate; // Get the coordinate at the start of the last move
+    }
+
+    public double getX() {
+        return position.getX(); // Get the x coordinate without creating a point
+    }
+
+    public double getY() {
+        return position.getY(); // Get the y coordinate without creating a point
+    }
+
+    public double getPreviousX() {
+        return previousPosition.getX(); // Get the previous x coordinate without creating a point
+    }
+
+    public double getPreviousY() {
+        return previousPosition.getY(); // Get the previous y coordinate without creating a point
+    }
+
     // Get the projectile's speed vector
     public Point2D getSpeedVector() {
+        if (speedVector == null) {
+            speedVector = velocity.toPoint2D(); // Only create a point when somebody asks for it
+        }
         return speedVector; // Get the speed vector of the projectile
     }
 
+    public double getSpeedMagnitude() {
+        return velocity.magnitude(); // Get the length of the speed vector without creating a point
+    }
+
     public ProjectileState getProjectileState() {
         return projectileState; // Get the projectile's alive status
     }
@@ -192,4 +277,54 @@ public class Projectile implements IProjectile {
     public void setProjectileState(ProjectileState projectileState) {
         this.projectileState = projectileState; // Set the projectile's alive status
     }
+
+    public double getLifeTime() {
+        return projectileLifeTime; // Time the projectile flies before it stops
+    }
+
+    public double getLifeTimeCounter() {
+        return projectileLifeTimeCounter; // Time the projectile has flown
+    }
+
+    public double getActivationTime() {
+        return projectileExplosiveActtionTime; // Time after which the projectile can hit
+    }
+
+    public double getExpirationTime() {
+        return expirationTime; // Time the projectile has been stopped
+    }
+
+    /**
+     * Puts back the flight of a projectile of a saved match.
+     * The projectile must be created by the factory first, at its saved position and towards its saved target,
+     * so its type, speed and damage are set; this method sets the rest of the flight.
+     * 
+     * @requires projectileState != null
+     * @modifies this
+     */
+    public void restoreFlight(double previousX, double previousY, double velocityX, double velocityY,
+            double lifeTime, double lifeTimeCounter, double activationTime, double expirationTime,
+            ProjectileState projectileState, boolean explosionAnimated) {
+        if (projectileState == null) {
+            throw new IllegalArgumentException("Projectile state cannot be null");
+        }
+        this.previousPosition.set(previousX, previousY);
+        this.previousCoordinate = null; // Created again when asked for
+        this.velocity.set(velocityX, velocityY);
+        this.speedVector = null;
+        this.projectileLifeTime = lifeTime;
+        this.projectileLifeTimeCounter = lifeTimeCounter;
+        this.projectileExplosiveActtionTime = activationTime;
+        this.expirationTime = expirationTime;
+        this.projectileState = projectileState;
+        this.explosionAnimated = explosionAnimated;
+    }
+
+    boolean isPooled() {
+        return pooled; // True while the projectile waits in a pool
+    }
+
+    void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
 }
@@ -11,24 +11,38 @@ import com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy.IProjectileMove
 import com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy.MagicProjectileMoveStrategy;
 
 
+/* ProjectileFactory.java
+ * This class creates the projectiles of a match.
+ * The move strategies keep no state, so one instance of each is shared by every projectile.
+ * Projectiles removed from the match are released back to the factory and reused by the next shots.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
 public class ProjectileFactory {
 
-    private static ProjectileFactory instance; // Singleton instance
+    // Shared move strategies
+    private static final IProjectileMoveStrategy ARROW_MOVE_STRATEGY = new ArrowProjectileMoveStrategy();
+    private static final IProjectileMoveStrategy MAGIC_MOVE_STRATEGY = new MagicProjectileMoveStrategy();
+    private static final IProjectileMoveStrategy ARTILLERY_MOVE_STRATEGY = new ArtilleryProjectileMoveStrategy();
+
+    private final UserPreference userPreferences; // Settings of the match the projectiles belong to
+
+    private final ProjectilePool projectilePool = new ProjectilePool(ProjectilePool.DEFAULT_CAPACITY); // Released projectiles of the match
 
     private float artilleryRange;
     
-    // Private constructor to prevent instantiation from outside
-    private ProjectileFactory() {
-        // Private constructor implementation
-        artilleryRange = UserPreference.getInstance().getArtilleryRange(); // Get the artillery range from user preferences
-    }
-    
-    // Method to get the singleton instance of the ProjectileFactory
-    public static synchronized ProjectileFactory getInstance() {
-        if (instance == null) {
-            instance = new ProjectileFactory();
+    /**
+     * Creates a projectile factory for a single match.
+     * @param userPreferences The settings used for the projectile attributes
+     */
+    public ProjectileFactory(UserPreference userPreferences) {
+        if (userPreferences == null) {
+            throw new IllegalArgumentException("UserPreference cannot be null"); // Projectiles cannot be created without settings
         }
-        return instance;
+        this.userPreferences = userPreferences;
+        artilleryRange = userPreferences.getArtilleryRange(); // Get the artillery range from user preferences
     }
 
     // Create a projectile of a specific type with default values
@@ -39,33 +53,50 @@ public class ProjectileFactory {
         DamageType explosionType = DamageType.TARGET; // Default explosion type for the projectile
         switch (projectileType) {
             case ARROW:
-                moveStrategy = new ArrowProjectileMoveStrategy(); // Set the move strategy for arrow projectiles
+                moveStrategy = ARROW_MOVE_STRATEGY; // Set the move strategy for arrow projectiles
                 break;
             case MAGIC:
-                moveStrategy = new MagicProjectileMoveStrategy(); // Set the move strategy for magic projectiles
+                moveStrategy = MAGIC_MOVE_STRATEGY; // Set the move strategy for magic projectiles
                 break;
             case ARTILLERY:
-                moveStrategy = new ArtilleryProjectileMoveStrategy(); // Set the move strategy for artillery projectiles
-                projectileAreaDamage = UserPreference.getInstance().getArtilleryAoeRange(); // Get the area damage for artillery projectiles from user preferences
+                moveStrategy = ARTILLERY_MOVE_STRATEGY; // Set the move strategy for artillery projectiles
+                projectileAreaDamage = userPreferences.getArtilleryAoeRange(); // Get the area damage for artillery projectiles from user preferences
                 explosionType = DamageType.AREA; // Set the explosion type for artillery projectiles
                 break;
             default:
                 throw new IllegalArgumentException("Invalid projectile type: " + projectileType); // Handle invalid projectile types
         }
 
-        Projectile product = new Projectile(projectileType,
+        Projectile product = projectilePool.acquire(); // Reuse a released projectile if there is one
+        if (product == null) {
+            product = new Projectile(projectileType,
                 startCoordinate, // Starting coordinate of the projectile
                 targetCoordinate, // Target coordinate of the projectile       
                 moveStrategy,
                 projectileAreaDamage,
                 explosionType,
                 projectileLevel); // Create a new projectile with the specified parameters
-                product.setProjectileLevel(projectileLevel); // Set the level of the projectile
-               
-
-
+        } else {
+            product.launch(projectileType, startCoordinate, targetCoordinate, moveStrategy,
+                projectileAreaDamage, explosionType, projectileLevel); // Reset the released projectile for the new shot
+        }
         
         return product; // Return the created projectile
         
     }
+
+    /**
+     * Gives a projectile that left the match back to the factory, so a later shot can reuse it.
+     * The projectile is marked DEAD. Projectiles of other implementations are ignored.
+     * @param projectile The projectile that is no longer used by the match
+     */
+    public void releaseProjectile(IProjectile projectile) {
+        if (projectile instanceof Projectile) {
+            projectilePool.release((Projectile) projectile);
+        }
+    }
+
+    public ProjectilePool getProjectilePool() {
+        return projectilePool; // Pool of the released projectiles
+    }
 }
@@ -1,6 +1,5 @@
 package com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy;
 
-import com.kurabiye.kutd.model.Coordinates.Point2D;
 
 public class ArrowProjectileMoveStrategy implements IProjectileMoveStrategy {
 
@@ -11,20 +10,16 @@ public class ArrowProjectileMoveStrategy implements IProjectileMoveStrategy {
     private static final float PROJECTILE_SPEED = 800.0f; // Speed of the projectile
 
     @Override
-    public Point2D[] getSpeedVector(Point2D startingPoint, Point2D targetPoint, float gravity) {
-        
-        Point2D speedVector = targetPoint.subtract(startingPoint); // Calculate the speed vector from the starting point to the target point
-        
-        
-        double length = speedVector.magnitude(); // Get the length of the speed vector
-
-        if (length > 0) {
-            speedVector = speedVector.normalize(); // Normalize the speed vector to get the direction
-        } else {
-            return new Point2D[]{new Point2D(0, 0), new Point2D(PROJECTILE_LIFE_TIME, 0.1)}; // If the length is zero, return a zero vector
+    public double getLifeTime(double distance) {
+        if (distance == 0) {
+            return PROJECTILE_LIFE_TIME; // A projectile that does not move
         }
+        return distance / PROJECTILE_SPEED + 3; // Time to reach the target with some margin
+    }
 
-        return new Point2D[]{speedVector, new Point2D(length/PROJECTILE_SPEED + 3, 0)}; // Return the normalized speed vector
+    @Override
+    public double getActivationTime(double distance) {
+        return distance == 0 ? 0.1 : 0; // Arrows are active right away
     }
 
     @Override
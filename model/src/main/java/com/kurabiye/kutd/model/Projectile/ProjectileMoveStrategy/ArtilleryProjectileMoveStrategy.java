@@ -1,11 +1,10 @@
 package com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy;
 
-import com.kurabiye.kutd.model.Coordinates.Point2D;
 
 public class ArtilleryProjectileMoveStrategy implements IProjectileMoveStrategy {
 
     private static final float GRAVITY = 0; // Gravity constant
-    private float ARTILLERY_SPEED = 150; // Speed of the artillery projectile
+    private static final float ARTILLERY_SPEED = 150; // Speed of the artillery projectile
     
 /*
     @Override
@@ -86,20 +85,13 @@ public class ArtilleryProjectileMoveStrategy implements IProjectileMoveStrategy
     public static final double PROJECTILE_LIFE_TIME = 5f; // Life time of the projectile
 
     @Override
-    public Point2D[] getSpeedVector(Point2D startingPoint, Point2D targetPoint, float gravity) {
-        
-        Point2D speedVector = targetPoint.subtract(startingPoint); // Calculate the speed vector from the starting point to the target point
-        
-        
-        double length = speedVector.magnitude(); // Get the length of the speed vector
-
-        if (length > 0) {
-            speedVector = speedVector.normalize(); // Normalize the speed vector to get the direction
-        } else {
-            return new Point2D[]{new Point2D(0, 0), new Point2D(0, 0.1)}; // If the length is zero, return a zero vector
-        }
+    public double getLifeTime(double distance) {
+        return distance == 0 ? 0 : PROJECTILE_LIFE_TIME; // A shell that does not move stops right away
+    }
 
-        return new Point2D[]{speedVector, new Point2D(PROJECTILE_LIFE_TIME, 0)}; // Return the normalized speed vector
+    @Override
+    public double getActivationTime(double distance) {
+        return distance == 0 ? 0.1 : 0;
     }
 
 
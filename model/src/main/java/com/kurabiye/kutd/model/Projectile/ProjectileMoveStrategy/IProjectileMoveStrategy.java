@@ -1,14 +1,13 @@
 package com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy;
 
-import com.kurabiye.kutd.model.Coordinates.Point2D;
-
 public interface IProjectileMoveStrategy {
     /*
-     * The first Point2D in the array is the speed vector of the projectile
-     * The second Point2D.x in the array is the gravity factor of the projectile
-     * The second Point2D.y the array is the speed of the projectile
+     * A projectile always starts towards its target with the speed of its strategy.
+     * The strategies keep no state, so one instance of each is shared by all projectiles.
+     * The distance is the distance from the starting point to the target point.
      */
-    Point2D[] getSpeedVector(Point2D startingPoint, Point2D targetPoint, float gravity); // Method to calculate the angle of the projectile's trajectory
+    double getLifeTime(double distance); // Method to get how long the projectile flies before it stops
+    double getActivationTime(double distance); // Method to get when the projectile becomes active
     float getGravityFactor(); // Method to get the gravity factor of the projectile's trajectory
     float getSpeed(); // Method to get the speed of the projectile's trajectory at the rooute
 
@@ -1,6 +1,5 @@
 package com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy;
 
-import com.kurabiye.kutd.model.Coordinates.Point2D;
 
 public class MagicProjectileMoveStrategy implements IProjectileMoveStrategy {
 
@@ -30,21 +29,16 @@ public class MagicProjectileMoveStrategy implements IProjectileMoveStrategy {
 
 
     @Override
-    public Point2D[] getSpeedVector(Point2D startingPoint, Point2D targetPoint, float gravity) {
-        // Calculate the speed vector from the starting point to the target point
-        Point2D speedVector = targetPoint.subtract(startingPoint);
-        
-        // Get the length of the speed vector
-        double length = speedVector.magnitude();
-
-        if (length > 0) {
-            // Normalize the speed vector to get the direction
-            speedVector = speedVector.normalize();
-        } else {
-            return new Point2D[]{new Point2D(0, 0), new Point2D(PROJECTILE_LIFE_TIME, 0.1)}; // If the length is zero, return a zero vector
+    public double getLifeTime(double distance) {
+        if (distance == 0) {
+            return PROJECTILE_LIFE_TIME; // A projectile that does not move
         }
+        return distance / speed; // Time to reach the target
+    }
 
-        return new Point2D[]{speedVector, new Point2D(length/speed, gravity)}; // Return the normalized speed vector
+    @Override
+    public double getActivationTime(double distance) {
+        return distance == 0 ? 0.1 : getGravityFactor(); // The gravity factor of magic is 0, so it is active right away
     }
 
     @Override
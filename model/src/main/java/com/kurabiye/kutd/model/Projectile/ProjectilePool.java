@@ -0,0 +1,82 @@
+package com.kurabiye.kutd.model.Projectile;
+
+/* ProjectilePool.java
+ * This class keeps projectiles that left the match so the next shots can reuse them
+ * instead of creating new objects. The pool is bounded; projectiles released while it
+ * is full are left to the garbage collector.
+ *
+ * A projectile is released explicitly when it is removed from the match, and it is
+ * marked DEAD at that moment. Releasing the same projectile twice has no effect.
+ * The pool is meant to be used by the game thread only.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProjectilePool {
+
+    public static final int DEFAULT_CAPACITY = 256; // Enough for every projectile in the air in a busy wave
+
+    private final Projectile[] freeProjectiles; // Released projectiles ready to be reused
+    private int freeCount = 0; // Number of projectiles in the pool
+
+    private long createdCount = 0; // Number of projectiles the pool could not provide
+    private long reusedCount = 0; // Number of projectiles provided by the pool
+
+    /**
+     * Creates an empty pool.
+     * @param capacity The maximum number of projectiles the pool keeps
+     */
+    public ProjectilePool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive");
+        }
+        this.freeProjectiles = new Projectile[capacity];
+    }
+
+    /**
+     * Takes a projectile from the pool.
+     * @return A released projectile, or null if the pool is empty and a new one must be created
+     */
+    Projectile acquire() {
+        if (freeCount == 0) {
+            createdCount++;
+            return null;
+        }
+        reusedCount++;
+        Projectile projectile = freeProjectiles[--freeCount];
+        freeProjectiles[freeCount] = null;
+        return projectile;
+    }
+
+    /**
+     * Gives a projectile back to the pool. The projectile must not be used by the match anymore.
+     * @param projectile The projectile to release
+     */
+    public void release(Projectile projectile) {
+        if (projectile == null || projectile.isPooled()) {
+            return; // Already released
+        }
+        projectile.setProjectileState(ProjectileState.DEAD); // A released projectile is dead for everybody still holding it
+        projectile.setPooled(true);
+        if (freeCount < freeProjectiles.length) {
+            freeProjectiles[freeCount++] = projectile;
+        }
+    }
+
+    public int getFreeCount() {
+        return freeCount; // Number of projectiles waiting in the pool
+    }
+
+    public int getCapacity() {
+        return freeProjectiles.length;
+    }
+
+    public long getCreatedCount() {
+        return createdCount; // Shots that needed a new projectile
+    }
+
+    public long getReusedCount() {
+        return reusedCount; // Shots that reused a released projectile
+    }
+}
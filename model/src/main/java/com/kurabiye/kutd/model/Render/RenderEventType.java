@@ -0,0 +1,26 @@
+package com.kurabiye.kutd.model.Render;
+
+/* RenderEventType.java
+ * This enum lists the one time events the simulation reports to the view.
+ * Unlike the positions in a render frame, these happen only once,
+ * so the view must see every one of them even if it skips frames.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum RenderEventType {
+    ENEMY_DIED, // An enemy was killed, the subtype is the ordinal of its EnemyType
+    EXPLOSION, // An artillery shell exploded
+    GOLD_BAG_SPAWNED; // A gold bag was dropped
+
+    private static final RenderEventType[] VALUES = values(); // Cached, values() copies the array on every call
+
+    /**
+     * @param ordinal the ordinal stored in a render frame
+     * @return the event type with the given ordinal
+     */
+    public static RenderEventType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,265 @@
+package com.kurabiye.kutd.model.Render;
+
+import java.util.Arrays;
+
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Projectile.ProjectileState;
+import com.kurabiye.kutd.model.Projectile.ProjectileType;
+
+/* RenderFrame.java
+ * This class is a copy of everything the game view draws, taken at the end of a game loop frame.
+ * The data is kept in primitive arrays, one array per field, and only the first count entries are valid.
+ * The arrays grow when needed and are reused, so filling a frame does not create objects.
+ *
+ * A frame is filled by the game thread and read by the JavaFX thread. RenderFrameBuffer makes sure
+ * the two threads never use the same frame at the same time, so a frame the view holds does not change.
+ * The getters return the arrays themselves, they must not be changed by the view.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RenderFrame {
+
+    // Bits of the enemy flags
+    public static final int FLAG_FACING_LEFT = 1; // The enemy moves to the left, the sprite is flipped
+    public static final int FLAG_SLOWED = 1 << 1; // The enemy is slowed down by a magic projectile
+    public static final int FLAG_SYNERGETIC = 1 << 2; // The knight moves with the goblins around it
+
+    private static final int INITIAL_CAPACITY = 16; // Capacity of the arrays of a new frame
+
+    private static final EnemyType[] ENEMY_TYPES = EnemyType.values();
+    private static final ProjectileType[] PROJECTILE_TYPES = ProjectileType.values();
+    private static final ProjectileState[] PROJECTILE_STATES = ProjectileState.values();
+
+    private volatile long sequence; // Number of the publish that made this frame visible, 0 if never published
+    private long tick; // Simulation tick the frame was taken at
+    private double interpolationAlpha; // Interpolation alpha of the game loop frame
+
+    // Enemies
+    private int enemyCount;
+    private double[] enemyX = new double[INITIAL_CAPACITY];
+    private double[] enemyY = new double[INITIAL_CAPACITY];
+    private float[] enemyHealth = new float[INITIAL_CAPACITY];
+    private byte[] enemyType = new byte[INITIAL_CAPACITY]; // Ordinal of the EnemyType
+    private byte[] enemyFlags = new byte[INITIAL_CAPACITY]; // FLAG_ bits
+
+    // Projectiles
+    private int projectileCount;
+    private double[] projectileX = new double[INITIAL_CAPACITY];
+    private double[] projectileY = new double[INITIAL_CAPACITY];
+    private double[] projectileAngle = new double[INITIAL_CAPACITY]; // Direction of flight in radians
+    private byte[] projectileType = new byte[INITIAL_CAPACITY]; // Ordinal of the ProjectileType
+    private byte[] projectileLevel = new byte[INITIAL_CAPACITY];
+    private byte[] projectileState = new byte[INITIAL_CAPACITY]; // Ordinal of the ProjectileState
+
+    // Gold bags that are still on the map
+    private int goldBagCount;
+    private double[] goldBagX = new double[INITIAL_CAPACITY];
+    private double[] goldBagY = new double[INITIAL_CAPACITY];
+    private int[] goldBagAmount = new int[INITIAL_CAPACITY];
+
+    // The latest one time events, oldest first, see RenderFrameBuffer
+    private int eventCount;
+    private long[] eventSequence = new long[INITIAL_CAPACITY]; // Increasing number of the event
+    private byte[] eventType = new byte[INITIAL_CAPACITY]; // Ordinal of the RenderEventType
+    private byte[] eventSubtype = new byte[INITIAL_CAPACITY]; // Meaning depends on the event type, -1 if unused
+    private double[] eventX = new double[INITIAL_CAPACITY];
+    private double[] eventY = new double[INITIAL_CAPACITY];
+
+    RenderFrame() {
+        // Frames are only created by RenderFrameBuffer
+    }
+
+    // Writer methods, only called by the game thread while it owns the frame
+
+    void reset(long tick, double interpolationAlpha) {
+        this.tick = tick;
+        this.interpolationAlpha = interpolationAlpha;
+        enemyCount = 0;
+        projectileCount = 0;
+        goldBagCount = 0;
+        eventCount = 0;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void addEnemy(double x, double y, float health, EnemyType type, int flags) {
+        if (enemyCount == enemyX.length) {
+            int capacity = enemyCount * 2;
+            enemyX = Arrays.copyOf(enemyX, capacity);
+            enemyY = Arrays.copyOf(enemyY, capacity);
+            enemyHealth = Arrays.copyOf(enemyHealth, capacity);
+            enemyType = Arrays.copyOf(enemyType, capacity);
+            enemyFlags = Arrays.copyOf(enemyFlags, capacity);
+        }
+        enemyX[enemyCount] = x;
+        enemyY[enemyCount] = y;
+        enemyHealth[enemyCount] = health;
+        enemyType[enemyCount] = (byte) type.ordinal();
+        enemyFlags[enemyCount] = (byte) flags;
+        enemyCount++;
+    }
+
+    void addProjectile(double x, double y, double angle, ProjectileType type, int level, ProjectileState state) {
+        if (projectileCount == projectileX.length) {
+            int capacity = projectileCount * 2;
+            projectileX = Arrays.copyOf(projectileX, capacity);
+            projectileY = Arrays.copyOf(projectileY, capacity);
+            projectileAngle = Arrays.copyOf(projectileAngle, capacity);
+            projectileType = Arrays.copyOf(projectileType, capacity);
+            projectileLevel = Arrays.copyOf(projectileLevel, capacity);
+            projectileState = Arrays.copyOf(projectileState, capacity);
+        }
+        projectileX[projectileCount] = x;
+        projectileY[projectileCount] = y;
+        projectileAngle[projectileCount] = angle;
+        projectileType[projectileCount] = (byte) type.ordinal();
+        projectileLevel[projectileCount] = (byte) level;
+        projectileState[projectileCount] = (byte) state.ordinal();
+        projectileCount++;
+    }
+
+    void addGoldBag(double x, double y, int amount) {
+        if (goldBagCount == goldBagX.length) {
+            int capacity = goldBagCount * 2;
+            goldBagX = Arrays.copyOf(goldBagX, capacity);
+            goldBagY = Arrays.copyOf(goldBagY, capacity);
+            goldBagAmount = Arrays.copyOf(goldBagAmount, capacity);
+        }
+        goldBagX[goldBagCount] = x;
+        goldBagY[goldBagCount] = y;
+        goldBagAmount[goldBagCount] = amount;
+        goldBagCount++;
+    }
+
+    void addEvent(long sequence, int type, int subtype, double x, double y) {
+        if (eventCount == eventX.length) {
+            int capacity = eventCount * 2;
+            eventSequence = Arrays.copyOf(eventSequence, capacity);
+            eventType = Arrays.copyOf(eventType, capacity);
+            eventSubtype = Arrays.copyOf(eventSubtype, capacity);
+            eventX = Arrays.copyOf(eventX, capacity);
+            eventY = Arrays.copyOf(eventY, capacity);
+        }
+        eventSequence[eventCount] = sequence;
+        eventType[eventCount] = (byte) type;
+        eventSubtype[eventCount] = (byte) subtype;
+        eventX[eventCount] = x;
+        eventY[eventCount] = y;
+        eventCount++;
+    }
+
+    // Reader methods
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public double getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    public double[] getEnemyX() {
+        return enemyX;
+    }
+
+    public double[] getEnemyY() {
+        return enemyY;
+    }
+
+    public float[] getEnemyHealth() {
+        return enemyHealth;
+    }
+
+    public EnemyType getEnemyType(int index) {
+        return ENEMY_TYPES[enemyType[index]];
+    }
+
+    /**
+     * @param index the index of the enemy in this frame
+     * @param flag one of the FLAG_ constants
+     * @return true if the enemy has the flag
+     */
+    public boolean hasEnemyFlag(int index, int flag) {
+        return (enemyFlags[index] & flag) != 0;
+    }
+
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    public double[] getProjectileX() {
+        return projectileX;
+    }
+
+    public double[] getProjectileY() {
+        return projectileY;
+    }
+
+    public double[] getProjectileAngle() {
+        return projectileAngle;
+    }
+
+    public ProjectileType getProjectileType(int index) {
+        return PROJECTILE_TYPES[projectileType[index]];
+    }
+
+    public int getProjectileLevel(int index) {
+        return projectileLevel[index];
+    }
+
+    public ProjectileState getProjectileState(int index) {
+        return PROJECTILE_STATES[projectileState[index]];
+    }
+
+    public int getGoldBagCount() {
+        return goldBagCount;
+    }
+
+    public double[] getGoldBagX() {
+        return goldBagX;
+    }
+
+    public double[] getGoldBagY() {
+        return goldBagY;
+    }
+
+    public int[] getGoldBagAmount() {
+        return goldBagAmount;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public long getEventSequence(int index) {
+        return eventSequence[index];
+    }
+
+    public RenderEventType getEventType(int index) {
+        return RenderEventType.fromOrdinal(eventType[index]);
+    }
+
+    public int getEventSubtype(int index) {
+        return eventSubtype[index];
+    }
+
+    public double getEventX(int index) {
+        return eventX[index];
+    }
+
+    public double getEventY(int index) {
+        return eventY[index];
+    }
+}
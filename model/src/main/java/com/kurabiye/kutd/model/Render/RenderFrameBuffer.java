@@ -0,0 +1,156 @@
+package com.kurabiye.kutd.model.Render;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.kurabiye.kutd.model.Collectable.GoldBag;
+import com.kurabiye.kutd.model.Collectable.ICollectable;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Decorators.EffectTypes;
+import com.kurabiye.kutd.model.Enemy.Decorators.EnemyDecorator;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+
+/* RenderFrameBuffer.java
+ * This class hands render frames from the game thread to the JavaFX thread without locks.
+ *
+ * There are three frames. The game thread fills its back frame and publishes it by swapping it
+ * with the middle frame, which is kept in a single atomic reference. The view takes the middle frame
+ * by swapping it with the front frame it held before. Each thread only ever touches the frame it got
+ * from the swap, so neither thread waits for the other and the view never sees a half written frame.
+ * If the game thread publishes twice before the view looks, the older frame is simply overwritten.
+ *
+ * Deaths, explosions and dropped gold bags happen only once, so skipped frames must not lose them.
+ * They are numbered and kept in a window of the latest EVENT_WINDOW events, and every frame
+ * carries the whole window. The view remembers the number of the last event it handled.
+ *
+ * Only one thread may call the writer methods and only one thread may call acquire.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RenderFrameBuffer {
+
+    // Number of events carried by every frame, a view that falls further behind misses the oldest ones
+    public static final int EVENT_WINDOW = 128;
+
+    private final AtomicReference<RenderFrame> middle = new AtomicReference<>(new RenderFrame()); // Latest published frame
+
+    private RenderFrame back = new RenderFrame(); // Owned by the game thread
+
+    private RenderFrame front = new RenderFrame(); // Owned by the view
+
+    private long publishCount; // Number of frames published, the sequence of the last one
+
+    // Event window, a ring of the latest events, the event with sequence s is in slot s % EVENT_WINDOW
+    private final byte[] eventType = new byte[EVENT_WINDOW];
+    private final byte[] eventSubtype = new byte[EVENT_WINDOW];
+    private final double[] eventX = new double[EVENT_WINDOW];
+    private final double[] eventY = new double[EVENT_WINDOW];
+    private long lastEventSequence; // Sequence of the latest event, events are numbered from 1
+
+    /**
+     * Records a one time event for the view. Called by the game thread.
+     *
+     * @param type the type of the event
+     * @param subtype extra information depending on the type, -1 if unused
+     * @param x the x coordinate of the event in model space
+     * @param y the y coordinate of the event in model space
+     */
+    public void recordEvent(RenderEventType type, int subtype, double x, double y) {
+        lastEventSequence++;
+        int slot = (int) (lastEventSequence % EVENT_WINDOW);
+        eventType[slot] = (byte) type.ordinal();
+        eventSubtype[slot] = (byte) subtype;
+        eventX[slot] = x;
+        eventY[slot] = y;
+    }
+
+    /**
+     * Copies the current state of the match into the back frame and publishes it. Called by the game thread.
+     *
+     * @param tick the number of simulated ticks
+     * @param interpolationAlpha the interpolation alpha of the game loop frame
+     * @param enemies the enemies of the match, enemies that arrived are left out
+     * @param projectiles the projectiles of the match
+     * @param collectables the collectables of the match
+     */
+    public void publish(long tick, double interpolationAlpha, List<IEnemy> enemies,
+            List<IProjectile> projectiles, List<ICollectable<?>> collectables) {
+        RenderFrame frame = back;
+        frame.reset(tick, interpolationAlpha);
+
+        for (int i = 0; i < enemies.size(); i++) {
+            IEnemy enemy = enemies.get(i);
+            if (enemy.hasArrived()) {
+                continue; // Not on the map anymore
+            }
+            frame.addEnemy(enemy.getX(), enemy.getY(), enemy.getHealth(), enemy.getEnemyType(), enemyFlags(enemy));
+        }
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            IProjectile projectile = projectiles.get(i);
+            Point2D velocity = projectile.getSpeedVector();
+            frame.addProjectile(projectile.getX(), projectile.getY(), Math.atan2(velocity.getY(), velocity.getX()),
+                    projectile.getProjectileType(), projectile.getProjectileLevel(), projectile.getProjectileState());
+        }
+
+        for (int i = 0; i < collectables.size(); i++) {
+            if (!(collectables.get(i) instanceof GoldBag)) {
+                continue;
+            }
+            GoldBag goldBag = (GoldBag) collectables.get(i);
+            Point2D position = goldBag.getCoordinates();
+            frame.addGoldBag(position.getX(), position.getY(), goldBag.getItem());
+        }
+
+        // Oldest event of the window first
+        long firstEvent = Math.max(1, lastEventSequence - EVENT_WINDOW + 1);
+        for (long sequence = firstEvent; sequence <= lastEventSequence; sequence++) {
+            int slot = (int) (sequence % EVENT_WINDOW);
+            frame.addEvent(sequence, eventType[slot], eventSubtype[slot], eventX[slot], eventY[slot]);
+        }
+
+        frame.setSequence(++publishCount);
+        back = middle.getAndSet(frame); // The frame becomes visible, we get the old middle frame to write next
+    }
+
+    /**
+     * Returns the latest published frame. Called by the view.
+     * The returned frame does not change until the next call of this method.
+     *
+     * @return the latest frame, an empty frame with sequence 0 before the first publish
+     */
+    public RenderFrame acquire() {
+        // A newer frame only exists if the middle frame was published after our front frame
+        if (middle.get().getSequence() > front.getSequence()) {
+            front = middle.getAndSet(front); // Give our old frame back to the game thread
+        }
+        return front;
+    }
+
+    /**
+     * @return the number of frames published so far
+     */
+    public long getPublishCount() {
+        return publishCount;
+    }
+
+    private static int enemyFlags(IEnemy enemy) {
+        int flags = 0;
+        if (enemy.getMoveDirection().getX() < 0) {
+            flags |= RenderFrame.FLAG_FACING_LEFT;
+        }
+        if (enemy instanceof EnemyDecorator) {
+            EnemyDecorator decorator = (EnemyDecorator) enemy;
+            if (decorator.hasEffect(EffectTypes.SLOW_DOWN)) {
+                flags |= RenderFrame.FLAG_SLOWED;
+            }
+            if (decorator.hasEffect(EffectTypes.SYNERGYTIC_MOVEMENT)) {
+                flags |= RenderFrame.FLAG_SYNERGETIC;
+            }
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kurabiye.kutd.model.Simulation;
+
+/* CommandType.java
+ * This enum lists the player actions that can be scripted for a headless match
+ * or recorded from a played match.
+ * Each value maps to one of the input methods of the GameManager.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public enum CommandType {
+    BUILD_TOWER, // Build a tower on a tile
+    SELL_TOWER, // Sell the tower on a tile
+    UPGRADE_TOWER, // Upgrade the tower on a tile
+    COLLECT, // Click on a point to collect a collectable item
+    PAUSE, // Pause the match
+    RESUME, // Resume the paused match
+    SPEED_UP, // Play at double speed
+    SLOW_DOWN; // Play at normal speed
+}
@@ -0,0 +1,155 @@
+package com.kurabiye.kutd.model.Simulation;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/* SimulationCommand.java
+ * This class represents a single player action of a headless match,
+ * either scripted or recorded while the match was played.
+ * The command is applied right before the logical tick with the given number is simulated.
+ * 
+ * Tower commands use tile coordinates, collect commands use model pixel coordinates,
+ * pause and speed commands have no target.
+ * The class is immutable.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SimulationCommand {
+
+    private final long tick; // The tick before which the command is applied
+    private final CommandType commandType; // The type of the command
+    private final int tileX; // The x coordinate of the target tile
+    private final int tileY; // The y coordinate of the target tile
+    private final TowerType towerType; // The tower type for build commands, null otherwise
+    private final Point2D clickPoint; // The click position for collect commands, null otherwise
+
+    private SimulationCommand(long tick, CommandType commandType, int tileX, int tileY, TowerType towerType, Point2D clickPoint) {
+        if (tick < 0) {
+            throw new IllegalArgumentException("Tick cannot be negative"); // Commands cannot be scheduled before the match
+        }
+        this.tick = tick;
+        this.commandType = commandType;
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.towerType = towerType;
+        this.clickPoint = clickPoint;
+    }
+
+    /**
+     * Creates a command that builds a tower.
+     * @param tick The tick before which the tower is built
+     * @param tileX The x coordinate of the tile
+     * @param tileY The y coordinate of the tile
+     * @param towerType The type of the tower
+     * @return the command
+     */
+    public static SimulationCommand buildTower(long tick, int tileX, int tileY, TowerType towerType) {
+        if (towerType == null) {
+            throw new IllegalArgumentException("Tower type cannot be null"); // A build command needs a tower type
+        }
+        return new SimulationCommand(tick, CommandType.BUILD_TOWER, tileX, tileY, towerType, null);
+    }
+
+    /**
+     * Creates a command that sells a tower.
+     * @param tick The tick before which the tower is sold
+     * @param tileX The x coordinate of the tile
+     * @param tileY The y coordinate of the tile
+     * @return the command
+     */
+    public static SimulationCommand sellTower(long tick, int tileX, int tileY) {
+        return new SimulationCommand(tick, CommandType.SELL_TOWER, tileX, tileY, null, null);
+    }
+
+    /**
+     * Creates a command that upgrades a tower.
+     * @param tick The tick before which the tower is upgraded
+     * @param tileX The x coordinate of the tile
+     * @param tileY The y coordinate of the tile
+     * @return the command
+     */
+    public static SimulationCommand upgradeTower(long tick, int tileX, int tileY) {
+        return new SimulationCommand(tick, CommandType.UPGRADE_TOWER, tileX, tileY, null, null);
+    }
+
+    /**
+     * Creates a command that clicks on a point to collect an item.
+     * @param tick The tick before which the click happens
+     * @param clickPoint The clicked position in model coordinates
+     * @return the command
+     */
+    public static SimulationCommand collect(long tick, Point2D clickPoint) {
+        if (clickPoint == null) {
+            throw new IllegalArgumentException("Click point cannot be null"); // A collect command needs a position
+        }
+        return new SimulationCommand(tick, CommandType.COLLECT, -1, -1, null, clickPoint);
+    }
+
+    /**
+     * Creates a command that pauses the match.
+     * @param tick The tick before which the match is paused
+     * @return the command
+     */
+    public static SimulationCommand pause(long tick) {
+        return new SimulationCommand(tick, CommandType.PAUSE, -1, -1, null, null);
+    }
+
+    /**
+     * Creates a command that resumes the paused match.
+     * @param tick The tick before which the match is resumed
+     * @return the command
+     */
+    public static SimulationCommand resume(long tick) {
+        return new SimulationCommand(tick, CommandType.RESUME, -1, -1, null, null);
+    }
+
+    /**
+     * Creates a command that plays the match at double speed.
+     * @param tick The tick before which the speed changes
+     * @return the command
+     */
+    public static SimulationCommand speedUp(long tick) {
+        return new SimulationCommand(tick, CommandType.SPEED_UP, -1, -1, null, null);
+    }
+
+    /**
+     * Creates a command that plays the match at normal speed.
+     * @param tick The tick before which the speed changes
+     * @return the command
+     */
+    public static SimulationCommand slowDown(long tick) {
+        return new SimulationCommand(tick, CommandType.SLOW_DOWN, -1, -1, null, null);
+    }
+
+    public long getTick() {
+        return tick; // Return the tick of the command
+    }
+
+    public CommandType getCommandType() {
+        return commandType; // Return the type of the command
+    }
+
+    public int getTileX() {
+        return tileX; // Return the x coordinate of the tile
+    }
+
+    public int getTileY() {
+        return tileY; // Return the y coordinate of the tile
+    }
+
+    public TowerType getTowerType() {
+        return towerType; // Return the tower type
+    }
+
+    public Point2D getClickPoint() {
+        return clickPoint; // Return the click position
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationCommand{" + "tick=" + tick + ", type=" + commandType + ", tileX=" + tileX + ", tileY=" + tileY
+                + ", towerType=" + towerType + ", clickPoint=" + clickPoint + '}';
+    }
+}
@@ -0,0 +1,211 @@
+package com.kurabiye.kutd.model.Simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.kurabiye.kutd.model.Managers.GameContext;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Managers.GameState;
+import com.kurabiye.kutd.model.Map.GameMap;
+import com.kurabiye.kutd.model.Player.UserPreference;
+
+/* SimulationEngine.java
+ * This class runs a match without JavaFX and without the game thread.
+ * It advances the GameManager in fixed ticks as fast as the CPU allows,
+ * applies the scripted player commands at their ticks and returns a summary.
+ * 
+ * It is meant for balance checks and regression tests where many matches
+ * have to be simulated, so it never sleeps and never measures the wall clock for the simulation.
+ * It also replays recorded matches: the commands are then read one by one from the replay log,
+ * so a long session never has to be held in memory.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SimulationEngine {
+
+    // The default upper bound of simulated ticks, one hour of game time
+    public static final long DEFAULT_MAX_TICKS = 60L * 60L * GameManager.TICK_RATE;
+
+    private final GameManager gameManager; // The match being simulated
+
+    private final Iterator<SimulationCommand> commands; // Remaining commands in tick order
+
+    private SimulationCommand nextCommand; // The next command to apply, null if there is none
+
+    private long currentTick; // Number of ticks simulated so far, a paused step does not count
+
+    private int commandsApplied; // Number of commands that succeeded
+    private int commandsRejected; // Number of commands the game refused
+
+    /**
+     * Creates a headless match.
+     * The map is cloned, so the same map can be used for many matches.
+     * 
+     * @requires gameMap != null
+     * 
+     * @param gameMap The map to play on
+     * @param balanceProfile The settings to play with, or null to keep the current user preference
+     * @param commands The scripted player commands, or null for none
+     */
+    public SimulationEngine(GameMap gameMap, UserPreference balanceProfile, List<SimulationCommand> commands) {
+        this(gameMap, balanceProfile, commands, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a headless match with a known seed.
+     * Two matches with the same map, settings, commands and seed play out the same way.
+     * 
+     * @requires gameMap != null
+     * 
+     * @param gameMap The map to play on
+     * @param balanceProfile The settings to play with, or null to keep the current user preference
+     * @param commands The scripted player commands, or null for none
+     * @param seed The seed of the match
+     */
+    public SimulationEngine(GameMap gameMap, UserPreference balanceProfile, List<SimulationCommand> commands, long seed) {
+        if (gameMap == null) {
+            throw new IllegalArgumentException("Game map cannot be null"); // A match needs a map
+        }
+
+        GameContext gameContext = new GameContext(balanceProfile != null
+                ? balanceProfile // Play with the given settings
+                : UserPreference.getInstance(), seed); // Play with the settings of the application
+
+        this.gameManager = new GameManager(gameMap.clone(), gameContext); // Create the match on a private copy of the map
+
+        List<SimulationCommand> sortedCommands = new ArrayList<>(); // Copy the commands so the caller can reuse the list
+        if (commands != null) {
+            sortedCommands.addAll(commands);
+        }
+        sortedCommands.sort(Comparator.comparingLong(SimulationCommand::getTick)); // Stable sort keeps the order within a tick
+        this.commands = sortedCommands.iterator();
+        this.nextCommand = this.commands.hasNext() ? this.commands.next() : null;
+    }
+
+    /**
+     * Creates a headless run of an existing match, used to replay a recorded match.
+     * The commands are consumed as the match advances.
+     * 
+     * @requires gameManager != null, the game thread of the match is not running,
+     *           the commands are in tick order
+     * 
+     * @param gameManager The match to simulate
+     * @param commands The recorded player commands, or null for none
+     */
+    public SimulationEngine(GameManager gameManager, Iterator<SimulationCommand> commands) {
+        if (gameManager == null) {
+            throw new IllegalArgumentException("Game manager cannot be null"); // There is nothing to simulate
+        }
+        this.gameManager = gameManager;
+        this.commands = commands != null ? commands : new ArrayList<SimulationCommand>().iterator();
+        this.nextCommand = this.commands.hasNext() ? this.commands.next() : null;
+    }
+
+    /**
+     * Advances the match by one logical tick.
+     * All commands scheduled for the current tick of the match are applied before the tick is simulated.
+     * A paused match does not advance, so while it is paused the next command is applied right away.
+     * 
+     * @modifies gameManager, currentTick
+     * @return true if the match can still go on after the tick, false if it is over
+     *         or paused with no command left to resume it
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false; // Nothing to simulate anymore
+        }
+
+        applyDueCommands(); // Apply the player input of this tick
+
+        long ticksBefore = gameManager.getTickCount();
+        gameManager.step(); // Simulate the tick
+        currentTick += gameManager.getTickCount() - ticksBefore; // Nothing is simulated while paused
+
+        return !isFinished() && !(gameManager.getGameState() == GameState.PAUSED && nextCommand == null);
+    }
+
+    /**
+     * Runs the match until it is won or lost, or the tick limit is reached.
+     * A match that is paused for good stops the run as well.
+     * @param maxTicks The maximum number of ticks to simulate
+     * @return the summary of the match
+     */
+    public SimulationResult run(long maxTicks) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("Tick limit cannot be negative"); // The limit must be meaningful
+        }
+
+        long startTime = System.nanoTime(); // Only used for the report
+
+        while (currentTick < maxTicks && step()) {
+            // Keep stepping as fast as possible
+        }
+
+        return createResult(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Runs the match with the default tick limit.
+     * @return the summary of the match
+     */
+    public SimulationResult run() {
+        return run(DEFAULT_MAX_TICKS);
+    }
+
+    /**
+     * Checks whether the match is over.
+     * @return true if the game is won or lost
+     */
+    public boolean isFinished() {
+        GameState gameState = gameManager.getGameState(); // Read the state once
+        return gameState == GameState.GAME_WON || gameState == GameState.GAME_LOST;
+    }
+
+    public long getCurrentTick() {
+        return currentTick; // Return the number of simulated ticks
+    }
+
+    public GameManager getGameManager() {
+        return gameManager; // Return the simulated match for inspection
+    }
+
+    /**
+     * Applies all commands whose tick has been reached.
+     * The commands are timed by the ticks of the match, which stand still while it is paused.
+     */
+    private void applyDueCommands() {
+        while (nextCommand != null
+                && (nextCommand.getTick() <= gameManager.getTickCount() || gameManager.getGameState() == GameState.PAUSED)) {
+            if (gameManager.applyCommand(nextCommand)) { // The same path as the live input
+                commandsApplied++;
+            } else {
+                commandsRejected++;
+            }
+            nextCommand = commands.hasNext() ? commands.next() : null;
+        }
+    }
+
+    /**
+     * Builds the summary of the match in its current state.
+     * @param wallClockNanos The real time spent simulating
+     * @return the summary
+     */
+    private SimulationResult createResult(long wallClockNanos) {
+        return new SimulationResult(
+                gameManager.getGameState(),
+                currentTick,
+                currentTick * GameManager.FIXED_DELTA_TIME,
+                wallClockNanos,
+                gameManager.getPlayer().getCurrentGold(),
+                gameManager.getPlayer().getCurrentHealth(),
+                gameManager.getCurrentWaveIndex(),
+                gameManager.getCollisionManager().getKilledEnemyCount(),
+                commandsApplied,
+                commandsRejected);
+    }
+}
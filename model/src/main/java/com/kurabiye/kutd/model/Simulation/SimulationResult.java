@@ -0,0 +1,95 @@
+package com.kurabiye.kutd.model.Simulation;
+
+import com.kurabiye.kutd.model.Managers.GameState;
+
+/* SimulationResult.java
+ * This class is the summary of a headless match.
+ * It is returned by the SimulationEngine and is immutable.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SimulationResult {
+
+    private final GameState outcome; // GAME_WON, GAME_LOST or RUNNING if the tick limit was reached
+    private final long ticks; // Number of simulated ticks
+    private final double simulatedSeconds; // Simulated game time in seconds
+    private final long wallClockNanos; // Real time spent simulating
+    private final int finalGold; // Gold of the player at the end
+    private final int finalHealth; // Health of the player at the end
+    private final int waveIndex; // Index of the wave the match ended in
+    private final int enemiesKilled; // Number of enemies killed by projectiles
+    private final int commandsApplied; // Number of commands that succeeded
+    private final int commandsRejected; // Number of commands the game refused
+
+    public SimulationResult(GameState outcome, long ticks, double simulatedSeconds, long wallClockNanos,
+            int finalGold, int finalHealth, int waveIndex, int enemiesKilled, int commandsApplied, int commandsRejected) {
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.simulatedSeconds = simulatedSeconds;
+        this.wallClockNanos = wallClockNanos;
+        this.finalGold = finalGold;
+        this.finalHealth = finalHealth;
+        this.waveIndex = waveIndex;
+        this.enemiesKilled = enemiesKilled;
+        this.commandsApplied = commandsApplied;
+        this.commandsRejected = commandsRejected;
+    }
+
+    public GameState getOutcome() {
+        return outcome; // Return the outcome of the match
+    }
+
+    /**
+     * Checks whether the match ended with a win or a loss before the tick limit.
+     * @return true if the match is over
+     */
+    public boolean isFinished() {
+        return outcome == GameState.GAME_WON || outcome == GameState.GAME_LOST; // Return whether the match is over
+    }
+
+    public long getTicks() {
+        return ticks; // Return the number of simulated ticks
+    }
+
+    public double getSimulatedSeconds() {
+        return simulatedSeconds; // Return the simulated game time
+    }
+
+    public long getWallClockNanos() {
+        return wallClockNanos; // Return the real time spent
+    }
+
+    public int getFinalGold() {
+        return finalGold; // Return the gold at the end
+    }
+
+    public int getFinalHealth() {
+        return finalHealth; // Return the health at the end
+    }
+
+    public int getWaveIndex() {
+        return waveIndex; // Return the wave index at the end
+    }
+
+    public int getEnemiesKilled() {
+        return enemiesKilled; // Return the number of kills
+    }
+
+    public int getCommandsApplied() {
+        return commandsApplied; // Return the number of applied commands
+    }
+
+    public int getCommandsRejected() {
+        return commandsRejected; // Return the number of rejected commands
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{" + "outcome=" + outcome + ", ticks=" + ticks + ", simulatedSeconds=" + simulatedSeconds
+                + ", wallClockMillis=" + (wallClockNanos / 1_000_000) + ", finalGold=" + finalGold + ", finalHealth=" + finalHealth
+                + ", waveIndex=" + waveIndex + ", enemiesKilled=" + enemiesKilled + ", commandsApplied=" + commandsApplied
+                + ", commandsRejected=" + commandsRejected + '}';
+    }
+}
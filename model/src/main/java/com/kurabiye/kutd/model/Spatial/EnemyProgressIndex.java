@@ -0,0 +1,451 @@
+package com.kurabiye.kutd.model.Spatial;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+
+/* EnemyProgressIndex.java
+ * This class orders the living enemies by how far along their path they are,
+ * so a tower can find the first, the last, the strongest or the weakest enemy
+ * in its range without looking at every enemy.
+ *
+ * The enemies share a few path variants, and a tower covers different parts of
+ * every variant. So the snapshot is grouped by path (counting sort, like the
+ * spatial grid) and sorted by progress inside every group. A tower gives the
+ * progress intervals it covers on each path, the candidates of an interval are a
+ * run of the snapshot found with two binary searches, and the health of the run is
+ * answered by a segment tree. The exact range check of the tower only confirms
+ * the candidate, so a query is logarithmic per path instead of linear in the enemies.
+ *
+ * The enemies are snapshotted in reverse list order. The later enemies are mostly
+ * behind the earlier ones, so the groups are nearly sorted and the insertion sort
+ * is close to linear. Enemies with the same progress keep that order, the enemy
+ * earlier in the list counts as further along.
+ *
+ * The index is rebuilt once per tick after the enemies have moved and is meant
+ * to be used by the game thread only.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EnemyProgressIndex {
+
+    public static final int NOT_FOUND = -1; // Position returned when no enemy matches
+
+    private static final int INITIAL_CAPACITY = 64; // Initial number of enemies the arrays can hold
+
+    private IEnemy[] enemies = new IEnemy[INITIAL_CAPACITY]; // Snapshot, grouped by path and sorted by progress
+    private double[] progress = new double[INITIAL_CAPACITY]; // Path progress of every enemy in the snapshot
+    private float[] health = new float[INITIAL_CAPACITY]; // Health of every enemy in the snapshot
+    private int[] groupOf = new int[INITIAL_CAPACITY]; // Group of every enemy in list order while rebuilding
+    private IEnemy[] unsorted = new IEnemy[INITIAL_CAPACITY]; // Living enemies in reverse list order while rebuilding
+
+    private EnemyPath[] groupPaths = new EnemyPath[8]; // Path of every group
+    private int[] groupStart = new int[9]; // Start of every group in the snapshot, groupStart[groupCount] is the size
+    private int groupCount; // Number of groups
+
+    private final Map<EnemyPath, Integer> groupIds = new IdentityHashMap<>(); // Group of every path while rebuilding
+
+    private int leaves = 1; // Number of leaves of the segment trees, a power of two
+    private int[] strongestTree = new int[2]; // Position of the strongest enemy below every node
+    private int[] weakestTree = new int[2]; // Position of the weakest enemy below every node
+
+    private int size; // Number of enemies in the snapshot
+
+    /**
+     * Rebuilds the index from the current enemies. Dead enemies are left out.
+     * @param enemyList The enemies of the match
+     */
+    public void rebuild(List<IEnemy> enemyList) {
+        int count = enemyList.size();
+        ensureCapacity(count);
+        groupIds.clear();
+        groupCount = 0;
+
+        // Take the living enemies in reverse list order and give every path a group
+        int living = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            IEnemy enemy = enemyList.get(i);
+            if (enemy.isDead()) {
+                continue; // Dead enemies wait for removal and cannot be targeted
+            }
+            EnemyPath path = enemy.getMovePath();
+            Integer group = groupIds.get(path);
+            if (group == null) {
+                group = addGroup(path);
+            }
+            unsorted[living] = enemy;
+            groupOf[living] = group;
+            groupStart[group + 1]++;
+            living++;
+        }
+
+        // Turn the counts into start offsets and place the enemies, the order is kept inside every group
+        for (int group = 0; group < groupCount; group++) {
+            groupStart[group + 1] += groupStart[group];
+        }
+        int[] fill = Arrays.copyOf(groupStart, groupCount);
+        for (int i = 0; i < living; i++) {
+            int position = fill[groupOf[i]]++;
+            enemies[position] = unsorted[i];
+            progress[position] = unsorted[i].getPathProgress();
+            health[position] = unsorted[i].getHealth();
+        }
+
+        for (int group = 0; group < groupCount; group++) {
+            insertionSort(groupStart[group], groupStart[group + 1]);
+        }
+
+        // Drop references to enemies that are not in the list anymore
+        Arrays.fill(unsorted, 0, living, null);
+        if (living < size) {
+            Arrays.fill(enemies, living, size, null);
+        }
+        size = living;
+        buildTrees();
+    }
+
+    /**
+     * Finds the covered enemy that is furthest along its path.
+     * @param coverage The area the enemy must be in
+     * @return the enemy, or null if no enemy is covered
+     */
+    public IEnemy findFirst(IPathCoverage coverage) {
+        int best = NOT_FOUND;
+        for (int group = 0; group < groupCount; group++) {
+            double[] intervals = coverage.getIntervalsOn(groupPaths[group]);
+            found:
+            for (int i = intervals.length - 2; i >= 0; i -= 2) {
+                int from = lowerBound(group, intervals[i]);
+                for (int position = upperBound(group, intervals[i + 1]) - 1; position >= from; position--) {
+                    if (coverage.covers(enemies[position])) {
+                        if (best == NOT_FOUND || progress[position] > progress[best]) {
+                            best = position;
+                        }
+                        break found; // Nothing further along on this path
+                    }
+                }
+            }
+        }
+        return enemyAt(best);
+    }
+
+    /**
+     * Finds the covered enemy that is the least far along its path.
+     * @param coverage The area the enemy must be in
+     * @return the enemy, or null if no enemy is covered
+     */
+    public IEnemy findLast(IPathCoverage coverage) {
+        int best = NOT_FOUND;
+        for (int group = 0; group < groupCount; group++) {
+            double[] intervals = coverage.getIntervalsOn(groupPaths[group]);
+            found:
+            for (int i = 0; i < intervals.length; i += 2) {
+                int to = upperBound(group, intervals[i + 1]);
+                for (int position = lowerBound(group, intervals[i]); position < to; position++) {
+                    if (coverage.covers(enemies[position])) {
+                        if (best == NOT_FOUND || progress[position] < progress[best]) {
+                            best = position;
+                        }
+                        break found; // Nothing behind it on this path
+                    }
+                }
+            }
+        }
+        return enemyAt(best);
+    }
+
+    /**
+     * Finds the covered enemy with the most health, the one further along on a tie.
+     * @param coverage The area the enemy must be in
+     * @return the enemy, or null if no enemy is covered
+     */
+    public IEnemy findStrongest(IPathCoverage coverage) {
+        return enemyAt(findByHealth(coverage, strongestTree, true));
+    }
+
+    /**
+     * Finds the covered enemy with the least health, the one further along on a tie.
+     * @param coverage The area the enemy must be in
+     * @return the enemy, or null if no enemy is covered
+     */
+    public IEnemy findWeakest(IPathCoverage coverage) {
+        return enemyAt(findByHealth(coverage, weakestTree, false));
+    }
+
+    /**
+     * Adds the covered enemies to a list, grouped by path and in progress order.
+     * Used by the strategies that choose among all the enemies in range.
+     *
+     * @param coverage The area the enemies must be in
+     * @param result The list the enemies are added to
+     * @return the number of enemies added
+     */
+    public int collect(IPathCoverage coverage, List<IEnemy> result) {
+        int added = 0;
+        for (int group = 0; group < groupCount; group++) {
+            double[] intervals = coverage.getIntervalsOn(groupPaths[group]);
+            for (int i = 0; i < intervals.length; i += 2) {
+                int to = upperBound(group, intervals[i + 1]);
+                for (int position = lowerBound(group, intervals[i]); position < to; position++) {
+                    if (coverage.covers(enemies[position])) {
+                        result.add(enemies[position]);
+                        added++;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Finds the position of the first enemy of a group whose progress is at least the given value.
+     * @param group The group, between 0 and the group count
+     * @param value The path progress
+     * @return a position between the start and the end of the group
+     */
+    public int lowerBound(int group, double value) {
+        int low = groupStart[group];
+        int high = groupStart[group + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (progress[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the position of the first enemy of a group whose progress is more than the given value.
+     * @param group The group, between 0 and the group count
+     * @param value The path progress
+     * @return a position between the start and the end of the group
+     */
+    public int upperBound(int group, double value) {
+        int low = groupStart[group];
+        int high = groupStart[group + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (progress[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the strongest enemy among the positions from (inclusive) to (exclusive).
+     * @return the position, or NOT_FOUND if the range is empty
+     */
+    public int strongestBetween(int from, int to) {
+        return queryTree(strongestTree, from, to, true);
+    }
+
+    /**
+     * Finds the weakest enemy among the positions from (inclusive) to (exclusive).
+     * @return the position, or NOT_FOUND if the range is empty
+     */
+    public int weakestBetween(int from, int to) {
+        return queryTree(weakestTree, from, to, false);
+    }
+
+    /**
+     * Finds the enemy furthest along among the positions from (inclusive) to (exclusive)
+     * whose health is at most the given value, such as an enemy one shot can kill.
+     * The segment tree of the weakest enemies is walked down from the right, so
+     * only the subtrees that hold such an enemy are visited.
+     *
+     * @param from The first position
+     * @param to The position after the last one
+     * @param maxHealth The health limit
+     * @return the position, or NOT_FOUND if no enemy is weak enough
+     */
+    public int lastWithHealthAtMost(int from, int to, double maxHealth) {
+        if (from >= to) {
+            return NOT_FOUND;
+        }
+        return descend(1, 0, leaves, Math.max(from, 0), Math.min(to, size), maxHealth);
+    }
+
+    public IEnemy getEnemy(int position) {
+        return enemies[position]; // Return an enemy of the snapshot
+    }
+
+    public double getProgress(int position) {
+        return progress[position]; // Return the path progress of an enemy when the index was built
+    }
+
+    public float getHealth(int position) {
+        return health[position]; // Return the health of an enemy when the index was built
+    }
+
+    public EnemyPath getGroupPath(int group) {
+        return groupPaths[group]; // Return the path of a group
+    }
+
+    public int getGroupStart(int group) {
+        return groupStart[group]; // Return the first position of a group, the end of the last group is the size
+    }
+
+    public int getGroupCount() {
+        return groupCount; // Return the number of distinct paths
+    }
+
+    public int size() {
+        return size; // Return the number of enemies in the snapshot
+    }
+
+    private int findByHealth(IPathCoverage coverage, int[] tree, boolean strongest) {
+        int best = NOT_FOUND;
+        for (int group = 0; group < groupCount; group++) {
+            double[] intervals = coverage.getIntervalsOn(groupPaths[group]);
+            for (int i = 0; i < intervals.length; i += 2) {
+                int from = lowerBound(group, intervals[i]);
+                int to = upperBound(group, intervals[i + 1]);
+                int candidate = queryTree(tree, from, to, strongest);
+                if (candidate != NOT_FOUND && !coverage.covers(enemies[candidate])) {
+                    // Only an enemy on the border of the interval can fail the exact check, so scan the run
+                    candidate = NOT_FOUND;
+                    for (int position = from; position < to; position++) {
+                        if (coverage.covers(enemies[position])) {
+                            candidate = better(candidate, position, strongest);
+                        }
+                    }
+                }
+                best = compareAcrossPaths(best, candidate, strongest);
+            }
+        }
+        return best;
+    }
+
+    // Picks the better of two enemies from different paths, progress breaks a tie
+    private int compareAcrossPaths(int first, int second, boolean strongest) {
+        if (first == NOT_FOUND || second == NOT_FOUND) {
+            return first == NOT_FOUND ? second : first;
+        }
+        if (health[first] != health[second]) {
+            return (health[second] > health[first]) == strongest ? second : first;
+        }
+        return progress[second] > progress[first] ? second : first;
+    }
+
+    // Picks the better of two positions, the later position is further along on a tie
+    private int better(int first, int second, boolean strongest) {
+        if (first == NOT_FOUND || second == NOT_FOUND) {
+            return first == NOT_FOUND ? second : first;
+        }
+        if (health[first] != health[second]) {
+            return (health[second] > health[first]) == strongest ? second : first;
+        }
+        return Math.max(first, second);
+    }
+
+    private int queryTree(int[] tree, int from, int to, boolean strongest) {
+        int best = NOT_FOUND;
+        int low = Math.max(from, 0) + leaves;
+        int high = Math.min(to, size) + leaves;
+        while (low < high) {
+            if ((low & 1) == 1) {
+                best = better(best, tree[low++], strongest);
+            }
+            if ((high & 1) == 1) {
+                best = better(best, tree[--high], strongest);
+            }
+            low >>= 1;
+            high >>= 1;
+        }
+        return best;
+    }
+
+    private int descend(int node, int nodeFrom, int nodeTo, int from, int to, double maxHealth) {
+        int weakest = weakestTree[node];
+        if (nodeTo <= from || to <= nodeFrom || weakest == NOT_FOUND || health[weakest] > maxHealth) {
+            return NOT_FOUND; // Outside the range or nobody weak enough below this node
+        }
+        if (nodeTo - nodeFrom == 1) {
+            return nodeFrom;
+        }
+        int middle = (nodeFrom + nodeTo) >>> 1;
+        int found = descend(2 * node + 1, middle, nodeTo, from, to, maxHealth); // Further along first
+        return found != NOT_FOUND ? found : descend(2 * node, nodeFrom, middle, from, to, maxHealth);
+    }
+
+    private void buildTrees() {
+        int needed = 1;
+        while (needed < size) {
+            needed <<= 1;
+        }
+        if (needed != leaves) {
+            leaves = needed;
+            strongestTree = new int[2 * leaves];
+            weakestTree = new int[2 * leaves];
+        }
+        for (int i = 0; i < leaves; i++) {
+            int leaf = i < size ? i : NOT_FOUND;
+            strongestTree[leaves + i] = leaf;
+            weakestTree[leaves + i] = leaf;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            strongestTree[node] = better(strongestTree[2 * node], strongestTree[2 * node + 1], true);
+            weakestTree[node] = better(weakestTree[2 * node], weakestTree[2 * node + 1], false);
+        }
+    }
+
+    // Stable insertion sort by progress, close to linear since the group is nearly sorted
+    private void insertionSort(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            IEnemy enemy = enemies[i];
+            double key = progress[i];
+            float enemyHealth = health[i];
+            int j = i - 1;
+            while (j >= from && progress[j] > key) {
+                enemies[j + 1] = enemies[j];
+                progress[j + 1] = progress[j];
+                health[j + 1] = health[j];
+                j--;
+            }
+            enemies[j + 1] = enemy;
+            progress[j + 1] = key;
+            health[j + 1] = enemyHealth;
+        }
+    }
+
+    private int addGroup(EnemyPath path) {
+        if (groupCount == groupPaths.length) {
+            groupPaths = Arrays.copyOf(groupPaths, groupCount * 2);
+            groupStart = Arrays.copyOf(groupStart, groupCount * 2 + 1);
+        }
+        int group = groupCount++;
+        groupPaths[group] = path;
+        groupStart[group + 1] = 0;
+        groupIds.put(path, group);
+        return group;
+    }
+
+    private IEnemy enemyAt(int position) {
+        return position == NOT_FOUND ? null : enemies[position];
+    }
+
+    private void ensureCapacity(int count) {
+        Arrays.fill(groupPaths, 0, groupCount, null); // Drop the paths of the last rebuild
+        if (count <= progress.length) {
+            return; // The arrays are large enough
+        }
+        int capacity = Math.max(count, progress.length * 2);
+        enemies = Arrays.copyOf(enemies, capacity);
+        progress = new double[capacity];
+        health = new float[capacity];
+        groupOf = new int[capacity];
+        unsorted = new IEnemy[capacity];
+    }
+}
@@ -0,0 +1,260 @@
+package com.kurabiye.kutd.model.Spatial;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+
+/* EnemySpatialGrid.java
+ * This class is a uniform grid over the 1920x1080 model space that buckets
+ * the enemies by position, so a projectile only has to look at the enemies
+ * in the cells around it instead of at every enemy on the map.
+ * 
+ * The grid is rebuilt once per tick after the enemies have moved. It keeps a
+ * snapshot of the enemy list and of their positions in parallel arrays, laid
+ * out cell by cell (counting sort), so a rebuild and a query never allocate
+ * once the arrays are large enough. Enemies outside the map are kept in the
+ * border cells.
+ * 
+ * Query results are returned as indices into the snapshot, in the order the
+ * enemies had in the list, so callers see the same order as with a linear scan.
+ * The grid is meant to be used by the game thread only.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class EnemySpatialGrid {
+
+    // Size of a cell in model pixels, half a tile keeps the hit radius queries to a few cells
+    public static final int CELL_SIZE = TilePoint2D.getTileWidth() / 2;
+
+    private static final int INITIAL_CAPACITY = 64; // Initial number of enemies the arrays can hold
+
+    private final int columns; // Number of cells along the x axis
+    private final int rows; // Number of cells along the y axis
+
+    private final int[] cellStart; // Start of every cell in cellEntries, cellStart[cells] is the total count
+    private final int[] cellFill; // Write cursor per cell while rebuilding
+
+    private IEnemy[] enemies = new IEnemy[INITIAL_CAPACITY]; // Snapshot of the enemy list
+    private double[] xs = new double[INITIAL_CAPACITY]; // X coordinate of every enemy in the snapshot
+    private double[] ys = new double[INITIAL_CAPACITY]; // Y coordinate of every enemy in the snapshot
+    private int[] cellOf = new int[INITIAL_CAPACITY]; // Cell of every enemy in the snapshot
+    private int[] cellEntries = new int[INITIAL_CAPACITY]; // Snapshot indices grouped by cell
+
+    private int size; // Number of enemies in the snapshot
+
+    private int[] queryResult = new int[INITIAL_CAPACITY]; // Result buffer of the last query
+
+    private int firstHitIndex = -1; // Snapshot index of the enemy found by the last swept query
+
+    public EnemySpatialGrid() {
+        this.columns = (TilePoint2D.MAP_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+        this.rows = (TilePoint2D.MAP_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+    }
+
+    /**
+     * Rebuilds the grid from the current enemy positions.
+     * @param enemyList The enemies of the match
+     */
+    public void rebuild(List<IEnemy> enemyList) {
+        int count = enemyList.size();
+        ensureCapacity(count);
+
+        Arrays.fill(cellStart, 0);
+
+        // Take the snapshot and count the enemies per cell
+        for (int i = 0; i < count; i++) {
+            IEnemy enemy = enemyList.get(i);
+            enemies[i] = enemy;
+            xs[i] = enemy.getX(); // Read the position without creating a point
+            ys[i] = enemy.getY();
+            int cell = cellIndex(columnOf(xs[i]), rowOf(ys[i]));
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+
+        // Turn the counts into start offsets
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+            cellFill[cell] = cellStart[cell];
+        }
+
+        // Place the enemies, the snapshot order is kept inside every cell
+        for (int i = 0; i < count; i++) {
+            cellEntries[cellFill[cellOf[i]]++] = i;
+        }
+
+        // Drop references to enemies that are not in the list anymore
+        if (count < size) {
+            Arrays.fill(enemies, count, size, null);
+        }
+        size = count;
+    }
+
+    /**
+     * Finds the living enemies whose center is closer than the radius to the given point.
+     * The result can be read with getResultEnemy until the next query.
+     * 
+     * @param x The x coordinate of the center
+     * @param y The y coordinate of the center
+     * @param radius The query radius
+     * @return the number of enemies found
+     */
+    public int queryCircle(double x, double y, double radius) {
+        if (size == 0 || radius <= 0) {
+            return 0; // Nothing can be hit
+        }
+
+        int minColumn = columnOf(x - radius);
+        int maxColumn = columnOf(x + radius);
+        int minRow = rowOf(y - radius);
+        int maxRow = rowOf(y + radius);
+
+        double radiusSquared = radius * radius;
+        int found = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int entry = cellStart[cell]; entry < cellStart[cell + 1]; entry++) {
+                    int index = cellEntries[entry];
+                    if (enemies[index].isDead()) {
+                        continue; // Dead enemies wait for removal and cannot be hit again
+                    }
+                    double dx = xs[index] - x;
+                    double dy = ys[index] - y;
+                    if (dx * dx + dy * dy < radiusSquared) { // Same test as distance < radius, without the square root
+                        queryResult[found++] = index;
+                    }
+                }
+            }
+        }
+
+        if (found > 1) {
+            Arrays.sort(queryResult, 0, found); // Report the enemies in list order
+        }
+        return found;
+    }
+
+    /**
+     * Finds the living enemy that a point moving from (x0, y0) to (x1, y1) hits first,
+     * where a hit means coming closer than the radius to the center of the enemy.
+     * Only the cells around the segment are visited. Ties are resolved in list order.
+     * The enemy can be read with getFirstHitEnemy until the next swept query.
+     * 
+     * @param x0 The x coordinate at the start of the movement
+     * @param y0 The y coordinate at the start of the movement
+     * @param x1 The x coordinate at the end of the movement
+     * @param y1 The y coordinate at the end of the movement
+     * @param radius The hit radius
+     * @return the fraction of the movement at which the hit happens, or GeometryUtils.NO_HIT
+     */
+    public double querySweptFirstHit(double x0, double y0, double x1, double y1, double radius) {
+        firstHitIndex = -1;
+        if (size == 0 || radius <= 0) {
+            return GeometryUtils.NO_HIT; // Nothing can be hit
+        }
+
+        int minColumn = columnOf(Math.min(x0, x1) - radius);
+        int maxColumn = columnOf(Math.max(x0, x1) + radius);
+        int minRow = rowOf(Math.min(y0, y1) - radius);
+        int maxRow = rowOf(Math.max(y0, y1) + radius);
+
+        double earliestTime = GeometryUtils.NO_HIT;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int entry = cellStart[cell]; entry < cellStart[cell + 1]; entry++) {
+                    int index = cellEntries[entry];
+                    if (enemies[index].isDead()) {
+                        continue; // Dead enemies wait for removal and cannot be hit again
+                    }
+                    double time = GeometryUtils.segmentCircleEntryTime(x0, y0, x1, y1, xs[index], ys[index], radius);
+                    if (time == GeometryUtils.NO_HIT) {
+                        continue; // The movement misses this enemy
+                    }
+                    if (firstHitIndex < 0 || time < earliestTime || (time == earliestTime && index < firstHitIndex)) {
+                        earliestTime = time;
+                        firstHitIndex = index;
+                    }
+                }
+            }
+        }
+
+        return earliestTime;
+    }
+
+    /**
+     * Returns the enemy found by the last swept query.
+     * @return the enemy hit first, or null if nothing was hit
+     */
+    public IEnemy getFirstHitEnemy() {
+        return firstHitIndex < 0 ? null : enemies[firstHitIndex];
+    }
+
+    /**
+     * Returns the snapshot index of an enemy found by the last query.
+     * @param resultIndex The position in the result, between 0 and the query count
+     * @return the index of the enemy in the snapshot
+     */
+    public int getResultIndex(int resultIndex) {
+        return queryResult[resultIndex];
+    }
+
+    /**
+     * Returns an enemy found by the last query.
+     * @param resultIndex The position in the result, between 0 and the query count
+     * @return the enemy
+     */
+    public IEnemy getResultEnemy(int resultIndex) {
+        return enemies[queryResult[resultIndex]];
+    }
+
+    public IEnemy getEnemy(int index) {
+        return enemies[index]; // Return an enemy of the snapshot
+    }
+
+    public double getX(int index) {
+        return xs[index]; // Return the x coordinate of an enemy when the grid was built
+    }
+
+    public double getY(int index) {
+        return ys[index]; // Return the y coordinate of an enemy when the grid was built
+    }
+
+    public int size() {
+        return size; // Return the number of enemies in the snapshot
+    }
+
+    private int columnOf(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int rowOf(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+
+    private void ensureCapacity(int count) {
+        if (count <= xs.length) {
+            return; // The arrays are large enough
+        }
+        int capacity = Math.max(count, xs.length * 2);
+        enemies = Arrays.copyOf(enemies, capacity);
+        xs = new double[capacity];
+        ys = new double[capacity];
+        cellOf = new int[capacity];
+        cellEntries = new int[capacity];
+        queryResult = new int[capacity];
+    }
+}
@@ -0,0 +1,32 @@
+package com.kurabiye.kutd.model.Spatial;
+
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+
+/**
+ * IPathCoverage interface describes the part of the enemy paths an area covers,
+ * such as the range of a tower. The EnemyProgressIndex uses the intervals to find
+ * the candidates with a binary search, and the exact check to confirm them.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface IPathCoverage {
+
+    /**
+     * Returns the parts of a path inside the area, as path progress.
+     * An enemy on the path whose progress is outside the intervals must not be covered.
+     *
+     * @param path The path, or null for the enemies without a path
+     * @return the intervals as start and end pairs, in increasing order and not overlapping
+     */
+    double[] getIntervalsOn(EnemyPath path);
+
+    /**
+     * Checks an enemy exactly.
+     * @param enemy The enemy
+     * @return true if the enemy is inside the area
+     */
+    boolean covers(IEnemy enemy);
+}
@@ -4,7 +4,7 @@ package com.kurabiye.kutd.model.Timer;
  * This class is responsible for managing the game timer.
  * It is used to keep track of the time elapsed during the game.
  * It can be used to get the delta time between frames and to manage the game loop.
- * It is a singleton class, meaning that there is only one instance of this class in the game.
+ * Every match owns its own timer through its GameContext, so several matches can run in one process.
  * 
  * @author Atlas Berk Polat
  * @version 1.0
@@ -18,41 +18,15 @@ public class GameTimer {
     
     private static final double TIME_COFACTOR_MILISEC = 1000; // The time cofactor used to convert seconds to milliseconds
 
-    private double timeCoefficient = 1; // The time coefficient used to adjust the game speed
+    private static final double NANOS_PER_MILISEC = 1_000_000.0; // Used to convert the nano time to milliseconds
 
-    // Using volatile to ensure visibility across threads
-    private static volatile GameTimer instance; // Singleton instance of the GameTimer class
+    private double timeCoefficient = 1; // The time coefficient used to adjust the game speed
 
     private double lastTime; // The last time the game timer was updated
     private double deltaTime; // The time elapsed since the last update
 
-    private GameTimer() {
-        lastTime = System.currentTimeMillis(); // Initialize the last time to the current time
-    }
-
-    /**
-     * Thread-safe singleton implementation using double-checked locking
-     * @return The singleton instance of GameTimer
-     */
-    public static GameTimer getInstance() {
-        // First check (no locking)
-        if (instance == null) {
-            // Lock for thread safety
-            synchronized (GameTimer.class) {
-                // Second check (with locking)
-                if (instance == null) {
-                    instance = new GameTimer(); // Create a new instance if it doesn't exist
-                }
-            }
-        }
-        return instance; // Return the singleton instance
-    }
-
-    /**
-     * Resets the singleton instance (useful for testing)
-     */
-    public static synchronized void resetInstance() {
-        instance = null;
+    public GameTimer() {
+        lastTime = currentTimeMillis(); // Initialize the last time to the current time
     }
 
     /*
@@ -61,13 +35,22 @@ public class GameTimer {
      * 
      */
     public synchronized void update() {
-        long currentTime = System.currentTimeMillis(); // Get the current time
+        double currentTime = currentTimeMillis(); // Get the current time
         deltaTime = currentTime - lastTime; // Calculate the delta time
         lastTime = currentTime; // Update the last time to the current time
     }
 
     public synchronized void resetTimer() {
-        lastTime = System.currentTimeMillis(); // Reset the last time to the current time
+        lastTime = currentTimeMillis(); // Reset the last time to the current time
+    }
+
+    /**
+     * Returns a monotonic time stamp in milliseconds with sub-millisecond precision.
+     * The fixed-step loop accumulates these deltas, so the wall clock resolution is not enough.
+     * @return the current time in milliseconds
+     */
+    private static double currentTimeMillis() {
+        return System.nanoTime() / NANOS_PER_MILISEC; // Convert the monotonic nano time to milliseconds
     }
 
 
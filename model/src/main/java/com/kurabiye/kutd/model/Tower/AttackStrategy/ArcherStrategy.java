@@ -3,22 +3,42 @@ package com.kurabiye.kutd.model.Tower.AttackStrategy;
 import java.util.List;
 
 import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Spatial.EnemyProgressIndex;
+import com.kurabiye.kutd.model.Spatial.IPathCoverage;
 
 /**
  * ArcherStrategy class implements the IAttackStrategy interface.
  * This class defines the attack strategy for the Archer tower.
  * It extends the AttackStrategy class and provides a specific implementation for the Archer tower's attack strategy.
- * 
+ * The archer shoots the enemy in range chosen by its target priority, the first one by default.
+ *
  * @author Atlas Berk Polat
  * @version 1.0
  * @since 2025-04-25
  */
 
 public class ArcherStrategy implements IAttackStrategy {
+
+    private final TargetPriority targetPriority; // Which enemy in range is shot
+
+    public ArcherStrategy() {
+        this(TargetPriority.FIRST);
+    }
+
+    /**
+     * @param targetPriority Which enemy in range is shot
+     */
+    public ArcherStrategy(TargetPriority targetPriority) {
+        if (targetPriority == null) {
+            throw new IllegalArgumentException("Target priority cannot be null");
+        }
+        this.targetPriority = targetPriority;
+    }
+
     /**
      * findTarget method is responsible for finding the target enemy to attack.
-     * The specific implementation of the attack strategy will be provided in this method.
-     * 
+     * The enemies are compared like in the index, so both ways pick the same enemy.
+     *
      * @param enemy List of enemies to attack.
      * @return Enemy to be attacked by the tower, or null if no valid target.
      */
@@ -27,9 +47,57 @@ public class ArcherStrategy implements IAttackStrategy {
         if (enemies == null || enemies.isEmpty()) {
             return null;
         }
-        // For now, just return the first enemy in the list
-        // In a more advanced implementation, this could select the enemy closest to the end
-        // or with the lowest health, etc.
-        return enemies.get(0);
+        IEnemy best = null;
+        for (IEnemy enemy : enemies) {
+            if (best == null || isBetter(enemy, best)) {
+                best = enemy;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the target with a single query on the index.
+     *
+     * @param enemyIndex Index of the living enemies.
+     * @param range The range of the tower.
+     * @return Enemy to be attacked by the tower, or null if no valid target.
+     */
+    @Override
+    public IEnemy findTarget(EnemyProgressIndex enemyIndex, IPathCoverage range) {
+        switch (targetPriority) {
+            case FIRST:
+                return enemyIndex.findFirst(range);
+            case LAST:
+                return enemyIndex.findLast(range);
+            case STRONGEST:
+                return enemyIndex.findStrongest(range);
+            case WEAKEST:
+                return enemyIndex.findWeakest(range);
+            default:
+                throw new IllegalStateException("Invalid target priority: " + targetPriority);
+        }
+    }
+
+    public TargetPriority getTargetPriority() {
+        return targetPriority; // Return which enemy in range is shot
+    }
+
+    // A strictly better enemy replaces the current one, so ties keep the enemy earlier in the list
+    private boolean isBetter(IEnemy enemy, IEnemy current) {
+        switch (targetPriority) {
+            case FIRST:
+                return enemy.getPathProgress() > current.getPathProgress();
+            case LAST:
+                return enemy.getPathProgress() < current.getPathProgress();
+            case STRONGEST:
+                return enemy.getHealth() > current.getHealth()
+                        || (enemy.getHealth() == current.getHealth() && enemy.getPathProgress() > current.getPathProgress());
+            case WEAKEST:
+                return enemy.getHealth() < current.getHealth()
+                        || (enemy.getHealth() == current.getHealth() && enemy.getPathProgress() > current.getPathProgress());
+            default:
+                throw new IllegalStateException("Invalid target priority: " + targetPriority);
+        }
     }
 }
@@ -3,7 +3,7 @@ package com.kurabiye.kutd.model.Tower.AttackStrategy;
 import java.util.List;
 
 import com.kurabiye.kutd.model.Enemy.IEnemy;
-import com.kurabiye.kutd.model.Coordinates.Point2D; // Required for getCoordinate
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
 
 
 /**
@@ -41,14 +41,12 @@ public class ArtilleryStrategy implements IAttackStrategy {
         int maxEnemiesInCluster = 0;
 
         for (IEnemy currentEnemy : enemies) {
-            Point2D currentPosition = currentEnemy.getCoordinate();
             int enemiesInProximity = 0;
             for (IEnemy otherEnemy : enemies) {
                 if (currentEnemy == otherEnemy) {
                     continue; // Don't count self
                 }
-                Point2D otherPosition = otherEnemy.getCoordinate();
-                if (currentPosition.distance(otherPosition) <= CLUSTER_RADIUS) {
+                if (GeometryUtils.distance(currentEnemy.getX(), currentEnemy.getY(), otherEnemy.getX(), otherEnemy.getY()) <= CLUSTER_RADIUS) {
                     enemiesInProximity++;
                 }
             }
@@ -2,6 +2,10 @@ package com.kurabiye.kutd.model.Tower.AttackStrategy;
 
 
 import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Spatial.EnemyProgressIndex;
+import com.kurabiye.kutd.model.Spatial.IPathCoverage;
+
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,5 +32,21 @@ public interface IAttackStrategy {
      */
     IEnemy findTarget(List<IEnemy> enemy); 
 
+    /**
+     * Finds the target among the enemies of the index that are in range.
+     * By default the enemies in range are collected into a list for findTarget,
+     * strategies with a target priority answer with a single query instead.
+     * @param enemyIndex Index of the living enemies.
+     * @param range The range of the tower.
+     * @return Enemy to be attacked, or null if no valid target.
+     */
+    default IEnemy findTarget(EnemyProgressIndex enemyIndex, IPathCoverage range) {
+        List<IEnemy> enemiesInRange = new ArrayList<>();
+        if (enemyIndex.collect(range, enemiesInRange) == 0) {
+            return null; // No enemies in range
+        }
+        return findTarget(enemiesInRange);
+    }
+
 
 }
@@ -1,7 +1,7 @@
 package com.kurabiye.kutd.model.Tower.AttackStrategy;
 
 import java.util.List;
-import java.util.Random; // Added for random target selection
+import java.util.SplittableRandom; // Added for random target selection
 
 
 import com.kurabiye.kutd.model.Enemy.IEnemy;
@@ -18,7 +18,18 @@ import com.kurabiye.kutd.model.Enemy.IEnemy;
 
 public class MageStrategy implements IAttackStrategy {
     
-    private Random random = new Random(); // Added for random target selection
+    private final SplittableRandom random; // Added for random target selection
+
+    public MageStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param random The random stream of the match the targets are picked with
+     */
+    public MageStrategy(SplittableRandom random) {
+        this.random = random;
+    }
 
     /**
      * findTarget method is responsible for finding the target enemy to attack.
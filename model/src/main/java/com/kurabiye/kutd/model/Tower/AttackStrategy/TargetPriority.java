@@ -0,0 +1,16 @@
+package com.kurabiye.kutd.model.Tower.AttackStrategy;
+
+/**
+ * TargetPriority enum lists which enemy in range a tower prefers.
+ * Every priority is a single query on the EnemyProgressIndex.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum TargetPriority {
+    FIRST, // The enemy furthest along its path, closest to the end
+    LAST, // The enemy least far along its path
+    STRONGEST, // The enemy with the most health
+    WEAKEST // The enemy with the least health
+}
@@ -9,6 +9,7 @@ import com.kurabiye.kutd.model.Enemy.IEnemy;
 import com.kurabiye.kutd.model.Projectile.Projectile;
 
 import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.model.Spatial.EnemyProgressIndex;
 import com.kurabiye.kutd.model.Tower.AttackStrategy.IAttackStrategy;
 
 /**
@@ -29,6 +30,16 @@ public interface ITower {
      * @return Projectile created by the attack or null if no attack was performed
      */
     Projectile attack(List<IEnemy> enemies, double deltaTime);
+
+    /**
+     * Attacks enemies within range and creates a projectile.
+     * The target is found with queries on the index instead of a scan of every enemy.
+     * 
+     * @param enemyIndex Index of the living enemies, rebuilt after they moved
+     * @param deltaTime Time passed since last update
+     * @return Projectile created by the attack or null if no attack was performed
+     */
+    Projectile attack(EnemyProgressIndex enemyIndex, double deltaTime);
     
     /**
      * Gets the tower's position on the map
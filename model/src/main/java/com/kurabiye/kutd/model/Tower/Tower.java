@@ -1,16 +1,21 @@
 package com.kurabiye.kutd.model.Tower;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
 import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
 import com.kurabiye.kutd.model.Player.UserPreference;
 import com.kurabiye.kutd.model.Projectile.Projectile;
 
 import com.kurabiye.kutd.model.Projectile.ProjectileFactory;
 import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.model.Spatial.EnemyProgressIndex;
+import com.kurabiye.kutd.model.Spatial.IPathCoverage;
 import com.kurabiye.kutd.model.Tower.AttackStrategy.IAttackStrategy;
 
 
@@ -25,9 +30,17 @@ import com.kurabiye.kutd.model.Tower.AttackStrategy.IAttackStrategy;
  */
 
 
-public class Tower implements ITower{
+public class Tower implements ITower, IPathCoverage {
 
-    private static final UserPreference userPreferences = UserPreference.getInstance(); // User preferences for tower construction costs
+    private static final double RANGE_Y_SCALE = 1 / Math.sqrt((1 / 0.6f) * (1 / 0.6)); // The range is an oval, flattened along the y axis
+
+    private static final int MAX_COVERED_PATHS = 64; // Paths whose coverage is kept, enemies of old saves may each have their own path
+
+    private static final double INTERVAL_MARGIN = 1e-9; // Widens the covered parts of the paths against rounding
+
+    private static final double[] WHOLE_PATH = { 0, 1 }; // Covered part of a path that is not known
+
+    private final UserPreference userPreferences; // User preferences for tower construction costs
 
    
     private float range; // Range of the tower
@@ -40,7 +53,7 @@ public class Tower implements ITower{
 
     private double lastAttackTime; // Time of the last attack
    
-    private ProjectileFactory projectileFactory = ProjectileFactory.getInstance(); // Factory for creating projectiles
+    private final ProjectileFactory projectileFactory; // Factory for creating projectiles
 
     private ProjectileType projectileType; // Type of projectile used by the tower
 
@@ -51,8 +64,12 @@ public class Tower implements ITower{
 
     private TowerType towerType; // Type of the tower, can be used for different tower types
 
+    private final Map<EnemyPath, double[]> coverage = new IdentityHashMap<>(); // Parts of every path in range, cleared when the range moves
+
 
-    public Tower(TowerType towerType) {
+    public Tower(TowerType towerType, UserPreference userPreferences, ProjectileFactory projectileFactory) {
+        this.userPreferences = userPreferences; // Keep the settings of the match
+        this.projectileFactory = projectileFactory; // Keep the projectile factory of the match
         this.range = userPreferences.getTowerEffectiveRange()[towerType.getValue()][0]; // Set the range of the tower
         this.attackSpeed = userPreferences.getTowerRateOfFire()[towerType.getValue()][0]; // Set the attack speed of the tower
         this.towerType = towerType; // Set the type of the tower
@@ -60,6 +77,7 @@ public class Tower implements ITower{
 
     public void setTileCoordinate(TilePoint2D tileCoordinate) {
         this.tileCoordinate = tileCoordinate; // Set the tile coordinate of the tower
+        coverage.clear(); // The range covers other parts of the paths
         this.attackPoint = new Point2D(tileCoordinate.getCenter().getX(), (tileCoordinate.getCenter().getY() - TilePoint2D.getTileHeight() / 4 )); // Update the attack point of the tower
     }
 
@@ -81,6 +99,7 @@ public class Tower implements ITower{
 
     public void setRange(float range) {
         this.range = range; // Update the range of the tower
+        coverage.clear(); // The range covers other parts of the paths
     }
 
     public void setAttackSpeed(float attackSpeed) {
@@ -90,6 +109,14 @@ public class Tower implements ITower{
         return attackSpeed; // Get the attack speed of the tower
     }
 
+    public double getLastAttackTime() {
+        return lastAttackTime; // Time since the last attack
+    }
+
+    public void setLastAttackTime(double lastAttackTime) {
+        this.lastAttackTime = lastAttackTime; // Used when the tower of a saved match is put back
+    }
+
 
     /**
      *
@@ -133,6 +160,66 @@ public class Tower implements ITower{
         //try {
             IEnemy targetEnemy = attackStrategy.findTarget(filteredEnemies);
 
+            return launchAt(targetEnemy); // Shoot at the target
+        /* } catch (Exception e) {
+          
+            e.printStackTrace();
+            return null;
+        }*/
+    }
+
+    /**
+     * This method attacks the enemies within the tower's range using the enemy index.
+     * The attack strategy queries the index with the parts of the paths the tower covers.
+     * @param enemyIndex Index of the living enemies, rebuilt after they moved.
+     * @param deltaTime The time passed since the last attack.
+     * @return A Projectile object representing the attack, or null if no attack can be made.
+     */
+    @Override
+    public Projectile attack(EnemyProgressIndex enemyIndex, double deltaTime) {
+        lastAttackTime += deltaTime; // Update the last attack time
+        if (lastAttackTime < attackSpeed) {
+            return null; // Not enough time has passed to attack
+        }
+        lastAttackTime = 0; // Reset the last attack time
+
+        if (enemyIndex == null || enemyIndex.size() == 0 || attackStrategy == null) {
+            return null; // No enemies to attack
+        }
+        return launchAt(attackStrategy.findTarget(enemyIndex, this)); // Shoot at the target
+    }
+
+    /**
+     * Returns the parts of a path inside the range of the tower, computed once per path and range.
+     * @param path The path, or null for the enemies without a path
+     * @return the intervals of path progress
+     */
+    @Override
+    public double[] getIntervalsOn(EnemyPath path) {
+        if (path == null) {
+            return WHOLE_PATH; // Without a path only the exact check can tell
+        }
+        double[] intervals = coverage.get(path);
+        if (intervals == null) {
+            if (coverage.size() >= MAX_COVERED_PATHS) {
+                coverage.clear(); // Keep the cache small, the paths are computed again when needed
+            }
+            intervals = path.progressWithinEllipse(tileCoordinate.getCenter().getX(), tileCoordinate.getCenter().getY(),
+                    range, range * RANGE_Y_SCALE);
+            for (int i = 0; i < intervals.length; i++) {
+                intervals[i] += i % 2 == 0 ? -INTERVAL_MARGIN : INTERVAL_MARGIN; // Rounding must not leave out an enemy on the border
+            }
+            coverage.put(path, intervals);
+        }
+        return intervals;
+    }
+
+    @Override
+    public boolean covers(IEnemy enemy) {
+        return isInRange(enemy); // The same check as the list attack
+    }
+
+    private Projectile launchAt(IEnemy targetEnemy) {
             if (targetEnemy == null) {
                 return null; // No target found
             }
@@ -145,8 +232,9 @@ public class Tower implements ITower{
 
             // Check if the projectile's speed vector is zero
 
-            if (projectile.getSpeedVector().magnitude() == 0) {
-              
+            if (projectile.getSpeedMagnitude() == 0) {
+
+                projectileFactory.releaseProjectile(projectile); // The shot is not used
                 return null; // No attack
             }
 
@@ -165,8 +253,8 @@ public class Tower implements ITower{
         // Check if the enemy is within the range of the tower
         // calculate the distance but I want the range to be an oval rather than a circle
 
-        double xDiff = enemy.getCoordinate().getX() - tileCoordinate.getCenter().getX(); // Calculate the difference in x-coordinates
-        double yDiff = enemy.getCoordinate().getY() - tileCoordinate.getCenter().getY(); // Calculate the difference in y-coordinates
+        double xDiff = enemy.getX() - tileCoordinate.getCenter().getX(); // Calculate the difference in x-coordinates
+        double yDiff = enemy.getY() - tileCoordinate.getCenter().getY(); // Calculate the difference in y-coordinates
 
         double distance = Math.sqrt((xDiff * xDiff) + ( (1/0.6f) * (1/0.6) * (yDiff * yDiff))); // Calculate the distance using Pythagorean theorem
 
@@ -222,7 +310,7 @@ public class Tower implements ITower{
     @Override
     public int getUpgradeCost() {
         if (towerLevel < maxLevel) {
-            return UserPreference.getInstance().getTowerConstructionCost()[towerType.getValue()][towerLevel + 1]; // Get the upgrade cost for the next level
+            return userPreferences.getTowerConstructionCost()[towerType.getValue()][towerLevel + 1]; // Get the upgrade cost for the next level
             
         }
         return -1; // Return 0 if the tower is already at maximum level
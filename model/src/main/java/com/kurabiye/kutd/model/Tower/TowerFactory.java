@@ -1,7 +1,9 @@
 package com.kurabiye.kutd.model.Tower;
 
+import java.util.SplittableRandom;
 
 import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.ProjectileFactory;
 import com.kurabiye.kutd.model.Projectile.ProjectileType;
 import com.kurabiye.kutd.model.Tower.AttackStrategy.ArcherStrategy;
 import com.kurabiye.kutd.model.Tower.AttackStrategy.ArtilleryStrategy;
@@ -9,8 +11,8 @@ import com.kurabiye.kutd.model.Tower.AttackStrategy.MageStrategy;
 import com.kurabiye.kutd.util.FactoryPattern.EnumFactory;
 
 /*  TowerFactory.java
- *  This class is a singleton factory for creating different types of towers in the game.
- *  It uses the Singleton design pattern to ensure that only one instance of the factory exists.
+ *  This class is a factory for creating different types of towers in the game.
+ *  Every match has its own factory in its GameContext.
  *  The factory creates towers based on the user's preferences and the type of tower requested.
  * 
  *   Tower types include:
@@ -39,39 +41,39 @@ public class TowerFactory implements EnumFactory<Tower, TowerType> { // Implemen
 
 
 
-    // Using volatile to ensure visibility across threads
-    private static volatile TowerFactory instance = null; // Singleton instance
+    private final UserPreference userPreferences; // Settings of the match the towers belong to
 
+    private final ProjectileFactory projectileFactory; // Factory the towers use to fire
+
+    private final SplittableRandom targetRandom; // Random stream of the match for the random targets
 
     /**
-     * Thread-safe singleton implementation using double-checked locking
-     * @return The singleton instance of TowerFactory
+     * Creates a tower factory for a single match.
+     * @param userPreferences The settings used for the tower attributes
+     * @param projectileFactory The factory the created towers fire with
      * @throws IllegalStateException if UserPreference is not initialized
      */
-    public static TowerFactory getInstance() {
-        // First check (no locking)
-        if (instance == null) {
-            // Lock for thread safety
-            synchronized (TowerFactory.class) {
-                // Second check (with locking)
-                if (instance == null) {
-                    // Check if userPreferences is null before creating the instance
-                    UserPreference userPref = UserPreference.getInstance();
-                    if(userPref == null) {
-                        throw new IllegalStateException("UserPreference instance is not initialized.");
-                    }
-                    instance = new TowerFactory(); // Initialize with user preferences
-                }
-            }
-        }
-        return instance;
+    public TowerFactory(UserPreference userPreferences, ProjectileFactory projectileFactory) {
+        this(userPreferences, projectileFactory, new SplittableRandom());
     }
-    
+
     /**
-     * Resets the singleton instance (useful for testing)
+     * Creates a tower factory for a single match.
+     * @param userPreferences The settings used for the tower attributes
+     * @param projectileFactory The factory the created towers fire with
+     * @param targetRandom The random stream the mage towers pick their targets with
+     * @throws IllegalStateException if UserPreference is not initialized
      */
-    public static synchronized void resetInstance() {
-        instance = null;
+    public TowerFactory(UserPreference userPreferences, ProjectileFactory projectileFactory, SplittableRandom targetRandom) {
+        if (userPreferences == null) {
+            throw new IllegalStateException("UserPreference instance is not initialized.");
+        }
+        if (projectileFactory == null) {
+            throw new IllegalArgumentException("ProjectileFactory cannot be null"); // Towers cannot fire without it
+        }
+        this.userPreferences = userPreferences;
+        this.projectileFactory = projectileFactory;
+        this.targetRandom = targetRandom != null ? targetRandom : new SplittableRandom();
     }
 
     /**
@@ -84,13 +86,13 @@ public class TowerFactory implements EnumFactory<Tower, TowerType> { // Implemen
     @Override
     public Tower create(TowerType type) {
 
-        Tower tower = new Tower(type); // Create a new Tower object with the specified type
+        Tower tower = new Tower(type, userPreferences, projectileFactory); // Create a new Tower object with the specified type
 
          // Update the range based on the latest UserPreference values
-        tower.setRange(UserPreference.getInstance().getTowerEffectiveRange()[type.getValue()][0]);
+        tower.setRange(userPreferences.getTowerEffectiveRange()[type.getValue()][0]);
 
         // Update the attack speed based on the latest UserPreference values
-        tower.setAttackSpeed(UserPreference.getInstance().getTowerRateOfFire()[type.getValue()][0]);
+        tower.setAttackSpeed(userPreferences.getTowerRateOfFire()[type.getValue()][0]);
 
         // Set the attack strategy based on the tower type
 
@@ -100,7 +102,7 @@ public class TowerFactory implements EnumFactory<Tower, TowerType> { // Implemen
                 tower.setProjectileType(ProjectileType.ARTILLERY); // Set projectile type to ARTILLERY
                 break;
             case MAGE:
-                tower.setAttackStrategy(new MageStrategy()); // Set mage attack strategy
+                tower.setAttackStrategy(new MageStrategy(targetRandom)); // Set mage attack strategy
                 tower.setProjectileType(ProjectileType.MAGIC); // Set projectile type to MAGIC
                 break;
             case ARCHER:
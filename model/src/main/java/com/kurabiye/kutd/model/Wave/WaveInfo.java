@@ -19,18 +19,13 @@ import com.kurabiye.kutd.model.Player.UserPreference;
 public class WaveInfo {
 
 
-    private UserPreference userPreferences = UserPreference.getInstance(); // Singleton instance of UserPreference
-
-
-
     private ArrayList<ArrayList<int[]>> waveDecomposition; // Number of groups per wave // Composition of types of enemies for a given group or wave
     
     private int defaultDelayBetweenWaves; // Default delay between waves in milliseconds
     private int defaultDelayBetweenGroups; // Default delay between groups in milliseconds
     
 
-    public WaveInfo() {
-        //this.userPreferences = userPreferences; // Get the singleton instance of UserPreference
+    public WaveInfo(UserPreference userPreferences) {
 
         this.waveDecomposition = userPreferences.getWaveList(); // Get the wave decomposition from user preferences
         
@@ -26,7 +26,7 @@ public class EnemyFactoryTest {
     void setUp() {
         path = new ArrayList<>();
         path.add(new Point2D(0, 0));
-        factory = EnemyFactory.getInstance();
+        factory = new EnemyFactory(UserPreference.getInstance());
         factory.setEnemyPath(path);
     }
 
@@ -0,0 +1,117 @@
+package com.kurabiye.kutd.model.Enemy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+import com.kurabiye.kutd.model.Enemy.Store.EnemyStore;
+import com.kurabiye.kutd.model.Enemy.Store.StoredEnemy;
+import com.kurabiye.kutd.model.Player.UserPreference;
+
+/**
+ * EnemyStoreTest.java
+ * 
+ * This class contains unit tests for the EnemyStore and its StoredEnemy view.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class EnemyStoreTest {
+
+    private static ArrayList<Point2D> path() {
+        ArrayList<Point2D> path = new ArrayList<>();
+        path.add(new Point2D(0, 0));
+        path.add(new Point2D(200, 0));
+        path.add(new Point2D(200, 150));
+        return path;
+    }
+
+    /**
+     * An enemy in the store follows the path exactly like an Enemy object.
+     */
+    @Test
+    public void testMoveAll_MatchesEnemyMovement() {
+        UserPreference preferences = UserPreference.getInstance();
+        Enemy enemy = new Enemy(EnemyType.KNIGHT, preferences);
+        enemy.setMovePathWithStrategy(path(), p -> p);
+        enemy.locate(path().get(0));
+
+        EnemyStore store = new EnemyStore(preferences, 1);
+        int index = store.spawn(EnemyType.KNIGHT, store.registerPath(path()));
+
+        for (int tick = 0; tick < 2000 && !enemy.hasArrived(); tick++) {
+            enemy.move(1.0 / 120);
+            store.moveAll(1.0 / 120);
+            assertEquals(enemy.getCoordinate().getX(), store.getX(index), 1e-9);
+            assertEquals(enemy.getCoordinate().getY(), store.getY(index), 1e-9);
+        }
+        assertTrue(enemy.hasArrived());
+        assertTrue(store.view(index).hasArrived());
+    }
+
+    /**
+     * A released slot is reused, and the other enemies keep their index.
+     */
+    @Test
+    public void testRelease_ReusesSlot() {
+        EnemyStore store = new EnemyStore(UserPreference.getInstance(), 1);
+        int pathId = store.registerPath(path());
+        int first = store.spawn(EnemyType.GOBLIN, pathId);
+        int second = store.spawn(EnemyType.KNIGHT, pathId);
+
+        store.release(first);
+        int third = store.spawn(EnemyType.KNIGHT, pathId);
+
+        assertEquals(first, third, "The released slot should be reused");
+        assertEquals(EnemyType.KNIGHT, store.getType(second));
+        assertEquals(2, store.getCount());
+        assertEquals(2, store.getHighWater());
+    }
+
+    /**
+     * The view reads and writes the columns of its slot.
+     */
+    @Test
+    public void testView_WritesThroughToStore() {
+        EnemyStore store = new EnemyStore(UserPreference.getInstance());
+        int index = store.spawn(EnemyType.GOBLIN, store.registerPath(path()));
+        StoredEnemy view = store.view(index);
+
+        view.locate(new Point2D(50, 60));
+        view.setSpeed(7);
+
+        assertEquals(50.0, store.getX(index));
+        assertEquals(60.0, store.getY(index));
+        assertEquals(7, store.getSpeed(index));
+        assertEquals(0, view.getKillReward(), "A living enemy gives no gold");
+    }
+
+    /**
+     * A path is registered once, and the own path of an enemy is dropped when its last enemy leaves it.
+     */
+    @Test
+    public void testPathTable_InternsAndDropsUnusedPaths() {
+        EnemyStore store = new EnemyStore(UserPreference.getInstance());
+        EnemyPath shared = EnemyPath.of(path());
+        int sharedId = store.registerPath(shared);
+        assertEquals(sharedId, store.registerPath(shared), "The same path should get the same id");
+
+        int index = store.spawn(EnemyType.GOBLIN, sharedId);
+        StoredEnemy view = store.view(index);
+        for (int i = 0; i < 100; i++) {
+            view.setMovePathWithStrategy(path(), p -> p); // A new path every time
+        }
+        assertEquals(2, store.getPathCount(), "The paths the enemy left should be dropped");
+
+        store.release(index);
+        assertEquals(1, store.getPathCount(), "The registered path should stay without enemies");
+        assertSame(shared, store.view(store.spawn(EnemyType.KNIGHT, sharedId)).getMovePath());
+    }
+}
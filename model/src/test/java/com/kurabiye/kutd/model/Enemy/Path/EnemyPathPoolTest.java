@@ -0,0 +1,85 @@
+package com.kurabiye.kutd.model.Enemy.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyFactory;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Player.UserPreference;
+
+/**
+ * EnemyPathPoolTest.java
+ *
+ * This class contains unit tests for the path variants shared by the spawned enemies.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EnemyPathPoolTest {
+
+    private static ArrayList<Point2D> mapPath() {
+        ArrayList<Point2D> path = new ArrayList<>();
+        path.add(new Point2D(0, 100));
+        path.add(new Point2D(300, 100));
+        path.add(new Point2D(300, 400));
+        path.add(new Point2D(600, 400));
+        return path;
+    }
+
+    /**
+     * Spawning many enemies must not create new paths, the enemies share the variants of the pool.
+     */
+    @Test
+    public void testCreateEnemy_SharesTheVariants() {
+        EnemyFactory factory = new EnemyFactory(UserPreference.getInstance(), new SplittableRandom(5));
+        factory.setEnemyPath(mapPath());
+
+        for (EnemyType type : EnemyType.values()) {
+            Set<EnemyPath> variants = Collections.newSetFromMap(new IdentityHashMap<>());
+            variants.addAll(factory.getPathPool().getVariants(type));
+            Set<EnemyPath> used = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < 500; i++) {
+                Enemy enemy = factory.createEnemy(type);
+                assertTrue(variants.contains(enemy.getMovePath()), "The enemy should walk one of the variants");
+                used.add(enemy.getMovePath());
+                assertEquals(0, enemy.getX(), 1e-9, "The enemy should stand on the spawn point");
+                assertEquals(100, enemy.getY(), 1e-9);
+            }
+            assertEquals(EnemyPathPool.DEFAULT_VARIANTS_PER_TYPE, used.size(), "Every variant should be picked over many spawns");
+        }
+    }
+
+    /**
+     * The same random stream must give the same variants, so a seeded match spawns the same enemies.
+     */
+    @Test
+    public void testVariants_SameSeedSameVariants() {
+        EnemyPathPool first = new EnemyPathPool(mapPath(), new SplittableRandom(9), 4);
+        EnemyPathPool second = new EnemyPathPool(mapPath(), new SplittableRandom(9), 4);
+
+        for (EnemyType type : EnemyType.values()) {
+            List<EnemyPath> firstVariants = first.getVariants(type);
+            List<EnemyPath> secondVariants = second.getVariants(type);
+            assertEquals(4, firstVariants.size());
+            for (int i = 0; i < firstVariants.size(); i++) {
+                assertEquals(firstVariants.get(i).getPoints(), secondVariants.get(i).getPoints());
+                assertEquals(0, firstVariants.get(i).getX(0), 1e-9, "Every variant starts on the spawn point");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EnemyPathPool(mapPath(), new SplittableRandom(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new EnemyPathPool(new ArrayList<>(), new SplittableRandom(), 4));
+    }
+}
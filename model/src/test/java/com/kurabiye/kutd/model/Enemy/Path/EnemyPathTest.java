@@ -0,0 +1,151 @@
+package com.kurabiye.kutd.model.Enemy.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Player.UserPreference;
+
+/**
+ * EnemyPathTest.java
+ *
+ * This class contains unit tests for the arc length parameterized EnemyPath
+ * and the movement of the enemies along it.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EnemyPathTest {
+
+    // An L shaped path of length 350
+    private static List<Point2D> corner() {
+        List<Point2D> path = new ArrayList<>();
+        path.add(new Point2D(0, 0));
+        path.add(new Point2D(200, 0));
+        path.add(new Point2D(200, 150));
+        return path;
+    }
+
+    /**
+     * The position at a distance must lie on the segment that holds the distance.
+     */
+    @Test
+    public void testSample_PositionAndDirectionAtDistance() {
+        EnemyPath path = EnemyPath.of(corner());
+        MutableVec2 position = new MutableVec2();
+        MutableVec2 direction = new MutableVec2();
+
+        assertEquals(350, path.getLength(), 1e-9);
+
+        assertEquals(0, path.sample(50, 0, position, direction));
+        assertEquals(50, position.getX(), 1e-9);
+        assertEquals(0, position.getY(), 1e-9);
+        assertEquals(1, direction.getX(), 1e-9);
+
+        assertEquals(1, path.sample(250, 0, position, direction), "The hint is only a hint");
+        assertEquals(200, position.getX(), 1e-9);
+        assertEquals(50, position.getY(), 1e-9);
+        assertEquals(1, direction.getY(), 1e-9);
+
+        path.sample(1000, 1, position, direction);
+        assertEquals(200, position.getX(), 1e-9, "A distance past the end is clamped");
+        assertEquals(150, position.getY(), 1e-9);
+    }
+
+    /**
+     * The segment found from any hint must be the one found by the binary search.
+     */
+    @Test
+    public void testSegmentAt_HintGivesSameSegment() {
+        List<Point2D> points = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 50; i++) {
+            points.add(new Point2D(i * 20, random.nextDouble() * 40));
+        }
+        points.add(points.get(points.size() - 1)); // A segment of zero length
+        EnemyPath path = EnemyPath.of(points);
+
+        for (int i = 0; i < 1000; i++) {
+            double distance = random.nextDouble() * path.getLength();
+            int expected = path.segmentAt(distance, -1);
+            int hint = random.nextInt(path.getPointCount());
+            assertEquals(expected, path.segmentAt(distance, hint));
+            assertTrue(path.getDistanceTo(expected) <= distance && distance <= path.getDistanceTo(expected + 1));
+        }
+    }
+
+    /**
+     * A fast enemy must pass several points in one tick and stay on the path.
+     */
+    @Test
+    public void testMove_LargeStepStaysOnPath() {
+        Enemy enemy = new Enemy(EnemyType.KNIGHT, UserPreference.getInstance());
+        enemy.setMovePath(EnemyPath.of(corner()));
+        enemy.locate(corner().get(0));
+        enemy.setSpeed(300);
+
+        enemy.move(1.0); // Past the corner in a single move
+
+        assertEquals(200, enemy.getX(), 1e-9, "The enemy should not cut the corner");
+        assertEquals(100, enemy.getY(), 1e-9);
+        assertEquals(300 / 350.0, enemy.getPathProgress(), 1e-9);
+
+        enemy.move(1.0);
+        assertTrue(enemy.hasArrived());
+        assertEquals(1, enemy.getPathProgress(), 1e-9);
+    }
+
+    /**
+     * The time step must not change where the enemy ends up.
+     */
+    @Test
+    public void testMove_SameDistanceForAnyTimeStep() {
+        Enemy fine = new Enemy(EnemyType.GOBLIN, UserPreference.getInstance());
+        Enemy coarse = new Enemy(EnemyType.GOBLIN, UserPreference.getInstance());
+        fine.setMovePath(EnemyPath.of(corner()));
+        coarse.setMovePath(EnemyPath.of(corner()));
+
+        for (int i = 0; i < 120; i++) {
+            fine.move(1.0 / 120);
+        }
+        coarse.move(0.5);
+        coarse.move(0.5);
+
+        assertEquals(fine.getX(), coarse.getX(), 1e-6);
+        assertEquals(fine.getY(), coarse.getY(), 1e-6);
+    }
+
+    /**
+     * A smoothed path must pass through its points and end on the last one.
+     */
+    @Test
+    public void testSmoothed_PassesThroughThePoints() {
+        EnemyPath smooth = EnemyPath.smoothed(corner(), 8);
+
+        assertEquals(17, smooth.getPointCount());
+        assertEquals(200, smooth.getX(8), 1e-9, "Every point starts a group of samples");
+        assertEquals(0, smooth.getY(8), 1e-9);
+        assertEquals(200, smooth.getX(16), 1e-9);
+        assertEquals(150, smooth.getY(16), 1e-9);
+
+        MutableVec2 position = new MutableVec2();
+        MutableVec2 before = new MutableVec2();
+        MutableVec2 after = new MutableVec2();
+        smooth.sample(smooth.getDistanceTo(8) - 1e-6, 0, position, before);
+        smooth.sample(smooth.getDistanceTo(8) + 1e-6, 0, position, after);
+        assertTrue(before.getX() * after.getX() + before.getY() * after.getY() > 0.8, "The corner should be rounded"); // 0 on the sharp corner
+        assertThrows(IllegalArgumentException.class, () -> EnemyPath.smoothed(corner(), 0));
+        assertThrows(IllegalArgumentException.class, () -> EnemyPath.of(new ArrayList<>()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.kurabiye.kutd.model.Managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Projectile.Projectile;
+import com.kurabiye.kutd.model.Projectile.ProjectileFactory;
+import com.kurabiye.kutd.model.Projectile.ProjectileState;
+import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
+
+/**
+ * CollisionManagerTest.java
+ * 
+ * This class contains unit tests for the projectile hits of the CollisionManager.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CollisionManagerTest {
+
+    private static final double DELTA_TIME = GameManager.FIXED_DELTA_TIME;
+
+    private static final Point2D START = new Point2D(0, 0);
+    private static final Point2D TARGET = new Point2D(300, 0);
+
+    private static Enemy enemyAt(Point2D position) {
+        Enemy enemy = new Enemy(EnemyType.KNIGHT, UserPreference.getInstance());
+        enemy.locate(position);
+        return enemy;
+    }
+
+    // Moves the projectile and checks the hits like one tick of the match
+    private static void tick(CollisionManager collisionManager, DynamicArrayList<IEnemy> enemies, DynamicArrayList<IProjectile> projectiles) {
+        for (IProjectile projectile : projectiles) {
+            projectile.move(DELTA_TIME);
+        }
+        collisionManager.rebuildSpatialIndex();
+        collisionManager.calculateCollisions(DELTA_TIME);
+        enemies.removeCommit();
+        projectiles.removeCommit();
+    }
+
+    /**
+     * An arrow that reached its target stops there and does not hit the enemies that walk in later.
+     */
+    @Test
+    public void testCalculateCollisions_StoppedArrowDoesNotHitAtItsTarget() {
+        DynamicArrayList<IEnemy> enemies = new DynamicArrayList<>();
+        DynamicArrayList<IProjectile> projectiles = new DynamicArrayList<>();
+        CollisionManager collisionManager = new CollisionManager(enemies, projectiles);
+
+        Projectile arrow = new ProjectileFactory(UserPreference.getInstance()).createProjectile(ProjectileType.ARROW, START, TARGET, 0);
+        projectiles.add(arrow);
+
+        for (int i = 0; i < 200 && arrow.getProjectileState() != ProjectileState.STOPPED; i++) {
+            tick(collisionManager, enemies, projectiles);
+        }
+        assertEquals(ProjectileState.STOPPED, arrow.getProjectileState(), "The arrow should stop after its target");
+        assertEquals(TARGET.getX(), arrow.getX(), 1e-9);
+
+        Enemy enemy = enemyAt(TARGET);
+        enemies.add(enemy);
+        float health = enemy.getHealth();
+        for (int i = 0; i < 60; i++) {
+            tick(collisionManager, enemies, projectiles);
+        }
+        assertEquals(health, enemy.getHealth(), "A stopped arrow should not hit");
+        assertEquals(1, projectiles.size(), "The arrow is only removed when it expires");
+    }
+
+    /**
+     * The step that ends on the target is still checked for hits.
+     */
+    @Test
+    public void testCalculateCollisions_LastStepHitsEnemyOnTheTarget() {
+        DynamicArrayList<IEnemy> enemies = new DynamicArrayList<>();
+        DynamicArrayList<IProjectile> projectiles = new DynamicArrayList<>();
+        CollisionManager collisionManager = new CollisionManager(enemies, projectiles);
+
+        Enemy enemy = enemyAt(TARGET);
+        enemies.add(enemy);
+        float health = enemy.getHealth();
+        projectiles.add(new ProjectileFactory(UserPreference.getInstance()).createProjectile(ProjectileType.ARROW, START, TARGET, 0));
+
+        for (int i = 0; i < 200 && !projectiles.isEmpty(); i++) {
+            tick(collisionManager, enemies, projectiles);
+        }
+        assertTrue(enemy.getHealth() < health, "The arrow should hit the enemy on its target");
+        assertTrue(projectiles.isEmpty(), "The arrow is removed after the hit");
+    }
+}
@@ -0,0 +1,114 @@
+package com.kurabiye.kutd.model.Managers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Map.GameMap;
+import com.kurabiye.kutd.model.Map.StaticMap;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
+import com.kurabiye.kutd.model.Simulation.SimulationEngine;
+import com.kurabiye.kutd.model.Simulation.SimulationResult;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * MatchRandomTest.java
+ *
+ * This class contains unit tests for the seeded random streams of a match.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MatchRandomTest {
+
+    /**
+     * The same seed must give the same numbers on every stream, and the streams must differ from each other.
+     */
+    @Test
+    public void testStreams_SameSeedSameNumbers() {
+        MatchRandom first = new MatchRandom(7L);
+        MatchRandom second = new MatchRandom(7L);
+
+        for (MatchRandom.Stream stream : MatchRandom.Stream.values()) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(first.get(stream).nextLong(), second.get(stream).nextLong());
+            }
+        }
+        assertNotEquals(new MatchRandom(7L).get(MatchRandom.Stream.WAVES).nextLong(),
+                new MatchRandom(7L).get(MatchRandom.Stream.ENEMY_PATHS).nextLong(), "Every stream should have its own numbers");
+        assertNotEquals(new MatchRandom(7L).get(MatchRandom.Stream.WAVES).nextLong(),
+                new MatchRandom(8L).get(MatchRandom.Stream.WAVES).nextLong());
+    }
+
+    /**
+     * Drawing from one stream must not change the numbers of another.
+     */
+    @Test
+    public void testStreams_AreIndependent() {
+        MatchRandom busy = new MatchRandom(11L);
+        MatchRandom idle = new MatchRandom(11L);
+
+        for (int i = 0; i < 50; i++) {
+            busy.get(MatchRandom.Stream.TOWER_TARGETS).nextInt(10);
+        }
+        assertEquals(idle.get(MatchRandom.Stream.GOLD_BAGS).nextDouble(), busy.get(MatchRandom.Stream.GOLD_BAGS).nextDouble());
+    }
+
+    /**
+     * Two defended matches with the same seed and commands must play out the same way, tick by tick.
+     */
+    @Test
+    public void testMatch_SameSeedPlaysOutTheSame() {
+        GameMap map = StaticMap.getPrebuiltMap();
+        UserPreference settings = new UserPreference.Builder().build();
+        List<SimulationCommand> commands = defenceCommands(map);
+
+        SimulationEngine first = new SimulationEngine(map, settings, commands, 1234L);
+        SimulationEngine second = new SimulationEngine(map, settings, commands, 1234L);
+
+        for (int i = 0; i < 20 * GameManager.TICK_RATE; i++) {
+            first.step();
+            second.step();
+        }
+        List<IEnemy> firstEnemies = first.getGameManager().getEnemies();
+        List<IEnemy> secondEnemies = second.getGameManager().getEnemies();
+        assertTrue(firstEnemies.size() > 0, "The match should have enemies on the path");
+        assertEquals(firstEnemies.size(), secondEnemies.size());
+        for (int i = 0; i < firstEnemies.size(); i++) {
+            assertEquals(firstEnemies.get(i).getEnemyType(), secondEnemies.get(i).getEnemyType());
+            assertEquals(firstEnemies.get(i).getX(), secondEnemies.get(i).getX());
+            assertEquals(firstEnemies.get(i).getY(), secondEnemies.get(i).getY());
+        }
+
+        SimulationResult firstResult = first.run();
+        SimulationResult secondResult = second.run();
+        assertTrue(firstResult.getEnemiesKilled() > 0, "The towers should have killed enemies");
+        assertEquals(firstResult.getOutcome(), secondResult.getOutcome());
+        assertEquals(firstResult.getTicks(), secondResult.getTicks());
+        assertEquals(firstResult.getFinalGold(), secondResult.getFinalGold());
+        assertEquals(firstResult.getFinalHealth(), secondResult.getFinalHealth());
+        assertEquals(firstResult.getEnemiesKilled(), secondResult.getEnemiesKilled());
+    }
+
+    // Builds towers of every type on the first buildable tiles
+    private static List<SimulationCommand> defenceCommands(GameMap map) {
+        List<SimulationCommand> commands = new ArrayList<>();
+        TowerType[] types = { TowerType.MAGE, TowerType.ARCHER, TowerType.ARTILLERY, TowerType.MAGE };
+        for (int y = 0; y < GameMap.MAP_HEIGHT && commands.size() < types.length; y++) {
+            for (int x = 0; x < GameMap.MAP_WIDTH && commands.size() < types.length; x++) {
+                if (map.getTile(x, y).isBuildableTile()) {
+                    commands.add(SimulationCommand.buildTower(0, x, y, types[commands.size()]));
+                }
+            }
+        }
+        return commands;
+    }
+}
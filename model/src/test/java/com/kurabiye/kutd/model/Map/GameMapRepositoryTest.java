@@ -0,0 +1,103 @@
+package com.kurabiye.kutd.model.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the binary map encoding and the index of the GameMapRepository
+ * against a temporary maps directory.
+ */
+public class GameMapRepositoryTest {
+
+    private Path mapsDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mapsDir = Files.createTempDirectory("kutd-maps");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(mapsDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static GameMap namedMap(String name) {
+        GameMap map = StaticMap.getPrebuiltMap();
+        map.setName(name);
+        return map;
+    }
+
+    @Test
+    public void testCodec_RoundTrip() {
+        GameMap map = namedMap("valley");
+        byte[] data = GameMapCodec.encode(map);
+        GameMap decoded = GameMapCodec.decode(data);
+
+        assertEquals("valley", decoded.getName());
+        assertArrayEquals(map.toIntArray(), decoded.toIntArray());
+        assertEquals(map.getPointPath().size(), decoded.getPointPath().size(), "The path is rebuilt from the tiles");
+        assertEquals(4 + 1 + 2 + "valley".length() + 2 + GameMap.MAP_WIDTH * GameMap.MAP_HEIGHT + 4, data.length);
+    }
+
+    @Test
+    public void testCodec_RejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> GameMapCodec.decode(new byte[] {1, 2, 3, 4, 5}));
+        byte[] data = GameMapCodec.encode(namedMap("valley"));
+        byte[] truncated = new byte[data.length - 10];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> GameMapCodec.decode(truncated));
+    }
+
+    @Test
+    public void testRepository_ReopensFromIndexAndLoadsLazily() {
+        GameMapRepository repository = new GameMapRepository(mapsDir);
+        repository.setSaveFormat(MapFileFormat.BINARY);
+        assertTrue(repository.addGameMap(namedMap("binary")).isSuccess());
+        repository.setSaveFormat(MapFileFormat.JSON);
+        assertTrue(repository.addGameMap(namedMap("json")).isSuccess());
+
+        GameMapRepository reopened = new GameMapRepository(mapsDir);
+        assertEquals(2, reopened.getAvailableMapNames().size());
+        GameMapIndexEntry entry = reopened.getIndexEntry("binary");
+        assertNotNull(entry);
+        assertEquals("binary.kmap", entry.getFileName());
+        assertTrue(entry.isPathTile(6, 8), "The start tile is on the path");
+        assertFalse(entry.isPathTile(0, 0));
+
+        GameMap loaded = reopened.getGameMap("binary");
+        assertNotNull(loaded);
+        assertArrayEquals(StaticMap.getPrebuiltMap().toIntArray(), loaded.toIntArray());
+        assertEquals(2, reopened.loadAllMaps().size());
+    }
+
+    @Test
+    public void testRepository_DropsDeletedFilesFromIndex() throws IOException {
+        GameMapRepository repository = new GameMapRepository(mapsDir);
+        repository.addGameMap(namedMap("first"));
+        repository.addGameMap(namedMap("second"));
+        Files.delete(mapsDir.resolve("first.json"));
+
+        GameMapRepository reopened = new GameMapRepository(mapsDir);
+        assertEquals(1, reopened.getAvailableMapNames().size());
+        assertNull(reopened.getGameMap("first"));
+        assertTrue(reopened.deleteMap("second"));
+        assertTrue(reopened.getAvailableMapNames().isEmpty());
+    }
+}
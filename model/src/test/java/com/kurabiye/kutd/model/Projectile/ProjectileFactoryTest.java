@@ -0,0 +1,63 @@
+package com.kurabiye.kutd.model.Projectile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.ProjectileMoveStrategy.MagicProjectileMoveStrategy;
+
+/**
+ * ProjectileFactoryTest.java
+ * 
+ * This class contains unit tests for the projectile pooling of the ProjectileFactory.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ProjectileFactoryTest {
+
+    /**
+     * A released projectile is reused by the next shot and starts like a new one.
+     */
+    @Test
+    public void testCreateProjectile_ReusesReleasedProjectile() {
+        ProjectileFactory factory = new ProjectileFactory(UserPreference.getInstance());
+
+        Projectile first = factory.createProjectile(ProjectileType.ARROW, new Point2D(0, 0), new Point2D(100, 0), 0);
+        first.move(0.05);
+        factory.releaseProjectile(first);
+        assertEquals(ProjectileState.DEAD, first.getProjectileState(), "A released projectile is dead");
+
+        Projectile second = factory.createProjectile(ProjectileType.MAGIC, new Point2D(10, 10), new Point2D(10, 110), 1);
+
+        assertSame(first, second, "The released projectile should be reused");
+        assertEquals(ProjectileState.MOVING, second.getProjectileState());
+        assertEquals(ProjectileType.MAGIC, second.getProjectileType());
+        assertEquals(10.0, second.getX());
+        assertEquals(10.0, second.getY());
+        assertEquals(0.0, second.getSpeedVector().getX());
+        assertEquals((double) MagicProjectileMoveStrategy.speed, second.getSpeedVector().getY(), 1e-9);
+    }
+
+    /**
+     * Releasing the same projectile twice does not hand it out twice.
+     */
+    @Test
+    public void testReleaseProjectile_TwiceIsIgnored() {
+        ProjectileFactory factory = new ProjectileFactory(UserPreference.getInstance());
+
+        Projectile projectile = factory.createProjectile(ProjectileType.ARROW, new Point2D(0, 0), new Point2D(100, 0), 0);
+        factory.releaseProjectile(projectile);
+        factory.releaseProjectile(projectile);
+
+        assertEquals(1, factory.getProjectilePool().getFreeCount());
+        Projectile first = factory.createProjectile(ProjectileType.ARROW, new Point2D(0, 0), new Point2D(100, 0), 0);
+        Projectile second = factory.createProjectile(ProjectileType.ARROW, new Point2D(0, 0), new Point2D(100, 0), 0);
+        assertNotSame(first, second);
+    }
+}
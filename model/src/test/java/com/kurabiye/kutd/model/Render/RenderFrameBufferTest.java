@@ -0,0 +1,116 @@
+package com.kurabiye.kutd.model.Render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Collectable.GoldBag;
+import com.kurabiye.kutd.model.Collectable.ICollectable;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+
+/**
+ * RenderFrameBufferTest.java
+ * 
+ * This class contains unit tests for handing render frames from the game thread to the view.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class RenderFrameBufferTest {
+
+    private final List<IProjectile> noProjectiles = new ArrayList<>();
+    private final List<ICollectable<?>> noCollectables = new ArrayList<>();
+
+    /**
+     * The acquired frame keeps its data while the game thread publishes newer frames.
+     */
+    @Test
+    public void testAcquire_FrameDoesNotChangeWhileHeld() {
+        RenderFrameBuffer buffer = new RenderFrameBuffer();
+        List<IEnemy> enemies = new ArrayList<>();
+        Enemy enemy = new Enemy(EnemyType.KNIGHT, UserPreference.getInstance());
+        enemy.locate(new Point2D(100, 200));
+        enemies.add(enemy);
+
+        assertEquals(0, buffer.acquire().getSequence(), "Nothing is published yet");
+
+        buffer.publish(1, 1.0, enemies, noProjectiles, noCollectables);
+        RenderFrame held = buffer.acquire();
+        assertEquals(1, held.getSequence());
+        assertEquals(1, held.getEnemyCount());
+        assertEquals(100.0, held.getEnemyX()[0]);
+        assertEquals(EnemyType.KNIGHT, held.getEnemyType(0));
+
+        // The game thread keeps going, the held frame must not be reused for writing
+        enemy.locate(new Point2D(300, 200));
+        for (int tick = 2; tick <= 5; tick++) {
+            buffer.publish(tick, 1.0, enemies, noProjectiles, noCollectables);
+        }
+        assertEquals(1, held.getTick());
+        assertEquals(100.0, held.getEnemyX()[0]);
+
+        RenderFrame latest = buffer.acquire();
+        assertNotSame(held, latest);
+        assertEquals(5, latest.getTick());
+        assertEquals(300.0, latest.getEnemyX()[0]);
+        assertSame(latest, buffer.acquire(), "Without a new publish the same frame is returned");
+    }
+
+    /**
+     * Events recorded between frames the view skipped are still in the next frame it takes.
+     */
+    @Test
+    public void testPublish_EventsSurviveSkippedFrames() {
+        RenderFrameBuffer buffer = new RenderFrameBuffer();
+        List<IEnemy> enemies = new ArrayList<>();
+        List<ICollectable<?>> collectables = new ArrayList<>();
+        collectables.add(new GoldBag(new Point2D(50, 60), 7));
+
+        buffer.recordEvent(RenderEventType.ENEMY_DIED, EnemyType.GOBLIN.ordinal(), 10, 20);
+        buffer.publish(1, 1.0, enemies, noProjectiles, collectables);
+        buffer.recordEvent(RenderEventType.EXPLOSION, -1, 30, 40);
+        buffer.publish(2, 1.0, enemies, noProjectiles, collectables);
+
+        RenderFrame frame = buffer.acquire();
+        assertEquals(2, frame.getEventCount());
+        assertEquals(1, frame.getEventSequence(0));
+        assertEquals(RenderEventType.ENEMY_DIED, frame.getEventType(0));
+        assertEquals(EnemyType.GOBLIN.ordinal(), frame.getEventSubtype(0));
+        assertEquals(2, frame.getEventSequence(1));
+        assertEquals(RenderEventType.EXPLOSION, frame.getEventType(1));
+        assertEquals(30.0, frame.getEventX(1));
+
+        assertEquals(1, frame.getGoldBagCount());
+        assertEquals(7, frame.getGoldBagAmount()[0]);
+    }
+
+    /**
+     * Only the latest EVENT_WINDOW events are carried by a frame.
+     */
+    @Test
+    public void testPublish_EventWindowKeepsLatestEvents() {
+        RenderFrameBuffer buffer = new RenderFrameBuffer();
+        int total = RenderFrameBuffer.EVENT_WINDOW + 5;
+        for (int i = 0; i < total; i++) {
+            buffer.recordEvent(RenderEventType.EXPLOSION, -1, i, 0);
+        }
+        buffer.publish(1, 1.0, new ArrayList<>(), noProjectiles, noCollectables);
+
+        RenderFrame frame = buffer.acquire();
+        assertEquals(RenderFrameBuffer.EVENT_WINDOW, frame.getEventCount());
+        assertEquals(6, frame.getEventSequence(0), "The oldest events fell out of the window");
+        assertEquals(total, frame.getEventSequence(frame.getEventCount() - 1));
+        assertEquals((double) (total - 1), frame.getEventX(frame.getEventCount() - 1));
+    }
+}
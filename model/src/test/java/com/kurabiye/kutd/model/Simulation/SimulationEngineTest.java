@@ -0,0 +1,209 @@
+package com.kurabiye.kutd.model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Managers.GameState;
+import com.kurabiye.kutd.model.Map.GameMap;
+import com.kurabiye.kutd.model.Map.StaticMap;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * SimulationEngineTest.java
+ * 
+ * This class contains unit tests for the headless SimulationEngine.
+ * The matches are played on the prebuilt static map.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class SimulationEngineTest {
+
+    /**
+     * An undefended map must be lost once enough enemies reach the end of the path.
+     */
+    @Test
+    public void testRun_UndefendedMatchIsLost() {
+        SimulationEngine engine = new SimulationEngine(StaticMap.getPrebuiltMap(), null, null);
+
+        SimulationResult result = engine.run();
+
+        assertEquals(GameState.GAME_LOST, result.getOutcome(), "An undefended match should be lost");
+        assertTrue(result.isFinished(), "The match should be over");
+        assertEquals(result.getTicks() * GameManager.FIXED_DELTA_TIME, result.getSimulatedSeconds(), 1e-9);
+    }
+
+    /**
+     * The tick limit must stop the simulation even if the match is not over.
+     */
+    @Test
+    public void testRun_StopsAtTickLimit() {
+        SimulationEngine engine = new SimulationEngine(StaticMap.getPrebuiltMap(), null, null);
+
+        SimulationResult result = engine.run(10);
+
+        assertEquals(10, result.getTicks(), "Exactly ten ticks should be simulated");
+        assertEquals(GameState.RUNNING, result.getOutcome(), "The match should still be running");
+        assertFalse(result.isFinished());
+    }
+
+    /**
+     * Scripted commands must be applied at their tick and rejected commands must be counted.
+     */
+    @Test
+    public void testStep_AppliesCommandsAtTheirTick() {
+        GameMap map = StaticMap.getPrebuiltMap();
+        TilePoint2D buildable = map.findBuildableTile();
+
+        List<SimulationCommand> commands = List.of(
+                SimulationCommand.buildTower(5, buildable.getTileX(), buildable.getTileY(), TowerType.ARCHER),
+                SimulationCommand.buildTower(6, buildable.getTileX(), buildable.getTileY(), TowerType.ARCHER)); // Same tile twice
+
+        SimulationEngine engine = new SimulationEngine(map, null, commands);
+
+        engine.run(5);
+        assertTrue(engine.getGameManager().getTowers().isEmpty(), "No tower should exist before tick 5");
+
+        SimulationResult result = engine.run(7);
+        assertEquals(1, engine.getGameManager().getTowers().size(), "The first command should build a tower");
+        assertEquals(engine.getGameManager().getTowers(), engine.getGameManager().getPublishedTowers(),
+                "The view should get a copy of the towers");
+        assertEquals(1, result.getCommandsApplied());
+        assertEquals(1, result.getCommandsRejected(), "The second command should be rejected");
+    }
+
+    /**
+     * Commands queued from another thread must be applied by the next step, and recorded with
+     * the tick they were applied at rather than the tick they were given at.
+     */
+    @Test
+    public void testSubmitCommand_AppliedAndRecordedAtTheNextTick() {
+        GameMap map = StaticMap.getPrebuiltMap();
+        TilePoint2D buildable = map.findBuildableTile();
+
+        SimulationEngine engine = new SimulationEngine(map, null, null);
+        GameManager gameManager = engine.getGameManager();
+        List<SimulationCommand> recorded = new ArrayList<>();
+        gameManager.setCommandListener(recorded::add);
+
+        engine.run(3);
+        gameManager.submitCommand(SimulationCommand.buildTower(0, buildable.getTileX(), buildable.getTileY(), TowerType.ARCHER));
+        gameManager.submitCommand(SimulationCommand.pause(0));
+        assertTrue(gameManager.getTowers().isEmpty(), "A queued command waits for the game thread");
+
+        engine.run(10);
+        assertEquals(1, gameManager.getTowers().size(), "The queued build should be applied");
+        assertEquals(GameState.PAUSED, gameManager.getGameState());
+        assertEquals(3, gameManager.getTickCount(), "The queued pause stops the tick it was applied in");
+
+        gameManager.submitCommand(SimulationCommand.resume(0));
+        engine.step();
+        assertEquals(GameState.RUNNING, gameManager.getGameState(), "A queued resume is applied while paused");
+        assertEquals(4, gameManager.getTickCount(), "The step goes on with the tick after the resume");
+
+        assertEquals(3, recorded.size());
+        for (SimulationCommand command : recorded) {
+            assertEquals(3, command.getTick(), "Commands are recorded with the tick they were applied at");
+        }
+        assertThrows(IllegalArgumentException.class, () -> gameManager.submitCommand(null));
+    }
+
+    /**
+     * Only the ticks that advanced the match must be counted, a paused step is not a tick.
+     */
+    @Test
+    public void testRun_PausedStepsAreNotCounted() {
+        List<SimulationCommand> commands = List.of(SimulationCommand.pause(4), SimulationCommand.resume(4));
+
+        SimulationEngine engine = new SimulationEngine(StaticMap.getPrebuiltMap(), null, commands);
+        SimulationResult result = engine.run(10);
+
+        assertEquals(10, result.getTicks(), "The paused step should not count");
+        assertEquals(engine.getGameManager().getTickCount(), result.getTicks());
+        assertEquals(10 * GameManager.FIXED_DELTA_TIME, result.getSimulatedSeconds(), 1e-9);
+
+        SimulationEngine pausedForGood = new SimulationEngine(StaticMap.getPrebuiltMap(), null,
+                List.of(SimulationCommand.pause(4)));
+        result = pausedForGood.run(10);
+
+        assertEquals(4, result.getTicks(), "A match paused for good should stop the run");
+        assertEquals(GameState.PAUSED, result.getOutcome());
+    }
+
+    /**
+     * Two matches with different balance profiles must not share their settings.
+     */
+    @Test
+    public void testConstructor_BalanceProfilesAreIsolated() {
+        UserPreference rich = new UserPreference.Builder().setStartingGold(5000).build();
+        UserPreference poor = new UserPreference.Builder().setStartingGold(10).build();
+
+        SimulationEngine richEngine = new SimulationEngine(StaticMap.getPrebuiltMap(), rich, null);
+        SimulationEngine poorEngine = new SimulationEngine(StaticMap.getPrebuiltMap(), poor, null);
+
+        assertEquals(5000, richEngine.run(1).getFinalGold());
+        assertEquals(10, poorEngine.run(1).getFinalGold());
+        assertNotSame(richEngine.getGameManager().getGameTimer(), poorEngine.getGameManager().getGameTimer(),
+                "Every match should have its own timer");
+    }
+
+    /**
+     * The commands given to a match must be passed to its command listener with their tick,
+     * and replaying them must give the same match.
+     */
+    @Test
+    public void testCommandListener_RecordedCommandsReplayTheMatch() {
+        GameMap map = StaticMap.getPrebuiltMap();
+        TilePoint2D buildable = map.findBuildableTile();
+        UserPreference settings = new UserPreference.Builder().build();
+
+        SimulationEngine played = new SimulationEngine(map, settings, null);
+        List<SimulationCommand> recorded = new ArrayList<>();
+        played.getGameManager().setCommandListener(recorded::add);
+
+        played.run(3);
+        played.getGameManager().buildTower(buildable.getTileX(), buildable.getTileY(), TowerType.ARCHER);
+        played.getGameManager().pauseGame();
+        played.run(10); // Paused, the match does not advance
+        played.getGameManager().resumeGame();
+        played.getGameManager().speedUpGame();
+        played.run(13);
+        played.getGameManager().sellTower(buildable.getTileX(), buildable.getTileY());
+
+        assertEquals(5, recorded.size(), "Every command should be recorded");
+        assertEquals(CommandType.BUILD_TOWER, recorded.get(0).getCommandType());
+        assertEquals(3, recorded.get(0).getTick(), "The command is tagged with the tick it was given at");
+        assertEquals(CommandType.RESUME, recorded.get(2).getCommandType());
+        assertEquals(3, recorded.get(2).getTick(), "A paused match does not count ticks");
+        assertEquals(13, recorded.get(4).getTick());
+
+        SimulationEngine replayed = new SimulationEngine(map, settings, recorded);
+        SimulationResult result = replayed.run(14);
+
+        assertEquals(GameState.RUNNING, replayed.getGameManager().getGameState(), "The replay resumes the match");
+        assertEquals(14, replayed.getGameManager().getTickCount(), "The paused ticks are not replayed");
+        assertEquals(5, result.getCommandsApplied());
+        assertTrue(replayed.getGameManager().getTowers().isEmpty(), "The tower is built and sold again");
+        assertEquals(played.getGameManager().getPlayer().getCurrentGold(), result.getFinalGold());
+    }
+
+    /**
+     * A headless match needs a map.
+     */
+    @Test
+    public void testConstructor_NullMapThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(null, null, null));
+    }
+}
@@ -0,0 +1,162 @@
+package com.kurabiye.kutd.model.Spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.MutableVec2;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyState;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Tower.Tower;
+import com.kurabiye.kutd.model.Tower.TowerType;
+import com.kurabiye.kutd.model.Tower.AttackStrategy.ArcherStrategy;
+import com.kurabiye.kutd.model.Tower.AttackStrategy.TargetPriority;
+
+/**
+ * EnemyProgressIndexTest.java
+ *
+ * This class contains unit tests for the EnemyProgressIndex queries.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EnemyProgressIndexTest {
+
+    private static Enemy enemyOn(EnemyPath path, double distance, float health) {
+        return enemyOn(path, distance, health, EnemyState.ALIVE);
+    }
+
+    private static Enemy enemyOn(EnemyPath path, double distance, float health, EnemyState state) {
+        MutableVec2 position = new MutableVec2();
+        MutableVec2 direction = new MutableVec2(1, 0);
+        path.sample(distance, 0, position, direction);
+        Enemy enemy = new Enemy(EnemyType.GOBLIN, UserPreference.getInstance());
+        enemy.restore(health, 10, state, path, distance, position.getX(), position.getY(), direction.getX(), direction.getY());
+        return enemy;
+    }
+
+    // A path that winds through the range of the tower several times
+    private static EnemyPath windingPath(double offset) {
+        List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            double y = 200 + i * 100 + offset;
+            points.add(new Point2D(i % 2 == 0 ? 300 : 1700, y));
+            points.add(new Point2D(i % 2 == 0 ? 1700 : 300, y));
+        }
+        return EnemyPath.of(points);
+    }
+
+    private static Tower towerInTheMiddle() {
+        Tower tower = new Tower(TowerType.ARCHER, UserPreference.getInstance(), null);
+        tower.setTileCoordinate(new TilePoint2D(8, 4));
+        tower.setRange(260);
+        return tower;
+    }
+
+    /**
+     * Every priority must pick the same enemy as a scan of the enemies in range, on several shared paths.
+     */
+    @Test
+    public void testFind_SameTargetAsScanningTheEnemiesInRange() {
+        SplittableRandom random = new SplittableRandom(21);
+        EnemyPath[] paths = { windingPath(0), windingPath(-20), windingPath(25) };
+        Tower tower = towerInTheMiddle();
+        EnemyProgressIndex index = new EnemyProgressIndex();
+
+        for (int round = 0; round < 20; round++) {
+            List<IEnemy> enemies = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                EnemyPath path = paths[random.nextInt(paths.length)];
+                EnemyState state = random.nextInt(10) == 0 ? EnemyState.DEAD : EnemyState.ALIVE;
+                enemies.add(enemyOn(path, random.nextDouble() * path.getLength(), 10 * (1 + random.nextInt(5)), state));
+            }
+            index.rebuild(enemies);
+
+            List<IEnemy> inRange = new ArrayList<>();
+            for (IEnemy enemy : enemies) {
+                if (!enemy.isDead() && tower.covers(enemy)) {
+                    inRange.add(enemy);
+                }
+            }
+            assertTrue(inRange.size() > 0, "The paths should pass through the range");
+
+            List<IEnemy> collected = new ArrayList<>();
+            assertEquals(inRange.size(), index.collect(tower, collected));
+            assertEquals(paths.length, index.getGroupCount());
+            for (TargetPriority priority : TargetPriority.values()) {
+                ArcherStrategy strategy = new ArcherStrategy(priority);
+                assertSame(strategy.findTarget(inRange), strategy.findTarget(index, tower), "Priority " + priority);
+            }
+        }
+    }
+
+    /**
+     * The health query must find the enemy furthest along that is weak enough, and dead enemies are left out.
+     */
+    @Test
+    public void testLastWithHealthAtMost_FindsFurthestWeakEnemy() {
+        EnemyPath path = windingPath(0);
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyOn(path, 500, 30)); // Spawned first, furthest along
+        enemies.add(enemyOn(path, 400, 5));
+        enemies.add(enemyOn(path, 300, 50));
+        enemies.add(enemyOn(path, 200, 5));
+        enemies.add(enemyOn(path, 450, 1, EnemyState.DEAD));
+
+        EnemyProgressIndex index = new EnemyProgressIndex();
+        index.rebuild(enemies);
+
+        assertEquals(4, index.size());
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.getProgress(i - 1) <= index.getProgress(i), "The enemies should be ordered by progress");
+        }
+        assertSame(enemies.get(1), index.getEnemy(index.lastWithHealthAtMost(0, index.size(), 10)));
+        assertSame(enemies.get(3), index.getEnemy(index.lastWithHealthAtMost(0, 2, 10)));
+        assertEquals(EnemyProgressIndex.NOT_FOUND, index.lastWithHealthAtMost(0, index.size(), 4));
+        assertSame(enemies.get(2), index.getEnemy(index.strongestBetween(0, index.size())));
+        assertSame(enemies.get(1), index.getEnemy(index.weakestBetween(0, index.size())), "A tie goes to the enemy further along");
+
+        index.rebuild(new ArrayList<>());
+        assertEquals(0, index.size());
+        assertNull(index.findFirst(towerInTheMiddle()));
+    }
+
+    /**
+     * The covered parts of a path must be where the path crosses the ellipse.
+     */
+    @Test
+    public void testProgressWithinEllipse_CrossingsOfTheRange() {
+        List<Point2D> points = new ArrayList<>();
+        points.add(new Point2D(0, 0));
+        points.add(new Point2D(100, 0));
+        points.add(new Point2D(100, 100));
+        points.add(new Point2D(0, 100));
+        EnemyPath path = EnemyPath.of(points); // Length 300
+
+        double[] intervals = path.progressWithinEllipse(50, 0, 20, 10);
+        assertEquals(2, intervals.length);
+        assertEquals(30 / 300.0, intervals[0], 1e-9);
+        assertEquals(70 / 300.0, intervals[1], 1e-9);
+
+        double[] corners = path.progressWithinEllipse(100, 50, 10, 60);
+        assertEquals(2, corners.length, "The parts on both sides of a corner should be merged");
+        double halfChord = Math.sqrt(100 * (1 - 50.0 * 50.0 / (60 * 60))); // Where the ellipse crosses y = 0 and y = 100
+        assertEquals((100 - halfChord) / 300, corners[0], 1e-9);
+        assertEquals((200 + halfChord) / 300, corners[1], 1e-9);
+        assertEquals(0, path.progressWithinEllipse(500, 500, 10, 10).length);
+    }
+}
@@ -0,0 +1,138 @@
+package com.kurabiye.kutd.model.Spatial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.GeometryUtils;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Player.UserPreference;
+
+/**
+ * EnemySpatialGridTest.java
+ * 
+ * This class contains unit tests for the EnemySpatialGrid queries.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class EnemySpatialGridTest {
+
+    private static Enemy enemyAt(double x, double y) {
+        Enemy enemy = new Enemy(EnemyType.GOBLIN, UserPreference.getInstance());
+        enemy.locate(new Point2D(x, y));
+        return enemy;
+    }
+
+    /**
+     * Only the enemies inside the radius are found, in list order, even across cell borders.
+     */
+    @Test
+    public void testQueryCircle_FindsEnemiesInListOrder() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(125, 100)); // Next cell to the right
+        enemies.add(enemyAt(1000, 1000)); // Far away
+        enemies.add(enemyAt(100, 100)); // Same cell as the query
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+
+        int found = grid.queryCircle(110, 100, 40);
+
+        assertEquals(2, found);
+        assertSame(enemies.get(0), grid.getResultEnemy(0), "The result should keep the list order");
+        assertSame(enemies.get(2), grid.getResultEnemy(1));
+    }
+
+    /**
+     * The radius is exclusive, like the distance check it replaces.
+     */
+    @Test
+    public void testQueryCircle_RadiusIsExclusive() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(140, 100));
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+
+        assertEquals(0, grid.queryCircle(100, 100, 40), "An enemy exactly on the radius is not hit");
+        assertEquals(1, grid.queryCircle(100, 100, 40.001));
+    }
+
+    /**
+     * Enemies outside the map are kept in the border cells and can still be found.
+     */
+    @Test
+    public void testRebuild_EnemiesOutsideTheMapAreClamped() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(-30, 500));
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+
+        assertEquals(1, grid.queryCircle(0, 500, 40));
+    }
+
+    /**
+     * A rebuild with fewer enemies forgets the old ones.
+     */
+    @Test
+    public void testRebuild_ShrinkingListForgetsEnemies() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(100, 100));
+        enemies.add(enemyAt(100, 100));
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+        enemies.remove(1);
+        grid.rebuild(enemies);
+
+        assertEquals(1, grid.size());
+        assertEquals(1, grid.queryCircle(100, 100, 10));
+    }
+
+    /**
+     * A fast movement that jumps over an enemy in one tick still hits it.
+     */
+    @Test
+    public void testQuerySweptFirstHit_NoTunneling() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(300, 100)); // Between the start and the end of the movement
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+
+        assertEquals(0, grid.queryCircle(500, 100, 1), "The end point alone misses the enemy");
+        double hitTime = grid.querySweptFirstHit(100, 100, 500, 100, 1);
+        assertEquals(199.0 / 400.0, hitTime, 1e-9);
+        assertSame(enemies.get(0), grid.getFirstHitEnemy());
+    }
+
+    /**
+     * The enemy that is touched first along the movement is the one hit, not the first in the list.
+     */
+    @Test
+    public void testQuerySweptFirstHit_EarliestContactWins() {
+        List<IEnemy> enemies = new ArrayList<>();
+        enemies.add(enemyAt(400, 100)); // Touched later
+        enemies.add(enemyAt(200, 100)); // Touched first
+        enemies.add(enemyAt(300, 300)); // Never touched
+
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        grid.rebuild(enemies);
+
+        double hitTime = grid.querySweptFirstHit(100, 100, 500, 100, 10);
+        assertSame(enemies.get(1), grid.getFirstHitEnemy());
+        assertEquals(90.0 / 400.0, hitTime, 1e-9);
+
+        assertEquals(GeometryUtils.NO_HIT, grid.querySweptFirstHit(100, 200, 500, 200, 10), 0.0);
+    }
+}
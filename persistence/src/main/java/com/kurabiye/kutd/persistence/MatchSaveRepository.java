@@ -0,0 +1,113 @@
+package com.kurabiye.kutd.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import com.kurabiye.kutd.model.Managers.GameManager;
+
+/**
+ * MatchSaveRepository keeps the saved matches in ~/.kutd/saves, one snapshot file per save slot.
+ *
+ * A save is written to a temporary file and moved over the old one, so a crash while saving
+ * never leaves a broken save behind. The snapshots are written by MatchSnapshotCodec,
+ * which is fast enough to autosave between two waves without a visible hitch.
+ */
+public class MatchSaveRepository {
+    private static final String SAVES_DIR = System.getProperty("user.home") + "/.kutd/saves/";
+    private static final String SAVE_EXTENSION = ".ksav";
+
+    private static MatchSaveRepository instance;
+
+    private final Path savesDir; // Directory of the save files
+    private final MatchSnapshotCodec codec = new MatchSnapshotCodec(); // Keeps its buffer between saves
+
+    private MatchSaveRepository() {
+        this(Paths.get(SAVES_DIR));
+    }
+
+    // Used by the tests to keep the saves in a temporary directory
+    MatchSaveRepository(Path savesDir) {
+        this.savesDir = savesDir;
+    }
+
+    public static synchronized MatchSaveRepository getInstance() {
+        if (instance == null) {
+            instance = new MatchSaveRepository();
+        }
+        return instance;
+    }
+
+    /**
+     * Saves a match into a slot, replacing the match saved there before.
+     * The match must be paused, or this must be called from the game thread between two ticks.
+     *
+     * @param slot the name of the save slot, for example "autosave"
+     * @param match the match to save
+     * @return true if the match was saved
+     */
+    public synchronized boolean saveMatch(String slot, GameManager match) {
+        Path saveFile = slotFile(slot);
+        Path tempFile = savesDir.resolve(saveFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(savesDir);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                codec.write(match, channel);
+            }
+            Files.move(tempFile, saveFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to save match: " + e.getMessage());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // The next save overwrites it
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Loads the match saved in a slot. The match is not started.
+     *
+     * @param slot the name of the save slot
+     * @return the loaded match, or null if there is no save or it cannot be read
+     */
+    public synchronized GameManager loadMatch(String slot) {
+        Path saveFile = slotFile(slot);
+        if (!Files.exists(saveFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(saveFile, StandardOpenOption.READ)) {
+            return codec.read(channel);
+        } catch (IOException e) {
+            System.err.println("Failed to load match: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean hasSave(String slot) {
+        return Files.exists(slotFile(slot));
+    }
+
+    public synchronized boolean deleteSave(String slot) {
+        try {
+            return Files.deleteIfExists(slotFile(slot));
+        } catch (IOException e) {
+            System.err.println("Failed to delete save: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Path slotFile(String slot) {
+        if (slot == null || !slot.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Invalid save slot: " + slot); // The slot becomes a file name
+        }
+        return savesDir.resolve(slot + SAVE_EXTENSION);
+    }
+}
@@ -0,0 +1,665 @@
+package com.kurabiye.kutd.persistence;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.kurabiye.kutd.model.Collectable.GoldBag;
+import com.kurabiye.kutd.model.Collectable.ICollectable;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Enemy.Enemy;
+import com.kurabiye.kutd.model.Enemy.EnemyState;
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Decorators.AbstractEffect;
+import com.kurabiye.kutd.model.Enemy.Decorators.EffectTypes;
+import com.kurabiye.kutd.model.Enemy.Decorators.EnemyDecorator;
+import com.kurabiye.kutd.model.Enemy.Decorators.SlowDownDecorator;
+import com.kurabiye.kutd.model.Enemy.Decorators.SynergeticMoveDecorator;
+import com.kurabiye.kutd.model.Enemy.Path.EnemyPath;
+import com.kurabiye.kutd.model.Managers.GameContext;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Managers.WaveManager;
+import com.kurabiye.kutd.model.Managers.WaveManager.EnemyAttackState;
+import com.kurabiye.kutd.model.Map.GameMap;
+import com.kurabiye.kutd.model.Map.GameMapCodec;
+import com.kurabiye.kutd.model.Player.Player;
+import com.kurabiye.kutd.model.Player.PlayerState;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Projectile.Projectile;
+import com.kurabiye.kutd.model.Projectile.ProjectileState;
+import com.kurabiye.kutd.model.Projectile.ProjectileType;
+import com.kurabiye.kutd.model.Tile.Tile;
+import com.kurabiye.kutd.model.Tile.TileCodes;
+import com.kurabiye.kutd.model.Tile.TileFactory;
+import com.kurabiye.kutd.model.Tower.ITower;
+import com.kurabiye.kutd.model.Tower.Tower;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * MatchSnapshotCodec writes a running match into a compact binary snapshot and reads it back.
+ *
+ * The snapshot is written by hand into a ByteBuffer and handed to an NIO channel in one write,
+ * there is no reflection and no text, so saving or loading a busy match takes a few milliseconds,
+ * most of it spent rebuilding the map. The layout is:
+ *
+ *   int    magic "KSAV"
+ *   short  schema version
+ *   int    payload length
+ *   int    CRC32 of the payload
+ *   payload:
+ *     map          int length + the GameMapCodec encoding, with buildable tiles under the towers
+ *     settings     the gameplay settings of the match, so it is loaded with the settings it was played with
+ *     match        long seed, long tick count
+ *     player       int gold, int health, byte state
+ *     waves        byte state, int wave, int group, int enemies left, int[] group decomposition, 4 double timers
+ *     towers       int count, per tower: byte type, byte x, byte y, byte level, double time since the last attack
+ *     paths        int count, per path: int point count and the points, a path shared by enemies is written once
+ *     enemies      int count, per enemy: its state, the index of its path, the distance along it and its decorator effects
+ *     projectiles  int count, per projectile: its flight
+ *     gold bags    int count, per bag: position, gold, remaining time and flags
+ *
+ * Enums are written as their ordinals; changing the order of an enum or the layout needs a new
+ * schema version. A synergetic movement effect refers to its partner by the index of the partner
+ * in the enemy list, an effect whose partner already left the match is dropped.
+ * The random streams of a loaded match start again from its seed, they do not continue
+ * where the saved match left them.
+ *
+ * The snapshot must be taken between two ticks, while the match is paused or from the game thread.
+ * A codec keeps its buffer between saves and must not be shared between threads.
+ */
+public class MatchSnapshotCodec {
+
+    public static final int MAGIC = 0x4B534156; // "KSAV"
+    public static final short SCHEMA_VERSION = 4; // Version of the snapshot layout
+
+    private static final int HEADER_SIZE = 14; // Magic, version, length and checksum
+    private static final int INITIAL_CAPACITY = 16 * 1024; // Enough for a busy wave, the buffer grows if not
+    private static final int MAX_PAYLOAD_SIZE = 64 * 1024 * 1024; // A larger length can only come from a broken file
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY); // Reused by every save
+    private final CRC32 crc = new CRC32();
+    private final TileFactory tileFactory = new TileFactory();
+
+    /**
+     * Writes a snapshot of the match to the channel.
+     *
+     * @param match the match to save
+     * @param channel the channel to write to, it is not closed
+     * @throws IOException if the channel cannot be written
+     * @throws IllegalArgumentException if the match holds an object the snapshot cannot describe
+     */
+    public void write(GameManager match, WritableByteChannel channel) throws IOException {
+        buffer.clear();
+        buffer.position(HEADER_SIZE); // The header is written once the payload length is known
+
+        writeMap(match.getGameMap(), match.getTowers());
+        writeSettings(match.getGameContext().getUserPreference());
+        out(16).putLong(match.getGameContext().getSeed()).putLong(match.getTickCount());
+        writePlayer(match.getPlayer());
+        writeWaves(match.getWaveManager());
+        writeTowers(match.getTowers());
+        writeEnemies(match.getEnemies());
+        writeProjectiles(match.getProjectiles());
+        writeCollectables(match.getCollectables());
+
+        int payloadLength = buffer.position() - HEADER_SIZE;
+        buffer.flip();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(HEADER_SIZE);
+        crc.reset();
+        crc.update(payload);
+        buffer.putInt(0, MAGIC).putShort(4, SCHEMA_VERSION).putInt(6, payloadLength).putInt(10, (int) crc.getValue());
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a snapshot from the channel and builds the match it describes.
+     * The match is not started, it continues from the saved tick when startGame is called.
+     *
+     * @param channel the channel to read from, it is not closed
+     * @return the loaded match
+     * @throws IOException if the channel cannot be read or the snapshot is broken or of another version
+     */
+    public GameManager read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a match snapshot");
+        }
+        short version = header.getShort();
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        int payloadLength = header.getInt();
+        int checksum = header.getInt();
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_SIZE) {
+            throw new IOException("Invalid snapshot length: " + payloadLength);
+        }
+
+        ByteBuffer in = ByteBuffer.allocate(payloadLength);
+        readFully(channel, in);
+        crc.reset();
+        crc.update(in.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Snapshot is corrupted");
+        }
+
+        try {
+            GameMap gameMap = readMap(in);
+            UserPreference settings = readSettings(in);
+            GameManager match = new GameManager(gameMap, new GameContext(settings, in.getLong()));
+            match.restoreTickCount(in.getLong());
+            readPlayer(in, match.getPlayer());
+            readWaves(in, match.getWaveManager());
+            readTowers(in, match);
+            readEnemies(in, match);
+            readProjectiles(in, match);
+            readCollectables(in, match);
+            return match;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Snapshot is truncated", e);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    // Writing
+
+    // The map is written without its towers, they are put back on it when the towers are read
+    private void writeMap(GameMap gameMap, List<ITower> towers) {
+        GameMap withoutTowers = gameMap.clone(); // Shares the tiles, only the replaced ones are new
+        for (ITower tower : towers) {
+            int x = tower.getTileCoordinate().getTileX();
+            int y = tower.getTileCoordinate().getTileY();
+            Tile buildable = tileFactory.create(TileCodes.BUILDABLE_TILE_CODE);
+            buildable.setCoordinate(new TilePoint2D(x, y));
+            withoutTowers.setTile(x, y, buildable);
+        }
+        byte[] encoded = GameMapCodec.encode(withoutTowers);
+        out(4 + encoded.length).putInt(encoded.length).put(encoded);
+    }
+
+    private void writeSettings(UserPreference settings) {
+        out(24).putInt(settings.getStartingGold())
+                .putInt(settings.getStartingHealth())
+                .putInt(settings.getDelayBetweenWaves())
+                .putInt(settings.getDelayBetweenGroups())
+                .putInt(settings.getDelayBetweenEnemies())
+                .putFloat(settings.getArtilleryAoeRange());
+        writeIntArray(settings.getGoldPerEnemy());
+        writeIntArray(settings.getEnemyHealth());
+        writeIntArray(settings.getEnemyMovementSpeed());
+        writeFloatArray(settings.getTowerSellReturn());
+        int[][] constructionCost = settings.getTowerConstructionCost();
+        out(4).putInt(constructionCost.length);
+        for (int[] costs : constructionCost) {
+            writeIntArray(costs);
+        }
+        writeFloatMatrix(settings.getTowerEffectiveRange());
+        writeFloatMatrix(settings.getTowerRateOfFire());
+        float[][][] damageDealt = settings.getDamageDealt();
+        out(4).putInt(damageDealt.length);
+        for (float[][] damage : damageDealt) {
+            writeFloatMatrix(damage);
+        }
+        ArrayList<ArrayList<int[]>> waveList = settings.getWaveList();
+        out(4).putInt(waveList.size());
+        for (ArrayList<int[]> wave : waveList) {
+            out(4).putInt(wave.size());
+            for (int[] group : wave) {
+                writeIntArray(group);
+            }
+        }
+    }
+
+    private void writePlayer(Player player) {
+        out(9).putInt(player.getCurrentGold()).putInt(player.getCurrentHealth()).put((byte) player.getPlayerState().ordinal());
+    }
+
+    private void writeWaves(WaveManager waveManager) {
+        out(13).put((byte) waveManager.getWaveState().ordinal())
+                .putInt(waveManager.getCurrentWaveIndex())
+                .putInt(waveManager.getCurrentGroupIndex())
+                .putInt(waveManager.getLeftEnemiesInGroup());
+        writeIntArray(waveManager.getCurrentGroupDecomposition());
+        out(32).putDouble(waveManager.getGracePeriodTime())
+                .putDouble(waveManager.getGroupWaitTime())
+                .putDouble(waveManager.getWaveWaitTime())
+                .putDouble(waveManager.getEnemySpawnTime());
+    }
+
+    private void writeTowers(List<ITower> towers) {
+        out(4).putInt(towers.size());
+        for (ITower tower : towers) {
+            if (!(tower instanceof Tower)) {
+                throw new IllegalArgumentException("Unknown tower: " + tower.getClass().getName());
+            }
+            out(12).put((byte) tower.getTowerType().ordinal())
+                    .put((byte) tower.getTileCoordinate().getTileX())
+                    .put((byte) tower.getTileCoordinate().getTileY())
+                    .put((byte) tower.getTowerLevel())
+                    .putDouble(((Tower) tower).getLastAttackTime());
+        }
+    }
+
+    private void writeEnemies(List<IEnemy> enemies) {
+        // A partner of a synergetic effect may be held wrapped or unwrapped, both map to its index
+        Map<IEnemy, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < enemies.size(); i++) {
+            IEnemy enemy = enemies.get(i);
+            indices.put(enemy, i);
+            while (enemy instanceof EnemyDecorator) {
+                enemy = ((EnemyDecorator) enemy).getDecoratedEnemy();
+                indices.put(enemy, i);
+            }
+        }
+
+        // The enemies share the path variants of the map, every variant is written once
+        Map<EnemyPath, Integer> pathIndices = new IdentityHashMap<>();
+        List<EnemyPath> paths = new ArrayList<>();
+        for (IEnemy listed : enemies) {
+            IEnemy enemy = listed;
+            while (enemy instanceof EnemyDecorator) {
+                enemy = ((EnemyDecorator) enemy).getDecoratedEnemy();
+            }
+            if (!(enemy instanceof Enemy)) {
+                throw new IllegalArgumentException("Unknown enemy: " + enemy.getClass().getName());
+            }
+            EnemyPath path = ((Enemy) enemy).getMovePath();
+            if (path == null) {
+                throw new IllegalArgumentException("Enemy without a path");
+            }
+            if (!pathIndices.containsKey(path)) {
+                pathIndices.put(path, paths.size());
+                paths.add(path);
+            }
+        }
+        out(4).putInt(paths.size());
+        for (EnemyPath path : paths) {
+            out(4 + path.getPointCount() * 16).putInt(path.getPointCount());
+            for (int i = 0; i < path.getPointCount(); i++) {
+                buffer.putDouble(path.getX(i)).putDouble(path.getY(i));
+            }
+        }
+
+        out(4).putInt(enemies.size());
+        List<AbstractEffect> effects = new ArrayList<>();
+        for (IEnemy listed : enemies) {
+            effects.clear();
+            IEnemy enemy = listed;
+            while (enemy instanceof EnemyDecorator) {
+                effects.addAll(((EnemyDecorator) enemy).getActiveEffects());
+                enemy = ((EnemyDecorator) enemy).getDecoratedEnemy();
+            }
+            Enemy base = (Enemy) enemy; // Checked while the paths were collected
+            Point2D direction = base.getMoveDirection();
+            out(55)
+                    .put((byte) base.getEnemyType().ordinal())
+                    .put((byte) base.getEnemyState().ordinal())
+                    .put((byte) (base.isDeathAnimationPlayed() ? 1 : 0))
+                    .putFloat(base.getHealth())
+                    .putInt(base.getSpeed())
+                    .putDouble(base.getX())
+                    .putDouble(base.getY())
+                    .putDouble(direction.getX())
+                    .putDouble(direction.getY())
+                    .putDouble(base.getDistanceTravelled())
+                    .putInt(pathIndices.get(base.getMovePath()));
+
+            out(2).put((byte) (listed instanceof EnemyDecorator ? 1 : 0)).put((byte) effects.size());
+            for (AbstractEffect effect : effects) {
+                out(17).put((byte) effect.getEffectType().ordinal()).putDouble(effect.getRemainingEffectTime());
+                if (effect instanceof SynergeticMoveDecorator) {
+                    SynergeticMoveDecorator synergy = (SynergeticMoveDecorator) effect;
+                    Integer partner = indices.get(synergy.getPartner());
+                    buffer.putInt(partner == null ? -1 : partner).putInt(synergy.getTargetSpeed());
+                } else if (!(effect instanceof SlowDownDecorator)) {
+                    throw new IllegalArgumentException("Unknown effect: " + effect.getClass().getName());
+                }
+            }
+        }
+    }
+
+    private void writeProjectiles(List<IProjectile> projectiles) {
+        out(4).putInt(projectiles.size());
+        for (IProjectile listed : projectiles) {
+            if (!(listed instanceof Projectile)) {
+                throw new IllegalArgumentException("Unknown projectile: " + listed.getClass().getName());
+            }
+            Projectile projectile = (Projectile) listed;
+            Point2D target = projectile.getTarget();
+            Point2D velocity = projectile.getSpeedVector();
+            out(103).put((byte) projectile.getProjectileType().ordinal())
+                    .putInt(projectile.getProjectileLevel())
+                    .putDouble(target.getX())
+                    .putDouble(target.getY())
+                    .putDouble(projectile.getX())
+                    .putDouble(projectile.getY())
+                    .putDouble(projectile.getPreviousX())
+                    .putDouble(projectile.getPreviousY())
+                    .putDouble(velocity.getX())
+                    .putDouble(velocity.getY())
+                    .putDouble(projectile.getLifeTime())
+                    .putDouble(projectile.getLifeTimeCounter())
+                    .putDouble(projectile.getActivationTime())
+                    .putDouble(projectile.getExpirationTime())
+                    .put((byte) projectile.getProjectileState().ordinal())
+                    .put((byte) (projectile.hasExplosionAnimated() ? 1 : 0));
+        }
+    }
+
+    private void writeCollectables(List<ICollectable<?>> collectables) {
+        out(4).putInt(collectables.size());
+        for (ICollectable<?> collectable : collectables) {
+            if (!(collectable instanceof GoldBag)) {
+                throw new IllegalArgumentException("Unknown collectable: " + collectable.getClass().getName());
+            }
+            GoldBag goldBag = (GoldBag) collectable;
+            out(30).putDouble(goldBag.getCoordinates().getX())
+                    .putDouble(goldBag.getCoordinates().getY())
+                    .putInt(goldBag.getItem())
+                    .putDouble(goldBag.getRemainingTime())
+                    .put((byte) (goldBag.isAnimated() ? 1 : 0))
+                    .put((byte) 0); // Collected flag, a bag is now collected at once and never saved collected
+        }
+    }
+
+    private void writeIntArray(int[] values) {
+        if (values == null) {
+            out(4).putInt(-1);
+            return;
+        }
+        out(4 + values.length * 4).putInt(values.length);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+    }
+
+    private void writeFloatArray(float[] values) {
+        if (values == null) {
+            out(4).putInt(-1);
+            return;
+        }
+        out(4 + values.length * 4).putInt(values.length);
+        for (float value : values) {
+            buffer.putFloat(value);
+        }
+    }
+
+    private void writeFloatMatrix(float[][] values) {
+        out(4).putInt(values.length);
+        for (float[] row : values) {
+            writeFloatArray(row);
+        }
+    }
+
+    // Makes room for the next values, the buffer grows by doubling and keeps what was written
+    private ByteBuffer out(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = buffer.capacity();
+            while (capacity - buffer.position() < bytes) {
+                capacity *= 2;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+        return buffer;
+    }
+
+    // Reading
+
+    private static GameMap readMap(ByteBuffer in) {
+        byte[] encoded = new byte[readLength(in)];
+        in.get(encoded);
+        return GameMapCodec.decode(encoded);
+    }
+
+    private static UserPreference readSettings(ByteBuffer in) {
+        UserPreference.Builder builder = new UserPreference.Builder()
+                .setStartingGold(in.getInt())
+                .setStartingHealth(in.getInt())
+                .setDelayBetweenWaves(in.getInt())
+                .setDelayBetweenGroups(in.getInt())
+                .setDelayBetweenEnemies(in.getInt())
+                .setArtilleryAoeRange(in.getFloat())
+                .setGoldPerEnemy(readIntArray(in))
+                .setEnemyHealth(readIntArray(in))
+                .setEnemyMovementSpeed(readIntArray(in))
+                .setTowerSellReturn(readFloatArray(in));
+        int[][] constructionCost = new int[readLength(in)][];
+        for (int i = 0; i < constructionCost.length; i++) {
+            constructionCost[i] = readIntArray(in);
+        }
+        builder.setTowerConstructionCost(constructionCost)
+                .setTowerEffectiveRange(readFloatMatrix(in))
+                .setTowerRateOfFire(readFloatMatrix(in));
+        float[][][] damageDealt = new float[readLength(in)][][];
+        for (int i = 0; i < damageDealt.length; i++) {
+            damageDealt[i] = readFloatMatrix(in);
+        }
+        builder.setDamageDealt(damageDealt);
+        int waveCount = readLength(in);
+        ArrayList<ArrayList<int[]>> waveList = new ArrayList<>(waveCount);
+        for (int i = 0; i < waveCount; i++) {
+            int groupCount = readLength(in);
+            ArrayList<int[]> wave = new ArrayList<>(groupCount);
+            for (int j = 0; j < groupCount; j++) {
+                wave.add(readIntArray(in));
+            }
+            waveList.add(wave);
+        }
+        return builder.setWaveList(waveList).build();
+    }
+
+    private static void readPlayer(ByteBuffer in, Player player) {
+        int gold = in.getInt();
+        int health = in.getInt();
+        player.restore(gold, health, enumOf(PlayerState.values(), in.get()));
+    }
+
+    private static void readWaves(ByteBuffer in, WaveManager waveManager) {
+        EnemyAttackState waveState = enumOf(EnemyAttackState.values(), in.get());
+        int waveIndex = in.getInt();
+        int groupIndex = in.getInt();
+        int leftEnemiesInGroup = in.getInt();
+        int[] groupDecomposition = readIntArray(in);
+        waveManager.restore(waveState, waveIndex, groupIndex, leftEnemiesInGroup, groupDecomposition,
+                in.getDouble(), in.getDouble(), in.getDouble(), in.getDouble());
+    }
+
+    private static void readTowers(ByteBuffer in, GameManager match) {
+        int count = readLength(in);
+        for (int i = 0; i < count; i++) {
+            TowerType towerType = enumOf(TowerType.values(), in.get());
+            int x = in.get();
+            int y = in.get();
+            int level = in.get();
+            match.getTowerManager().restoreTower(towerType, x, y, level, in.getDouble());
+        }
+    }
+
+    private static void readEnemies(ByteBuffer in, GameManager match) {
+        UserPreference settings = match.getGameContext().getUserPreference();
+        EnemyPath[] paths = new EnemyPath[readLength(in)];
+        for (int i = 0; i < paths.length; i++) {
+            int pathLength = readLength(in);
+            List<Point2D> points = new ArrayList<>(pathLength);
+            for (int j = 0; j < pathLength; j++) {
+                points.add(new Point2D(in.getDouble(), in.getDouble()));
+            }
+            paths[i] = EnemyPath.of(points);
+        }
+
+        IEnemy[] enemies = new IEnemy[readLength(in)];
+        List<double[]> synergies = new ArrayList<>(); // Owner, partner, target speed and remaining time, linked once all enemies exist
+
+        for (int i = 0; i < enemies.length; i++) {
+            Enemy enemy = new Enemy(enumOf(EnemyType.values(), in.get()), settings);
+            EnemyState enemyState = enumOf(EnemyState.values(), in.get());
+            enemy.setDeathAnimationPlayed(in.get() != 0);
+            float health = in.getFloat();
+            int speed = in.getInt();
+            double x = in.getDouble();
+            double y = in.getDouble();
+            double directionX = in.getDouble();
+            double directionY = in.getDouble();
+            double distanceTravelled = in.getDouble();
+            int pathIndex = in.getInt();
+            if (pathIndex < 0 || pathIndex >= paths.length) {
+                throw new IllegalArgumentException("Invalid path index: " + pathIndex);
+            }
+            EnemyPath path = paths[pathIndex]; // Shared like in the saved match
+            enemy.restore(health, speed, enemyState, path, distanceTravelled, x, y, directionX, directionY);
+
+            boolean decorated = in.get() != 0;
+            int effectCount = in.get();
+            if (!decorated && effectCount == 0) {
+                enemies[i] = enemy;
+                continue;
+            }
+            EnemyDecorator decorator = new EnemyDecorator(enemy);
+            enemies[i] = decorator;
+            for (int j = 0; j < effectCount; j++) {
+                EffectTypes effectType = enumOf(EffectTypes.values(), in.get());
+                double remainingTime = in.getDouble();
+                if (effectType == EffectTypes.SLOW_DOWN) {
+                    SlowDownDecorator slowDown = new SlowDownDecorator();
+                    slowDown.setRemainingEffectTime(remainingTime);
+                    decorator.addEffect(slowDown);
+                } else if (effectType == EffectTypes.SYNERGYTIC_MOVEMENT) {
+                    int partner = in.getInt();
+                    int targetSpeed = in.getInt();
+                    if (partner >= 0) {
+                        synergies.add(new double[] {i, partner, targetSpeed, remainingTime});
+                    }
+                } else {
+                    throw new IllegalArgumentException("Unknown effect type: " + effectType);
+                }
+            }
+        }
+
+        for (double[] synergy : synergies) {
+            EnemyDecorator subject = (EnemyDecorator) enemies[(int) synergy[0]];
+            SynergeticMoveDecorator effect = new SynergeticMoveDecorator(subject, enemies[(int) synergy[1]], (int) synergy[2]);
+            effect.setRemainingEffectTime(synergy[3]);
+            subject.addEffect(effect);
+        }
+        for (IEnemy enemy : enemies) {
+            match.getEnemies().add(enemy);
+        }
+    }
+
+    private static void readProjectiles(ByteBuffer in, GameManager match) {
+        int count = readLength(in);
+        for (int i = 0; i < count; i++) {
+            ProjectileType projectileType = enumOf(ProjectileType.values(), in.get());
+            int level = in.getInt();
+            Point2D target = new Point2D(in.getDouble(), in.getDouble());
+            Point2D position = new Point2D(in.getDouble(), in.getDouble());
+            // The factory sets the speed, gravity and damage of the type, the flight is set afterwards
+            Projectile projectile = match.getGameContext().getProjectileFactory().createProjectile(projectileType, position, target, level);
+            double previousX = in.getDouble();
+            double previousY = in.getDouble();
+            double velocityX = in.getDouble();
+            double velocityY = in.getDouble();
+            double lifeTime = in.getDouble();
+            double lifeTimeCounter = in.getDouble();
+            double activationTime = in.getDouble();
+            double expirationTime = in.getDouble();
+            ProjectileState projectileState = enumOf(ProjectileState.values(), in.get());
+            projectile.restoreFlight(previousX, previousY, velocityX, velocityY, lifeTime, lifeTimeCounter,
+                    activationTime, expirationTime, projectileState, in.get() != 0);
+            match.getProjectiles().add(projectile);
+        }
+    }
+
+    private static void readCollectables(ByteBuffer in, GameManager match) {
+        int count = readLength(in);
+        for (int i = 0; i < count; i++) {
+            GoldBag goldBag = new GoldBag(new Point2D(in.getDouble(), in.getDouble()), in.getInt());
+            goldBag.setRemainingTime(in.getDouble());
+            goldBag.setAnimated(in.get() != 0);
+            if (in.get() != 0) {
+                match.getPlayer().earnGold(goldBag.getItem()); // Clicked before an older save, its gold was not given yet
+                continue;
+            }
+            match.getCollectables().add(goldBag);
+        }
+    }
+
+    private static int[] readIntArray(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        int[] values = new int[checkLength(in, length, 4)];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.getInt();
+        }
+        return values;
+    }
+
+    private static float[] readFloatArray(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        float[] values = new float[checkLength(in, length, 4)];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.getFloat();
+        }
+        return values;
+    }
+
+    private static float[][] readFloatMatrix(ByteBuffer in) {
+        float[][] values = new float[readLength(in)][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readFloatArray(in);
+        }
+        return values;
+    }
+
+    private static int readLength(ByteBuffer in) {
+        return checkLength(in, in.getInt(), 1);
+    }
+
+    // A broken length must not allocate more than the snapshot could hold
+    private static int checkLength(ByteBuffer in, int length, int elementSize) {
+        if (length < 0 || (long) length * elementSize > in.remaining()) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        return length;
+    }
+
+    private static <E extends Enum<E>> E enumOf(E[] values, int ordinal) {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException("Invalid " + values.getClass().getComponentType().getSimpleName() + ": " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer target) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                throw new EOFException("Snapshot is truncated");
+            }
+        }
+        target.flip();
+    }
+}
@@ -0,0 +1,161 @@
+package com.kurabiye.kutd.persistence;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Simulation.CommandType;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
+import com.kurabiye.kutd.model.Simulation.SimulationEngine;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * ReplayLogReader opens a replay file written by ReplayLogWriter and plays it back.
+ *
+ * The match at the start of the recording is loaded from the snapshot at the head of the file.
+ * The command records after it are memory mapped instead of read, so a long session is streamed
+ * from the page cache while it is replayed and never copied into the heap as a whole.
+ * A record that was cut off by a crash at the end of the file is ignored.
+ *
+ * A replay runs on a SimulationEngine, headless and as fast as the CPU allows,
+ * so the match the player reported can be reproduced and profiled offline.
+ */
+public class ReplayLogReader {
+
+    private final GameManager match; // The match as it was when the recording started
+    private final MappedByteBuffer records; // The command records of the file
+    private final int commandCount; // Number of complete records
+
+    /**
+     * Opens a replay file.
+     *
+     * @param file the replay file
+     * @throws IOException if the file cannot be read, or it is not a replay or of another version
+     */
+    public ReplayLogReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(ReplayLogWriter.HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new EOFException("Replay is truncated");
+                }
+            }
+            header.flip();
+            if (header.getInt() != ReplayLogWriter.MAGIC) {
+                throw new IOException("Not a replay");
+            }
+            short version = header.getShort();
+            if (version != ReplayLogWriter.VERSION) {
+                throw new IOException("Unsupported replay version: " + version);
+            }
+
+            this.match = new MatchSnapshotCodec().read(channel); // Leaves the channel at the first record
+
+            long recordsStart = channel.position();
+            long recordsLength = channel.size() - recordsStart;
+            if (recordsLength > Integer.MAX_VALUE) {
+                throw new IOException("Replay is too long to map"); // Over 60 million commands
+            }
+            this.records = channel.map(FileChannel.MapMode.READ_ONLY, recordsStart, recordsLength); // Stays valid after the channel is closed
+            this.commandCount = (int) (recordsLength / ReplayLogWriter.RECORD_SIZE);
+        }
+    }
+
+    /**
+     * Returns the match at the start of the recording. There is only one such match per reader,
+     * replaying it advances it.
+     * @return the recorded match
+     */
+    public GameManager getMatch() {
+        return match;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the recorded commands in the order they were given.
+     * Every call starts from the first command, the records are decoded as they are reached.
+     *
+     * @return an iterator over the commands
+     * @throws IllegalStateException from next() if a record is broken
+     */
+    public Iterator<SimulationCommand> commands() {
+        ByteBuffer view = records.duplicate(); // Each iterator keeps its own position
+        return new Iterator<SimulationCommand>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < commandCount;
+            }
+
+            @Override
+            public SimulationCommand next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                view.position(index * ReplayLogWriter.RECORD_SIZE);
+                index++;
+                return decode(view);
+            }
+        };
+    }
+
+    /**
+     * Creates a headless engine that replays the recorded match with its commands.
+     * @return the engine, call run() on it to replay the match
+     */
+    public SimulationEngine createReplay() {
+        return new SimulationEngine(match, commands());
+    }
+
+    private static SimulationCommand decode(ByteBuffer in) {
+        long tick = in.getLong();
+        int type = in.get();
+        int towerType = in.get();
+        int tileX = in.getShort();
+        int tileY = in.getShort();
+        in.getShort(); // Unused
+        double clickX = in.getDouble();
+        double clickY = in.getDouble();
+
+        CommandType[] types = CommandType.values();
+        if (type < 0 || type >= types.length) {
+            throw new IllegalStateException("Replay is corrupted, invalid command type: " + type);
+        }
+        try {
+            switch (types[type]) {
+                case BUILD_TOWER:
+                    return SimulationCommand.buildTower(tick, tileX, tileY, TowerType.values()[towerType]);
+                case SELL_TOWER:
+                    return SimulationCommand.sellTower(tick, tileX, tileY);
+                case UPGRADE_TOWER:
+                    return SimulationCommand.upgradeTower(tick, tileX, tileY);
+                case COLLECT:
+                    return SimulationCommand.collect(tick, new Point2D(clickX, clickY));
+                case PAUSE:
+                    return SimulationCommand.pause(tick);
+                case RESUME:
+                    return SimulationCommand.resume(tick);
+                case SPEED_UP:
+                    return SimulationCommand.speedUp(tick);
+                case SLOW_DOWN:
+                    return SimulationCommand.slowDown(tick);
+                default:
+                    throw new IllegalStateException("Replay is corrupted, unknown command: " + types[type]);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Replay is corrupted: " + e.getMessage(), e);
+        }
+    }
+}
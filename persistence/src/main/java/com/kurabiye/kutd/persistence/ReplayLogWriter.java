@@ -0,0 +1,136 @@
+package com.kurabiye.kutd.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.kurabiye.kutd.model.Listeners.ICommandListener;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Simulation.CommandType;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
+
+/**
+ * ReplayLogWriter records the player commands of a match into a replay file while the match is played.
+ *
+ * The file starts with a snapshot of the match as it was when the recording started, written by
+ * MatchSnapshotCodec, so it carries the map, the settings and the seed of the match. Every command
+ * is then appended as a fixed size record tagged with its tick, as soon as it is applied. Nothing is
+ * buffered, so a crash or a frozen game still leaves every command before it in the file.
+ * The layout is:
+ *
+ *   int    magic "KRPL"
+ *   short  replay version
+ *   the snapshot of the match
+ *   records of 32 bytes: long tick, byte command type, byte tower type or -1, short tile x, short tile y,
+ *                        2 unused bytes, double click x, double click y
+ *
+ * The file is read back by ReplayLogReader.
+ */
+public class ReplayLogWriter implements ICommandListener, Closeable {
+
+    public static final int MAGIC = 0x4B52504C; // "KRPL"
+    public static final short VERSION = 1; // Version of the replay layout
+
+    static final int HEADER_SIZE = 6; // Magic and version, the snapshot follows
+    static final int RECORD_SIZE = 32; // Size of a command record
+
+    private final GameManager match; // The recorded match
+    private final FileChannel channel; // The replay file, only appended to
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE); // Reused for every command
+
+    private boolean closed; // Set when the recording ends or the file cannot be written anymore
+
+    private ReplayLogWriter(GameManager match, FileChannel channel) {
+        this.match = match;
+        this.channel = channel;
+    }
+
+    /**
+     * Starts recording a match into a file, replacing the file if it exists.
+     * The match must not be running yet, or it must be paused.
+     *
+     * @param file the replay file
+     * @param match the match to record
+     * @return the writer, it listens to the commands of the match until it is closed
+     * @throws IOException if the file cannot be written
+     */
+    public static ReplayLogWriter start(Path file, GameManager match) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            new MatchSnapshotCodec().write(match, channel);
+        } catch (IOException | IllegalArgumentException e) {
+            channel.close();
+            throw e;
+        }
+
+        ReplayLogWriter writer = new ReplayLogWriter(match, channel);
+        match.setCommandListener(writer);
+        return writer;
+    }
+
+    /**
+     * Appends a command to the file. Called by the match on the game thread when the command is applied,
+     * the JavaFX thread only queues the commands and never waits for the file.
+     * @param command the command
+     */
+    @Override
+    public synchronized void onCommand(SimulationCommand command) {
+        if (closed) {
+            return;
+        }
+        encode(command, record);
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to record replay, recording stopped: " + e.getMessage());
+            close(); // A replay with a missing command would play out differently
+        }
+    }
+
+    /**
+     * Stops the recording and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        match.setCommandListener(null);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close replay: " + e.getMessage());
+        }
+    }
+
+    // Writes a command into the record buffer and flips it for writing
+    static void encode(SimulationCommand command, ByteBuffer target) {
+        target.clear();
+        target.putLong(command.getTick());
+        target.put((byte) command.getCommandType().ordinal());
+        target.put(command.getTowerType() != null ? (byte) command.getTowerType().ordinal() : (byte) -1);
+        target.putShort((short) command.getTileX());
+        target.putShort((short) command.getTileY());
+        target.putShort((short) 0); // Unused, keeps the click point aligned
+        boolean collect = command.getCommandType() == CommandType.COLLECT;
+        target.putDouble(collect ? command.getClickPoint().getX() : 0);
+        target.putDouble(collect ? command.getClickPoint().getY() : 0);
+        target.flip();
+    }
+}
@@ -0,0 +1,209 @@
+package com.kurabiye.kutd.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Collectable.GoldBag;
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Enemy.IEnemy;
+import com.kurabiye.kutd.model.Enemy.Decorators.EffectTypes;
+import com.kurabiye.kutd.model.Enemy.Decorators.EnemyDecorator;
+import com.kurabiye.kutd.model.Enemy.Decorators.SlowDownDecorator;
+import com.kurabiye.kutd.model.Enemy.Decorators.SynergeticMoveDecorator;
+import com.kurabiye.kutd.model.Managers.GameContext;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Map.GameMap;
+import com.kurabiye.kutd.model.Map.StaticMap;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Tower.ITower;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * Tests that a match written by the MatchSnapshotCodec is read back with the same state,
+ * and that the MatchSaveRepository keeps the saves in its directory.
+ */
+public class MatchSnapshotCodecTest {
+
+    private Path savesDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        savesDir = Files.createTempDirectory("kutd-saves");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(savesDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // A match with towers, enemies with effects, projectiles and a gold bag
+    private static GameManager busyMatch() {
+        GameManager match = new GameManager(StaticMap.getPrebuiltMap(), new GameContext(new UserPreference.Builder().build()));
+        int built = 0;
+        for (int y = 0; y < GameMap.MAP_HEIGHT && built < 3; y++) {
+            for (int x = 0; x < GameMap.MAP_WIDTH && built < 3; x++) {
+                if (match.getGameMap().getTile(x, y).isBuildableTile() && match.buildTower(x, y, TowerType.values()[built])) {
+                    built++;
+                }
+            }
+        }
+        match.upgradeTower(match.getTowers().get(0).getTileCoordinate().getTileX(), match.getTowers().get(0).getTileCoordinate().getTileY());
+
+        for (int i = 0; i < 5000 && (match.getEnemies().size() < 2 || match.getProjectiles().isEmpty()); i++) {
+            match.step();
+        }
+        assertTrue(match.getEnemies().size() >= 2, "The match should have spawned enemies");
+
+        List<IEnemy> enemies = match.getEnemies();
+        EnemyDecorator slowed = new EnemyDecorator(enemies.get(0));
+        slowed.addEffect(new SlowDownDecorator());
+        slowed.addEffect(new SynergeticMoveDecorator(slowed, enemies.get(1), 50));
+        enemies.set(0, slowed);
+        match.getCollectables().add(new GoldBag(new Point2D(300, 400), 12));
+        return match;
+    }
+
+    private static byte[] save(GameManager match) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new MatchSnapshotCodec().write(match, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static GameManager load(byte[] data) throws IOException {
+        return new MatchSnapshotCodec().read(Channels.newChannel(new ByteArrayInputStream(data)));
+    }
+
+    @Test
+    public void testRoundTrip_KeepsTheMatchState() throws IOException {
+        GameManager match = busyMatch();
+        GameManager loaded = load(save(match));
+
+        assertArrayEquals(match.getGameMap().toIntArray(), loaded.getGameMap().toIntArray());
+        assertEquals(match.getTickCount(), loaded.getTickCount());
+        assertEquals(match.getPlayer().getCurrentGold(), loaded.getPlayer().getCurrentGold());
+        assertEquals(match.getPlayer().getCurrentHealth(), loaded.getPlayer().getCurrentHealth());
+        assertEquals(match.getWaveManager().getWaveState(), loaded.getWaveManager().getWaveState());
+        assertEquals(match.getCurrentWaveIndex(), loaded.getCurrentWaveIndex());
+        assertEquals(match.getWaveManager().getLeftEnemiesInGroup(), loaded.getWaveManager().getLeftEnemiesInGroup());
+        assertEquals(match.getWaveManager().getEnemySpawnTime(), loaded.getWaveManager().getEnemySpawnTime());
+
+        assertEquals(match.getTowers().size(), loaded.getTowers().size());
+        for (int i = 0; i < match.getTowers().size(); i++) {
+            ITower tower = match.getTowers().get(i);
+            ITower loadedTower = loaded.getTowers().get(i);
+            assertEquals(tower.getTowerType(), loadedTower.getTowerType());
+            assertEquals(tower.getTowerLevel(), loadedTower.getTowerLevel());
+            assertEquals(tower.getRange(), loadedTower.getRange());
+            assertEquals(tower.getTileCoordinate().getTileX(), loadedTower.getTileCoordinate().getTileX());
+        }
+
+        assertEquals(match.getEnemies().size(), loaded.getEnemies().size());
+        for (int i = 0; i < match.getEnemies().size(); i++) {
+            IEnemy enemy = match.getEnemies().get(i);
+            IEnemy loadedEnemy = loaded.getEnemies().get(i);
+            assertEquals(enemy.getEnemyType(), loadedEnemy.getEnemyType());
+            assertEquals(enemy.getHealth(), loadedEnemy.getHealth());
+            assertEquals(enemy.getX(), loadedEnemy.getX());
+            assertEquals(enemy.getY(), loadedEnemy.getY());
+        }
+        EnemyDecorator slowed = (EnemyDecorator) loaded.getEnemies().get(0);
+        assertTrue(slowed.hasEffect(EffectTypes.SLOW_DOWN));
+        assertTrue(slowed.hasEffect(EffectTypes.SYNERGYTIC_MOVEMENT));
+        SynergeticMoveDecorator synergy = null;
+        for (Object effect : slowed.getActiveEffects()) {
+            if (effect instanceof SynergeticMoveDecorator) {
+                synergy = (SynergeticMoveDecorator) effect;
+            }
+        }
+        assertNotNull(synergy);
+        assertEquals(50, synergy.getTargetSpeed());
+        assertTrue(synergy.getPartner() == loaded.getEnemies().get(1), "The partner is linked to the loaded enemy");
+
+        assertEquals(match.getProjectiles().size(), loaded.getProjectiles().size());
+        for (int i = 0; i < match.getProjectiles().size(); i++) {
+            IProjectile projectile = match.getProjectiles().get(i);
+            IProjectile loadedProjectile = loaded.getProjectiles().get(i);
+            assertEquals(projectile.getProjectileType(), loadedProjectile.getProjectileType());
+            assertEquals(projectile.getProjectileState(), loadedProjectile.getProjectileState());
+            assertEquals(projectile.getX(), loadedProjectile.getX());
+            assertEquals(projectile.getSpeedVector().getY(), loadedProjectile.getSpeedVector().getY());
+        }
+        assertEquals(match.getCollectables().size(), loaded.getCollectables().size());
+        GoldBag goldBag = (GoldBag) loaded.getCollectables().get(loaded.getCollectables().size() - 1);
+        assertEquals(12, (int) goldBag.getItem());
+    }
+
+    @Test
+    public void testRoundTrip_LoadedMatchMovesLikeTheSavedOne() throws IOException {
+        GameManager match = busyMatch();
+        GameManager loaded = load(save(match));
+
+        for (int i = 0; i < 10; i++) {
+            match.step();
+            loaded.step();
+        }
+        IEnemy enemy = match.getEnemies().get(0);
+        IEnemy loadedEnemy = loaded.getEnemies().get(0);
+        assertEquals(enemy.getX(), loadedEnemy.getX(), 1e-9);
+        assertEquals(enemy.getY(), loadedEnemy.getY(), 1e-9);
+    }
+
+    @Test
+    public void testRead_RejectsBrokenSnapshots() throws IOException {
+        byte[] data = save(busyMatch());
+
+        byte[] corrupted = data.clone();
+        corrupted[corrupted.length - 20] ^= 0x55;
+        assertThrows(IOException.class, () -> load(corrupted), "The checksum catches a changed byte");
+
+        byte[] otherVersion = data.clone();
+        otherVersion[5] = 99;
+        assertThrows(IOException.class, () -> load(otherVersion));
+
+        byte[] truncated = new byte[data.length / 2];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> load(truncated));
+    }
+
+    @Test
+    public void testRepository_SavesAndLoadsSlots() {
+        MatchSaveRepository repository = new MatchSaveRepository(savesDir);
+        assertFalse(repository.hasSave("autosave"));
+        assertNull(repository.loadMatch("autosave"));
+
+        GameManager match = busyMatch();
+        assertTrue(repository.saveMatch("autosave", match));
+        assertTrue(repository.saveMatch("autosave", match), "A save replaces the previous one");
+        assertTrue(repository.hasSave("autosave"));
+
+        GameManager loaded = repository.loadMatch("autosave");
+        assertNotNull(loaded);
+        assertEquals(match.getEnemies().size(), loaded.getEnemies().size());
+
+        assertTrue(repository.deleteSave("autosave"));
+        assertFalse(repository.hasSave("autosave"));
+        assertThrows(IllegalArgumentException.class, () -> repository.hasSave("../escape"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.kurabiye.kutd.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
+import com.kurabiye.kutd.model.Managers.GameContext;
+import com.kurabiye.kutd.model.Managers.GameManager;
+import com.kurabiye.kutd.model.Map.StaticMap;
+import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Simulation.CommandType;
+import com.kurabiye.kutd.model.Simulation.SimulationCommand;
+import com.kurabiye.kutd.model.Simulation.SimulationEngine;
+import com.kurabiye.kutd.model.Simulation.SimulationResult;
+import com.kurabiye.kutd.model.Tower.TowerType;
+
+/**
+ * Tests that the commands recorded by the ReplayLogWriter are read back by the ReplayLogReader
+ * and replay the recorded match.
+ */
+public class ReplayLogTest {
+
+    private Path replaysDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        replaysDir = Files.createTempDirectory("kutd-replays");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(replaysDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // Plays a short match while it is recorded, like the game thread and the view would
+    private static GameManager recordMatch(Path file) throws IOException {
+        GameManager match = new GameManager(StaticMap.getPrebuiltMap(), new GameContext(new UserPreference.Builder().build(), 42L));
+        TilePoint2D tile = match.getGameMap().findBuildableTile();
+
+        ReplayLogWriter writer = ReplayLogWriter.start(file, match);
+        try {
+            stepMatch(match, 5);
+            match.buildTower(tile.getTileX(), tile.getTileY(), TowerType.MAGE);
+            match.speedUpGame();
+            stepMatch(match, 5);
+            match.upgradeTower(tile.getTileX(), tile.getTileY());
+            match.pauseGame();
+            match.resumeGame();
+            match.handleCollectableClick(new Point2D(12.5, 40.25));
+            stepMatch(match, 5);
+            match.slowDownGame();
+            match.sellTower(tile.getTileX(), tile.getTileY());
+        } finally {
+            writer.close(); // The commands are on disk once the writer is closed
+        }
+        return match;
+    }
+
+    private static void stepMatch(GameManager match, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            match.step();
+        }
+    }
+
+    @Test
+    public void testReader_ReadsTheRecordedCommands() throws IOException {
+        Path file = replaysDir.resolve("match.krpl");
+        GameManager match = recordMatch(file);
+        TilePoint2D tile = match.getGameMap().findBuildableTile();
+        assertTrue(match.buildTower(tile.getTileX(), tile.getTileY(), TowerType.ARCHER));
+
+        ReplayLogReader reader = new ReplayLogReader(file);
+        assertEquals(8, reader.getCommandCount());
+        assertEquals(42L, reader.getMatch().getGameContext().getSeed(), "The replay keeps the seed of the match");
+        assertEquals(0, reader.getMatch().getTickCount(), "The replay starts where the recording started");
+
+        List<SimulationCommand> commands = new ArrayList<>();
+        reader.commands().forEachRemaining(commands::add);
+        assertEquals(CommandType.BUILD_TOWER, commands.get(0).getCommandType());
+        assertEquals(TowerType.MAGE, commands.get(0).getTowerType());
+        assertEquals(5, commands.get(0).getTick());
+        assertEquals(CommandType.SPEED_UP, commands.get(1).getCommandType());
+        assertEquals(CommandType.UPGRADE_TOWER, commands.get(2).getCommandType());
+        assertEquals(10, commands.get(2).getTick());
+        assertEquals(CommandType.PAUSE, commands.get(3).getCommandType());
+        assertEquals(CommandType.RESUME, commands.get(4).getCommandType());
+        assertEquals(12.5, commands.get(5).getClickPoint().getX());
+        assertEquals(40.25, commands.get(5).getClickPoint().getY());
+        assertEquals(CommandType.SLOW_DOWN, commands.get(6).getCommandType());
+        assertEquals(CommandType.SELL_TOWER, commands.get(7).getCommandType());
+        assertEquals(tile.getTileX(), commands.get(7).getTileX());
+        assertEquals(15, commands.get(7).getTick());
+        assertEquals(8, commands.size(), "The build after the recording is not in the replay");
+    }
+
+    @Test
+    public void testReplay_PlaysTheRecordedMatchAgain() throws IOException {
+        Path file = replaysDir.resolve("match.krpl");
+        GameManager match = recordMatch(file);
+
+        SimulationEngine replay = new ReplayLogReader(file).createReplay();
+        SimulationResult result = replay.run(16);
+
+        assertEquals(16, replay.getGameManager().getTickCount());
+        assertEquals(8, result.getCommandsApplied() + result.getCommandsRejected(), "Every command is replayed");
+        assertTrue(replay.getGameManager().getTowers().isEmpty(), "The tower is built, upgraded and sold again");
+        assertEquals(match.getPlayer().getCurrentGold(), result.getFinalGold());
+    }
+
+    @Test
+    public void testReader_IgnoresACutOffRecordAndRejectsOtherFiles() throws IOException {
+        Path file = replaysDir.resolve("match.krpl");
+        recordMatch(file);
+        Files.write(file, new byte[ReplayLogWriter.RECORD_SIZE / 2], StandardOpenOption.APPEND); // A crash while writing
+
+        ReplayLogReader reader = new ReplayLogReader(file);
+        assertEquals(8, reader.getCommandCount());
+        Iterator<SimulationCommand> commands = reader.commands();
+        for (int i = 0; i < 8; i++) {
+            commands.next();
+        }
+        assertFalse(commands.hasNext());
+
+        Path other = replaysDir.resolve("other.krpl");
+        Files.write(other, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        assertThrows(IOException.class, () -> new ReplayLogReader(other));
+    }
+}
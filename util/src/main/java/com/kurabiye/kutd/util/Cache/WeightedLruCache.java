@@ -0,0 +1,147 @@
+package com.kurabiye.kutd.util.Cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/* WeightedLruCache.java
+ * This class is a least recently used cache with a limit on the total weight of its values
+ * instead of their number. The weight of a value is given by a weigher, for example the
+ * number of bytes of a decoded image. When the total weight is above the limit, the least
+ * recently used values are evicted until it fits again. A single value heavier than the
+ * whole limit is still kept, as the only value of the cache.
+ *
+ * The cache counts hits, misses and evictions. All methods are synchronized, so the cache
+ * can be shared between threads; the values should be created outside of it and added
+ * with putIfAbsent, so slow work does not hold the lock.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class WeightedLruCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true); // Access order, eldest first
+    private final ToLongFunction<? super V> weigher; // Weight of a value
+    private final long maxWeight; // Limit of the total weight
+
+    private long weight; // Total weight of the cached values
+    private long hitCount; // Lookups that found a value
+    private long missCount; // Lookups that found nothing
+    private long evictionCount; // Values removed to stay under the limit
+
+    /**
+     * @param maxWeight the limit of the total weight of the cached values
+     * @param weigher gives the weight of a value, must not be negative and must not change
+     * @throws IllegalArgumentException if maxWeight is not positive or weigher is null
+     */
+    public WeightedLruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        if (weigher == null) {
+            throw new IllegalArgumentException("Weigher cannot be null");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Looks up a value and marks it as the most recently used one.
+     * @param key the key of the value
+     * @return the cached value, or null if there is none
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a value is cached without counting a hit or a miss or changing the order.
+     * @param key the key of the value
+     * @return true if a value is cached for the key
+     */
+    public synchronized boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Adds a value unless another thread added one for the same key first.
+     * Evicts the least recently used values if the limit is exceeded.
+     *
+     * @param key the key of the value
+     * @param value the value to add
+     * @return the value that is cached for the key after the call
+     * @throws IllegalArgumentException if key or value is null
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key and value cannot be null");
+        }
+        V existing = entries.get(key);
+        if (existing != null) {
+            return existing; // Keep the first value, the other one is dropped
+        }
+        entries.put(key, value);
+        weight += weigher.applyAsLong(value);
+        evictToLimit();
+        return value;
+    }
+
+    /**
+     * Removes every value, the statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the share of lookups that found a value, 0 if there were none
+     */
+    public synchronized double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    // Removes the eldest values until the weight fits, the newest value always stays
+    private void evictToLimit() {
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && entries.size() > 1) {
+            Map.Entry<K, V> eldest = iterator.next();
+            weight -= weigher.applyAsLong(eldest.getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+}
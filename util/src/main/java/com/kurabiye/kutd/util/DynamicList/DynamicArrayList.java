@@ -1,7 +1,8 @@
 package com.kurabiye.kutd.util.DynamicList;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -13,6 +14,7 @@ import java.util.Set;
  *  - Elements in pendingRemovals must be elements already in the base list
  *  - Elements in pendingAdditions must NOT be in the base list
  *  - No element should exist in both pendingRemovals and pendingAdditions
+ *  - pendingRemovals compares elements by identity, not by equals
  */
 
 public class DynamicArrayList<T> extends ArrayList<T> {
@@ -20,6 +22,14 @@ public class DynamicArrayList<T> extends ArrayList<T> {
     * It can be used to store objects of any type with deferred operations during iteration
     * This class allows deferred modifications (additions/removals), providing a consistent view
     * during iteration and ensuring safety when modifying the list concurrently with iteration.
+    *
+    * The list has a single owner: only one thread (the game thread) adds, removes, commits
+    * and iterates it. The methods do not lock, so other threads must neither change nor
+    * iterate the list; they read a copy the owner publishes after every change instead.
+    *
+    * Pending removals are marked by identity, so two equal but different objects are never
+    * mixed up, and removeCommit() drops all marked items in one compaction pass over the
+    * list instead of one ArrayList.remove(Object) search per item.
     */
 
      /**
@@ -33,7 +43,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      *       this
      */
     
-    private Set<T> pendingRemovals = new HashSet<>();
+    private Set<T> pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
     private ArrayList<T> pendingAdditions = new ArrayList<>();
 
     public DynamicArrayList() {
@@ -42,38 +52,53 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * Regular add method - adds item immediately to the list
      */
     @Override
-    public synchronized boolean add(T item) {
+    public boolean add(T item) {
         return super.add(item);
     }
     
     /**
      * Regular remove method - removes item immediately from the list
+     * The item is found by identity, like the pending removals.
      */
     @Override
-    public synchronized boolean remove(Object item) {
-        boolean result = super.remove(item);
+    public boolean remove(Object item) {
+        boolean result = false;
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == item) {
+                super.remove(i);
+                result = true;
+                break;
+            }
+        }
         // Also remove from pending operations if it was there
         pendingRemovals.remove(item);
-        pendingAdditions.remove(item);
+        for (int i = 0; i < pendingAdditions.size(); i++) {
+            if (pendingAdditions.get(i) == item) {
+                pendingAdditions.remove(i);
+                break;
+            }
+        }
         return result;
     }
     
     /**
      * Marks an item for removal. The actual removal happens when removeCommit() is called.
-     * This allows safe removal during iteration.
+     * This allows safe removal during iteration. Marking the same item twice has no extra effect.
      * @param item The item to mark for removal
      */
-    public synchronized void removeLater(T item) {
+    public void removeLater(T item) {
         pendingRemovals.add(item);
     }
     
     /**
      * Commits all pending removals, actually removing the marked items from the list.
+     * The list is compacted in a single pass, the order of the remaining items is kept.
      */
-    public synchronized void removeCommit() {
-        for (T item : pendingRemovals) {
-            super.remove(item);
+    public void removeCommit() {
+        if (pendingRemovals.isEmpty()) {
+            return; // Nothing to compact
         }
+        super.removeIf(pendingRemovals::contains);
         pendingRemovals.clear();
     }
     
@@ -81,17 +106,18 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * Stages an item for addition. The actual addition happens when commitAdd() is called.
      * @param item The item to stage for addition
      */
-    public synchronized void addLater(T item) {
+    public void addLater(T item) {
         pendingAdditions.add(item);
     }
     
     /**
      * Commits all pending additions, actually adding the staged items to the list.
      */
-    public synchronized void addCommit() {
-        for (T item : pendingAdditions) {
-            super.add(item);
+    public void addCommit() {
+        if (pendingAdditions.isEmpty()) {
+            return; // Nothing to add
         }
+        super.addAll(pendingAdditions);
         pendingAdditions.clear();
     }
 
@@ -100,7 +126,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * This method is provided for convenience to apply all changes at once.
      */
 
-    public synchronized void commitAll() {
+    public void commitAll() {
         removeCommit();
         addCommit();
     }
@@ -111,7 +137,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * over the actual current state of the list.
      * @return Iterator that shows all current items
      */
-    public synchronized Iterator<T> unfilteredIterator() {
+    public Iterator<T> unfilteredIterator() {
         return super.iterator();
     }
     
@@ -121,7 +147,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * This is the default iterator behavior.
      * @return Iterator that filters out items marked for removal
      */
-    public synchronized Iterator<T> filteredIterator() {
+    public Iterator<T> filteredIterator() {
         return new DeferredOperationIterator();
     }
     
@@ -130,7 +156,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * Use unfilteredIterator() if you want to see all current items.
      */
     @Override
-    public synchronized Iterator<T> iterator() {
+    public Iterator<T> iterator() {
         return unfilteredIterator();
     }
     
@@ -138,7 +164,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * Gets the number of pending removals
      * @return Number of items marked for removal
      */
-    public synchronized int getPendingRemovalCount() {
+    public int getPendingRemovalCount() {
         return pendingRemovals.size();
     }
     
@@ -146,7 +172,7 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * Gets the number of pending additions
      * @return Number of items staged for addition
      */
-    public synchronized int getPendingAdditionCount() {
+    public int getPendingAdditionCount() {
         return pendingAdditions.size();
     }
       /**
@@ -154,31 +180,31 @@ public class DynamicArrayList<T> extends ArrayList<T> {
      * @param item The item to check
      * @return true if the item is marked for removal
      */
-    public synchronized boolean isMarkedForRemoval(T item) {
+    public boolean isMarkedForRemoval(T item) {
         return pendingRemovals.contains(item);
     }
     
     /**
      * Clears all pending operations without committing them
      */
-    public synchronized void clearPendingOperations() {
+    public void clearPendingOperations() {
         pendingRemovals.clear();
         pendingAdditions.clear();
     }
     
 
-    public synchronized boolean repOk() {
+    public boolean repOk() {
         // 1. Check for null fields
         if (pendingRemovals == null || pendingAdditions == null) return false;
 
         // 2. All elements in pendingRemovals must already exist in the base list
         for (T item : pendingRemovals) {
-            if (!super.contains(item)) return false;
+            if (!containsIdentical(item)) return false;
         }
 
         // 3. All elements in pendingAdditions must not already exist in the base list
         for (T item : pendingAdditions) {
-            if (super.contains(item)) return false;
+            if (containsIdentical(item)) return false;
         }
 
         /*
@@ -193,6 +219,14 @@ public class DynamicArrayList<T> extends ArrayList<T> {
 
 
 
+    private boolean containsIdentical(Object item) {
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == item) return true;
+        }
+        return false;
+    }
+
+
     /**
      * Custom iterator that provides a consistent view during iteration by skipping
      * items marked for removal
@@ -0,0 +1,149 @@
+package com.kurabiye.kutd.util.Profiling;
+
+import java.util.Arrays;
+
+/* LatencyHistogram.java
+ * This class records latencies in nanoseconds into log-linear buckets,
+ * in the same way as an HDR histogram: every power of two is split into
+ * SUB_BUCKET_COUNT linear sub-buckets, so the relative error of a reported
+ * value stays below 1 / SUB_BUCKET_COUNT over the whole range.
+ * 
+ * Recording is a couple of shifts and an array increment, it never allocates.
+ * The histogram is meant to be written by a single thread; other threads may
+ * read percentiles at any time and will see a slightly stale but valid view.
+ * 
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5; // 32 linear sub-buckets per power of two
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // Number of sub-buckets per power of two
+
+    // The largest value that is tracked exactly, larger values are clamped to it (about 68 seconds)
+    public static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_VALUE) + 1; // Number of buckets needed for the range
+
+    private final long[] counts = new long[BUCKET_COUNT]; // Number of recorded values per bucket
+
+    private volatile long totalCount; // Number of recorded values
+    private long totalSum; // Sum of the recorded values, used for the mean
+    private long minValue = Long.MAX_VALUE; // Smallest recorded value
+    private long maxValue; // Largest recorded value
+
+    /**
+     * Records a single value.
+     * Negative values are ignored, values above MAX_TRACKABLE_VALUE are clamped.
+     * @param value The value to record, usually in nanoseconds
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return; // A clock going backwards is not a latency
+        }
+        if (value > MAX_TRACKABLE_VALUE) {
+            value = MAX_TRACKABLE_VALUE; // Clamp to the tracked range
+        }
+
+        counts[bucketIndex(value)]++;
+        totalSum += value;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+        totalCount++; // Written last so readers see the counts first
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall.
+     * The result is the highest value that is equivalent to the matching bucket,
+     * so it never under-reports a latency.
+     * 
+     * @param percentile A percentage in [0, 100]
+     * @return the value at the percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100"); // Only percentages make sense
+        }
+
+        long count = totalCount; // Read once, other fields may move on while we scan
+        if (count == 0) {
+            return 0; // Nothing recorded yet
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * count)); // Rank of the value we are looking for
+        long seen = 0; // Number of values in the buckets scanned so far
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= targetCount) {
+                return Math.min(highestEquivalentValue(i), maxValue); // Never report more than the real maximum
+            }
+        }
+        return maxValue; // Only reachable while another thread is recording
+    }
+
+    /**
+     * Returns the median of the recorded values.
+     * @return the 50th percentile
+     */
+    public long getMedian() {
+        return getValueAtPercentile(50); // Return the 50th percentile
+    }
+
+    public long getMax() {
+        return maxValue; // Return the largest recorded value
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : minValue; // Return the smallest recorded value
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values.
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = totalCount; // Read once
+        return count == 0 ? 0 : (double) totalSum / count;
+    }
+
+    public long getTotalCount() {
+        return totalCount; // Return the number of recorded values
+    }
+
+    /**
+     * Forgets all recorded values.
+     * Must be called from the recording thread.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalSum = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+        totalCount = 0;
+    }
+
+    /**
+     * Maps a value to the index of its bucket.
+     * Values below 2 * SUB_BUCKET_COUNT get their own bucket,
+     * above that every power of two is split into SUB_BUCKET_COUNT buckets.
+     */
+    private static int bucketIndex(long value) {
+        int magnitude = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS); // Power of two above the linear range
+        int subBucket = (int) (value >>> magnitude); // Position inside the power of two
+        return (magnitude << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into the given bucket.
+     */
+    private static long highestEquivalentValue(int index) {
+        int magnitude = index < 2 * SUB_BUCKET_COUNT ? 0 : (index >> SUB_BUCKET_BITS) - 1; // Inverse of bucketIndex
+        long subBucket = index - ((long) magnitude << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.kurabiye.kutd.Cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.util.Cache.WeightedLruCache;
+
+public class WeightedLruCacheTest {
+
+    @Test
+    public void testGet_CountsHitsAndMisses() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, String::length);
+        assertNull(cache.get("a"));
+        cache.putIfAbsent("a", "aaaa");
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("aaaa", cache.get("a"));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(4, cache.getWeight());
+        assertEquals(2.0 / 3.0, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testPutIfAbsent_EvictsLeastRecentlyUsed() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, String::length);
+        cache.putIfAbsent("a", "aaaa");
+        cache.putIfAbsent("b", "bbbb");
+        cache.get("a"); // b is now the least recently used
+        cache.putIfAbsent("c", "cccc");
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"), "The least recently used value should be evicted");
+        assertTrue(cache.containsKey("c"));
+        assertEquals(8, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testPutIfAbsent_KeepsFirstValueAndOversizedValue() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(5, String::length);
+        String first = cache.putIfAbsent("a", "xx");
+        assertSame(first, cache.putIfAbsent("a", "yy"), "A second value for the same key is dropped");
+
+        cache.putIfAbsent("big", "0123456789");
+        assertEquals(1, cache.size(), "A value heavier than the limit is kept alone");
+        assertTrue(cache.containsKey("big"));
+        assertEquals(10, cache.getWeight());
+    }
+
+    @Test
+    public void testConstructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedLruCache<String, String>(0, String::length));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedLruCache<String, String>(10, null));
+    }
+}
@@ -145,4 +145,56 @@ public class DynamicArrayListTest {
 
 
 
+    @Test
+    public void removeLaterUsesIdentityTest() {
+        DynamicArrayList<String> list = new DynamicArrayList<>();
+        String first = new String("Same");
+        String second = new String("Same");
+        list.add(first);
+        list.add(second);
+
+        list.removeLater(second);
+        list.removeCommit();
+
+        assertEquals(1, list.size(), "Only the marked object should be removed");
+        assertSame(first, list.get(0), "The equal but different object should stay");
+    }
+
+    @Test
+    public void removeUsesIdentityTest() {
+        DynamicArrayList<String> list = new DynamicArrayList<>();
+        String first = new String("Same");
+        String second = new String("Same");
+        list.add(first);
+        list.add(second);
+
+        assertTrue(list.remove(second));
+        assertFalse(list.remove(new String("Same")), "An equal but different object is not in the list");
+
+        assertEquals(1, list.size(), "Only the given object should be removed");
+        assertSame(first, list.get(0), "The equal but different object should stay");
+    }
+
+    @Test
+    public void removeCommitKeepsOrderTest() {
+        DynamicArrayList<Integer> list = new DynamicArrayList<>();
+        Integer[] items = new Integer[1000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = Integer.valueOf(i + 100000); // Not cached, every item is its own object
+            list.add(items[i]);
+        }
+        for (int i = 0; i < items.length; i += 2) {
+            list.removeLater(items[i]);
+            list.removeLater(items[i]); // Marking twice has no extra effect
+        }
+        assertEquals(500, list.getPendingRemovalCount());
+
+        list.removeCommit();
+
+        assertEquals(500, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertSame(items[2 * i + 1], list.get(i), "The remaining items should keep their order");
+        }
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.kurabiye.kutd.Profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kurabiye.kutd.util.Profiling.LatencyHistogram;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testGetValueAtPercentile_EmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99), "An empty histogram should report 0");
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getTotalCount());
+    }
+
+    @Test
+    public void testGetValueAtPercentile_SmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+        assertEquals(25, histogram.getMedian(), "Values below 64 have their own bucket");
+        assertEquals(50, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getMin());
+        assertEquals(25.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    public void testGetValueAtPercentile_LargeValuesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000); // 1 microsecond to 100 milliseconds
+        }
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(Math.abs(p50 - 50_000_000L) <= 50_000_000L / 32, "p50 should be within the bucket precision: " + p50);
+        assertTrue(Math.abs(p99 - 99_000_000L) <= 99_000_000L / 32, "p99 should be within the bucket precision: " + p99);
+        assertEquals(100_000_000L, histogram.getMax(), "The maximum should be exact");
+    }
+
+    @Test
+    public void testRecord_ClampsAndIgnoresOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(1, histogram.getTotalCount(), "Negative values should be ignored");
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.getMax(), "Huge values should be clamped");
+    }
+
+    @Test
+    public void testReset_ForgetsValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMax());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+}
@@ -5,16 +5,28 @@ import javafx.scene.canvas.GraphicsContext;
 
 import javafx.scene.image.Image;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
 
 import com.kurabiye.kutd.model.Coordinates.Point2D;
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
 
 
+/**
+ * AnimationManager plays the short sprite animations of the game, such as explosions and deaths.
+ *
+ * The frames of a sprite sheet are sliced once and shared through SpriteFrames, and finished
+ * animation instances go back to a pool and are reused, so a large artillery barrage does not
+ * allocate pixels or instances for every explosion.
+ */
 public class AnimationManager {
    
-    private final List<AnimationInstance> animations = new ArrayList<>();
+    private static final int INITIAL_POOL_SIZE = 32; // Instances created up front
+
+    private final List<AnimationInstance> animations = new ArrayList<>(); // Playing animations, in start order
+    private final Deque<AnimationInstance> pool = new ArrayDeque<>(); // Finished instances ready for reuse
     private int nextId = 0;
     private final double modelWidth = 1920;  // Add model width constant
     private double scaleFactor;        // Add scale factor
@@ -27,6 +39,9 @@ public class AnimationManager {
     public AnimationManager(double tileSize, int cols) {
         // Calculate scale factor based on tile size and columns
         this.scaleFactor = (tileSize * cols) / modelWidth;
+        for (int i = 0; i < INITIAL_POOL_SIZE; i++) {
+            pool.push(new AnimationInstance());
+        }
     }
 
     public void createAnimation(GraphicsContext gc, Image spriteSheet, Point2D position,
@@ -39,6 +54,19 @@ public class AnimationManager {
      */
     public int createAnimationReturningId(GraphicsContext gc, Image spriteSheet, Point2D position,
                                           double frameDuration, double totalDuration, int width, int height) {
+        return createAnimationReturningId(gc, SpriteFrames.of(spriteSheet), position, frameDuration, totalDuration, width, height);
+    }
+
+    /**
+     * Plays a sprite sheet packed into a texture atlas
+     */
+    public void createAnimation(GraphicsContext gc, AtlasRegion spriteSheet, Point2D position,
+                                double frameDuration, double totalDuration, int width, int height) {
+        createAnimationReturningId(gc, SpriteFrames.of(spriteSheet), position, frameDuration, totalDuration, width, height);
+    }
+
+    private int createAnimationReturningId(GraphicsContext gc, SpriteFrames frames, Point2D position,
+                                           double frameDuration, double totalDuration, int width, int height) {
         // Scale the position coordinates
         int scaledX = (int)(position.getX() * scaleFactor);
         int scaledY = (int)(position.getY() * scaleFactor);
@@ -47,9 +75,12 @@ public class AnimationManager {
         int scaledWidth = (int)(width * scaleFactor);
         int scaledHeight = (int)(height * scaleFactor);
 
-        Sprite sprite = new Sprite(gc, spriteSheet, frameDuration, totalDuration,
-                                   scaledX, scaledY, scaledWidth, scaledHeight);
-        AnimationInstance instance = new AnimationInstance(nextId++, sprite, totalDuration, position);
+        AnimationInstance instance = pool.isEmpty() ? new AnimationInstance() : pool.pop();
+        instance.id = nextId++;
+        instance.remainingTime = totalDuration;
+        instance.position = position;
+        instance.sprite.reset(gc, frames, frameDuration, totalDuration,
+                              scaledX, scaledY, scaledWidth, scaledHeight);
         animations.add(instance);
         return instance.id;
     }
@@ -82,29 +113,44 @@ public class AnimationManager {
 
 
     public void update(double deltaTime) {
-       Iterator<AnimationInstance> iter = animations.iterator();
-        while (iter.hasNext()) {
-            AnimationInstance anim = iter.next();
+        int kept = 0; // Playing animations are moved to the front in one pass, keeping their order
+        for (int i = 0; i < animations.size(); i++) {
+            AnimationInstance anim = animations.get(i);
             anim.sprite.update(deltaTime, anim.sprite.getX(), anim.sprite.getY());
             anim.remainingTime -= deltaTime;
             if (anim.remainingTime <= 0) {
-                iter.remove();
+                anim.release();
+                pool.push(anim);
+            } else {
+                animations.set(kept++, anim);
             }
         }
+        animations.subList(kept, animations.size()).clear();
+    }
+
+    /**
+     * @return the number of animations that are playing
+     */
+    public int getActiveCount() {
+        return animations.size();
+    }
+
+    /**
+     * @return the number of finished instances waiting for reuse
+     */
+    public int getPooledCount() {
+        return pool.size();
     }
 
     private static class AnimationInstance {
         int id;
-        Sprite sprite;
+        final Sprite sprite = new Sprite(); // Reset for every animation played by this instance
         double remainingTime;
         Point2D position;
-        
 
-        AnimationInstance(int id, Sprite sprite, double duration, Point2D position) {
-            this.id = id;
-            this.sprite = sprite;
-            this.remainingTime = duration;
-            this.position = position;
+        void release() {
+            sprite.release();
+            position = null;
         }
     }
 }
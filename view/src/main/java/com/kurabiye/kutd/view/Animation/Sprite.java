@@ -2,16 +2,12 @@ package com.kurabiye.kutd.view.Animation;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
-import javafx.scene.image.WritableImage;
-import javafx.scene.SnapshotParameters;
-
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.WritableImage;
-
 /* Sprite.java
  * This class is responsible for handling the sprite animations in the game. 
- * It takes an image and splits it into frames for animation.
+ * It plays the frames of a sprite sheet, the frames are sliced once per sheet by SpriteFrames
+ * and shared, so a sprite only keeps its playback state.
  * The class provides methods to update the current frame and render the sprite on the screen.
+ * Sprites are reused by AnimationManager, reset prepares a sprite for a new animation.
  * 
  * 
  * @author Atlas Berk Polat, Pınar Dai
@@ -25,11 +21,9 @@ public class Sprite {
 
     private GraphicsContext gc;
 
-    private Image[] frames;
+    private SpriteFrames frames;
 
     private double currentTime;
-    private double desiredAnimationLength;
-    private double desiredTotalLength;
 
     private int positionX;
     private int positionY;
@@ -41,7 +35,16 @@ public class Sprite {
 
 
     public Sprite(GraphicsContext gc, Image image, double frameDuration, double totalDuration, int positionX, int positionY, int width, int height) {
+        reset(gc, SpriteFrames.of(image), frameDuration, totalDuration, positionX, positionY, width, height);
+    }
+
+    Sprite() {
+        // Empty sprite for the pool of AnimationManager, reset before use
+    }
+
+    void reset(GraphicsContext gc, SpriteFrames frames, double frameDuration, double totalDuration, int positionX, int positionY, int width, int height) {
         this.gc = gc;
+        this.frames = frames;
         this.frameDuration = frameDuration;    
         this.totalDuration = totalDuration;   
 
@@ -52,20 +55,16 @@ public class Sprite {
 
         this.currentTime = 0;
 
-        // Frame sayısını hesapla
-        int frameCount = (int) (image.getWidth() / image.getHeight());
-        int frameWidth = (int) (image.getWidth() / frameCount);
-        int frameHeight = (int) image.getHeight();
-
-        frames = new Image[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            frames[i] = new WritableImage(image.getPixelReader(), i * frameWidth, 0, frameWidth, frameHeight);
-        }
-
         // İlk frame’i çiz
         this.update(0, this.positionX, this.positionY);
     }
 
+    // Drops the references of a finished animation so a pooled sprite does not keep them
+    void release() {
+        this.gc = null;
+        this.frames = null;
+    }
+
     public int getX() {
     return positionX;
   }
@@ -77,22 +76,23 @@ public class Sprite {
     public void update(double deltaTime, int coordinateX, int coordinateY) {
         currentTime += deltaTime;
 
+        int frameCount = frames.getFrameCount();
         int frameIndex;
-        double animationDuration = frames.length * frameDuration;
+        double animationDuration = frameCount * frameDuration;
 
         if (currentTime >= totalDuration) {
             // Animasyon süresi geçtiyse yok say, çizmeyebiliriz bile (ya da son frame opsiyonel)
             return;
         } else if (currentTime >= animationDuration) {
             // Animasyon bitti ama gösterim süresi devam ediyor
-            frameIndex = frames.length - 1;
+            frameIndex = frameCount - 1;
         } else {
             frameIndex = (int) (currentTime / frameDuration);
         }
 
-        if (frameIndex >= frames.length) frameIndex = frames.length - 1;
+        if (frameIndex >= frameCount) frameIndex = frameCount - 1;
 
-        gc.drawImage(frames[frameIndex], positionX - width / 2, positionY - height / 2, width, height);
+        frames.draw(gc, frameIndex, positionX - width / 2, positionY - height / 2, width, height);
         
     }
 
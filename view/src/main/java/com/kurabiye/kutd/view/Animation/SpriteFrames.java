@@ -0,0 +1,144 @@
+package com.kurabiye.kutd.view.Animation;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/* SpriteFrames.java
+ * This class is the frame set of a sprite sheet. The sheet is sliced once per frame size and
+ * the frame set is shared by every sprite that plays it, so starting an animation does not copy
+ * any pixels. A frame is only a rectangle of the sheet, it is drawn straight from the sheet with
+ * the source rectangle variant of drawImage.
+ *
+ * A sheet may also be a region of a texture atlas, then the frames are rectangles of the atlas page.
+ * Frame sets are immutable and are cached per sheet instance. The cache holds both the sheet and
+ * its frame sets weakly, since a frame set refers to its sheet, so a sheet the AssetManager evicted
+ * and no sprite plays anymore is freed with its frames.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SpriteFrames {
+
+    private static final Map<Object, List<WeakReference<SpriteFrames>>> CACHE = new WeakHashMap<>(); // Frame sets by sheet image or region, compared by identity
+
+    private final Image sheet; // The image the frames are drawn from, an atlas page for regions
+    private final int frameWidth; // Width of a frame in pixels
+    private final int frameHeight; // Height of a frame in pixels
+    private final double[] sourceX; // Left edge of each frame on the sheet
+    private final double[] sourceY; // Top edge of each frame on the sheet
+
+    /**
+     * Returns the frames of a horizontal strip of square frames, the frame size is the height of the sheet.
+     * @param sheet the sprite sheet
+     * @return the shared frame set of the sheet
+     */
+    public static SpriteFrames of(Image sheet) {
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sprite sheet cannot be null");
+        }
+        int frameCount = Math.max(1, (int) (sheet.getWidth() / sheet.getHeight()));
+        return of(sheet, (int) (sheet.getWidth() / frameCount), (int) sheet.getHeight());
+    }
+
+    /**
+     * Returns the frames of a sheet sliced into a grid, read row by row.
+     * @param sheet the sprite sheet
+     * @param frameWidth the width of a frame in pixels
+     * @param frameHeight the height of a frame in pixels
+     * @return the shared frame set of the sheet for this frame size
+     */
+    public static SpriteFrames of(Image sheet, int frameWidth, int frameHeight) {
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sprite sheet cannot be null");
+        }
+        return cached(sheet, sheet, 0, 0, sheet.getWidth(), sheet.getHeight(), frameWidth, frameHeight);
+    }
+
+    /**
+     * Returns the frames of a horizontal strip of square frames packed into a texture atlas.
+     * @param region the atlas region of the sprite sheet
+     * @return the shared frame set of the region
+     */
+    public static SpriteFrames of(AtlasRegion region) {
+        if (region == null) {
+            throw new IllegalArgumentException("Sprite sheet region cannot be null");
+        }
+        int frameCount = Math.max(1, (int) (region.getWidth() / region.getHeight()));
+        return cached(region, region.getPage(), region.getX(), region.getY(), region.getWidth(), region.getHeight(),
+                (int) (region.getWidth() / frameCount), (int) region.getHeight());
+    }
+
+    // Returns the frame set of an area of an image, slicing it on the first call
+    private static synchronized SpriteFrames cached(Object key, Image sheet, double x, double y, double width, double height,
+                                                    int frameWidth, int frameHeight) {
+        if (frameWidth <= 0 || frameHeight <= 0 || frameWidth > width || frameHeight > height) {
+            throw new IllegalArgumentException("Invalid frame size " + frameWidth + "x" + frameHeight);
+        }
+        List<WeakReference<SpriteFrames>> sliced = CACHE.computeIfAbsent(key, k -> new ArrayList<>(1));
+        sliced.removeIf(reference -> reference.get() == null); // Frame sets no sprite used anymore
+        for (WeakReference<SpriteFrames> reference : sliced) {
+            SpriteFrames frames = reference.get();
+            if (frames != null && frames.frameWidth == frameWidth && frames.frameHeight == frameHeight) {
+                return frames; // Sliced before
+            }
+        }
+        SpriteFrames frames = new SpriteFrames(sheet, x, y, width, height, frameWidth, frameHeight);
+        sliced.add(new WeakReference<>(frames));
+        return frames;
+    }
+
+    private SpriteFrames(Image sheet, double x, double y, double width, double height, int frameWidth, int frameHeight) {
+        this.sheet = sheet;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+
+        int columns = (int) (width / frameWidth);
+        int rows = (int) (height / frameHeight);
+        this.sourceX = new double[columns * rows];
+        this.sourceY = new double[columns * rows];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                sourceX[row * columns + column] = x + column * frameWidth;
+                sourceY[row * columns + column] = y + row * frameHeight;
+            }
+        }
+    }
+
+    public int getFrameCount() {
+        return sourceX.length;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public Image getSheet() {
+        return sheet;
+    }
+
+    /**
+     * Draws a frame into the given rectangle.
+     * @param gc the graphics context to draw on
+     * @param index the index of the frame
+     * @param x the left edge of the target rectangle
+     * @param y the top edge of the target rectangle
+     * @param width the width of the target rectangle
+     * @param height the height of the target rectangle
+     */
+    public void draw(GraphicsContext gc, int index, double x, double y, double width, double height) {
+        gc.drawImage(sheet, sourceX[index], sourceY[index], frameWidth, frameHeight, x, y, width, height);
+    }
+}
@@ -0,0 +1,192 @@
+package com.kurabiye.kutd.view.Assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.kurabiye.kutd.util.Cache.WeightedLruCache;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+
+/**
+ * AssetManager loads the images of the game from the resources and keeps them decoded.
+ *
+ * Every image is decoded once and shared by all views. The images are kept in a least recently
+ * used cache that is limited by the memory of the decoded pixels, not by the number of images,
+ * so a few large sprite sheets cannot push the memory use up without bound.
+ * An evicted image stays valid for the views that still hold it, it is only decoded again
+ * the next time it is asked for.
+ *
+ * Images are addressed by their resource path, for example "/assets/tiles/tile5.png".
+ * Music and sound effects are kept as well, there are only a few of them so they are never evicted.
+ * The methods may be called from any thread, so the loading screen can preload in the background.
+ */
+public final class AssetManager {
+
+    // Limit of the decoded pixels kept in the cache, all game assets fit in it several times
+    public static final long DEFAULT_BYTE_BUDGET = 256L * 1024 * 1024;
+
+    private static final int BYTES_PER_PIXEL = 4; // JavaFX keeps decoded images as 32 bit ARGB
+
+    private static volatile AssetManager instance; // Shared by all views
+
+    private final WeightedLruCache<String, Image> images; // Decoded images by resource path
+    private final Map<String, Media> media = new ConcurrentHashMap<>(); // Music by resource path
+    private final Map<String, AudioClip> audioClips = new ConcurrentHashMap<>(); // Sound effects by resource path
+
+    /**
+     * Returns the asset manager shared by all views.
+     * @return the asset manager
+     */
+    public static AssetManager getInstance() {
+        if (instance == null) {
+            synchronized (AssetManager.class) {
+                if (instance == null) {
+                    instance = new AssetManager(DEFAULT_BYTE_BUDGET);
+                }
+            }
+        }
+        return instance;
+    }
+
+    AssetManager(long byteBudget) {
+        this.images = new WeightedLruCache<>(byteBudget, AssetManager::imageBytes);
+    }
+
+    /**
+     * Returns the decoded image of a resource, decoding it only if it is not cached.
+     *
+     * @param path the resource path of the image
+     * @return the decoded image
+     * @throws IllegalArgumentException if there is no such resource or it cannot be decoded
+     */
+    public Image getImage(String path) {
+        String key = normalize(path);
+        Image image = images.get(key);
+        if (image != null) {
+            return image; // Decoded before
+        }
+        return images.putIfAbsent(key, decode(key)); // Another thread may have decoded it meanwhile
+    }
+
+    /**
+     * Decodes the given images and adds them to the cache, images that are already cached are skipped.
+     * Preloading does not change the hit and miss counts.
+     *
+     * @param paths the resource paths of the images
+     * @throws IllegalArgumentException if one of the resources cannot be loaded
+     */
+    public void preload(String... paths) {
+        for (String path : paths) {
+            String key = normalize(path);
+            if (!images.containsKey(key)) {
+                images.putIfAbsent(key, decode(key));
+            }
+        }
+    }
+
+    /**
+     * Returns the media of a music resource, it can be shared by several media players.
+     *
+     * @param path the resource path of the music
+     * @return the media
+     * @throws IllegalArgumentException if there is no such resource
+     */
+    public Media getMedia(String path) {
+        return media.computeIfAbsent(normalize(path), key -> new Media(resourceUrl(key).toExternalForm()));
+    }
+
+    /**
+     * Returns the clip of a sound effect, the clip is loaded into memory once and shared.
+     *
+     * @param path the resource path of the sound
+     * @return the audio clip
+     * @throws IllegalArgumentException if there is no such resource
+     */
+    public AudioClip getAudioClip(String path) {
+        return audioClips.computeIfAbsent(normalize(path), key -> new AudioClip(resourceUrl(key).toExternalForm()));
+    }
+
+    /**
+     * @param path the resource path of the image
+     * @return true if the image is decoded and cached
+     */
+    public boolean isLoaded(String path) {
+        return images.containsKey(normalize(path));
+    }
+
+    public long getHitCount() {
+        return images.getHitCount();
+    }
+
+    public long getMissCount() {
+        return images.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return images.getEvictionCount();
+    }
+
+    public long getCachedBytes() {
+        return images.getWeight();
+    }
+
+    public long getByteBudget() {
+        return images.getMaxWeight();
+    }
+
+    public int getCachedImageCount() {
+        return images.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AssetManager[images=%d, bytes=%d/%d, hits=%d, misses=%d, evictions=%d]",
+                getCachedImageCount(), getCachedBytes(), getByteBudget(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    // Some views use class loader paths without the leading slash, both name the same resource
+    static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Asset path cannot be empty");
+        }
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    private static URL resourceUrl(String path) {
+        URL url = AssetManager.class.getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("Asset not found: " + path);
+        }
+        return url;
+    }
+
+    private static Image decode(String path) {
+        return decode(path, 0);
+    }
+
+    // Decodes an image, scaled to fit into a square of maxSize if it is not 0
+    static Image decode(String path, int maxSize) {
+        try (InputStream stream = AssetManager.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Asset not found: " + path);
+            }
+            Image image = new Image(stream, maxSize, maxSize, true, true); // Decodes the whole image before returning
+            if (image.isError()) {
+                throw new IllegalArgumentException("Asset cannot be decoded: " + path, image.getException());
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Asset cannot be read: " + path, e);
+        }
+    }
+
+    private static long imageBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
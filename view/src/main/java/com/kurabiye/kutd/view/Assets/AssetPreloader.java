@@ -0,0 +1,128 @@
+package com.kurabiye.kutd.view.Assets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetPreloader runs a manifest of loading tasks in parallel on a pool of background threads.
+ *
+ * A task is a named piece of work, such as decoding an image into the AssetManager or packing
+ * the GameAtlas, that leaves its result in a shared cache. The preloader counts the finished
+ * tasks for the progress and collects the errors of the failed ones instead of stopping, so the
+ * game can still start and fall back to loading the missing assets on demand.
+ */
+public final class AssetPreloader {
+
+    private final Map<String, Runnable> tasks = new LinkedHashMap<>(); // Tasks by name, in the order they were added
+    private final int threadCount; // Size of the loading pool
+    private ExecutorService executor; // Set while loading
+
+    public AssetPreloader() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors() - 1)); // Leave a core for the JavaFX thread
+    }
+
+    /**
+     * @param threadCount the number of loading threads
+     */
+    public AssetPreloader(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Adds a task to the manifest.
+     * @param name the name of the task, shown in the failures
+     * @param task the work of the task
+     * @return this preloader
+     */
+    public AssetPreloader add(String name, Runnable task) {
+        if (name == null || task == null) {
+            throw new IllegalArgumentException("Task name and task cannot be null");
+        }
+        if (executor != null) {
+            throw new IllegalStateException("Preloading has already started");
+        }
+        tasks.put(name, task);
+        return this;
+    }
+
+    /**
+     * Adds one task for each image, decoding it into the AssetManager.
+     * @param paths the resource paths of the images
+     * @return this preloader
+     */
+    public AssetPreloader addImages(String... paths) {
+        for (String path : paths) {
+            add(path, () -> AssetManager.getInstance().preload(path));
+        }
+        return this;
+    }
+
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    /**
+     * Starts running the tasks and returns immediately.
+     * @param listener notified of the progress and of the end on the loading threads
+     * @throws IllegalStateException if preloading has already started
+     */
+    public synchronized void start(IPreloadListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (executor != null) {
+            throw new IllegalStateException("Preloading has already started");
+        }
+        executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader");
+            thread.setDaemon(true); // Never keeps the application alive
+            return thread;
+        });
+
+        int total = tasks.size();
+        if (total == 0) {
+            executor.shutdown();
+            listener.onFinished(Collections.emptyMap());
+            return;
+        }
+
+        AtomicInteger completed = new AtomicInteger();
+        Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+        List<Map.Entry<String, Runnable>> entries = new ArrayList<>(tasks.entrySet());
+        for (Map.Entry<String, Runnable> entry : entries) {
+            executor.execute(() -> {
+                try {
+                    entry.getValue().run();
+                } catch (RuntimeException | Error e) {
+                    failures.put(entry.getKey(), e);
+                }
+                int done = completed.incrementAndGet();
+                listener.onProgress(done, total);
+                if (done == total) {
+                    executor.shutdown();
+                    synchronized (failures) {
+                        listener.onFinished(Collections.unmodifiableMap(new LinkedHashMap<>(failures)));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Stops the tasks that have not started yet, the running ones are finished.
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
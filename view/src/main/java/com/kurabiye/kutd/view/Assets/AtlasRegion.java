@@ -0,0 +1,84 @@
+package com.kurabiye.kutd.view.Assets;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * AtlasRegion is a rectangle of a texture atlas page that holds one packed image.
+ *
+ * Drawing a region draws that rectangle of the page, so all regions of a page share one texture.
+ * A region can also cover a whole standalone image, which is used for the fallback images
+ * the views create when an asset is missing.
+ */
+public final class AtlasRegion {
+
+    private final Image page; // The atlas page or standalone image the region is on
+    private final double x; // Left edge of the region on the page
+    private final double y; // Top edge of the region on the page
+    private final double width; // Width of the region in pixels
+    private final double height; // Height of the region in pixels
+
+    AtlasRegion(Image page, double x, double y, double width, double height) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a region covering a whole image that is not packed into an atlas.
+     * @param image the image
+     * @return the region of the image
+     */
+    public static AtlasRegion of(Image image) {
+        if (image == null) {
+            throw new IllegalArgumentException("Image cannot be null");
+        }
+        return new AtlasRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Draws the region into the given rectangle.
+     * @param gc the graphics context to draw on
+     * @param dx the left edge of the target rectangle
+     * @param dy the top edge of the target rectangle
+     * @param dw the width of the target rectangle
+     * @param dh the height of the target rectangle
+     */
+    public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+        gc.drawImage(page, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    /**
+     * Creates an image view showing only this region, for buttons and other nodes.
+     * @return a new image view of the region
+     */
+    public ImageView createImageView() {
+        ImageView imageView = new ImageView(page);
+        imageView.setViewport(new Rectangle2D(x, y, width, height));
+        return imageView;
+    }
+
+    public Image getPage() {
+        return page;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kurabiye.kutd.view.Assets;
+
+import com.kurabiye.kutd.model.Enemy.EnemyType;
+
+/**
+ * GameAtlas holds the texture atlas of everything drawn on the game canvases:
+ * tiles, enemy frames, projectiles, effect icons and animation sheets.
+ *
+ * The atlas is packed once, the first time it is asked for, and shared by all views.
+ * Buttons and other scene graph nodes keep their own images, they are not redrawn every frame.
+ */
+public final class GameAtlas {
+
+    public static final int TILE_COUNT = 35; // Tiles tile0 to tile34
+    public static final int ENEMY_FRAME_COUNT = 6; // Walking frames of each enemy type
+
+    private static final int ICON_SIZE = 128; // Effect icons are drawn at a third of a tile
+
+    private static volatile TextureAtlas instance; // Shared by all views
+
+    private GameAtlas() {
+        // Holder of the shared atlas
+    }
+
+    /**
+     * Returns the game atlas, packing it on the first call.
+     * @return the game atlas
+     */
+    public static TextureAtlas getInstance() {
+        if (instance == null) {
+            synchronized (GameAtlas.class) {
+                if (instance == null) {
+                    instance = build();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static String tilePath(int tileId) {
+        return "/assets/tiles/tile" + tileId + ".png";
+    }
+
+    public static String enemyPath(EnemyType type, int frame) {
+        return String.format("/assets/enemies/%s%d.png", type.name().toLowerCase(), frame);
+    }
+
+    private static TextureAtlas build() {
+        TextureAtlas.Builder builder = new TextureAtlas.Builder();
+        for (int i = 0; i < TILE_COUNT; i++) {
+            builder.add(tilePath(i));
+        }
+        for (EnemyType type : EnemyType.values()) {
+            for (int i = 0; i < ENEMY_FRAME_COUNT; i++) {
+                builder.add(enemyPath(type, i));
+            }
+        }
+        builder.add("/assets/projectiles/arrow.png")
+                .add("/assets/projectiles/magic.png")
+                .add("/assets/projectiles/bomb.png")
+                .add("/assets/projectiles/magic2.png")
+                .add("/assets/effects/Zap.png", ICON_SIZE) // 1024 pixel sources
+                .add("/assets/effects/Slow.png", ICON_SIZE)
+                .add("/assets/animations/Explosions.png")
+                .add("/assets/animations/G_Spawn.png")
+                .add("/assets/animations/knight_death.png")
+                .add("/assets/animations/goblin_death.png");
+        return builder.build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kurabiye.kutd.view.Assets;
+
+import java.util.Map;
+
+/**
+ * IPreloadListener is notified by an AssetPreloader while it loads.
+ * The methods are called on the loading threads, not on the JavaFX thread.
+ */
+public interface IPreloadListener {
+
+    /**
+     * Called after every finished task, whether it succeeded or not.
+     * @param completed the number of finished tasks
+     * @param total the number of tasks
+     */
+    void onProgress(int completed, int total);
+
+    /**
+     * Called once, after the last task finished.
+     * @param failures the error of every failed task by task name, empty if all succeeded
+     */
+    void onFinished(Map<String, Throwable> failures);
+}
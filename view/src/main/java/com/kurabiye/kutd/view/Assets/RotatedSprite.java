@@ -0,0 +1,143 @@
+package com.kurabiye.kutd.view.Assets;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * RotatedSprite holds a directional sprite pre-rotated into a number of angle buckets.
+ *
+ * Drawing a rotated image through save, translate, rotate and restore changes the graphics
+ * state for every projectile. Instead the sprite is rotated once per bucket with bilinear
+ * sampling, and the rotated copies are laid out in a grid on one image, so drawing a sprite
+ * at any angle is a single drawImage of the nearest bucket.
+ *
+ * Each rotated copy is a square with the diagonal of the sprite as its side, so no corner is cut off.
+ * Rotated sprites are cached per region and bucket count and may be shared between threads.
+ * The cache holds the regions weakly, so the rotated copies are freed with the atlas they were cut from.
+ */
+public final class RotatedSprite {
+
+    private static final Map<AtlasRegion, Map<Integer, RotatedSprite>> CACHE = new WeakHashMap<>(); // By region, compared by identity
+
+    private final WritableImage sheet; // The rotated copies, row by row
+    private final int buckets; // Number of angle buckets over a full turn
+    private final int columns; // Copies in a row of the sheet
+    private final int cellSize; // Side of a rotated copy in pixels
+    private final double spriteWidth; // Width of the sprite before rotation
+
+    /**
+     * Returns the sprite of a region rotated into the given number of buckets, rotating it on the first call.
+     * @param region the sprite, pointing right at angle 0
+     * @param buckets the number of angles over a full turn
+     * @return the shared rotated sprite
+     */
+    public static synchronized RotatedSprite of(AtlasRegion region, int buckets) {
+        if (region == null) {
+            throw new IllegalArgumentException("Sprite region cannot be null");
+        }
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive");
+        }
+        return CACHE.computeIfAbsent(region, key -> new HashMap<>())
+                .computeIfAbsent(buckets, key -> new RotatedSprite(region, buckets));
+    }
+
+    private RotatedSprite(AtlasRegion region, int buckets) {
+        int width = (int) region.getWidth();
+        int height = (int) region.getHeight();
+        this.buckets = buckets;
+        this.columns = (int) Math.ceil(Math.sqrt(buckets));
+        this.cellSize = (int) Math.ceil(Math.sqrt((double) width * width + (double) height * height));
+        this.spriteWidth = width;
+
+        int[] source = new int[width * height];
+        region.getPage().getPixelReader().getPixels((int) region.getX(), (int) region.getY(), width, height,
+                PixelFormat.getIntArgbInstance(), source, 0, width);
+
+        int rows = (buckets + columns - 1) / columns;
+        this.sheet = new WritableImage(columns * cellSize, rows * cellSize);
+        int[] cell = new int[cellSize * cellSize];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            rotate(source, width, height, 2 * Math.PI * bucket / buckets, cell);
+            sheet.getPixelWriter().setPixels((bucket % columns) * cellSize, (bucket / columns) * cellSize,
+                    cellSize, cellSize, PixelFormat.getIntArgbInstance(), cell, 0, cellSize);
+        }
+    }
+
+    /**
+     * Draws the sprite centered on a point, turned to the nearest bucket of the angle.
+     * @param gc the graphics context to draw on
+     * @param angle the direction in radians, clockwise on the screen like GraphicsContext.rotate
+     * @param centerX the x coordinate of the center
+     * @param centerY the y coordinate of the center
+     * @param size the width the sprite would be drawn with when not rotated
+     */
+    public void draw(GraphicsContext gc, double angle, double centerX, double centerY, double size) {
+        int bucket = bucketOf(angle);
+        double drawSize = size * cellSize / spriteWidth; // The cell is larger than the sprite
+        gc.drawImage(sheet, (bucket % columns) * cellSize, (bucket / columns) * cellSize, cellSize, cellSize,
+                centerX - drawSize / 2, centerY - drawSize / 2, drawSize, drawSize);
+    }
+
+    /**
+     * @param angle an angle in radians
+     * @return the bucket nearest to the angle
+     */
+    public int bucketOf(double angle) {
+        double turns = angle / (2 * Math.PI);
+        int bucket = (int) Math.round((turns - Math.floor(turns)) * buckets);
+        return bucket == buckets ? 0 : bucket;
+    }
+
+    public int getBucketCount() {
+        return buckets;
+    }
+
+    // Rotates the sprite around its center into a cell, sampling the source bilinearly with premultiplied alpha
+    private void rotate(int[] source, int width, int height, double angle, int[] cell) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double half = cellSize / 2.0;
+        for (int y = 0; y < cellSize; y++) {
+            for (int x = 0; x < cellSize; x++) {
+                // Inverse rotation from the cell back to the sprite, at pixel centers
+                double dx = x + 0.5 - half;
+                double dy = y + 0.5 - half;
+                double sx = cos * dx + sin * dy + width / 2.0 - 0.5;
+                double sy = -sin * dx + cos * dy + height / 2.0 - 0.5;
+                cell[y * cellSize + x] = sample(source, width, height, sx, sy);
+            }
+        }
+    }
+
+    private static int sample(int[] source, int width, int height, double x, double y) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double fx = x - x0;
+        double fy = y - y0;
+        double a = 0, r = 0, g = 0, b = 0;
+        for (int i = 0; i < 4; i++) {
+            int px = x0 + (i & 1);
+            int py = y0 + (i >> 1);
+            if (px < 0 || py < 0 || px >= width || py >= height) {
+                continue; // Outside the sprite is transparent
+            }
+            double weight = ((i & 1) == 0 ? 1 - fx : fx) * ((i >> 1) == 0 ? 1 - fy : fy);
+            int argb = source[py * width + px];
+            double alpha = (argb >>> 24) * weight;
+            a += alpha;
+            r += ((argb >> 16) & 0xff) * alpha;
+            g += ((argb >> 8) & 0xff) * alpha;
+            b += (argb & 0xff) * alpha;
+        }
+        if (a <= 0) {
+            return 0;
+        }
+        return ((int) Math.round(a) << 24) | ((int) Math.round(r / a) << 16) | ((int) Math.round(g / a) << 8) | (int) Math.round(b / a);
+    }
+}
@@ -0,0 +1,236 @@
+package com.kurabiye.kutd.view.Assets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * TextureAtlas packs many small images into a few large pages and indexes them by resource path.
+ *
+ * The images are decoded once while the atlas is built, copied onto the pages and then dropped,
+ * so only the pages stay in memory. Every image gets a one pixel border that repeats its edge
+ * pixels, so scaled drawing does not bleed the neighbouring image into it.
+ *
+ * Atlases are built with a Builder and are immutable afterwards, they may be shared between threads.
+ */
+public final class TextureAtlas {
+
+    public static final int DEFAULT_PAGE_SIZE = 2048; // Largest page size every supported GPU accepts
+
+    private static final int PADDING = 1; // Border around each image, filled with its edge pixels
+
+    private final List<Image> pages; // The packed pages
+    private final Map<String, AtlasRegion> regions; // Regions by normalized resource path
+
+    private TextureAtlas(List<Image> pages, Map<String, AtlasRegion> regions) {
+        this.pages = Collections.unmodifiableList(pages);
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Returns the region of a packed image.
+     * @param path the resource path of the image
+     * @return the region of the image
+     * @throws IllegalArgumentException if the image is not in the atlas
+     */
+    public AtlasRegion getRegion(String path) {
+        AtlasRegion region = regions.get(AssetManager.normalize(path));
+        if (region == null) {
+            throw new IllegalArgumentException("Image is not in the atlas: " + path);
+        }
+        return region;
+    }
+
+    /**
+     * @param path the resource path of the image
+     * @return true if the image is packed into the atlas
+     */
+    public boolean hasRegion(String path) {
+        return regions.containsKey(AssetManager.normalize(path));
+    }
+
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    public List<Image> getPages() {
+        return pages;
+    }
+
+    /**
+     * @return the memory of the decoded pages in bytes
+     */
+    public long getPageBytes() {
+        long bytes = 0;
+        for (Image page : pages) {
+            bytes += (long) page.getWidth() * (long) page.getHeight() * 4; // 32 bit ARGB
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TextureAtlas[regions=%d, pages=%d, bytes=%d]", getRegionCount(), pages.size(), getPageBytes());
+    }
+
+    /**
+     * Builder collects the images of an atlas and packs them into pages with a shelf packer:
+     * the images are sorted by height and placed left to right in rows, a new row is started
+     * when a row is full and a new page when a page is full.
+     */
+    public static final class Builder {
+
+        private final int pageSize; // Maximum width and height of a page
+        private final List<String> paths = new ArrayList<>(); // Resource paths of the images
+        private final List<Integer> maxSizes = new ArrayList<>(); // Size limit of each image, 0 for none
+
+        public Builder() {
+            this(DEFAULT_PAGE_SIZE);
+        }
+
+        /**
+         * @param pageSize the maximum width and height of a page in pixels
+         */
+        public Builder(int pageSize) {
+            if (pageSize <= 2 * PADDING) {
+                throw new IllegalArgumentException("Page size is too small: " + pageSize);
+            }
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Adds an image in its original size.
+         * @param path the resource path of the image
+         * @return this builder
+         */
+        public Builder add(String path) {
+            return add(path, 0);
+        }
+
+        /**
+         * Adds an image that is scaled to fit into a square of the given size, keeping its ratio.
+         * Used for images that are much larger than they are ever drawn.
+         *
+         * @param path the resource path of the image
+         * @param maxSize the largest width and height of the packed image, 0 for the original size
+         * @return this builder
+         */
+        public Builder add(String path, int maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Maximum size cannot be negative");
+            }
+            String key = AssetManager.normalize(path);
+            if (!paths.contains(key)) {
+                paths.add(key);
+                maxSizes.add(maxSize);
+            }
+            return this;
+        }
+
+        /**
+         * Decodes the images and packs them. Images that cannot be loaded are reported and left out,
+         * so the views can use their fallback images for them.
+         *
+         * @return the packed atlas
+         * @throws IllegalArgumentException if an image does not fit into a page
+         */
+        public TextureAtlas build() {
+            List<Source> sources = new ArrayList<>(paths.size());
+            for (int i = 0; i < paths.size(); i++) {
+                try {
+                    sources.add(new Source(paths.get(i), AssetManager.decode(paths.get(i), maxSizes.get(i))));
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to load atlas image: " + e.getMessage());
+                }
+            }
+            sources.sort(Comparator.comparingInt((Source source) -> source.height).reversed());
+
+            List<Image> pages = new ArrayList<>();
+            Map<String, AtlasRegion> regions = new HashMap<>();
+            List<Source> pageSources = new ArrayList<>(); // Images placed on the current page
+            int shelfX = 0; // Next free x on the current row
+            int shelfY = 0; // Top of the current row
+            int shelfHeight = 0; // Height of the current row
+            int pageWidth = 0; // Widest row of the current page
+
+            for (Source source : sources) {
+                int slotWidth = source.width + 2 * PADDING;
+                int slotHeight = source.height + 2 * PADDING;
+                if (slotWidth > pageSize || slotHeight > pageSize) {
+                    throw new IllegalArgumentException("Image does not fit into an atlas page: " + source.path);
+                }
+                if (shelfX + slotWidth > pageSize) { // Row is full
+                    shelfY += shelfHeight;
+                    shelfX = 0;
+                    shelfHeight = 0;
+                }
+                if (shelfY + slotHeight > pageSize) { // Page is full
+                    pages.add(drawPage(pageSources, pageWidth, shelfY, regions));
+                    pageSources.clear();
+                    shelfX = 0;
+                    shelfY = 0;
+                    shelfHeight = 0;
+                    pageWidth = 0;
+                }
+                source.slotX = shelfX;
+                source.slotY = shelfY;
+                pageSources.add(source);
+                shelfX += slotWidth;
+                shelfHeight = Math.max(shelfHeight, slotHeight);
+                pageWidth = Math.max(pageWidth, shelfX);
+            }
+            if (!pageSources.isEmpty()) {
+                pages.add(drawPage(pageSources, pageWidth, shelfY + shelfHeight, regions));
+            }
+            return new TextureAtlas(pages, regions);
+        }
+
+        // Copies the images onto a new page and adds their regions
+        private static Image drawPage(List<Source> sources, int width, int height, Map<String, AtlasRegion> regions) {
+            WritableImage page = new WritableImage(width, height);
+            PixelWriter writer = page.getPixelWriter();
+            for (Source source : sources) {
+                PixelReader reader = source.image.getPixelReader();
+                int x = source.slotX + PADDING;
+                int y = source.slotY + PADDING;
+                int w = source.width;
+                int h = source.height;
+
+                writer.setPixels(x, y, w, h, reader, 0, 0);
+                // Repeat the edges into the border
+                writer.setPixels(x, y - 1, w, 1, reader, 0, 0);
+                writer.setPixels(x, y + h, w, 1, reader, 0, h - 1);
+                writer.setPixels(x - 1, y, 1, h, reader, 0, 0);
+                writer.setPixels(x + w, y, 1, h, reader, w - 1, 0);
+
+                regions.put(source.path, new AtlasRegion(page, x, y, w, h));
+            }
+            return page;
+        }
+    }
+
+    // A decoded image waiting to be packed
+    private static final class Source {
+        final String path;
+        final Image image;
+        final int width;
+        final int height;
+        int slotX; // Top left corner of the image and its border on the page
+        int slotY;
+
+        Source(String path, Image image) {
+            this.path = path;
+            this.image = image;
+            this.width = (int) image.getWidth();
+            this.height = (int) image.getHeight();
+        }
+    }
+}
@@ -4,20 +4,15 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
 
-import com.kurabiye.kutd.model.Coordinates.*;
-import java.util.List;
-
 import com.kurabiye.kutd.model.Enemy.EnemyType;
-import com.kurabiye.kutd.model.Enemy.IEnemy;
-import com.kurabiye.kutd.model.Enemy.Decorators.EffectTypes;
-import com.kurabiye.kutd.model.Enemy.Decorators.EnemyDecorator;
-import com.kurabiye.kutd.model.Enemy.Decorators.SlowDownDecorator;
-import com.kurabiye.kutd.model.Enemy.Decorators.SynergeticMoveDecorator;
-import com.kurabiye.kutd.model.Enemy.Enemy;
 
 
 import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.model.Render.RenderFrame;
 import com.kurabiye.kutd.view.Animation.AnimationManager;
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
+import com.kurabiye.kutd.view.Assets.GameAtlas;
+import com.kurabiye.kutd.view.Assets.TextureAtlas;
 
 /**
  * EnemyView class for rendering enemies on the game canvas.
@@ -29,14 +24,17 @@ public class EnemyView {
     // private final int ROWS = 9; // Number of rows in the game map
 
     // Add this field to the EnemyView class
-    private Image zapIcon;
-    private Image slowIcon;
+    private AtlasRegion zapIcon;
+    private AtlasRegion slowIcon;
+
+    // Different enemy images for different enemy types, regions of the game atlas
+    private AtlasRegion[] enemyImages;
 
-    // Different enemy images for different enemy types
-    private Image[] enemyImages;
+    private final UserPreference userPreferences; // Settings of the match, used for the maximum health
     
-    public EnemyView(int tileSize) {
+    public EnemyView(int tileSize, UserPreference userPreferences) {
         this.TILE_SIZE = tileSize;
+        this.userPreferences = userPreferences;
         loadEnemyImages();
     }
     
@@ -45,33 +43,26 @@ public class EnemyView {
      */
     private void loadEnemyImages() {
         // We need images for each enemy type from the enum
-        enemyImages = new Image[EnemyType.values().length * 6];
+        enemyImages = new AtlasRegion[EnemyType.values().length * 6];
+        TextureAtlas atlas = GameAtlas.getInstance();
         
         for (EnemyType type : EnemyType.values()) {
             for (int i = 0; i < 6; i++) {
-                String imagePath = String.format("/assets/enemies/%s%d.png", type.name().toLowerCase(), i);
-                try {
-                    enemyImages[type.getValue() * 6 + i] = new Image(getClass().getResourceAsStream(imagePath));
-                } catch (Exception e) {
+                String imagePath = GameAtlas.enemyPath(type, i);
+                if (atlas.hasRegion(imagePath)) {
+                    enemyImages[type.getValue() * 6 + i] = atlas.getRegion(imagePath);
+                } else {
                     // If the image cannot be loaded, create a fallback image
-                    enemyImages[type.getValue() * 6 + i] = createFallbackImage(type);
+                    enemyImages[type.getValue() * 6 + i] = AtlasRegion.of(createFallbackImage(type));
                 }
             }
         }
 
-        // Load the zap icon
-        try {
-            zapIcon = new Image(getClass().getResourceAsStream("/assets/effects/Zap.png"));
-        } catch (Exception e) {
-            zapIcon = null; // Fallback if image can't be loaded
-        }
+        // Load the zap icon, null if it can't be loaded
+        zapIcon = atlas.hasRegion("/assets/effects/Zap.png") ? atlas.getRegion("/assets/effects/Zap.png") : null;
 
-        // Load the slow icon
-        try {
-            slowIcon = new Image(getClass().getResourceAsStream("/assets/effects/Slow.png"));
-        } catch (Exception e) {
-            slowIcon = null; // Fallback if image can't be loaded
-        }
+        // Load the slow icon, null if it can't be loaded
+        slowIcon = atlas.hasRegion("/assets/effects/Slow.png") ? atlas.getRegion("/assets/effects/Slow.png") : null;
     }
 
     /**
@@ -102,100 +93,77 @@ public class EnemyView {
     }
  
     /**
-     * Render all enemies on the canvas
+     * Render all enemies of a frame on the canvas
      * @param gc GraphicsContext to draw on
-     * @param enemies List of enemies to render
+     * @param frame Frame holding the enemies to render, enemies that arrived are not in it
      */
-    public void renderEnemies(GraphicsContext gc, List<IEnemy> enemies, int enemyImage) {
-        for (IEnemy enemy : enemies) {
-            renderEnemy(gc, enemy, enemyImage);
+    public void renderEnemies(GraphicsContext gc, RenderFrame frame, int enemyImage) {
+        for (int i = 0; i < frame.getEnemyCount(); i++) {
+            renderEnemy(gc, frame, i, enemyImage);
         }
     }
     
     /**
      * Render a single enemy on the canvas
      * @param gc GraphicsContext to draw on
-     * @param enemy Enemy to render
+     * @param frame Frame holding the enemy
+     * @param index Index of the enemy in the frame
      */
-    private void renderEnemy(GraphicsContext gc, IEnemy enemy, int enemyImage) {
-        // Skip rendering dead enemies or those that have arrived at destination
-        
-        if (enemy.hasArrived()) return;
-        /*if (enemy.isDead()){
-            System.out.println("death");
-
-        } */
-
-        
-        // Get the enemy's current position
-        Point2D position = enemy.getCoordinate();
-        
+    private void renderEnemy(GraphicsContext gc, RenderFrame frame, int index, int enemyImage) {
         // Transform model coordinates to view coordinates
         double modelWidth = 1920;  // The width used in the model
         //double modelHeight = 1080; // The height used in the model
         double scaleFactor = TILE_SIZE * COLS / modelWidth; // Calculate the scale factor
         
         // Scale positions from model space to view space
-        double viewX = position.getX() * scaleFactor;
-        double viewY = position.getY() * scaleFactor;
+        double viewX = frame.getEnemyX()[index] * scaleFactor;
+        double viewY = frame.getEnemyY()[index] * scaleFactor;
         
         // Center the enemy image on the path point by offsetting half the tile size
         double centeredX = viewX - (TILE_SIZE / 2);
         double centeredY = viewY - (TILE_SIZE / 2);
         
         // Determine which image to use based on enemy type
-        EnemyType enemyType = enemy.getEnemyType();
+        EnemyType enemyType = frame.getEnemyType(index);
         int imageEIndex = enemyType.getValue();
         
         // If the image is loaded successfully
         if (enemyImages[imageEIndex * 6 + enemyImage] != null) {
             // Atlas:
             // Draw the enemy image
-            // According to the enemy speed vector, we can determine the direction
-            // and image reflection might be needed
-            // I will use dot product to determine the direction
-
-            enemy.getMoveDirection().dotProduct(new Point2D(1, 0));
-            if (enemy.getMoveDirection().dotProduct(new Point2D(1, 0)) < 0) {
+            // The game thread checked the move direction, enemies moving left are flipped
+            if (frame.hasEnemyFlag(index, RenderFrame.FLAG_FACING_LEFT)) {
                 // Flip the image horizontally
                 gc.scale(-1, 1);
-                gc.drawImage(enemyImages[enemyType.getValue() * 6 + enemyImage], -centeredX - TILE_SIZE, centeredY, TILE_SIZE, TILE_SIZE);
+                enemyImages[enemyType.getValue() * 6 + enemyImage].draw(gc, -centeredX - TILE_SIZE, centeredY, TILE_SIZE, TILE_SIZE);
                 gc.scale(-1, 1); // Reset scale
             } else {
                 // Draw normally
-                gc.drawImage(enemyImages[enemyType.getValue() * 6 + enemyImage], centeredX, centeredY, TILE_SIZE, TILE_SIZE);
+                enemyImages[enemyType.getValue() * 6 + enemyImage].draw(gc, centeredX, centeredY, TILE_SIZE, TILE_SIZE);
             }
 
             // Draw health bar above the enemy
-            renderHealthBar(gc, enemy, viewX - TILE_SIZE/2, viewY - TILE_SIZE/2);
+            renderHealthBar(gc, enemyType, frame.getEnemyHealth()[index], viewX - TILE_SIZE/2, viewY - TILE_SIZE/2);
 
             // Draw zap icon for synergetic knights
-            if (enemy instanceof EnemyDecorator && 
-                enemy.getEnemyType() == EnemyType.KNIGHT && 
-                zapIcon != null) {
-
-                    if (((EnemyDecorator)enemy).hasEffect(EffectTypes.SYNERGYTIC_MOVEMENT)) {
+            if (enemyType == EnemyType.KNIGHT && 
+                zapIcon != null &&
+                frame.hasEnemyFlag(index, RenderFrame.FLAG_SYNERGETIC)) {
                 
                 double iconSize = TILE_SIZE / 3;
                 double iconX = viewX - (iconSize / 2) + 30;
                 double iconY = viewY - 45; // Position above the enemy with some padding
                 
-                gc.drawImage(zapIcon, iconX, iconY, iconSize, iconSize);
-
-
-                    }
+                zapIcon.draw(gc, iconX, iconY, iconSize, iconSize);
             }
 
             // Draw slow icon for slowed enemies 
-            if (enemy instanceof EnemyDecorator && slowIcon != null) {
-
-                if (((EnemyDecorator)enemy).hasEffect(EffectTypes.SLOW_DOWN)) {
+            if (slowIcon != null && frame.hasEnemyFlag(index, RenderFrame.FLAG_SLOWED)) {
                 double iconSize = TILE_SIZE / 3;
                 double iconX = viewX - (iconSize / 2) - 35; // Position to the right of the healthbar
                 double iconY = viewY - 48;
 
-                gc.drawImage(slowIcon, iconX, iconY, iconSize, iconSize);
-                }
+                slowIcon.draw(gc, iconX, iconY, iconSize, iconSize);
             }   
         }
     }
@@ -203,20 +171,19 @@ public class EnemyView {
     /**
      * Render health bar above the enemy
      * @param gc GraphicsContext to draw on
-     * @param enemy Enemy whose health to display
+     * @param enemyType Type of the enemy
+     * @param currentHealth Health of the enemy
      * @param x X coordinate of the enemy
      * @param y Y coordinate of the enemy
      */
-    private void renderHealthBar(GraphicsContext gc, IEnemy enemy, double x, double y) {
+    private void renderHealthBar(GraphicsContext gc, EnemyType enemyType, float currentHealth, double x, double y) {
 
 
         // We need to find maximum health for the enemy type from user preferences
-        // For now, let's use the current health as relative value
-        float currentHealth = enemy.getHealth();
         
         // Get the initial health for this enemy type from user preferences
-        UserPreference prefs = UserPreference.getInstance();
-        int maxHealth = prefs.getEnemyHealth()[enemy.getEnemyType().getValue()];
+        UserPreference prefs = userPreferences; // Settings of the match being rendered
+        int maxHealth = prefs.getEnemyHealth()[enemyType.getValue()];
         
         // Calculate health percentage
         double healthPercentage = currentHealth / maxHealth;
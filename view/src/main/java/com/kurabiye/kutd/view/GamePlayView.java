@@ -33,23 +33,25 @@ import java.util.Set;
 import com.kurabiye.kutd.controller.GamePlayController;
 import com.kurabiye.kutd.controller.MapSelectionController;
 import com.kurabiye.kutd.model.Collectable.GoldBag;
-import com.kurabiye.kutd.model.Collectable.ICollectable;
 import com.kurabiye.kutd.model.Coordinates.Point2D;
 import com.kurabiye.kutd.model.Enemy.EnemyType;
-import com.kurabiye.kutd.model.Enemy.IEnemy;
 import com.kurabiye.kutd.model.Listeners.IGameUpdateListener;
+import com.kurabiye.kutd.model.Managers.CollactableManager;
 import com.kurabiye.kutd.model.Managers.GameState;
 import com.kurabiye.kutd.model.Map.GameMap;
-import com.kurabiye.kutd.model.Projectile.IProjectile;
-import com.kurabiye.kutd.model.Projectile.ProjectileState;
-import com.kurabiye.kutd.model.Projectile.ProjectileType;
-import com.kurabiye.kutd.util.DynamicList.DynamicArrayList;
+import com.kurabiye.kutd.model.Render.RenderFrame;
+import com.kurabiye.kutd.model.Render.RenderFrameBuffer;
+import com.kurabiye.kutd.model.Tile.Tile;
 import com.kurabiye.kutd.util.ObserverPattern.Observer;
 import com.kurabiye.kutd.view.Animation.AnimationManager;
 import com.kurabiye.kutd.view.Animation.Sprite;
 import com.kurabiye.kutd.model.Tower.ITower;
 import com.kurabiye.kutd.model.Tower.TowerType;
 import com.kurabiye.kutd.view.Animation.AnimationManager;
+import com.kurabiye.kutd.view.Assets.AssetManager;
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
+import com.kurabiye.kutd.view.Assets.GameAtlas;
+import com.kurabiye.kutd.view.Assets.TextureAtlas;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -91,11 +93,11 @@ public class GamePlayView implements IGameUpdateListener, Observer {
     private static final int CANVAS_WIDTH = TILE_SIZE * COLS;
     private static final int CANVAS_HEIGHT = TILE_SIZE * ROWS;
 
-    private static final int TILE_COUNT = 35;
+    private static final int TILE_COUNT = GameAtlas.TILE_COUNT;
     private static final int GRASS_TILE_ID = 5;
     private static final int INTERACTIVE_TILE_ID = 15;
 
-    private final Image[] tileImages = new Image[TILE_COUNT];
+    private final AtlasRegion[] tileRegions = new AtlasRegion[TILE_COUNT]; // Tiles in the game atlas
     private Image[] buttonImages = new Image[3]; // For the three button icons
 
     private Image blueButtonImage;
@@ -104,7 +106,6 @@ public class GamePlayView implements IGameUpdateListener, Observer {
     private Image pauseImage; // Pause button image
     private Image accelerateImage; // Speed up image
     private Image settingsImage; // Settings image
-    private Image goldBagImage = new Image(getClass().getResourceAsStream("/assets/collectables/gold_bag.png"));
 
     private Button playPauseButton;
     private boolean isGamePlaying = true;
@@ -112,7 +113,9 @@ public class GamePlayView implements IGameUpdateListener, Observer {
     private boolean isEndGamePopupShown = false; // Flag to prevent multiple popups
     private Stage currentStage; // Store the stage reference
     private Pane root;
-    private Canvas canvas;
+    private Canvas mapCanvas; // Static terrain, redrawn only when the game map changes
+    private volatile boolean mapLayerDirty; // Set when the game map notified a change
+    private Canvas canvas; // Enemies, projectiles and effects, redrawn every frame
     private GraphicsContext gc;
     private HBox buttonContainer;
 
@@ -120,23 +123,25 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
     private GamePlayController controller;
     private AnimationManager animationManager = new AnimationManager(TILE_SIZE, COLS);
-    private Image goldBagSpriteSheet = new Image(getClass().getResourceAsStream("/assets/animations/G_Spawn.png"));
-    private Image explosionSpriteSheet = new Image(getClass().getResourceAsStream("/assets/animations/Explosions.png"));
+    private final AtlasRegion goldBagSpriteSheet = GameAtlas.getInstance().getRegion("/assets/animations/G_Spawn.png");
+    private final AtlasRegion explosionSpriteSheet = GameAtlas.getInstance().getRegion("/assets/animations/Explosions.png");
+    private final AtlasRegion knightDeathSpriteSheet = GameAtlas.getInstance().getRegion("/assets/animations/knight_death.png");
+    private final AtlasRegion goblinDeathSpriteSheet = GameAtlas.getInstance().getRegion("/assets/animations/goblin_death.png");
 
     private EnemyView enemyView;
     // private TowerView towerView;
     private ProjectileView projectileView;
 
 
-    private Image[] projectileImages = new Image[4]; // Array to store projectile images
+    private AtlasRegion[] projectileImages = new AtlasRegion[4]; // Projectile regions in the game atlas
 
-    List<IEnemy> enemies;
-    List<ITower> towers;
-    // Projectiles projectiles;
+    // The enemies, projectiles and gold bags are drawn from the frames of the game thread
+    private RenderFrameBuffer renderFrames;
+    private RenderFrame currentFrame; // The frame drawn last, it does not change until the next acquire
 
-    // Removed Enemiea Projectiles from here
+    private long lastRenderEventSequence; // Sequence of the last death, explosion or gold bag animated
 
-    List<IProjectile> projectiles;
+    private ViewUpdateCoalescer updateCoalescer; // Merges the game updates into one redraw per pulse
 
     private int currentGold;
     private int currentHealth;
@@ -162,9 +167,9 @@ public class GamePlayView implements IGameUpdateListener, Observer {
      *           /assets/buttons/, /assets/projectiles/, /assets/ui/)
      * 
      * @modifies this.controller, this.currentStage, this.isEndGamePopupShown
-     * @modifies this.enemyView, this.enemies, this.towers, this.projectiles
+     * @modifies this.enemyView, this.renderFrames
      * @modifies this.currentGold, this.currentHealth, this.currentWave
-     * @modifies this.canvas, this.gc, this.root, this.map
+     * @modifies this.mapCanvas, this.canvas, this.gc, this.root, this.map
      * @modifies stage (sets title, scene, maximized state, and shows the stage)
      * @modifies controller (sets listeners and starts the game)
      * 
@@ -202,19 +207,19 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         this.isEndGamePopupShown = false; // Reset flag on start
 
         this.controller = controller;
-        this.enemyView = new EnemyView(TILE_SIZE); // Pass just the tile size
+        this.enemyView = new EnemyView(TILE_SIZE, controller.getGameManager().getGameContext().getUserPreference()); // Pass the tile size and the match settings
         // this.towerView = new TowerView(TILE_SIZE); // Pass just the tile size
 
         this.projectileView = new ProjectileView(projectileImages, TILE_SIZE, COLS);
 
-        this.enemies = controller.getGameManager().getEnemies();
-        this.towers = controller.getGameManager().getTowers();
-
-        this.projectiles = controller.getGameManager().getProjectiles();
+        this.renderFrames = controller.getGameManager().getRenderFrames();
         this.currentGold = controller.getGameManager().getPlayer().getCurrentGold();
         this.currentHealth = controller.getGameManager().getPlayer().getCurrentHealth();
         this.currentWave = controller.getGameManager().getCurrentWaveIndex();
 
+        updateCoalescer = new ViewUpdateCoalescer(this::redraw);
+        updateCoalescer.start();
+
         controller.setGameUpdateListener(this);
         controller.setPlayerObserver(this);
         controller.setGameMapObserver(this);
@@ -222,20 +227,25 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
         map = controller.getGameManager().getGameMap().toIntArray();
 
+        // The terrain is drawn once to its own canvas, the moving things are drawn on a canvas above it
+        mapCanvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+        drawMap(mapCanvas.getGraphicsContext2D());
+
         // Create canvas with the calculated dimensions
         canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
         gc = canvas.getGraphicsContext2D();
-        drawMap(gc);
 
         // Create root pane to center the canvas
         root = new Pane();
         root.setPrefSize(SCREEN_WIDTH, SCREEN_HEIGHT);
 
         // Position canvas in the center if it's smaller than the screen
+        mapCanvas.setLayoutX((SCREEN_WIDTH - CANVAS_WIDTH) / 2);
+        mapCanvas.setLayoutY(0); // Set to top of screen
         canvas.setLayoutX((SCREEN_WIDTH - CANVAS_WIDTH) / 2);
         canvas.setLayoutY(0); // Set to top of screen
 
-        root.getChildren().add(canvas);
+        root.getChildren().addAll(mapCanvas, canvas);
 
         addUIElements(stage);
 
@@ -249,7 +259,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         // Use Timeline to delay cursor setting slightly
         Timeline cursorDelay = new Timeline(new KeyFrame(Duration.millis(100), e -> {
             try {
-                Image cursorImage = new Image(getClass().getResourceAsStream("/assets/ui/cursor.png"));
+                Image cursorImage = AssetManager.getInstance().getImage("/assets/ui/cursor.png");
                 if (cursorImage != null && !cursorImage.isError()) {
                     ImageCursor customCursor = new ImageCursor(cursorImage,
                             cursorImage.getWidth() / 2,
@@ -268,7 +278,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
         // Initialize gold sound effect
         try {
-            goldSound = new AudioClip(getClass().getResource("/assets/audio/gold.mp3").toExternalForm());
+            goldSound = AssetManager.getInstance().getAudioClip("/assets/audio/gold.mp3");
         } catch (Exception e) {
             System.err.println("Failed to load gold sound: " + e.getMessage());
             goldSound = null;
@@ -281,8 +291,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
     private void loadTiles() {
         for (int i = 0; i < TILE_COUNT; i++) {
-            String path = "/assets/tiles/tile" + i + ".png";
-            tileImages[i] = new Image(getClass().getResourceAsStream(path));
+            tileRegions[i] = GameAtlas.getInstance().getRegion(GameAtlas.tilePath(i));
         }
     }
 
@@ -300,41 +309,54 @@ public class GamePlayView implements IGameUpdateListener, Observer {
                 path = "/assets/buttons/bomb.png"; // Third button icon
             }
 
-            buttonImages[i] = new Image(getClass().getResourceAsStream(path));
+            buttonImages[i] = AssetManager.getInstance().getImage(path);
         }
 
-        blueButtonImage = new Image(getClass().getResourceAsStream("/assets/ui/blue-button.png"));
-        iconsImage = new Image(getClass().getResourceAsStream("/assets/ui/status-icons.png"));
+        blueButtonImage = AssetManager.getInstance().getImage("/assets/ui/blue-button.png");
+        iconsImage = AssetManager.getInstance().getImage("/assets/ui/status-icons.png");
 
         // Load control button images
-        playImage = new Image(getClass().getResourceAsStream("/assets/buttons/play.png"));
-        pauseImage = new Image(getClass().getResourceAsStream("/assets/buttons/pause.png"));
-        accelerateImage = new Image(getClass().getResourceAsStream("/assets/buttons/accelerate.png"));
-        settingsImage = new Image(getClass().getResourceAsStream("/assets/buttons/settings.png"));
+        playImage = AssetManager.getInstance().getImage("/assets/buttons/play.png");
+        pauseImage = AssetManager.getInstance().getImage("/assets/buttons/pause.png");
+        accelerateImage = AssetManager.getInstance().getImage("/assets/buttons/accelerate.png");
+        settingsImage = AssetManager.getInstance().getImage("/assets/buttons/settings.png");
     }
 
     private void loadProjectileImages() {
-        projectileImages[0] = new Image(getClass().getResourceAsStream("/assets/projectiles/arrow.png")); // Arrow projectile
-        projectileImages[1] = new Image(getClass().getResourceAsStream("/assets/projectiles/magic.png")); // Magic projectile
-        projectileImages[2] = new Image(getClass().getResourceAsStream("/assets/projectiles/bomb.png")); // Artillery projectile
-        projectileImages[3] = new Image(getClass().getResourceAsStream("/assets/projectiles/magic2.png")); // Ice projectile
+        TextureAtlas atlas = GameAtlas.getInstance();
+        projectileImages[0] = atlas.getRegion("/assets/projectiles/arrow.png"); // Arrow projectile
+        projectileImages[1] = atlas.getRegion("/assets/projectiles/magic.png"); // Magic projectile
+        projectileImages[2] = atlas.getRegion("/assets/projectiles/bomb.png"); // Artillery projectile
+        projectileImages[3] = atlas.getRegion("/assets/projectiles/magic2.png"); // Ice projectile
     }
 
     private void drawMap(GraphicsContext gc) {
         for (int row = 0; row < ROWS; row++) {
             for (int col = 0; col < COLS; col++) {
                 // make grass background
-                gc.drawImage(tileImages[GRASS_TILE_ID], col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+                tileRegions[GRASS_TILE_ID].draw(gc, col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
 
                 // place the items
                 int tileId = map[row][col];
                 if (tileId != GRASS_TILE_ID) {
-                    gc.drawImage(tileImages[tileId], col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+                    tileRegions[tileId].draw(gc, col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
                 }
             }
         }
     }
 
+    /**
+     * Draws the terrain again after a tower was built, sold or upgraded.
+     * Must be called on the JavaFX thread.
+     */
+    private void redrawMapLayer() {
+        mapLayerDirty = false;
+        map = controller.getGameManager().getGameMap().toIntArray();
+        GraphicsContext mapGc = mapCanvas.getGraphicsContext2D();
+        mapGc.clearRect(0, 0, mapCanvas.getWidth(), mapCanvas.getHeight());
+        drawMap(mapGc);
+    }
+
     private void setupClickHandler() {
         canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
             // First check for collectables
@@ -346,10 +368,11 @@ public class GamePlayView implements IGameUpdateListener, Observer {
             double scaleFactor = TILE_SIZE * COLS / modelWidth;
             Point2D clickPoint = new Point2D(clickX / scaleFactor, clickY / scaleFactor);
 
-            // Try to collect gold bag first
-            boolean collected = controller.getGameManager().handleCollectableClick(clickPoint);
+            // Try to collect gold bag first, the game thread collects it before its next tick
+            boolean collected = isGoldBagAt(clickPoint);
 
             if (collected) {
+                controller.collectAt(clickPoint);
                 animationManager.handleClick(clickPoint);
             }
 
@@ -433,7 +456,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         sellButton.setOnAction(e -> handleSellButtonClick(row, col));
 
         ITower clickedTower = null;
-        for (ITower tower : controller.getGameManager().getTowers()) {
+        for (ITower tower : controller.getGameManager().getPublishedTowers()) { // The game thread may be changing the live list
             if (tower.getTileCoordinate().getTileX() == col && tower.getTileCoordinate().getTileY() == row) {
                 clickedTower = tower;
                 break;
@@ -498,13 +521,9 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
     private void handleUpgradeButtonClick(int row, int col) {
 
-        boolean success = controller.upgradeTower(col, row);
+        controller.upgradeTower(col, row);
 
-        if (success) {
-            removeButtonContainer();
-        } else {
-            removeButtonContainer();
-        }
+        removeButtonContainer();
     }
 
     private void showBuildButtons(int row, int col) {
@@ -601,11 +620,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         }
 
         // Tell the controller to build a tower of the selected type
-        boolean success = controller.buildTower(col, row, towerType);
-
-        if (success) {
-        } else {
-        }
+        controller.buildTower(col, row, towerType);
 
         removeButtonContainer();
     }
@@ -806,6 +821,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
             // End the current game
             musicManager.stopCurrentMusic();
 
+            updateCoalescer.stop();
             controller.endGame();
 
             // Reset stage to normal size before returning to main menu
@@ -885,6 +901,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         playAgainButton.setOnAction(event -> {
             // Clean up current game
             musicManager.stopCurrentMusic();
+            updateCoalescer.stop();
             controller.endGame();
             root.getChildren().remove(overlay);
 
@@ -897,6 +914,7 @@ public class GamePlayView implements IGameUpdateListener, Observer {
             
             musicManager.stopCurrentMusic(); // Stop any current music
 
+            updateCoalescer.stop();
             controller.endGame(); // Clean up the current game
             root.getChildren().remove(overlay); // Remove the popup
             
@@ -926,21 +944,35 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         overlay.toFront();
     }
 
-    // Method called by the controller to update the game view
+    // Method called by the game thread after every loop frame
     @Override
     public void onGameUpdate(double deltaTime) {
-        // This must be called on the JavaFX Application Thread
-        // So we wrap it in Platform.runLater
-        Platform.runLater(() -> {
-            updateView(deltaTime);
-
-            // Check game state for win/loss condition
-            GameState currentState = controller.getGameManager().getGameState();
-            if (!isEndGamePopupShown && (currentState == GameState.GAME_WON || currentState == GameState.GAME_LOST)) {
-                showEndGamePopup(currentState, currentStage);
-                isEndGamePopupShown = true; // Set flag to true once popup is shown
-            }
-        });
+        // Only mark the update, the coalescer redraws once on the next JavaFX pulse
+        updateCoalescer.post(deltaTime);
+    }
+
+    /**
+     * Redraws the game on the JavaFX thread, called by the update coalescer.
+     * @param deltaTime The time since the last redraw, including the updates that were dropped
+     */
+    private void redraw(double deltaTime) {
+        updateView(deltaTime);
+
+        // Check game state for win/loss condition
+        GameState currentState = controller.getGameManager().getGameState();
+        if (!isEndGamePopupShown && (currentState == GameState.GAME_WON || currentState == GameState.GAME_LOST)) {
+            showEndGamePopup(currentState, currentStage);
+            isEndGamePopupShown = true; // Set flag to true once popup is shown
+            updateCoalescer.stop(); // Nothing changes on the canvas anymore
+        }
+    }
+
+    /**
+     * Returns how many game updates were not drawn because the JavaFX thread was behind.
+     * @return the dropped update count
+     */
+    public long getDroppedUpdateCount() {
+        return updateCoalescer.getDroppedUpdateCount();
     }
 
     private double pastTime = 0.0;
@@ -956,159 +988,116 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
         int imgNum = ((int) (pastTime * 6)) % 6;
 
-        // GraphicsContext gc = canvas.getGraphicsContext2D();
-        map = controller.getGameManager().getGameMap().toIntArray();
+        // The terrain is on the map canvas below, it is only redrawn when a tile changed
+        if (mapLayerDirty) {
+            redrawMapLayer();
+        }
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-        drawMap(gc);
 
-        for (IProjectile projectile : projectiles) {
-            // Get the projectile's current position
-            Point2D position = projectile.getCoordinate();
-
-            // Transform model coordinates to view coordinates using the same scaling as for
-            // enemies
-            double modelWidth = 1920; // The width used in the model
-            double scaleFactor = TILE_SIZE * COLS / modelWidth; // Calculate the scale factor
-
-            // Scale positions from model space to view space
-            double viewX = position.getX() * scaleFactor;
-            double viewY = position.getY() * scaleFactor;
-
-            // Determine the projectile type and select the corresponding image
-            Image projectileImage = null;
-            double imageSize = 20; // Default size for projectiles
-            boolean shouldRotate = false;
-
-            switch (projectile.getProjectileType()) {
-                case ARROW:
-                    projectileImage = projectileImages[0];
-                    imageSize = 30; // Larger size for arrows
-                    shouldRotate = true; // Arrows need to be rotated
-                    break;
-                case MAGIC:
-                    // If shot from a level 2 magic tower, use a different image
-                  
-                        projectileImage = projectileImages[3]; // Use ice projectile image
-                    
-                    
-                    imageSize = 35; // Larger size for magic projectiles
-                    break;
-                case ARTILLERY:
+        // Everything below is drawn from the latest frame of the game thread, never from the live lists
+        RenderFrame frame = renderFrames.acquire();
+        currentFrame = frame;
 
-                    projectileImage = projectileImages[2];
-                    imageSize = 15; // Smaller size for bombs
-                    break;
-            }
+        playRenderEvents(frame);
 
-            // Draw the projectile image if it exists
-            if (projectileImage != null) {
-                if (shouldRotate) {
-                    // Calculate the rotation angle based on the speed vector
-                    double angle = Math.toDegrees(
-                            Math.atan2(projectile.getSpeedVector().getY(), projectile.getSpeedVector().getX()));
+        // Draw enemies, then all projectiles in one pass
+        enemyView.renderEnemies(gc, frame, imgNum);
+        projectileView.renderProjectiles(gc, frame);
 
-                    // Save the current state of the GraphicsContext
-                    gc.save();
+        // By Atlas
+        renderCollectables(gc, frame);
+        renderTowerRanges(gc);
+        animationManager.update(deltaTime);
 
-                    // Translate to the center of the projectile
-                    gc.translate(viewX, viewY);
 
-                    // Rotate the canvas
-                    gc.rotate(angle);
+        //controller.getGameManager().getCollisionManager().commitAll();
+    
+    }
 
-                    // Draw the image centered at (0, 0) after translation
-                    gc.drawImage(projectileImage, -imageSize / 2, -imageSize / 2, imageSize, imageSize);
 
-                    // Restore the GraphicsContext to its original state
-                    gc.restore();
-                } else {
-                    // Draw the image without rotation
-                    gc.drawImage(projectileImage, viewX - imageSize / 2, viewY - imageSize / 2, imageSize, imageSize);
-                }
+    /**
+     * Starts the animations of the deaths, explosions and gold bags the view has not seen yet.
+     * Every frame carries the latest events, so events of skipped frames are played as well.
+     * 
+     * @param frame The frame being drawn
+     */
+    private void playRenderEvents(RenderFrame frame) {
+        for (int i = 0; i < frame.getEventCount(); i++) {
+            long sequence = frame.getEventSequence(i);
+            if (sequence <= lastRenderEventSequence) {
+                continue; // Already played
             }
-
-        
-
-
-            if (projectile.getProjectileType() == ProjectileType.ARTILLERY &&
-                projectile.getProjectileState() == ProjectileState.STOPPED &&
-                !projectile.hasExplosionAnimated()) {
-
-                animationManager.createAnimation(
-                        gc,
-                        explosionSpriteSheet, // patlama sprite'ınızın Image'ı
-                        position, // koordinatlar
-                        0.2, // frame süresi (örneğin)
-                        1.4, // toplam animasyon süresi
-                        64, // genişlik
-                        64 // yükseklik
-                );
-
-                projectile.setExplosionAnimated(true);
+            lastRenderEventSequence = sequence;
+
+            Point2D position = new Point2D(frame.getEventX(i), frame.getEventY(i));
+            switch (frame.getEventType(i)) {
+                case ENEMY_DIED:
+                    if (frame.getEventSubtype(i) == EnemyType.KNIGHT.ordinal()) {
+                        animationManager.createAnimation(gc, knightDeathSpriteSheet, position, 0.2, 1.0, 120, 120);
+                    } else if (frame.getEventSubtype(i) == EnemyType.GOBLIN.ordinal()) {
+                        animationManager.createAnimation(gc, goblinDeathSpriteSheet, position, 0.1, 0.8, 64, 64);
+                    }
+                    break;
+                case EXPLOSION:
+                    animationManager.createAnimation(
+                            gc,
+                            explosionSpriteSheet, // patlama sprite'ınızın Image'ı
+                            position, // koordinatlar
+                            0.2, // frame süresi (örneğin)
+                            1.4, // toplam animasyon süresi
+                            64, // genişlik
+                            64 // yükseklik
+                    );
+                    break;
+                case GOLD_BAG_SPAWNED:
+                    animationManager.createAnimation(
+                            gc, goldBagSpriteSheet, position, 0.2, GoldBag.LIFESPAN, 80, 80);
+                    break;
             }
-
         }
+    }
 
-        for (IEnemy enemy : enemies) {
-            if (enemy.isDead()) {
-                //System.out.println("heyyyy");
-                if(enemy.getEnemyType() == EnemyType.KNIGHT){
-                    Image deathStrip1 = new Image(getClass().getResourceAsStream("/assets/animations/knight_death.png"));
-                    animationManager.createAnimation(gc, deathStrip1, enemy.getCoordinate(), 0.2, 1.0, 120, 120);
-
-                }
-                if(enemy.getEnemyType() == EnemyType.GOBLIN){
-                    Image deathStrip2 = new Image(getClass().getResourceAsStream("/assets/animations/goblin_death.png"));
-                    animationManager.createAnimation(gc, deathStrip2, enemy.getCoordinate(), 0.1, 0.8, 64, 64);
-
-                }
-                
+    /**
+     * Checks whether a gold bag drawn in the last frame is under the click.
+     * The game thread checks the click again when it collects the bag.
+     *
+     * @param clickPoint The click in model space
+     * @return true if a gold bag is within the click radius
+     */
+    private boolean isGoldBagAt(Point2D clickPoint) {
+        if (currentFrame == null) {
+            return false; // Nothing drawn yet
+        }
+        double[] goldBagX = currentFrame.getGoldBagX();
+        double[] goldBagY = currentFrame.getGoldBagY();
+        for (int i = 0; i < currentFrame.getGoldBagCount(); i++) {
+            double dx = goldBagX[i] - clickPoint.getX();
+            double dy = goldBagY[i] - clickPoint.getY();
+            if (dx * dx + dy * dy <= CollactableManager.CLICK_RADIUS * CollactableManager.CLICK_RADIUS) {
+                return true;
             }
-
         }
-
-        // Draw enemies
-        enemyView.renderEnemies(gc, enemies, imgNum);
-        projectileView.renderProjectiles(gc, projectiles);
-
-        // By Atlas
-        renderCollectables(gc);
-        renderTowerRanges(gc);
-        animationManager.update(deltaTime);
-
-
-        //controller.getGameManager().getCollisionManager().commitAll();
-    
+        return false;
     }
 
-
-    public void renderCollectables(GraphicsContext gc) {
-        DynamicArrayList<ICollectable<?>> collectables = controller.getGameManager().getCollectables();
-
+    public void renderCollectables(GraphicsContext gc, RenderFrame frame) {
         // Calculate scale factor
         double modelWidth = 1920; // The width used in the model
         double scaleFactor = TILE_SIZE * COLS / modelWidth;
 
-        for (ICollectable<?> collectable : collectables) {
-            if (collectable instanceof GoldBag) {
-                GoldBag goldBag = (GoldBag) collectable;
-                Point2D pos = goldBag.getCoordinates();
-
-                // Scale the position from model space to view space
-                double viewX = pos.getX() * scaleFactor;
-                double viewY = pos.getY() * scaleFactor;
+        double[] goldBagX = frame.getGoldBagX();
+        double[] goldBagY = frame.getGoldBagY();
+        int[] goldBagAmount = frame.getGoldBagAmount();
 
-                if (!goldBag.isAnimated()) {
-                    int id = animationManager.createAnimationReturningId(
-                            gc, goldBagSpriteSheet, pos, 0.2, goldBag.getLifespan(), 80, 80);
-                    goldBag.setAnimated(true);
-                    goldBag.setAnimationId(id); // opsiyonel: animasyonu iptal etmek istersen
-                }
+        // Collected gold bags are not in the frame
+        for (int i = 0; i < frame.getGoldBagCount(); i++) {
+            // Scale the position from model space to view space
+            double viewX = goldBagX[i] * scaleFactor;
+            double viewY = goldBagY[i] * scaleFactor;
 
-                gc.setFill(Color.BLACK);
-                gc.fillText(String.valueOf(goldBag.getItem()),
-                        viewX, viewY - 20);
-            }
+            gc.setFill(Color.BLACK);
+            gc.fillText(String.valueOf(goldBagAmount[i]),
+                    viewX, viewY - 20);
         }
     }
 
@@ -1142,6 +1131,36 @@ public class GamePlayView implements IGameUpdateListener, Observer {
 
     @Override
     public void update(Object arg) {
+        if (arg instanceof Tile) {
+            // The game map changed, the terrain layer is drawn again
+            boolean redrawPending = mapLayerDirty;
+            mapLayerDirty = true;
+            if (Platform.isFxApplicationThread()) {
+                redrawMapLayer();
+            } else if (!redrawPending) {
+                // The player commands change the map on the game thread, and a paused game draws no frames,
+                // so the change is shown right away instead of at the next frame
+                Platform.runLater(() -> {
+                    if (mapLayerDirty) {
+                        redrawMapLayer(); // Not drawn by a frame in between
+                    }
+                });
+            }
+            return;
+        }
+
+        // The player changes on the game thread when gold is earned or health is lost
+        if (Platform.isFxApplicationThread()) {
+            updatePlayerInfo();
+        } else {
+            Platform.runLater(this::updatePlayerInfo);
+        }
+    }
+
+    /**
+     * Shows the gold, health and wave of the player. Must be called on the JavaFX thread.
+     */
+    private void updatePlayerInfo() {
         int previousGold = this.currentGold;
         currentGold = controller.getGameManager().getPlayer().getCurrentGold();
         currentHealth = controller.getGameManager().getPlayer().getCurrentHealth();
@@ -1164,15 +1183,5 @@ public class GamePlayView implements IGameUpdateListener, Observer {
         if (waveText != null) {
             waveText.setText(String.valueOf(currentWave + 1)); // +1 for 1-based display
         }
-
-        map = controller.getGameManager().getGameMap().toIntArray();
-
-        if (gc == null) {
-            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-            drawMap(gc);
-        }
-
-        double deltaTime = 0.0; // Placeholder for actual deltaTime
-        updateView(deltaTime); // Pass a dummy deltaTime for now
     }
 }
@@ -1,5 +1,6 @@
 package com.kurabiye.kutd.view;
 
+import com.kurabiye.kutd.view.Assets.AssetManager;
 import javafx.animation.FadeTransition;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -26,9 +27,9 @@ public class LaunchScreenView {
         root.setStyle("-fx-background-color:rgb(33, 33, 33);");
 
         // Load all cookie PNG images
-        Image cookieFullImage = new Image(getClass().getClassLoader().getResource("assets/cookie_full.png").toExternalForm());
-        Image cookieBitten2Image = new Image(getClass().getClassLoader().getResource("assets/cookie_bitten2.png").toExternalForm());
-        Image cookieBiteImage = new Image(getClass().getClassLoader().getResource("assets/cookie_bite.png").toExternalForm());
+        Image cookieFullImage = AssetManager.getInstance().getImage("/assets/cookie_full.png");
+        Image cookieBitten2Image = AssetManager.getInstance().getImage("/assets/cookie_bitten2.png");
+        Image cookieBiteImage = AssetManager.getInstance().getImage("/assets/cookie_bite.png");
         
         // Create ImageViews for each cookie state
         ImageView cookieFull = new ImageView(cookieFullImage);
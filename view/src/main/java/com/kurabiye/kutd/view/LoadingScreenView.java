@@ -1,5 +1,10 @@
 package com.kurabiye.kutd.view;
 
+import com.kurabiye.kutd.model.Map.GameMapRepository;
+import com.kurabiye.kutd.view.Assets.AssetManager;
+import com.kurabiye.kutd.view.Assets.AssetPreloader;
+import com.kurabiye.kutd.view.Assets.GameAtlas;
+import com.kurabiye.kutd.view.Assets.IPreloadListener;
 import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.KeyFrame;
@@ -27,13 +32,20 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * LoadingScreenView shows the loading screen while the assets of the game are loaded.
+ *
+ * The images, the texture atlas, the audio and the maps are loaded in parallel by an AssetPreloader,
+ * and the progress bar shows the share of finished loading tasks. Assets that fail to load are
+ * reported and loaded again on demand by the screen that needs them.
+ */
 public class LoadingScreenView {
 
+    private static final double[] MESSAGE_THRESHOLDS = {0.3, 0.6, 0.8}; // Progress values that change the message
+
     private String[] loadingMessages = {
         "The blades are being sharpened...",
         "Goblins are meeting up...",
@@ -44,8 +56,8 @@ public class LoadingScreenView {
 
     private ProgressBar progressBar;
     private Label messageLabel;
-    private ScheduledExecutorService scheduler;
-    private double progress = 0.0;
+    private AssetPreloader preloader;
+    private double progress = 0.0; // Progress shown on the bar
     private Stage stage; // Store the stage
 
     public void start(Stage stage) {
@@ -54,7 +66,7 @@ public class LoadingScreenView {
         BorderPane root = new BorderPane();
 
         // Load background image
-        Image backgroundImage = new Image(getClass().getClassLoader().getResource("assets/castle_loadingbg.png").toExternalForm());
+        Image backgroundImage = AssetManager.getInstance().getImage("/assets/castle_loadingbg.png");
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(600);
         backgroundView.setFitHeight(400);
@@ -115,11 +127,8 @@ public class LoadingScreenView {
         stage.setScene(scene);
         stage.show();
 
-        // Simulate loading with a progress bar
-        simulateLoading();
-        
-        MainMenuView mainMenuView = new MainMenuView();
-        //mainMenuView.start(stage);
+        // Load the assets with a progress bar
+        startLoading();
     }
 
     private Pane createAnimatedEnemies() {
@@ -148,46 +157,98 @@ public class LoadingScreenView {
         return enemiesPane;
     }
 
-    private void simulateLoading() {
-        scheduler = Executors.newScheduledThreadPool(1);
+    /**
+     * Creates the loading tasks of everything the menus and the game screen load when they open.
+     */
+    private AssetPreloader createManifest() {
+        AssetPreloader manifest = new AssetPreloader();
+
+        // Screens and buttons
+        manifest.addImages(
+            "/assets/background.jpeg",
+            "/assets/cookie_full.png",
+            "/assets/cookie_bitten1.png",
+            "/assets/cookie_bitten2.png",
+            "/assets/cookie_bite.png",
+            "/assets/ui/cursor.png",
+            "/assets/ui/blue-button.png",
+            "/assets/ui/status-icons.png",
+            "/assets/buttons/star.png",
+            "/assets/buttons/arrow.png",
+            "/assets/buttons/bomb.png",
+            "/assets/buttons/play.png",
+            "/assets/buttons/pause.png",
+            "/assets/buttons/accelerate.png",
+            "/assets/buttons/settings.png");
+
+        // Tiles, enemies, projectiles, effects and animation sheets are packed into one atlas
+        manifest.add("texture atlas", GameAtlas::getInstance);
+
+        // Music and sound effects
+        manifest.add("/assets/audio/background_music.mp3",
+            () -> AssetManager.getInstance().getMedia("/assets/audio/background_music.mp3"));
+        manifest.add("/assets/audio/combat.mp3",
+            () -> AssetManager.getInstance().getMedia("/assets/audio/combat.mp3"));
+        manifest.add("/assets/audio/gold.mp3",
+            () -> AssetManager.getInstance().getAudioClip("/assets/audio/gold.mp3"));
+
+        // Saved maps
+        manifest.add("maps", GameMapRepository::getInstance);
+
+        return manifest;
+    }
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (progress >= 1.0) {
-                scheduler.shutdown();
-                Platform.runLater(this::loadingComplete);
-                return;
+    private void startLoading() {
+        preloader = createManifest();
+        preloader.start(new IPreloadListener() {
+            @Override
+            public void onProgress(int completed, int total) {
+                double value = (double) completed / total;
+                Platform.runLater(() -> showProgress(value));
             }
 
-            progress += 0.01 + (Math.random() * 0.01);
-            if (progress > 1.0) progress = 1.0;
-
-            Platform.runLater(() -> {
-                progressBar.setProgress(progress);
-
-                if ((progress > 0.3 && progress < 0.32) ||
-                    (progress > 0.6 && progress < 0.62) ||
-                    (progress > 0.8 && progress < 0.82)) {
-                    Random random = new Random();
-                    messageLabel.setText(loadingMessages[random.nextInt(loadingMessages.length)]);
-
-                    Timeline timeline = new Timeline(
-                        new KeyFrame(Duration.ZERO,
-                            new KeyValue(messageLabel.scaleXProperty(), 1.0),
-                            new KeyValue(messageLabel.scaleYProperty(), 1.0)),
-                        new KeyFrame(Duration.millis(150),
-                            new KeyValue(messageLabel.scaleXProperty(), 1.2),
-                            new KeyValue(messageLabel.scaleYProperty(), 1.2)),
-                        new KeyFrame(Duration.millis(300),
-                            new KeyValue(messageLabel.scaleXProperty(), 1.0),
-                            new KeyValue(messageLabel.scaleYProperty(), 1.0))
-                    );
-                    timeline.play();
-                }
-            });
-        }, 0, 100, TimeUnit.MILLISECONDS);
+            @Override
+            public void onFinished(Map<String, Throwable> failures) {
+                failures.forEach((name, error) ->
+                    System.err.println("Failed to preload " + name + ": " + error.getMessage()));
+                Platform.runLater(LoadingScreenView.this::loadingComplete);
+            }
+        });
+    }
+
+    private void showProgress(double value) {
+        if (value <= progress) {
+            return; // Progress updates may arrive out of order
+        }
+        double previous = progress;
+        progress = value;
+        progressBar.setProgress(progress);
+
+        for (double threshold : MESSAGE_THRESHOLDS) {
+            if (previous < threshold && progress >= threshold) {
+                Random random = new Random();
+                messageLabel.setText(loadingMessages[random.nextInt(loadingMessages.length)]);
+
+                Timeline timeline = new Timeline(
+                    new KeyFrame(Duration.ZERO,
+                        new KeyValue(messageLabel.scaleXProperty(), 1.0),
+                        new KeyValue(messageLabel.scaleYProperty(), 1.0)),
+                    new KeyFrame(Duration.millis(150),
+                        new KeyValue(messageLabel.scaleXProperty(), 1.2),
+                        new KeyValue(messageLabel.scaleYProperty(), 1.2)),
+                    new KeyFrame(Duration.millis(300),
+                        new KeyValue(messageLabel.scaleXProperty(), 1.0),
+                        new KeyValue(messageLabel.scaleYProperty(), 1.0))
+                );
+                timeline.play();
+                break; // One message change per update
+            }
+        }
     }
 
     private void loadingComplete() {
+        progressBar.setProgress(1.0);
+
         Rectangle flashOverlay = new Rectangle(0, 0, 600, 400);
         flashOverlay.setFill(Color.WHITE);
         flashOverlay.setOpacity(0);
@@ -214,8 +275,8 @@ public class LoadingScreenView {
     }
 
     public void shutdown() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
+        if (preloader != null) {
+            preloader.shutdown();
         }
     }
 }
\ No newline at end of file
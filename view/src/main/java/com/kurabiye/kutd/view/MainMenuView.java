@@ -5,6 +5,7 @@ import com.kurabiye.kutd.controller.MainMenuController;
 import com.kurabiye.kutd.controller.MapEditorController;
 import com.kurabiye.kutd.controller.MapSelectionController;
 import com.kurabiye.kutd.controller.SettingsController;
+import com.kurabiye.kutd.view.Assets.AssetManager;
 
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -34,7 +35,7 @@ public class MainMenuView {
         musicManager.playBackgroundMusic();
 
         // Load background image
-        Image backgroundImage = new Image(getClass().getClassLoader().getResource("assets/background.jpeg").toExternalForm());
+        Image backgroundImage = AssetManager.getInstance().getImage("/assets/background.jpeg");
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(600);
         backgroundView.setFitHeight(400);
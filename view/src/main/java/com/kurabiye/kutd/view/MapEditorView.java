@@ -28,6 +28,9 @@ import com.kurabiye.kutd.controller.MapEditorController;
 import com.kurabiye.kutd.model.Coordinates.TilePoint2D;
 import com.kurabiye.kutd.model.Map.GameMap;
 import com.kurabiye.kutd.model.Map.MapOperationResult;
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
+import com.kurabiye.kutd.view.Assets.GameAtlas;
+import com.kurabiye.kutd.view.Assets.TextureAtlas;
 
 /**
  *  MapEditorView
@@ -43,7 +46,7 @@ public class MapEditorView {
      static final int COLS = 16;
     private static final int BUTTON_SIZE = 48;
 
-    private final Image[] tileImages = new Image[32]; //0-31 tile images
+    private final AtlasRegion[] tileImages = new AtlasRegion[32]; //0-31 tile images, regions of the game atlas
      
         
      int[][] mapData;
@@ -116,13 +119,14 @@ public class MapEditorView {
     }
 
     private void loadTileImages() {
+        TextureAtlas atlas = GameAtlas.getInstance();
         for (int i = 0; i < 32; i++) {
-            String path = "/assets/tiles/tile" + i + ".png";
-            try {
-                tileImages[i] = new Image(getClass().getResourceAsStream(path));
-            } catch (Exception e) {
+            String path = GameAtlas.tilePath(i);
+            if (atlas.hasRegion(path)) {
+                tileImages[i] = atlas.getRegion(path);
+            } else {
                 System.err.println("Failed to load tile image: " + path);
-                tileImages[i] = createFallbackTileImage(i);
+                tileImages[i] = AtlasRegion.of(createFallbackTileImage(i));
             }
         }
     }
@@ -191,7 +195,7 @@ public class MapEditorView {
     }
 
     private Button createTileButton(int tileType) {
-        ImageView imageView = new ImageView(tileImages[tileType]);
+        ImageView imageView = tileImages[tileType].createImageView();
         imageView.setFitWidth(BUTTON_SIZE);
         imageView.setFitHeight(BUTTON_SIZE);
 
@@ -252,11 +256,11 @@ public class MapEditorView {
         mapData = controller.getTileCodeMatrix();
         for (int row = 0; row < ROWS; row++) {
             for (int col = 0; col < COLS; col++) {
-                gc.drawImage(tileImages[5], col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+                tileImages[5].draw(gc, col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
                 
                 int topTile = mapData[row][col];
                 if (topTile != NO_TILE_FLAG && topTile != 5 && tileImages[topTile] != null) {
-                    gc.drawImage(tileImages[topTile], col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+                    tileImages[topTile].draw(gc, col * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
                 }
                 /*int tileId = mapData[row][col];
                 if (tileId >= 0 && tileId < tileImages.length && tileImages[tileId] != null) {
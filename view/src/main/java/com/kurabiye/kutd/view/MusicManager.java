@@ -1,6 +1,7 @@
 package com.kurabiye.kutd.view;
 
 import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.view.Assets.AssetManager;
 
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -22,15 +23,13 @@ public class MusicManager {
     private void loadMusic() {
         try {
             // Load background music for gameplay
-            Media backgroundMusic = new Media(getClass().getClassLoader()
-                .getResource("assets/audio/background_music.mp3").toExternalForm());
+            Media backgroundMusic = AssetManager.getInstance().getMedia("/assets/audio/background_music.mp3");
             backgroundMusicPlayer = new MediaPlayer(backgroundMusic);
             backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop forever
             backgroundMusicPlayer.setVolume(volume);
             
             // Load menu music
-            Media combat = new Media(getClass().getClassLoader()
-                .getResource("assets/audio/combat.mp3").toExternalForm());
+            Media combat = AssetManager.getInstance().getMedia("/assets/audio/combat.mp3");
             combatPlayer = new MediaPlayer(combat);
             combatPlayer.setCycleCount(MediaPlayer.INDEFINITE);
             combatPlayer.setVolume(volume);
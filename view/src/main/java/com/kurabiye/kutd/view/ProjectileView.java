@@ -1,38 +1,47 @@
 package com.kurabiye.kutd.view;
 
-import com.kurabiye.kutd.model.Coordinates.Point2D;
-import com.kurabiye.kutd.model.Projectile.IProjectile;
+import com.kurabiye.kutd.model.Render.RenderFrame;
+import com.kurabiye.kutd.view.Assets.AtlasRegion;
+import com.kurabiye.kutd.view.Assets.RotatedSprite;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-
-import java.util.List;
 
+/**
+ * ProjectileView draws the projectiles of a frame, in a single pass over the frame.
+ * Arrows are drawn from a pre-rotated sprite, so every projectile is one drawImage.
+ */
 public class ProjectileView {
-    private final Image[] projectileImages;
+    private static final int ARROW_ANGLE_BUCKETS = 64; // Steps of 5.6 degrees
+
+    private final AtlasRegion[] projectileImages;
+    private final RotatedSprite arrowSprite; // The arrow turned into every bucket
     private final int TILE_SIZE;
     private final int COLS;
     private final double MODEL_WIDTH = 1920.0;
 
-    public ProjectileView(Image[] projectileImages, int tileSize, int cols) {
+    public ProjectileView(AtlasRegion[] projectileImages, int tileSize, int cols) {
         this.projectileImages = projectileImages;
+        this.arrowSprite = RotatedSprite.of(projectileImages[0], ARROW_ANGLE_BUCKETS);
         this.TILE_SIZE = tileSize;
         this.COLS = cols;
     }
 
-    public void renderProjectiles(GraphicsContext gc, List<IProjectile> projectiles) {
+    public void renderProjectiles(GraphicsContext gc, RenderFrame frame) {
         double scaleFactor = TILE_SIZE * COLS / MODEL_WIDTH;
 
-        for (IProjectile projectile : projectiles) {
-            Point2D position = projectile.getCoordinate();
-            double viewX = position.getX() * scaleFactor;
-            double viewY = position.getY() * scaleFactor;
+        double[] projectileX = frame.getProjectileX();
+        double[] projectileY = frame.getProjectileY();
+        double[] projectileAngle = frame.getProjectileAngle();
+
+        for (int i = 0; i < frame.getProjectileCount(); i++) {
+            double viewX = projectileX[i] * scaleFactor;
+            double viewY = projectileY[i] * scaleFactor;
 
-            Image projectileImage = null;
+            AtlasRegion projectileImage = null;
             double imageSize = 20;
             boolean shouldRotate = false;
 
-            switch (projectile.getProjectileType()) {
+            switch (frame.getProjectileType(i)) {
                 case ARROW:
                     projectileImage = projectileImages[0];
                     imageSize = 30;
@@ -41,7 +50,7 @@ public class ProjectileView {
                 case MAGIC:
                 
                     // For level two use different image
-                    if (projectile.getProjectileLevel() == 1) {
+                    if (frame.getProjectileLevel(i) == 1) {
                         projectileImage = projectileImages[3];
                     } else {
                         projectileImage = projectileImages[1];
@@ -57,17 +66,9 @@ public class ProjectileView {
 
             if (projectileImage != null) {
                 if (shouldRotate) {
-                    double angle = Math.toDegrees(Math.atan2(
-                        projectile.getSpeedVector().getY(),
-                        projectile.getSpeedVector().getX()
-                    ));
-                    gc.save();
-                    gc.translate(viewX, viewY);
-                    gc.rotate(angle);
-                    gc.drawImage(projectileImage, -imageSize / 2, -imageSize / 2, imageSize, imageSize);
-                    gc.restore();
+                    arrowSprite.draw(gc, projectileAngle[i], viewX, viewY, imageSize);
                 } else {
-                    gc.drawImage(projectileImage, viewX - imageSize / 2, viewY - imageSize / 2, imageSize, imageSize);
+                    projectileImage.draw(gc, viewX - imageSize / 2, viewY - imageSize / 2, imageSize, imageSize);
                 }
             }
         }
@@ -2,6 +2,7 @@ package com.kurabiye.kutd.view;
 
 import com.kurabiye.kutd.controller.SettingsController;
 import com.kurabiye.kutd.model.Player.UserPreference;
+import com.kurabiye.kutd.view.Assets.AssetManager;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -36,7 +37,7 @@ public class SettingsView {
         BorderPane root = new BorderPane();
         
         try {
-            Image backgroundImage = new Image(getClass().getClassLoader().getResource("assets/castle_loadingbg.png").toExternalForm());
+            Image backgroundImage = AssetManager.getInstance().getImage("/assets/castle_loadingbg.png");
             ImageView backgroundView = new ImageView(backgroundImage);
             backgroundView.setFitWidth(800);
             backgroundView.setFitHeight(600);
@@ -1,5 +1,7 @@
 package com.kurabiye.kutd.view;
 
+import com.kurabiye.kutd.view.Assets.AssetManager;
+
 import javafx.scene.media.AudioClip;
 
 public class SoundManager {
@@ -8,7 +10,7 @@ public class SoundManager {
 
     static {
         try {
-            goldSound = new AudioClip(SoundManager.class.getResource(GOLD_SOUND_PATH).toExternalForm());
+            goldSound = AssetManager.getInstance().getAudioClip(GOLD_SOUND_PATH);
         } catch (Exception e) {
             System.err.println("Failed to load gold sound: " + e.getMessage());
         }
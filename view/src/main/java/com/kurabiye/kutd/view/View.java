@@ -1,5 +1,6 @@
 package com.kurabiye.kutd.view;
 
+import com.kurabiye.kutd.view.Assets.AssetManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import javafx.scene.image.Image;
@@ -8,7 +9,7 @@ public class View extends Application {
 
     @Override
     public void start(Stage stage) {
-        Image image = new Image(getClass().getResourceAsStream("/assets/cookie_bitten1.png"));
+        Image image = AssetManager.getInstance().getImage("/assets/cookie_bitten1.png");
         stage.getIcons().add(image);
 
         // Start the Launch Screen
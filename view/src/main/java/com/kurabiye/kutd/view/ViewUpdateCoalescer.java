@@ -0,0 +1,111 @@
+package com.kurabiye.kutd.view;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * ViewUpdateCoalescer merges the updates of the game thread into at most one redraw per JavaFX pulse.
+ *
+ * The game thread only marks an update as pending and adds its delta time, it never queues work
+ * on the JavaFX thread. An AnimationTimer checks the pending mark on every pulse and redraws once
+ * with the sum of the delta times. If the JavaFX thread falls behind, the updates in between are
+ * dropped instead of piling up, and they are counted so the drops can be watched.
+ *
+ * The number of pending updates and the sum of their delta times are packed into one long, so
+ * a redraw always takes both of them together and never the time of an update it did not count.
+ *
+ * post may be called from any thread, the other methods only from the JavaFX thread.
+ *
+ * @author Atlas Berk Polat
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ViewUpdateCoalescer {
+
+    private final DoubleConsumer redraw; // Called on the JavaFX thread with the time since the last redraw
+
+    private static final int COUNT_SHIFT = 44; // The update count is in the bits above the nanoseconds
+    private static final long NANOS_MASK = (1L << COUNT_SHIFT) - 1; // Up to about 4.9 hours of delta time
+    private static final long MAX_COUNT = (1L << (63 - COUNT_SHIFT)) - 1; // Keeps the packed value positive
+
+    private final AtomicLong pending = new AtomicLong(); // Updates posted since the last redraw and the sum of their delta times in nanoseconds
+    private final AtomicLong droppedUpdates = new AtomicLong(); // Updates that were merged into a later redraw
+
+    private long redrawCount; // Number of redraws done
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            pulse();
+        }
+    };
+
+    /**
+     * @param redraw called on the JavaFX thread with the delta time in seconds since the last redraw
+     */
+    public ViewUpdateCoalescer(DoubleConsumer redraw) {
+        if (redraw == null) {
+            throw new IllegalArgumentException("Redraw callback cannot be null");
+        }
+        this.redraw = redraw;
+    }
+
+    /**
+     * Marks an update as pending. Called by the game thread, never blocks.
+     * @param deltaTime the simulated time of the update in seconds
+     */
+    public void post(double deltaTime) {
+        long nanos = Math.max(0, (long) (deltaTime * 1_000_000_000L));
+        long previous;
+        long next;
+        do {
+            previous = pending.get();
+            long count = Math.min((previous >>> COUNT_SHIFT) + 1, MAX_COUNT); // Both parts stop at their limit while nothing is drawn
+            long sum = Math.min((previous & NANOS_MASK) + nanos, NANOS_MASK);
+            next = (count << COUNT_SHIFT) | sum;
+        } while (!pending.compareAndSet(previous, next));
+        if ((previous >>> COUNT_SHIFT) > 0) {
+            droppedUpdates.incrementAndGet(); // The previous update was not drawn yet, only one of them will be
+        }
+    }
+
+    /**
+     * Starts redrawing on the JavaFX pulses.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops redrawing, the pending updates are dropped.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * @return the number of updates that were not drawn because a newer one came first
+     */
+    public long getDroppedUpdateCount() {
+        return droppedUpdates.get();
+    }
+
+    /**
+     * @return the number of redraws done so far
+     */
+    public long getRedrawCount() {
+        return redrawCount;
+    }
+
+    private void pulse() {
+        long taken = pending.getAndSet(0); // The count and the time of the same updates
+        if ((taken >>> COUNT_SHIFT) == 0) {
+            return; // Nothing new since the last redraw
+        }
+        double deltaTime = (taken & NANOS_MASK) / 1_000_000_000.0;
+        redrawCount++;
+        redraw.accept(deltaTime);
+    }
+}